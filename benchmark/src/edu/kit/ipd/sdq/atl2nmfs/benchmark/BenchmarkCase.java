@@ -0,0 +1,147 @@
+package edu.kit.ipd.sdq.atl2nmfs.benchmark;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.m2m.atl.common.ATL.Library;
+import org.eclipse.m2m.atl.common.ATL.LibraryRef;
+import org.eclipse.m2m.atl.common.ATL.Module;
+
+import edu.kit.ipd.sdq.atl2nmfs.utils.AtlParserUtils;
+
+/**
+ * The BenchmarkCase Class.
+ * Describes the ATL transformation and the metamodels of one benchmark case.
+ */
+public class BenchmarkCase {
+
+	private final String name;
+	private final String transformationFilePath;
+	private final List<String> inputMetamodelPaths;
+	private final List<String> outputMetamodelPaths;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param name
+	 *            the name of the case
+	 * @param transformationFilePath
+	 *            the path to the transformation file
+	 * @param inputMetamodelPaths
+	 *            the input metamodel paths
+	 * @param outputMetamodelPaths
+	 *            the output metamodel paths
+	 */
+	public BenchmarkCase(String name, String transformationFilePath, List<String> inputMetamodelPaths,
+			List<String> outputMetamodelPaths) {
+		this.name = name;
+		this.transformationFilePath = transformationFilePath;
+		this.inputMetamodelPaths = Collections.unmodifiableList(new ArrayList<String>(inputMetamodelPaths));
+		this.outputMetamodelPaths = Collections.unmodifiableList(new ArrayList<String>(outputMetamodelPaths));
+	}
+
+	/**
+	 * Gets one of the bundled cases in the resources directory.
+	 *
+	 * @param name
+	 *            the name of the case (Families2Persons, PetriNet2PNML, PortV4 or Inheritance)
+	 * @return the benchmark case
+	 */
+	public static BenchmarkCase getBundledCase(String name) {
+		switch (name) {
+		case "Families2Persons":
+			return new BenchmarkCase(name, "resources/Families2Persons/Families2Persons.atl",
+					Arrays.asList("resources/Families2Persons/Families.ecore"),
+					Arrays.asList("resources/Families2Persons/Persons.ecore"));
+		case "PetriNet2PNML":
+			return new BenchmarkCase(name, "resources/PetriNet2PNML/PetriNet2PNML.atl",
+					Arrays.asList("resources/PetriNet2PNML/PetriNet.ecore"),
+					Arrays.asList("resources/PetriNet2PNML/PNML.ecore"));
+		case "PortV4":
+			return new BenchmarkCase(name, "resources/PortV4/PortV4.atl", Arrays.asList("resources/PortV4/TypeA.ecore"),
+					Arrays.asList("resources/PortV4/TypeB.ecore"));
+		case "Inheritance":
+			return new BenchmarkCase(name, "resources/Inheritance/Inheritance.atl",
+					Arrays.asList("resources/Inheritance/TypeA.ecore"),
+					Arrays.asList("resources/Inheritance/TypeB.ecore"));
+		default:
+			throw new IllegalArgumentException("The benchmark case " + name + " is unknown");
+		}
+	}
+
+	/**
+	 * Parses the ATL module of the case.
+	 *
+	 * @return the parsed ATL module
+	 * @throws Exception
+	 */
+	public Module parseModule() throws Exception {
+		File transformationFile = new File(transformationFilePath);
+		if (!transformationFile.isFile()) {
+			throw new FileNotFoundException("The transformation file " + transformationFilePath + " was not found");
+		}
+
+		return AtlParserUtils.parseModule(transformationFile.getAbsolutePath());
+	}
+
+	/**
+	 * Parses the ATL libraries which are referenced by the passed module. The libraries
+	 * are expected in the directory of the transformation file.
+	 *
+	 * @param atlModule
+	 *            the parsed ATL module
+	 * @return the parsed ATL libraries
+	 * @throws Exception
+	 */
+	public List<Library> parseLibraries(Module atlModule) throws Exception {
+		File transformationDirectory = new File(transformationFilePath).getAbsoluteFile().getParentFile();
+
+		List<Library> atlLibraries = new ArrayList<Library>();
+		for (LibraryRef library : atlModule.getLibraries()) {
+			File libraryFile = new File(transformationDirectory, library.getName() + ".atl");
+			atlLibraries.add(AtlParserUtils.parseLibrary(libraryFile.getAbsolutePath()));
+		}
+
+		return atlLibraries;
+	}
+
+	/**
+	 * Gets the name.
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the transformation file path.
+	 *
+	 * @return the transformation file path
+	 */
+	public String getTransformationFilePath() {
+		return transformationFilePath;
+	}
+
+	/**
+	 * Gets the input metamodel paths.
+	 *
+	 * @return the input metamodel paths
+	 */
+	public List<String> getInputMetamodelPaths() {
+		return inputMetamodelPaths;
+	}
+
+	/**
+	 * Gets the output metamodel paths.
+	 *
+	 * @return the output metamodel paths
+	 */
+	public List<String> getOutputMetamodelPaths() {
+		return outputMetamodelPaths;
+	}
+}
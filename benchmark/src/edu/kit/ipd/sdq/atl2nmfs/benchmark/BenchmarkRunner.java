@@ -0,0 +1,43 @@
+package edu.kit.ipd.sdq.atl2nmfs.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The BenchmarkRunner Class.
+ * Runs the benchmarks of the Atl2NmfS HOT. The working directory must be the plug-in project directory
+ * since the bundled cases are loaded from the resources directory.
+ * Usage: BenchmarkRunner [regular expression of the benchmarks] [result file]
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * Private Class constructor.
+	 */
+	private BenchmarkRunner() {
+	}
+
+	/**
+	 * Runs the benchmarks.
+	 *
+	 * @param args
+	 *            the arguments
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception {
+		String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName() + ".*";
+
+		OptionsBuilder optionsBuilder = new OptionsBuilder();
+		optionsBuilder.include(include);
+		if (args.length > 1) {
+			// the results can be stored to compare the scaling curves of different releases
+			optionsBuilder.result(args[1]);
+			optionsBuilder.resultFormat(ResultFormatType.JSON);
+		}
+
+		Options options = optionsBuilder.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,242 @@
+package edu.kit.ipd.sdq.atl2nmfs.benchmark;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.m2m.atl.common.ATL.LibraryRef;
+import org.eclipse.m2m.atl.common.ATL.Module;
+import org.eclipse.m2m.atl.common.OCL.OclModel;
+import org.eclipse.m2m.atl.emftvm.EmftvmFactory;
+import org.eclipse.m2m.atl.emftvm.ExecEnv;
+import org.eclipse.m2m.atl.emftvm.Metamodel;
+import org.eclipse.m2m.atl.emftvm.Model;
+import org.eclipse.m2m.atl.emftvm.compiler.AtlToEmftvmCompiler;
+import org.eclipse.m2m.atl.emftvm.resource.EMFTVMResourceFactoryImpl;
+import org.eclipse.m2m.atl.emftvm.util.DefaultModuleResolver;
+import org.eclipse.m2m.atl.emftvm.util.TimingData;
+import org.eclipse.m2m.atl.engine.compiler.CompileTimeError;
+
+/**
+ * The EmftvmRunner Class.
+ * Executes the ATL transformation of a benchmark case on the EMFTVM, so that its output and its performance can
+ * be compared with the generated NMF synchronization. The transformation and its libraries are compiled once to
+ * EMFTVM byte code. Every execution uses a new execution environment and resource set.
+ */
+public class EmftvmRunner {
+
+	public static final String ENGINENAME = "EMFTVM";
+	private static final String EMFTVMFILENAMEEXTENSION = ".emftvm";
+
+	private final Module atlModule;
+	private final File moduleDirectory;
+	private final Map<String, String> inputMetamodelPaths;
+	private final Map<String, String> outputMetamodelPaths;
+
+	/**
+	 * Class constructor. Compiles the transformation and its libraries.
+	 *
+	 * @param benchmarkCase
+	 *            the benchmark case
+	 * @param moduleDirectory
+	 *            the directory where the compiled modules are stored
+	 * @throws Exception
+	 */
+	public EmftvmRunner(BenchmarkCase benchmarkCase, File moduleDirectory) throws Exception {
+		this.atlModule = benchmarkCase.parseModule();
+		this.moduleDirectory = moduleDirectory;
+		this.inputMetamodelPaths = getMetamodelPaths(atlModule.getInModels(), benchmarkCase.getInputMetamodelPaths());
+		this.outputMetamodelPaths = getMetamodelPaths(atlModule.getOutModels(),
+				benchmarkCase.getOutputMetamodelPaths());
+
+		moduleDirectory.mkdirs();
+		File transformationDirectory = new File(benchmarkCase.getTransformationFilePath()).getAbsoluteFile()
+				.getParentFile();
+		compile(new File(benchmarkCase.getTransformationFilePath()), atlModule.getName());
+		for (LibraryRef library : atlModule.getLibraries()) {
+			compile(new File(transformationDirectory, library.getName() + ".atl"), library.getName());
+		}
+	}
+
+	/**
+	 * Gets the metamodel paths by the metamodel names of the passed ATL models. As for the Atl2NmfS HOT the
+	 * metamodel paths must be passed in the order the metamodels are used in the transformation and a metamodel
+	 * which is used multiple times is only passed once.
+	 *
+	 * @param oclModels
+	 *            the input or output models of the ATL module
+	 * @param metamodelPaths
+	 *            the metamodel paths
+	 * @return the metamodel paths by metamodel name in the order of the transformation
+	 */
+	public static Map<String, String> getMetamodelPaths(List<OclModel> oclModels, List<String> metamodelPaths) {
+		Map<String, String> metamodelPathsByName = new LinkedHashMap<String, String>();
+		for (OclModel oclModel : oclModels) {
+			String metamodelName = oclModel.getMetamodel().getName();
+			if (!metamodelPathsByName.containsKey(metamodelName)) {
+				if (metamodelPathsByName.size() >= metamodelPaths.size()) {
+					throw new IllegalArgumentException("There are to less metamodel paths passed for the models of the transformation");
+				}
+				metamodelPathsByName.put(metamodelName, metamodelPaths.get(metamodelPathsByName.size()));
+			}
+		}
+
+		return metamodelPathsByName;
+	}
+
+	/**
+	 * Gets the parsed ATL module.
+	 *
+	 * @return the ATL module
+	 */
+	public Module getAtlModule() {
+		return atlModule;
+	}
+
+	/**
+	 * Gets the input metamodel paths by metamodel name.
+	 *
+	 * @return the input metamodel paths
+	 */
+	public Map<String, String> getInputMetamodelPaths() {
+		return inputMetamodelPaths;
+	}
+
+	/**
+	 * Executes the transformation.
+	 *
+	 * @param inputModelPaths
+	 *            the input model paths in the order of the input models of the transformation
+	 * @param outputModelPaths
+	 *            the output model paths in the order of the output models of the transformation
+	 * @param elementCount
+	 *            the number of input elements which is used to compute the throughput
+	 * @return the measurement
+	 * @throws Exception
+	 */
+	public EngineMeasurement run(List<String> inputModelPaths, List<String> outputModelPaths, long elementCount)
+			throws Exception {
+		if (inputModelPaths.size() != atlModule.getInModels().size()
+				|| outputModelPaths.size() != atlModule.getOutModels().size()) {
+			throw new IllegalArgumentException("The number of model paths does not match the models of the transformation");
+		}
+
+		System.gc();
+		resetPeakHeapUsage();
+		long startTime = System.nanoTime();
+
+		ResourceSet resourceSet = SyntheticModelGenerator.createResourceSet();
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("emftvm",
+				new EMFTVMResourceFactoryImpl());
+		ExecEnv execEnv = EmftvmFactory.eINSTANCE.createExecEnv();
+
+		Map<String, String> metamodelPaths = new LinkedHashMap<String, String>(inputMetamodelPaths);
+		metamodelPaths.putAll(outputMetamodelPaths);
+		for (Map.Entry<String, String> metamodelPath : metamodelPaths.entrySet()) {
+			List<EPackage> ePackages = SyntheticModelGenerator.loadMetamodel(resourceSet,
+					new File(metamodelPath.getValue()));
+			Metamodel metamodel = EmftvmFactory.eINSTANCE.createMetamodel();
+			metamodel.setResource(ePackages.get(0).eResource());
+			execEnv.registerMetaModel(metamodelPath.getKey(), metamodel);
+		}
+
+		for (int i = 0; i < inputModelPaths.size(); i++) {
+			Model inputModel = EmftvmFactory.eINSTANCE.createModel();
+			inputModel.setResource(
+					resourceSet.getResource(URI.createFileURI(new File(inputModelPaths.get(i)).getAbsolutePath()), true));
+			execEnv.registerInputModel(atlModule.getInModels().get(i).getName(), inputModel);
+		}
+
+		List<Resource> outputResources = new ArrayList<Resource>();
+		for (int i = 0; i < outputModelPaths.size(); i++) {
+			Resource outputResource = resourceSet
+					.createResource(URI.createFileURI(new File(outputModelPaths.get(i)).getAbsolutePath()));
+			Model outputModel = EmftvmFactory.eINSTANCE.createModel();
+			outputModel.setResource(outputResource);
+			execEnv.registerOutputModel(atlModule.getOutModels().get(i).getName(), outputModel);
+			outputResources.add(outputResource);
+		}
+
+		TimingData timingData = new TimingData();
+		execEnv.loadModule(new DefaultModuleResolver(URI.createFileURI(moduleDirectory.getAbsolutePath()) + "/",
+				resourceSet), atlModule.getName());
+		timingData.finishLoading();
+		long loadedTime = System.nanoTime();
+
+		execEnv.run(timingData);
+		timingData.finish();
+		long transformedTime = System.nanoTime();
+
+		for (Resource outputResource : outputResources) {
+			outputResource.save(Collections.emptyMap());
+		}
+		long savedTime = System.nanoTime();
+
+		return new EngineMeasurement(ENGINENAME, elementCount, (loadedTime - startTime) / 1e6,
+				(transformedTime - loadedTime) / 1e6, (savedTime - transformedTime) / 1e6, (savedTime - startTime) / 1e6,
+				getPeakHeapUsage());
+	}
+
+	/**
+	 * Compiles an ATL module or library to EMFTVM byte code.
+	 *
+	 * @param atlFile
+	 *            the ATL file
+	 * @param moduleName
+	 *            the name of the module
+	 * @throws Exception
+	 */
+	private void compile(File atlFile, String moduleName) throws Exception {
+		File emftvmFile = new File(moduleDirectory, moduleName + EMFTVMFILENAMEEXTENSION);
+		CompileTimeError[] compileTimeErrors;
+		try (InputStream inputStream = new FileInputStream(atlFile)) {
+			compileTimeErrors = new AtlToEmftvmCompiler().compile(inputStream, emftvmFile.getAbsolutePath());
+		}
+
+		for (CompileTimeError compileTimeError : compileTimeErrors) {
+			if ("error".equals(compileTimeError.getSeverity())) {
+				throw new IllegalArgumentException("The ATL file " + atlFile.getPath() + " could not be compiled for the EMFTVM: "
+						+ compileTimeError.getDescription() + " (" + compileTimeError.getLocation() + ")");
+			}
+		}
+	}
+
+	/**
+	 * Resets the peak usage of all heap memory pools.
+	 */
+	private static void resetPeakHeapUsage() {
+		for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (memoryPool.getType() == MemoryType.HEAP) {
+				memoryPool.resetPeakUsage();
+			}
+		}
+	}
+
+	/**
+	 * Gets the sum of the peak usages of all heap memory pools. The pools do not reach their peak at the same
+	 * time, so the sum is an upper bound of the peak heap usage.
+	 *
+	 * @return the peak heap usage in bytes
+	 */
+	private static long getPeakHeapUsage() {
+		long peakHeapUsage = 0;
+		for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (memoryPool.getType() == MemoryType.HEAP) {
+				peakHeapUsage += memoryPool.getPeakUsage().getUsed();
+			}
+		}
+		return peakHeapUsage;
+	}
+}
@@ -0,0 +1,117 @@
+package edu.kit.ipd.sdq.atl2nmfs.benchmark;
+
+/**
+ * The EngineMeasurement Class.
+ * Holds the times and the memory of one execution of a transformation engine.
+ */
+public class EngineMeasurement {
+
+	private final String engineName;
+	private final long elementCount;
+	private final double loadMilliseconds;
+	private final double transformMilliseconds;
+	private final double saveMilliseconds;
+	private final double wallMilliseconds;
+	private final long peakMemoryBytes;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param engineName
+	 *            the name of the engine
+	 * @param elementCount
+	 *            the number of input elements
+	 * @param loadMilliseconds
+	 *            the time to load the models and the transformation in milliseconds
+	 * @param transformMilliseconds
+	 *            the time of the transformation in milliseconds
+	 * @param saveMilliseconds
+	 *            the time to save the output models in milliseconds
+	 * @param wallMilliseconds
+	 *            the wall time of the whole execution in milliseconds
+	 * @param peakMemoryBytes
+	 *            the peak memory in bytes
+	 */
+	public EngineMeasurement(String engineName, long elementCount, double loadMilliseconds,
+			double transformMilliseconds, double saveMilliseconds, double wallMilliseconds, long peakMemoryBytes) {
+		this.engineName = engineName;
+		this.elementCount = elementCount;
+		this.loadMilliseconds = loadMilliseconds;
+		this.transformMilliseconds = transformMilliseconds;
+		this.saveMilliseconds = saveMilliseconds;
+		this.wallMilliseconds = wallMilliseconds;
+		this.peakMemoryBytes = peakMemoryBytes;
+	}
+
+	/**
+	 * Gets the name of the engine.
+	 *
+	 * @return the engine name
+	 */
+	public String getEngineName() {
+		return engineName;
+	}
+
+	/**
+	 * Gets the number of input elements.
+	 *
+	 * @return the element count
+	 */
+	public long getElementCount() {
+		return elementCount;
+	}
+
+	/**
+	 * Gets the time to load the models and the transformation in milliseconds.
+	 *
+	 * @return the load time in milliseconds
+	 */
+	public double getLoadMilliseconds() {
+		return loadMilliseconds;
+	}
+
+	/**
+	 * Gets the time of the transformation in milliseconds.
+	 *
+	 * @return the transformation time in milliseconds
+	 */
+	public double getTransformMilliseconds() {
+		return transformMilliseconds;
+	}
+
+	/**
+	 * Gets the time to save the output models in milliseconds.
+	 *
+	 * @return the save time in milliseconds
+	 */
+	public double getSaveMilliseconds() {
+		return saveMilliseconds;
+	}
+
+	/**
+	 * Gets the wall time of the whole execution in milliseconds.
+	 *
+	 * @return the wall time in milliseconds
+	 */
+	public double getWallMilliseconds() {
+		return wallMilliseconds;
+	}
+
+	/**
+	 * Gets the peak memory in bytes.
+	 *
+	 * @return the peak memory in bytes
+	 */
+	public long getPeakMemoryBytes() {
+		return peakMemoryBytes;
+	}
+
+	/**
+	 * Gets the number of input elements which were transformed per second.
+	 *
+	 * @return the elements per second
+	 */
+	public double getElementsPerSecond() {
+		return transformMilliseconds > 0 ? elementCount * 1000.0 / transformMilliseconds : 0.0;
+	}
+}
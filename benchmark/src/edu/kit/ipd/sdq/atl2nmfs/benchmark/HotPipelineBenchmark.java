@@ -0,0 +1,190 @@
+package edu.kit.ipd.sdq.atl2nmfs.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.m2m.atl.common.ATL.Module;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper;
+
+/**
+ * The HotPipelineBenchmark Class.
+ * Measures every phase of the Atl2NmfS HOT separately for the bundled example transformations.
+ * The parsing, the analysis and the transformers cache their results, so these phases are measured as
+ * single shots and their caches are cleared before each iteration. The rendering has no cache and is
+ * measured as average time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class HotPipelineBenchmark {
+
+	/**
+	 * The CaseState Class.
+	 * Holds the fixture of a bundled case, which has run all phases once so that every phase has its inputs.
+	 */
+	@State(Scope.Benchmark)
+	public static class CaseState {
+
+		@Param({ "Families2Persons", "PetriNet2PNML", "PortV4", "Inheritance" })
+		public String caseName;
+
+		protected PipelineFixture pipelineFixture;
+
+		/**
+		 * Creates the fixture and runs all phases once.
+		 *
+		 * @throws Exception
+		 */
+		@Setup(Level.Trial)
+		public void setUpTrial() throws Exception {
+			pipelineFixture = new PipelineFixture(BenchmarkCase.getBundledCase(caseName));
+			pipelineFixture.runAllPhases();
+		}
+
+		/**
+		 * Deletes the parser cache.
+		 */
+		@TearDown(Level.Trial)
+		public void tearDownTrial() {
+			pipelineFixture.dispose();
+		}
+	}
+
+	/**
+	 * The UncachedState Class.
+	 * Clears the parse and metamodel caches before each iteration, so that the parsing and the analysis are
+	 * not measured as cache hits.
+	 */
+	public static class UncachedState extends CaseState {
+
+		/**
+		 * Clears the parse and metamodel caches.
+		 *
+		 * @throws Exception
+		 */
+		@Setup(Level.Iteration)
+		public void setUpIteration() throws Exception {
+			pipelineFixture.clearCaches();
+		}
+	}
+
+	/**
+	 * The TransformationState Class.
+	 * Analyzes the transformation again before each iteration since the transformed OCL expressions are cached
+	 * for the current transformation.
+	 */
+	public static class TransformationState extends CaseState {
+
+		/**
+		 * Discards the results of the previous transformation.
+		 */
+		@Setup(Level.Iteration)
+		public void setUpIteration() {
+			pipelineFixture.initializeNewTransformation();
+		}
+	}
+
+	/**
+	 * Benchmarks the parsing of the ATL module.
+	 *
+	 * @param state
+	 *            the uncached state
+	 * @return the parsed ATL module
+	 * @throws Exception
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 30)
+	public Module parseModule(UncachedState state) throws Exception {
+		return state.pipelineFixture.parse();
+	}
+
+	/**
+	 * Benchmarks the metamodel, model, rule and helper analysis.
+	 *
+	 * @param state
+	 *            the uncached state
+	 * @return the initialized atl2nmfS helper
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 30)
+	public Atl2NmfSHelper initializeNewTransformation(UncachedState state) {
+		return state.pipelineFixture.initializeNewTransformation();
+	}
+
+	/**
+	 * Benchmarks the helper transformer.
+	 *
+	 * @param state
+	 *            the transformation state
+	 * @return the transformed helpers
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 30)
+	public List<String> transformHelpers(TransformationState state) {
+		return state.pipelineFixture.transformHelpers();
+	}
+
+	/**
+	 * Benchmarks the filter transformer.
+	 *
+	 * @param state
+	 *            the transformation state
+	 * @return the transformed filters
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 30)
+	public List<String> transformFilters(TransformationState state) {
+		return state.pipelineFixture.transformFilters();
+	}
+
+	/**
+	 * Benchmarks the rule transformer (including the binding transformer).
+	 *
+	 * @param state
+	 *            the transformation state
+	 * @return the transformed rules
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 10)
+	@Measurement(iterations = 30)
+	public List<String> transformRules(TransformationState state) {
+		return state.pipelineFixture.transformRules();
+	}
+
+	/**
+	 * Benchmarks the rendering of the templates.
+	 *
+	 * @param state
+	 *            the case state
+	 * @return the rendered code
+	 */
+	@Benchmark
+	public List<String> renderTemplates(CaseState state) {
+		return state.pipelineFixture.renderTemplates();
+	}
+}
@@ -0,0 +1,186 @@
+package edu.kit.ipd.sdq.atl2nmfs.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+
+/**
+ * The ModelSignature Class.
+ * Computes a canonical signature of a model, so that the output models of different transformation engines
+ * can be compared. The signature of an element consists of its class name, its attribute values and the local
+ * signatures (class name and attribute values) of the referenced elements. The values of many-valued features
+ * and the element signatures of the model are sorted, therefore the order of the elements and of the values
+ * does not influence the signature. Derived and transient features are ignored.
+ */
+public class ModelSignature {
+
+	/**
+	 * Private Class constructor.
+	 */
+	private ModelSignature() {
+	}
+
+	/**
+	 * Computes the sorted signatures of all elements of the resource.
+	 *
+	 * @param resource
+	 *            the resource
+	 * @return the sorted element signatures
+	 */
+	public static List<String> computeSignatures(Resource resource) {
+		List<String> signatures = new ArrayList<String>();
+		TreeIterator<EObject> iterator = resource.getAllContents();
+		while (iterator.hasNext()) {
+			signatures.add(computeSignature(iterator.next()));
+		}
+
+		Collections.sort(signatures);
+		return signatures;
+	}
+
+	/**
+	 * Compares the signatures of two resources.
+	 *
+	 * @param expectedResource
+	 *            the expected resource
+	 * @param actualResource
+	 *            the actual resource
+	 * @return the number of element signatures which are only contained in one of the resources
+	 */
+	public static int countDifferences(Resource expectedResource, Resource actualResource) {
+		List<String> expectedSignatures = computeSignatures(expectedResource);
+		List<String> actualSignatures = computeSignatures(actualResource);
+
+		// both lists are sorted, so the differences of the multisets are counted with a single merge pass
+		int differences = 0;
+		int expectedIndex = 0;
+		int actualIndex = 0;
+		while (expectedIndex < expectedSignatures.size() && actualIndex < actualSignatures.size()) {
+			int comparison = expectedSignatures.get(expectedIndex).compareTo(actualSignatures.get(actualIndex));
+			if (comparison == 0) {
+				expectedIndex++;
+				actualIndex++;
+			} else if (comparison < 0) {
+				differences++;
+				expectedIndex++;
+			} else {
+				differences++;
+				actualIndex++;
+			}
+		}
+
+		return differences + (expectedSignatures.size() - expectedIndex) + (actualSignatures.size() - actualIndex);
+	}
+
+	/**
+	 * Computes the signature of an element.
+	 *
+	 * @param element
+	 *            the element
+	 * @return the signature
+	 */
+	public static String computeSignature(EObject element) {
+		StringBuilder builder = new StringBuilder(computeLocalSignature(element));
+		for (EReference reference : getSortedFeatures(element.eClass().getEAllReferences())) {
+			if (!isCompared(reference) || reference.isContainer() || !element.eIsSet(reference)) {
+				continue;
+			}
+
+			List<String> targetSignatures = new ArrayList<String>();
+			for (Object target : getValues(element, reference)) {
+				targetSignatures.add(computeLocalSignature((EObject) target));
+			}
+			Collections.sort(targetSignatures);
+			builder.append(' ').append(reference.getName()).append("->").append(targetSignatures);
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Computes the local signature of an element which consists of its class name and its attribute values.
+	 *
+	 * @param element
+	 *            the element
+	 * @return the local signature
+	 */
+	private static String computeLocalSignature(EObject element) {
+		StringBuilder builder = new StringBuilder(element.eClass().getName()).append('(');
+		boolean first = true;
+		for (EAttribute attribute : getSortedFeatures(element.eClass().getEAllAttributes())) {
+			if (!isCompared(attribute)) {
+				continue;
+			}
+
+			List<String> values = new ArrayList<String>();
+			for (Object value : getValues(element, attribute)) {
+				values.add(String.valueOf(value));
+			}
+			if (attribute.isMany()) {
+				Collections.sort(values);
+			}
+
+			builder.append(first ? "" : ", ").append(attribute.getName()).append('=')
+					.append(attribute.isMany() ? values.toString() : (values.isEmpty() ? "null" : values.get(0)));
+			first = false;
+		}
+
+		return builder.append(')').toString();
+	}
+
+	/**
+	 * Gets the values of a feature as collection.
+	 *
+	 * @param element
+	 *            the element
+	 * @param feature
+	 *            the feature
+	 * @return the values
+	 */
+	private static Collection<?> getValues(EObject element, EStructuralFeature feature) {
+		Object value = element.eGet(feature);
+		if (feature.isMany()) {
+			return (Collection<?>) value;
+		}
+
+		return value == null ? Collections.emptyList() : Collections.singletonList(value);
+	}
+
+	/**
+	 * Gets the features sorted by their name.
+	 *
+	 * @param features
+	 *            the features
+	 * @return the sorted features
+	 */
+	private static <T extends EStructuralFeature> List<T> getSortedFeatures(List<T> features) {
+		List<T> sortedFeatures = new ArrayList<T>(features);
+		Collections.sort(sortedFeatures, new Comparator<T>() {
+			@Override
+			public int compare(T first, T second) {
+				return first.getName().compareTo(second.getName());
+			}
+		});
+		return sortedFeatures;
+	}
+
+	/**
+	 * Checks if the feature is compared. Derived and transient features are not serialized.
+	 *
+	 * @param feature
+	 *            the feature
+	 * @return true, if the feature is compared
+	 */
+	private static boolean isCompared(EStructuralFeature feature) {
+		return !feature.isDerived() && !feature.isTransient();
+	}
+}
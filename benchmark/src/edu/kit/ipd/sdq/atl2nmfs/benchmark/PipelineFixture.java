@@ -0,0 +1,225 @@
+package edu.kit.ipd.sdq.atl2nmfs.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.m2m.atl.common.ATL.Library;
+import org.eclipse.m2m.atl.common.ATL.Module;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import edu.kit.ipd.sdq.atl2nmfs.Atl2NmfSynchronizationsModule;
+import edu.kit.ipd.sdq.atl2nmfs.EncodingProviderModule;
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions;
+import edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper;
+import edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzerFactory;
+import edu.kit.ipd.sdq.atl2nmfs.templates.ExtensionMethodClassTemplate;
+import edu.kit.ipd.sdq.atl2nmfs.templates.InputModelContainerClassTemplate;
+import edu.kit.ipd.sdq.atl2nmfs.templates.MainClassTemplate;
+import edu.kit.ipd.sdq.atl2nmfs.templates.OutputModelContainerClassTemplate;
+import edu.kit.ipd.sdq.atl2nmfs.templates.ReflectiveSynchronizationClassTemplate;
+import edu.kit.ipd.sdq.atl2nmfs.transformer.atl.FilterTransformer;
+import edu.kit.ipd.sdq.atl2nmfs.transformer.atl.HelperTransformer;
+import edu.kit.ipd.sdq.atl2nmfs.transformer.atl.RuleTransformer;
+import edu.kit.ipd.sdq.atl2nmfs.utils.AtlParserUtils;
+
+/**
+ * The PipelineFixture Class.
+ * Holds the components of the Atl2NmfS HOT and executes its phases separately, so that
+ * every phase can be measured on its own. The Ecore2Code process and the file system are not used.
+ * The parsed ATL files are cached in a temporary directory of the fixture, so that the caches can be cleared
+ * without touching the cache directory of the HOT.
+ */
+public class PipelineFixture {
+
+	private static final String PARSERCACHEDIRECTORYPROPERTY = "atl2nmfs.parser.cache";
+
+	private final BenchmarkCase benchmarkCase;
+	private final GenerationOptions options;
+	private final Atl2NmfSHelper atl2NmfSHelper;
+	private final HelperTransformer helperTransformer;
+	private final FilterTransformer filterTransformer;
+	private final RuleTransformer ruleTransformer;
+	private final EcoreAnalyzerFactory ecoreAnalyzerFactory;
+	private final File parserCacheDirectory;
+	private final String previousParserCacheDirectory;
+
+	private Module atlModule;
+	private List<Library> atlLibraries;
+
+	private List<String> helperCodeList;
+	private List<String> helperProxiesCodeList;
+	private List<String> filterCodeList;
+	private List<String> filterProxiesCodeList;
+	private List<String> ruleCodeList;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param benchmarkCase
+	 *            the benchmark case
+	 * @throws IOException
+	 */
+	public PipelineFixture(BenchmarkCase benchmarkCase) throws IOException {
+		this(benchmarkCase, new GenerationOptions());
+	}
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param benchmarkCase
+	 *            the benchmark case
+	 * @param options
+	 *            the generation options
+	 * @throws IOException
+	 */
+	public PipelineFixture(BenchmarkCase benchmarkCase, GenerationOptions options) throws IOException {
+		this.benchmarkCase = benchmarkCase;
+		this.options = options;
+
+		Injector injector = Guice.createInjector(new Atl2NmfSynchronizationsModule(options),
+				new EncodingProviderModule());
+		this.atl2NmfSHelper = injector.getInstance(Atl2NmfSHelper.class);
+		this.helperTransformer = injector.getInstance(HelperTransformer.class);
+		this.filterTransformer = injector.getInstance(FilterTransformer.class);
+		this.ruleTransformer = injector.getInstance(RuleTransformer.class);
+		this.ecoreAnalyzerFactory = injector.getInstance(EcoreAnalyzerFactory.class);
+
+		this.parserCacheDirectory = Files.createTempDirectory("atl2nmfs-parser-cache").toFile();
+		this.previousParserCacheDirectory = System.getProperty(PARSERCACHEDIRECTORYPROPERTY);
+		System.setProperty(PARSERCACHEDIRECTORYPROPERTY, parserCacheDirectory.getPath());
+	}
+
+	/**
+	 * Clears the parsed ATL files in memory and in the cache directory and the analyzed metamodels, so that
+	 * the next parsing and analysis are not measured as cache hits.
+	 *
+	 * @throws IOException
+	 */
+	public void clearCaches() throws IOException {
+		AtlParserUtils.clearCache();
+		FileUtils.cleanDirectory(parserCacheDirectory);
+		ecoreAnalyzerFactory.clearCache();
+	}
+
+	/**
+	 * Deletes the parser cache directory of the fixture and restores the cache directory which was set
+	 * before the fixture was created.
+	 */
+	public void dispose() {
+		if (previousParserCacheDirectory != null) {
+			System.setProperty(PARSERCACHEDIRECTORYPROPERTY, previousParserCacheDirectory);
+		} else {
+			System.clearProperty(PARSERCACHEDIRECTORYPROPERTY);
+		}
+		FileUtils.deleteQuietly(parserCacheDirectory);
+	}
+
+	/**
+	 * Parses the ATL module and the libraries of the benchmark case.
+	 *
+	 * @return the parsed ATL module
+	 * @throws Exception
+	 */
+	public Module parse() throws Exception {
+		atlModule = benchmarkCase.parseModule();
+		atlLibraries = benchmarkCase.parseLibraries(atlModule);
+		return atlModule;
+	}
+
+	/**
+	 * Analyzes the metamodels, models, helpers and rules. All results of a previous
+	 * transformation (including the cached OCL results) are discarded.
+	 *
+	 * @return the atl2nmfS helper
+	 */
+	public Atl2NmfSHelper initializeNewTransformation() {
+		atl2NmfSHelper.initializeNewTransformation(atlModule, atlLibraries, benchmarkCase.getInputMetamodelPaths(),
+				benchmarkCase.getOutputMetamodelPaths());
+		return atl2NmfSHelper;
+	}
+
+	/**
+	 * Transforms the helpers.
+	 *
+	 * @return the transformed helpers
+	 */
+	public List<String> transformHelpers() {
+		helperCodeList = new ArrayList<String>();
+		helperProxiesCodeList = new ArrayList<String>();
+		helperTransformer.transformHelpers(helperCodeList, helperProxiesCodeList);
+		return helperCodeList;
+	}
+
+	/**
+	 * Transforms the filters.
+	 *
+	 * @return the transformed filters
+	 */
+	public List<String> transformFilters() {
+		filterCodeList = new ArrayList<String>();
+		filterProxiesCodeList = new ArrayList<String>();
+		filterTransformer.transformFilters(filterCodeList, filterProxiesCodeList);
+		return filterCodeList;
+	}
+
+	/**
+	 * Transforms the matched rules.
+	 *
+	 * @return the transformed rules
+	 */
+	public List<String> transformRules() {
+		ruleCodeList = new ArrayList<String>();
+		ruleTransformer.transformMatchedRules(ruleCodeList);
+		return ruleCodeList;
+	}
+
+	/**
+	 * Renders all templates of the C# project with the results of the last transformation.
+	 *
+	 * @return the rendered code
+	 */
+	public List<String> renderTemplates() {
+		String namespace = atl2NmfSHelper.getProjectNamespace();
+		boolean partitioned = options.isPartitionedSynchronization() && atl2NmfSHelper.isPartitionable();
+
+		List<String> renderedCode = new ArrayList<String>();
+		renderedCode.add(ExtensionMethodClassTemplate.createCode(namespace, atl2NmfSHelper.getHelperClassName(),
+				helperCodeList, helperProxiesCodeList));
+		renderedCode.add(ExtensionMethodClassTemplate.createCode(namespace, atl2NmfSHelper.getFilterClassName(),
+				filterCodeList, filterProxiesCodeList));
+		renderedCode.add(ReflectiveSynchronizationClassTemplate.createCode(atl2NmfSHelper.getTransformationName(),
+				atl2NmfSHelper.getInputModelContainerClassName(), namespace, ruleCodeList));
+		renderedCode.add(InputModelContainerClassTemplate.createCode(namespace,
+				atl2NmfSHelper.getInputModelContainerClassName(), atl2NmfSHelper.getInputModelInfos(),
+				atl2NmfSHelper.getAllInstancesInfos(), atl2NmfSHelper.getFilteredViewInfos(), partitioned));
+		renderedCode.add(OutputModelContainerClassTemplate.createCode(namespace,
+				atl2NmfSHelper.getOutputModelContainerClassName(), atl2NmfSHelper.getOutputModelInfos()));
+		renderedCode.add(MainClassTemplate.createCode(atl2NmfSHelper.getTransformationName(),
+				atl2NmfSHelper.getMainClassName(), atl2NmfSHelper.getMainRuleName(),
+				atl2NmfSHelper.getInputModelContainerClassName(), atl2NmfSHelper.getOutputModelContainerClassName(),
+				namespace, atl2NmfSHelper.getInputModelInfos(), atl2NmfSHelper.getOutputModelInfos(),
+				options.isRuntimeMetrics() ? atl2NmfSHelper.getRuntimeMetricsClassName() : null,
+				partitioned ? atl2NmfSHelper.getModelPartitionClassName() : null, options.isCompressedModels()));
+		return renderedCode;
+	}
+
+	/**
+	 * Runs all phases once. It is used to warm up the fixture and to prepare the inputs of the later phases.
+	 *
+	 * @throws Exception
+	 */
+	public void runAllPhases() throws Exception {
+		parse();
+		initializeNewTransformation();
+		transformHelpers();
+		transformFilters();
+		transformRules();
+		renderTemplates();
+	}
+}
@@ -0,0 +1,661 @@
+package edu.kit.ipd.sdq.atl2nmfs.benchmark;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.Diagnostic;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EDataType;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.Diagnostician;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.EcoreResourceFactoryImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+
+/**
+ * The SyntheticModelGenerator Class.
+ * Creates input models of a configurable size for any ecore metamodel, so that the generated NMF
+ * synchronizations can be measured with realistic model sizes. The containment tree is created breadth
+ * first: the classes which are not contained by any containment reference are used as root classes and
+ * every element gets up to "fanOut" children per containment reference until the requested number of
+ * elements is reached. The required containments of the last elements are created as well, so the model
+ * can contain more elements than requested. Afterwards all attributes are set and the non-containment
+ * references are set to compatible elements of the model. A reference with a lower bound is always set, an
+ * optional reference is set with the passed reference density. An element is only referenced by a reference
+ * with a single-valued opposite if the opposite is not set yet, missing elements for required references are
+ * created in a compatible containment reference. The generated model is validated with the EMF Diagnostician.
+ * The generation is deterministic for a given seed.
+ * Usage: SyntheticModelGenerator [metamodel file] [model file] [element count] [fan out] [reference density] [seed]
+ */
+public class SyntheticModelGenerator {
+
+	public static final int DEFAULTFANOUT = 4;
+	public static final double DEFAULTREFERENCEDENSITY = 0.5;
+	public static final long DEFAULTSEED = 42;
+	private static final int MAXIMALREQUIREDELEMENTS = 1000;
+
+	private final Random random;
+	private final int fanOut;
+	private final double referenceDensity;
+	private final List<EClass> concreteClasses;
+	private final List<EClass> rootClasses;
+	private final Map<EClass, List<EClass>> concreteSubClasses;
+	private final Map<EClass, List<EObject>> instancesByClass;
+	private final Map<EClass, List<EObject>> candidatesByClass;
+	private final Map<EReference, Integer> nextFreeCandidateIndices;
+	private final List<EObject> elements;
+	private int nextValue;
+
+	/**
+	 * Private Class constructor.
+	 *
+	 * @param ePackages
+	 *            the packages of the metamodel
+	 * @param fanOut
+	 *            the maximal number of children per containment reference
+	 * @param referenceDensity
+	 *            the probability that an optional reference is set
+	 * @param seed
+	 *            the seed of the random generator
+	 */
+	private SyntheticModelGenerator(List<EPackage> ePackages, int fanOut, double referenceDensity, long seed) {
+		this.random = new Random(seed);
+		this.fanOut = fanOut;
+		this.referenceDensity = referenceDensity;
+		this.concreteClasses = new ArrayList<EClass>();
+		this.rootClasses = new ArrayList<EClass>();
+		this.concreteSubClasses = new HashMap<EClass, List<EClass>>();
+		this.instancesByClass = new HashMap<EClass, List<EObject>>();
+		this.candidatesByClass = new HashMap<EClass, List<EObject>>();
+		this.nextFreeCandidateIndices = new HashMap<EReference, Integer>();
+		this.elements = new ArrayList<EObject>();
+
+		for (EPackage ePackage : getAllPackages(ePackages)) {
+			for (EClassifier eClassifier : ePackage.getEClassifiers()) {
+				if (eClassifier instanceof EClass) {
+					EClass eClass = (EClass) eClassifier;
+					if (!eClass.isAbstract() && !eClass.isInterface()) {
+						concreteClasses.add(eClass);
+					}
+				}
+			}
+		}
+
+		if (concreteClasses.isEmpty()) {
+			throw new IllegalArgumentException("The metamodel does not contain a concrete class");
+		}
+
+		// a class which can not be contained by any containment reference can only be a root element
+		Set<EClass> containedClasses = new LinkedHashSet<EClass>();
+		for (EClass eClass : concreteClasses) {
+			for (EReference containment : eClass.getEAllContainments()) {
+				containedClasses.addAll(getConcreteSubClasses(containment.getEReferenceType()));
+			}
+		}
+		for (EClass eClass : concreteClasses) {
+			if (!containedClasses.contains(eClass)) {
+				rootClasses.add(eClass);
+			}
+		}
+
+		// if every class can be contained the classes which contain other elements are used as root classes
+		if (rootClasses.isEmpty()) {
+			for (EClass eClass : concreteClasses) {
+				if (!eClass.getEAllContainments().isEmpty()) {
+					rootClasses.add(eClass);
+				}
+			}
+		}
+		if (rootClasses.isEmpty()) {
+			rootClasses.addAll(concreteClasses);
+		}
+	}
+
+	/**
+	 * Generates a model for the passed metamodel with the default shape and saves it.
+	 *
+	 * @param metamodelFile
+	 *            the ecore file of the metamodel
+	 * @param modelFile
+	 *            the file where the model is saved
+	 * @param elementCount
+	 *            the number of elements of the model
+	 * @return the number of generated elements
+	 * @throws Exception
+	 */
+	public static int generate(File metamodelFile, File modelFile, int elementCount) throws Exception {
+		return generate(metamodelFile, modelFile, elementCount, DEFAULTFANOUT, DEFAULTREFERENCEDENSITY, DEFAULTSEED);
+	}
+
+	/**
+	 * Generates a model for the passed metamodel and saves it.
+	 *
+	 * @param metamodelFile
+	 *            the ecore file of the metamodel
+	 * @param modelFile
+	 *            the file where the model is saved
+	 * @param elementCount
+	 *            the number of elements of the model
+	 * @param fanOut
+	 *            the maximal number of children per containment reference
+	 * @param referenceDensity
+	 *            the probability that an optional non-containment reference is set
+	 * @param seed
+	 *            the seed of the random generator
+	 * @return the number of generated elements
+	 * @throws Exception
+	 */
+	public static int generate(File metamodelFile, File modelFile, int elementCount, int fanOut,
+			double referenceDensity, long seed) throws Exception {
+		if (elementCount < 1 || fanOut < 1) {
+			throw new IllegalArgumentException("At least one element and a fan out of at least one are required");
+		}
+		if (referenceDensity < 0 || referenceDensity > 1) {
+			throw new IllegalArgumentException("The reference density must be between 0 and 1");
+		}
+
+		ResourceSet resourceSet = createResourceSet();
+		List<EPackage> ePackages = loadMetamodel(resourceSet, metamodelFile);
+
+		SyntheticModelGenerator generator = new SyntheticModelGenerator(ePackages, fanOut, referenceDensity, seed);
+		Resource modelResource = resourceSet.createResource(URI.createFileURI(modelFile.getAbsolutePath()));
+		generator.createContainmentTree(modelResource.getContents(), elementCount);
+		generator.setAttributesAndReferences();
+		validate(modelResource);
+
+		modelFile.getAbsoluteFile().getParentFile().mkdirs();
+		Map<Object, Object> saveOptions = new HashMap<Object, Object>();
+		saveOptions.put(XMLResource.OPTION_ENCODING, "UTF-8");
+		// large models are written in chunks instead of building the whole document in memory
+		saveOptions.put(XMLResource.OPTION_USE_FILE_BUFFER, Boolean.TRUE);
+		saveOptions.put(XMLResource.OPTION_FLUSH_THRESHOLD, Integer.valueOf(1 << 20));
+		modelResource.save(saveOptions);
+		return generator.elements.size();
+	}
+
+	/**
+	 * Validates all elements of the passed model with the EMF Diagnostician.
+	 *
+	 * @param modelResource
+	 *            the model resource
+	 */
+	public static void validate(Resource modelResource) {
+		for (EObject root : modelResource.getContents()) {
+			Diagnostic diagnostic = Diagnostician.INSTANCE.validate(root);
+			if (diagnostic.getSeverity() == Diagnostic.ERROR) {
+				StringBuilder message = new StringBuilder("The generated model is not valid:");
+				for (Diagnostic child : diagnostic.getChildren()) {
+					if (child.getSeverity() == Diagnostic.ERROR) {
+						message.append(System.lineSeparator()).append(child.getMessage());
+					}
+				}
+				throw new IllegalStateException(message.toString());
+			}
+		}
+	}
+
+	/**
+	 * Loads the packages of the metamodel and registers them in the package registry of the resource set,
+	 * so that models of the metamodel can be loaded.
+	 *
+	 * @param resourceSet
+	 *            the resource set
+	 * @param metamodelFile
+	 *            the ecore file of the metamodel
+	 * @return the packages of the metamodel
+	 * @throws Exception
+	 */
+	public static List<EPackage> loadMetamodel(ResourceSet resourceSet, File metamodelFile) throws Exception {
+		if (!metamodelFile.isFile()) {
+			throw new FileNotFoundException("The metamodel " + metamodelFile.getPath() + " was not found");
+		}
+
+		Resource metamodelResource = resourceSet.getResource(URI.createFileURI(metamodelFile.getAbsolutePath()), true);
+		List<EPackage> ePackages = new ArrayList<EPackage>();
+		for (EObject content : metamodelResource.getContents()) {
+			if (content instanceof EPackage) {
+				ePackages.add((EPackage) content);
+			}
+		}
+
+		for (EPackage ePackage : getAllPackages(ePackages)) {
+			resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+		}
+
+		return ePackages;
+	}
+
+	/**
+	 * Creates a resource set which can load ecore and XMI files.
+	 *
+	 * @return the resource set
+	 */
+	public static ResourceSet createResourceSet() {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("ecore",
+				new EcoreResourceFactoryImpl());
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(Resource.Factory.Registry.DEFAULT_EXTENSION,
+				new XMIResourceFactoryImpl());
+		return resourceSet;
+	}
+
+	/**
+	 * Creates the containment tree breadth first.
+	 *
+	 * @param roots
+	 *            the list where the root elements are added
+	 * @param elementCount
+	 *            the number of elements
+	 */
+	private void createContainmentTree(EList<EObject> roots, int elementCount) {
+		Queue<EObject> pendingElements = new ArrayDeque<EObject>();
+		int rootIndex = 0;
+
+		while (elements.size() < elementCount) {
+			if (pendingElements.isEmpty()) {
+				// a new root is only created if all elements got their children
+				EObject root = createElement(rootClasses.get(rootIndex % rootClasses.size()));
+				rootIndex++;
+				roots.add(root);
+				pendingElements.add(root);
+				continue;
+			}
+
+			createChildren(pendingElements.poll(), pendingElements, elementCount);
+		}
+
+		// the elements which did not get their children yet only get the required children. A metamodel with
+		// a cycle of required containments has no finite instance
+		while (!pendingElements.isEmpty()) {
+			if (elements.size() > 2 * elementCount + MAXIMALREQUIREDELEMENTS) {
+				throw new IllegalArgumentException("The required containments of the metamodel can not be satisfied");
+			}
+
+			createChildren(pendingElements.poll(), pendingElements, 0);
+		}
+	}
+
+	/**
+	 * Creates the children of the passed element. The children of the optional containments are only created
+	 * until the passed number of elements is reached, the required children are always created.
+	 *
+	 * @param element
+	 *            the element
+	 * @param pendingElements
+	 *            the queue where the created children are added
+	 * @param elementCount
+	 *            the number of elements
+	 */
+	private void createChildren(EObject element, Queue<EObject> pendingElements, int elementCount) {
+		for (EReference containment : element.eClass().getEAllContainments()) {
+			if (!isGenerated(containment)) {
+				continue;
+			}
+
+			List<EClass> childClasses = getConcreteSubClasses(containment.getEReferenceType());
+			if (childClasses.isEmpty()) {
+				continue;
+			}
+
+			int childCount = getValueCount(containment);
+			for (int i = 0; i < childCount && (elements.size() < elementCount || i < containment.getLowerBound()); i++) {
+				EObject child = createElement(childClasses.get(random.nextInt(childClasses.size())));
+				addValue(element, containment, child);
+				pendingElements.add(child);
+			}
+		}
+	}
+
+	/**
+	 * Sets the attributes and the non-containment references of all created elements.
+	 */
+	private void setAttributesAndReferences() {
+		// the elements are processed in the order of their creation, so that the model only depends on the seed.
+		// The elements which are created for required references are added to the end and processed as well
+		for (int index = 0; index < elements.size(); index++) {
+			EObject element = elements.get(index);
+			for (EAttribute attribute : element.eClass().getEAllAttributes()) {
+				if (isGenerated(attribute) && (attribute.getLowerBound() > 0 || random.nextDouble() < 0.9)) {
+					setAttribute(element, attribute);
+				}
+			}
+
+			for (EReference reference : element.eClass().getEAllReferences()) {
+				if (isGenerated(reference) && !reference.isContainment() && !reference.isContainer()
+						&& !element.eIsSet(reference)
+						&& (reference.getLowerBound() > 0 || random.nextDouble() < referenceDensity)) {
+					setReference(element, reference);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Sets random values of the attribute.
+	 *
+	 * @param element
+	 *            the element
+	 * @param attribute
+	 *            the attribute
+	 */
+	private void setAttribute(EObject element, EAttribute attribute) {
+		int valueCount = attribute.isMany() ? getValueCount(attribute) : 1;
+		for (int i = 0; i < valueCount; i++) {
+			Object value = createValue(attribute.getEAttributeType(), attribute.getName());
+			if (value == null) {
+				return;
+			}
+			addValue(element, attribute, value);
+		}
+	}
+
+	/**
+	 * Sets the reference to random distinct compatible elements. If the opposite of the reference is single-valued,
+	 * only elements without a value of the opposite are used, so that no other element loses its value. Missing
+	 * elements for the lower bound are created.
+	 *
+	 * @param element
+	 *            the element
+	 * @param reference
+	 *            the reference
+	 */
+	private void setReference(EObject element, EReference reference) {
+		EReference opposite = reference.getEOpposite();
+		List<EObject> candidates = getCandidates(reference.getEReferenceType());
+		int valueCount = reference.isMany() ? getValueCount(reference) : 1;
+		int addedValues = 0;
+
+		if (opposite != null && !opposite.isMany()) {
+			// an element whose opposite is set never becomes free again, so the free candidates are taken in order
+			Integer nextIndex = nextFreeCandidateIndices.get(reference);
+			int index = nextIndex != null ? nextIndex.intValue() : 0;
+			while (addedValues < valueCount && index < candidates.size()) {
+				EObject candidate = candidates.get(index);
+				if (candidate != element && !candidate.eIsSet(opposite)) {
+					addValue(element, reference, candidate);
+					addedValues++;
+				}
+				index++;
+			}
+			nextFreeCandidateIndices.put(reference, Integer.valueOf(index));
+		} else if (!candidates.isEmpty()) {
+			int startIndex = random.nextInt(candidates.size());
+			for (; addedValues < valueCount && addedValues < candidates.size(); addedValues++) {
+				addValue(element, reference, candidates.get((startIndex + addedValues) % candidates.size()));
+			}
+		}
+
+		for (; addedValues < reference.getLowerBound(); addedValues++) {
+			EObject createdElement = createContainedElement(reference.getEReferenceType());
+			if (createdElement == null) {
+				return;
+			}
+			addValue(element, reference, createdElement);
+		}
+	}
+
+	/**
+	 * Creates an element of the passed class and its required children in the first compatible containment
+	 * reference of the created elements.
+	 *
+	 * @param eClass
+	 *            the class
+	 * @return the created element or null if no element can contain it
+	 */
+	private EObject createContainedElement(EClass eClass) {
+		List<EClass> elementClasses = getConcreteSubClasses(eClass);
+		if (elementClasses.isEmpty()) {
+			return null;
+		}
+
+		for (EObject container : elements) {
+			for (EReference containment : container.eClass().getEAllContainments()) {
+				if (isGenerated(containment) && containment.isMany()
+						&& containment.getEReferenceType().isSuperTypeOf(eClass)
+						&& (containment.getUpperBound() < 0
+								|| ((List<?>) container.eGet(containment)).size() < containment.getUpperBound())) {
+					EObject element = createElement(elementClasses.get(random.nextInt(elementClasses.size())));
+					addValue(container, containment, element);
+
+					Queue<EObject> pendingElements = new ArrayDeque<EObject>();
+					pendingElements.add(element);
+					while (!pendingElements.isEmpty()) {
+						createChildren(pendingElements.poll(), pendingElements, 0);
+					}
+					return element;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets all created elements which are compatible to the passed class.
+	 *
+	 * @param eClass
+	 *            the class
+	 * @return the compatible elements
+	 */
+	private List<EObject> getCandidates(EClass eClass) {
+		List<EObject> candidates = candidatesByClass.get(eClass);
+		if (candidates == null) {
+			candidates = new ArrayList<EObject>();
+			for (EClass concreteClass : getConcreteSubClasses(eClass)) {
+				List<EObject> instances = instancesByClass.get(concreteClass);
+				if (instances != null) {
+					candidates.addAll(instances);
+				}
+			}
+			candidatesByClass.put(eClass, candidates);
+		}
+		return candidates;
+	}
+
+	/**
+	 * Creates a value of the passed data type. Data types without a known instance class are not set.
+	 *
+	 * @param dataType
+	 *            the data type
+	 * @param featureName
+	 *            the name of the feature which is used as prefix of strings
+	 * @return the value or null
+	 */
+	private Object createValue(EDataType dataType, String featureName) {
+		if (dataType instanceof EEnum) {
+			EEnum eEnum = (EEnum) dataType;
+			if (eEnum.getELiterals().isEmpty()) {
+				return null;
+			}
+			return eEnum.getELiterals().get(random.nextInt(eEnum.getELiterals().size())).getInstance();
+		}
+
+		Class<?> instanceClass = dataType.getInstanceClass();
+		if (instanceClass == null) {
+			return null;
+		}
+
+		nextValue++;
+		if (instanceClass == String.class) {
+			return featureName + nextValue;
+		} else if (instanceClass == int.class || instanceClass == Integer.class) {
+			return Integer.valueOf(random.nextInt(1000));
+		} else if (instanceClass == long.class || instanceClass == Long.class) {
+			return Long.valueOf(random.nextInt(1000));
+		} else if (instanceClass == short.class || instanceClass == Short.class) {
+			return Short.valueOf((short) random.nextInt(1000));
+		} else if (instanceClass == byte.class || instanceClass == Byte.class) {
+			return Byte.valueOf((byte) random.nextInt(100));
+		} else if (instanceClass == double.class || instanceClass == Double.class) {
+			return Double.valueOf(random.nextInt(100000) / 100.0);
+		} else if (instanceClass == float.class || instanceClass == Float.class) {
+			return Float.valueOf(random.nextInt(100000) / 100.0f);
+		} else if (instanceClass == boolean.class || instanceClass == Boolean.class) {
+			return Boolean.valueOf(random.nextBoolean());
+		} else if (instanceClass == char.class || instanceClass == Character.class) {
+			return Character.valueOf((char) ('a' + random.nextInt(26)));
+		} else if (instanceClass == BigInteger.class) {
+			return BigInteger.valueOf(random.nextInt(1000));
+		} else if (instanceClass == BigDecimal.class) {
+			return BigDecimal.valueOf(random.nextInt(100000), 2);
+		} else if (instanceClass == Date.class) {
+			return new Date(1000000000000L + random.nextInt(1000000) * 1000L);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Creates an element and registers it as instance of its class.
+	 *
+	 * @param eClass
+	 *            the class of the element
+	 * @return the created element
+	 */
+	private EObject createElement(EClass eClass) {
+		EObject element = EcoreUtil.create(eClass);
+		List<EObject> instances = instancesByClass.get(eClass);
+		if (instances == null) {
+			instances = new ArrayList<EObject>();
+			instancesByClass.put(eClass, instances);
+		}
+		instances.add(element);
+		elements.add(element);
+
+		for (Map.Entry<EClass, List<EObject>> candidates : candidatesByClass.entrySet()) {
+			if (candidates.getKey().isSuperTypeOf(eClass)) {
+				candidates.getValue().add(element);
+			}
+		}
+		return element;
+	}
+
+	/**
+	 * Adds a value to a many-valued feature or sets the value of a single-valued feature.
+	 *
+	 * @param element
+	 *            the element
+	 * @param feature
+	 *            the feature
+	 * @param value
+	 *            the value
+	 */
+	@SuppressWarnings("unchecked")
+	private void addValue(EObject element, EStructuralFeature feature, Object value) {
+		if (feature.isMany()) {
+			((List<Object>) element.eGet(feature)).add(value);
+		} else {
+			element.eSet(feature, value);
+		}
+	}
+
+	/**
+	 * Gets the random number of values of a feature within its bounds and the fan out.
+	 *
+	 * @param feature
+	 *            the feature
+	 * @return the number of values
+	 */
+	private int getValueCount(EStructuralFeature feature) {
+		if (!feature.isMany()) {
+			return 1;
+		}
+
+		int upperBound = feature.getUpperBound() < 0 ? fanOut : Math.min(fanOut, feature.getUpperBound());
+		int lowerBound = Math.min(Math.max(feature.getLowerBound(), 1), upperBound);
+		return lowerBound + random.nextInt(upperBound - lowerBound + 1);
+	}
+
+	/**
+	 * Gets the concrete classes which are compatible to the passed class.
+	 *
+	 * @param eClass
+	 *            the class
+	 * @return the compatible concrete classes
+	 */
+	private List<EClass> getConcreteSubClasses(EClass eClass) {
+		List<EClass> subClasses = concreteSubClasses.get(eClass);
+		if (subClasses == null) {
+			subClasses = new ArrayList<EClass>();
+			for (EClass concreteClass : concreteClasses) {
+				if (eClass.isSuperTypeOf(concreteClass)) {
+					subClasses.add(concreteClass);
+				}
+			}
+			concreteSubClasses.put(eClass, subClasses);
+		}
+		return subClasses;
+	}
+
+	/**
+	 * Checks if the value of the feature is generated. Derived, transient and unchangeable features are computed
+	 * or not serialized.
+	 *
+	 * @param feature
+	 *            the feature
+	 * @return true, if the value is generated
+	 */
+	private static boolean isGenerated(EStructuralFeature feature) {
+		return feature.isChangeable() && !feature.isDerived() && !feature.isTransient() && !feature.isVolatile();
+	}
+
+	/**
+	 * Gets the passed packages and all their sub packages.
+	 *
+	 * @param ePackages
+	 *            the packages
+	 * @return all packages
+	 */
+	private static List<EPackage> getAllPackages(List<EPackage> ePackages) {
+		List<EPackage> allPackages = new ArrayList<EPackage>();
+		for (EPackage ePackage : ePackages) {
+			allPackages.add(ePackage);
+			allPackages.addAll(getAllPackages(ePackage.getESubpackages()));
+		}
+		return allPackages;
+	}
+
+	/**
+	 * Generates a model.
+	 *
+	 * @param args
+	 *            the arguments
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length < 3) {
+			System.out.println(
+					"Usage: SyntheticModelGenerator <metamodel file> <model file> <element count> [fan out] [reference density] [seed]");
+			return;
+		}
+
+		int fanOut = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULTFANOUT;
+		double referenceDensity = args.length > 4 ? Double.parseDouble(args[4]) : DEFAULTREFERENCEDENSITY;
+		long seed = args.length > 5 ? Long.parseLong(args[5]) : DEFAULTSEED;
+		generate(new File(args[0]), new File(args[1]), Integer.parseInt(args[2]), fanOut, referenceDensity, seed);
+	}
+}
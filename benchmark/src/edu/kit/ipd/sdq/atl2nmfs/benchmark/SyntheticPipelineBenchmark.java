@@ -0,0 +1,177 @@
+package edu.kit.ipd.sdq.atl2nmfs.benchmark;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.m2m.atl.common.ATL.Module;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions;
+import edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper;
+
+/**
+ * The SyntheticPipelineBenchmark Class.
+ * Measures the phases of the Atl2NmfS HOT for generated transformations of increasing size,
+ * so that the scaling curves can be compared between releases. The parsing, the analysis and the rule
+ * transformer cache their results, so these phases are measured as single shots and their caches are cleared
+ * before each iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SyntheticPipelineBenchmark {
+
+	/**
+	 * The TransformationState Class.
+	 * Holds the fixture of a generated transformation, which has run all phases once so that every phase has
+	 * its inputs.
+	 */
+	@State(Scope.Benchmark)
+	public static class TransformationState {
+
+		@Param({ "10", "100", "1000" })
+		public int classCount;
+
+		@Param({ "5", "20" })
+		public int attributeCount;
+
+		@Param({ "false", "true" })
+		public boolean parallelTransformation;
+
+		protected File directory;
+		protected PipelineFixture pipelineFixture;
+
+		/**
+		 * Generates the transformation and runs all phases once.
+		 *
+		 * @throws Exception
+		 */
+		@Setup(Level.Trial)
+		public void setUpTrial() throws Exception {
+			directory = Files.createTempDirectory("atl2nmfs-benchmark").toFile();
+			GenerationOptions options = new GenerationOptions();
+			options.setParallelTransformation(parallelTransformation);
+			pipelineFixture = new PipelineFixture(
+					SyntheticTransformationGenerator.generate(directory, classCount, attributeCount), options);
+			pipelineFixture.runAllPhases();
+		}
+
+		/**
+		 * Deletes the generated files and the parser cache.
+		 */
+		@TearDown(Level.Trial)
+		public void tearDownTrial() {
+			pipelineFixture.dispose();
+			FileUtils.deleteQuietly(directory);
+		}
+	}
+
+	/**
+	 * The UncachedState Class.
+	 * Clears the parse and metamodel caches before each iteration, so that the parsing and the analysis are
+	 * not measured as cache hits.
+	 */
+	public static class UncachedState extends TransformationState {
+
+		/**
+		 * Clears the parse and metamodel caches.
+		 *
+		 * @throws Exception
+		 */
+		@Setup(Level.Iteration)
+		public void setUpIteration() throws Exception {
+			pipelineFixture.clearCaches();
+		}
+	}
+
+	/**
+	 * The RuleTransformationState Class.
+	 * Analyzes the transformation again before each iteration since the transformed OCL expressions are cached
+	 * for the current transformation.
+	 */
+	public static class RuleTransformationState extends TransformationState {
+
+		/**
+		 * Discards the results of the previous transformation.
+		 */
+		@Setup(Level.Iteration)
+		public void setUpIteration() {
+			pipelineFixture.initializeNewTransformation();
+		}
+	}
+
+	/**
+	 * Benchmarks the parsing of the ATL module.
+	 *
+	 * @param state
+	 *            the uncached state
+	 * @return the parsed ATL module
+	 * @throws Exception
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 5)
+	@Measurement(iterations = 20)
+	public Module parseModule(UncachedState state) throws Exception {
+		return state.pipelineFixture.parse();
+	}
+
+	/**
+	 * Benchmarks the metamodel, model, rule and helper analysis.
+	 *
+	 * @param state
+	 *            the uncached state
+	 * @return the initialized atl2nmfS helper
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 5)
+	@Measurement(iterations = 20)
+	public Atl2NmfSHelper initializeNewTransformation(UncachedState state) {
+		return state.pipelineFixture.initializeNewTransformation();
+	}
+
+	/**
+	 * Benchmarks the rule transformer (including the binding transformer).
+	 *
+	 * @param state
+	 *            the rule transformation state
+	 * @return the transformed rules
+	 */
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@Warmup(iterations = 5)
+	@Measurement(iterations = 20)
+	public List<String> transformRules(RuleTransformationState state) {
+		return state.pipelineFixture.transformRules();
+	}
+
+	/**
+	 * Benchmarks the rendering of the templates.
+	 *
+	 * @param state
+	 *            the transformation state
+	 * @return the rendered code
+	 */
+	@Benchmark
+	public List<String> renderTemplates(TransformationState state) {
+		return state.pipelineFixture.renderTemplates();
+	}
+}
@@ -0,0 +1,210 @@
+package edu.kit.ipd.sdq.atl2nmfs.benchmark;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+
+/**
+ * The SyntheticTransformationGenerator Class.
+ * Creates ATL transformations and ecore metamodels of a configurable size to measure how the
+ * Atl2NmfS HOT scales. The input and the output metamodel contain a root class which contains
+ * elements of an abstract class and the given number of concrete sub classes. Every concrete class
+ * has the given number of string attributes and a reference to the next class. Every concrete class
+ * is transformed by one matched rule which binds all attributes and the reference.
+ */
+public class SyntheticTransformationGenerator {
+
+	public static final String INPUTMETAMODELNAME = "SynthIn";
+	public static final String OUTPUTMETAMODELNAME = "SynthOut";
+
+	/**
+	 * Private Class constructor.
+	 */
+	private SyntheticTransformationGenerator() {
+	}
+
+	/**
+	 * Creates the transformation and the metamodels in the passed directory.
+	 *
+	 * @param directory
+	 *            the directory
+	 * @param classCount
+	 *            the number of concrete classes and therefore rules
+	 * @param attributeCount
+	 *            the number of attributes of every class and therefore attribute bindings of every rule
+	 * @return the benchmark case of the created transformation
+	 * @throws Exception
+	 */
+	public static BenchmarkCase generate(File directory, int classCount, int attributeCount) throws Exception {
+		if (classCount < 1 || attributeCount < 0) {
+			throw new IllegalArgumentException("At least one class and a non-negative number of attributes are required");
+		}
+
+		directory.mkdirs();
+		String transformationName = "Synthetic" + classCount + "x" + attributeCount;
+
+		File inputMetamodelFile = new File(directory, INPUTMETAMODELNAME + ".ecore");
+		File outputMetamodelFile = new File(directory, OUTPUTMETAMODELNAME + ".ecore");
+		saveMetamodel(createMetamodel(INPUTMETAMODELNAME, classCount, attributeCount), inputMetamodelFile);
+		saveMetamodel(createMetamodel(OUTPUTMETAMODELNAME, classCount, attributeCount), outputMetamodelFile);
+
+		File transformationFile = new File(directory, transformationName + ".atl");
+		FileUtils.writeStringToFile(transformationFile,
+				createTransformation(transformationName, classCount, attributeCount), StandardCharsets.UTF_8);
+
+		return new BenchmarkCase(transformationName, transformationFile.getPath(),
+				Arrays.asList(inputMetamodelFile.getPath()), Arrays.asList(outputMetamodelFile.getPath()));
+	}
+
+	/**
+	 * Creates the ecore metamodel.
+	 *
+	 * @param name
+	 *            the name of the metamodel
+	 * @param classCount
+	 *            the number of concrete classes
+	 * @param attributeCount
+	 *            the number of attributes of every class
+	 * @return the metamodel
+	 */
+	public static EPackage createMetamodel(String name, int classCount, int attributeCount) {
+		EcoreFactory ecoreFactory = EcoreFactory.eINSTANCE;
+
+		EPackage ePackage = ecoreFactory.createEPackage();
+		ePackage.setName(name);
+		ePackage.setNsPrefix(name.toLowerCase());
+		ePackage.setNsURI("http://www.example.org/" + name);
+
+		EClass elementClass = ecoreFactory.createEClass();
+		elementClass.setName("Element");
+		elementClass.setAbstract(true);
+		ePackage.getEClassifiers().add(elementClass);
+
+		EClass rootClass = ecoreFactory.createEClass();
+		rootClass.setName("Root");
+		EReference elementsReference = ecoreFactory.createEReference();
+		elementsReference.setName("elements");
+		elementsReference.setEType(elementClass);
+		elementsReference.setContainment(true);
+		elementsReference.setUpperBound(-1);
+		rootClass.getEStructuralFeatures().add(elementsReference);
+		ePackage.getEClassifiers().add(rootClass);
+
+		EClass[] concreteClasses = new EClass[classCount];
+		for (int i = 0; i < classCount; i++) {
+			EClass concreteClass = ecoreFactory.createEClass();
+			concreteClass.setName(getClassName(i));
+			concreteClass.getESuperTypes().add(elementClass);
+
+			for (int j = 0; j < attributeCount; j++) {
+				EAttribute attribute = ecoreFactory.createEAttribute();
+				attribute.setName(getAttributeName(j));
+				attribute.setEType(EcorePackage.Literals.ESTRING);
+				concreteClass.getEStructuralFeatures().add(attribute);
+			}
+
+			concreteClasses[i] = concreteClass;
+			ePackage.getEClassifiers().add(concreteClass);
+		}
+
+		for (int i = 0; i < classCount - 1; i++) {
+			EReference nextReference = ecoreFactory.createEReference();
+			nextReference.setName("next");
+			nextReference.setEType(concreteClasses[i + 1]);
+			concreteClasses[i].getEStructuralFeatures().add(nextReference);
+		}
+
+		return ePackage;
+	}
+
+	/**
+	 * Creates the ATL transformation.
+	 *
+	 * @param transformationName
+	 *            the transformation name
+	 * @param classCount
+	 *            the number of concrete classes
+	 * @param attributeCount
+	 *            the number of attributes of every class
+	 * @return the ATL transformation as string
+	 */
+	public static String createTransformation(String transformationName, int classCount, int attributeCount) {
+		StringBuilder builder = new StringBuilder();
+		builder.append("module ").append(transformationName).append(";\n");
+		builder.append("create OUT : ").append(OUTPUTMETAMODELNAME).append(" from IN : ").append(INPUTMETAMODELNAME)
+				.append(";\n\n");
+
+		builder.append("rule Root2Root {\n");
+		builder.append("\tfrom\n\t\ts : ").append(INPUTMETAMODELNAME).append("!Root\n");
+		builder.append("\tto\n\t\tt : ").append(OUTPUTMETAMODELNAME).append("!Root (\n");
+		builder.append("\t\t\telements <- s.elements\n");
+		builder.append("\t\t)\n}\n");
+
+		for (int i = 0; i < classCount; i++) {
+			String className = getClassName(i);
+			builder.append("\nrule ").append(className).append("2").append(className).append(" {\n");
+			builder.append("\tfrom\n\t\ts : ").append(INPUTMETAMODELNAME).append("!").append(className).append("\n");
+			builder.append("\tto\n\t\tt : ").append(OUTPUTMETAMODELNAME).append("!").append(className).append(" (\n");
+
+			int bindingCount = attributeCount + (i < classCount - 1 ? 1 : 0);
+			for (int j = 0; j < bindingCount; j++) {
+				String featureName = j < attributeCount ? getAttributeName(j) : "next";
+				builder.append("\t\t\t").append(featureName).append(" <- s.").append(featureName);
+				builder.append(j < bindingCount - 1 ? ",\n" : "\n");
+			}
+
+			builder.append("\t\t)\n}\n");
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Saves the metamodel.
+	 *
+	 * @param ePackage
+	 *            the metamodel
+	 * @param file
+	 *            the file
+	 * @throws Exception
+	 */
+	private static void saveMetamodel(EPackage ePackage, File file) throws Exception {
+		Resource resource = new XMIResourceImpl(URI.createFileURI(file.getAbsolutePath()));
+		resource.getContents().add(ePackage);
+		resource.save(Collections.emptyMap());
+	}
+
+	/**
+	 * Gets the name of a concrete class.
+	 *
+	 * @param index
+	 *            the index of the class
+	 * @return the class name
+	 */
+	public static String getClassName(int index) {
+		return "Class" + index;
+	}
+
+	/**
+	 * Gets the name of an attribute.
+	 *
+	 * @param index
+	 *            the index of the attribute
+	 * @return the attribute name
+	 */
+	public static String getAttributeName(int index) {
+		return "attribute" + index;
+	}
+}
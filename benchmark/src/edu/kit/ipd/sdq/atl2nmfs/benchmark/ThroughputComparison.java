@@ -0,0 +1,210 @@
+package edu.kit.ipd.sdq.atl2nmfs.benchmark;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.m2m.atl.common.OCL.OclModel;
+
+import edu.kit.ipd.sdq.atl2nmfs.Atl2NmfSynchronizations;
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.RuntimeMetrics;
+import edu.kit.ipd.sdq.atl2nmfs.utils.ExecutionUtils;
+import edu.kit.ipd.sdq.atl2nmfs.utils.MsBuildUtils;
+
+/**
+ * The ThroughputComparison Class.
+ * Executes the same ATL transformation on the EMFTVM and as generated NMF synchronization for synthetic input
+ * models of increasing size. For every size the output models of both engines are compared with their canonical
+ * signatures and the times and the peak memory of both engines are reported. The results are printed and written
+ * as CSV file to the work directory. The generated NMF synchronization requires MsBuild and the .NET runtime.
+ * Usage: ThroughputComparison [case name] [work directory] [element count]...
+ */
+public class ThroughputComparison {
+
+	public static final String NMFENGINENAME = "NMF";
+	private static final String RESULTFILENAME = "throughput.csv";
+
+	private final BenchmarkCase benchmarkCase;
+	private final File workDirectory;
+	private final EmftvmRunner emftvmRunner;
+	private String executableFilePath;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param benchmarkCase
+	 *            the benchmark case
+	 * @param workDirectory
+	 *            the directory where the generated code, models and results are stored
+	 * @throws Exception
+	 */
+	public ThroughputComparison(BenchmarkCase benchmarkCase, File workDirectory) throws Exception {
+		this.benchmarkCase = benchmarkCase;
+		this.workDirectory = workDirectory;
+		this.emftvmRunner = new EmftvmRunner(benchmarkCase, new File(workDirectory, "emftvm"));
+	}
+
+	/**
+	 * Generates and builds the NMF synchronization with runtime metrics.
+	 *
+	 * @throws Exception
+	 */
+	public void generateNmfSynchronization() throws Exception {
+		String outputPath = new File(workDirectory, benchmarkCase.getName() + ".NMFSynchronizations").getPath();
+
+		GenerationOptions options = new GenerationOptions();
+		options.setRuntimeMetrics(true);
+		new Atl2NmfSynchronizations(options).doGenerate(benchmarkCase.getName(),
+				benchmarkCase.getTransformationFilePath(), outputPath, benchmarkCase.getInputMetamodelPaths(),
+				benchmarkCase.getOutputMetamodelPaths());
+		MsBuildUtils.build(outputPath + "/" + benchmarkCase.getName() + ".csproj");
+
+		executableFilePath = outputPath + "/bin/" + benchmarkCase.getName() + ".exe";
+	}
+
+	/**
+	 * Compares both engines for input models with the passed number of elements. Every input model of the
+	 * transformation gets at least the passed number of elements. The throughput of both engines is computed
+	 * from the number of generated elements and the peak memory of both engines is the peak of the managed heap.
+	 *
+	 * @param elementCount
+	 *            the number of elements of every input model
+	 * @return the measurements of the EMFTVM and the NMF synchronization
+	 * @throws Exception
+	 */
+	public List<EngineMeasurement> compare(int elementCount) throws Exception {
+		if (executableFilePath == null) {
+			throw new IllegalStateException("The NMF synchronization must be generated before the engines are compared");
+		}
+
+		File modelDirectory = new File(workDirectory, "models/" + elementCount);
+		Map<String, String> inputMetamodelPaths = emftvmRunner.getInputMetamodelPaths();
+
+		// the models are always generated since the generator can create more elements than requested
+		// and the number of generated elements is used for both engines
+		List<String> inputModelPaths = new ArrayList<String>();
+		long totalElementCount = 0;
+		for (OclModel inModel : emftvmRunner.getAtlModule().getInModels()) {
+			File inputModelFile = new File(modelDirectory, inModel.getName() + ".xmi");
+			totalElementCount += SyntheticModelGenerator.generate(
+					new File(inputMetamodelPaths.get(inModel.getMetamodel().getName())), inputModelFile, elementCount);
+			inputModelPaths.add(inputModelFile.getPath());
+		}
+
+		List<String> emftvmOutputModelPaths = new ArrayList<String>();
+		List<String> nmfOutputModelPaths = new ArrayList<String>();
+		for (OclModel outModel : emftvmRunner.getAtlModule().getOutModels()) {
+			emftvmOutputModelPaths.add(new File(modelDirectory, outModel.getName() + ".emftvm.xmi").getPath());
+			File nmfOutputModelFile = new File(modelDirectory, outModel.getName() + ".nmf.xmi");
+			// the NMF synchronization would synchronize with an existing output model
+			nmfOutputModelFile.delete();
+			nmfOutputModelPaths.add(nmfOutputModelFile.getPath());
+		}
+
+		EngineMeasurement emftvmMeasurement = emftvmRunner.run(inputModelPaths, emftvmOutputModelPaths,
+				totalElementCount);
+
+		long startTime = System.nanoTime();
+		RuntimeMetrics runtimeMetrics = ExecutionUtils.executeWithRuntimeMetrics(executableFilePath, inputModelPaths,
+				nmfOutputModelPaths, new File(modelDirectory, "runtimeMetrics.json").getPath());
+		double wallMilliseconds = (System.nanoTime() - startTime) / 1e6;
+		EngineMeasurement nmfMeasurement = new EngineMeasurement(NMFENGINENAME, totalElementCount,
+				runtimeMetrics.getLoadMilliseconds(), runtimeMetrics.getSynchronizeMilliseconds(),
+				runtimeMetrics.getSaveMilliseconds(), wallMilliseconds, runtimeMetrics.getPeakManagedMemoryBytes());
+
+		checkEquivalence(emftvmOutputModelPaths, nmfOutputModelPaths);
+
+		List<EngineMeasurement> measurements = new ArrayList<EngineMeasurement>();
+		measurements.add(emftvmMeasurement);
+		measurements.add(nmfMeasurement);
+		return measurements;
+	}
+
+	/**
+	 * Checks that the output models of both engines have the same canonical signatures. Both output models are
+	 * loaded with EMF.
+	 *
+	 * @param emftvmOutputModelPaths
+	 *            the output model paths of the EMFTVM
+	 * @param nmfOutputModelPaths
+	 *            the output model paths of the NMF synchronization
+	 * @throws Exception
+	 */
+	private void checkEquivalence(List<String> emftvmOutputModelPaths, List<String> nmfOutputModelPaths)
+			throws Exception {
+		ResourceSet resourceSet = SyntheticModelGenerator.createResourceSet();
+		for (String outputMetamodelPath : benchmarkCase.getOutputMetamodelPaths()) {
+			SyntheticModelGenerator.loadMetamodel(resourceSet, new File(outputMetamodelPath));
+		}
+
+		for (int i = 0; i < emftvmOutputModelPaths.size(); i++) {
+			Resource emftvmOutput = resourceSet
+					.getResource(URI.createFileURI(new File(emftvmOutputModelPaths.get(i)).getAbsolutePath()), true);
+			Resource nmfOutput = resourceSet
+					.getResource(URI.createFileURI(new File(nmfOutputModelPaths.get(i)).getAbsolutePath()), true);
+
+			int differences = ModelSignature.countDifferences(emftvmOutput, nmfOutput);
+			if (differences > 0) {
+				throw new IllegalStateException("The output models " + emftvmOutputModelPaths.get(i) + " and "
+						+ nmfOutputModelPaths.get(i) + " differ in " + differences + " element(s)");
+			}
+
+			emftvmOutput.unload();
+			nmfOutput.unload();
+		}
+	}
+
+	/**
+	 * Formats a measurement as CSV line.
+	 *
+	 * @param measurement
+	 *            the measurement
+	 * @return the CSV line
+	 */
+	private static String toCsvLine(EngineMeasurement measurement) {
+		return String.format(Locale.ROOT, "%s,%d,%.3f,%.3f,%.3f,%.3f,%.1f,%d", measurement.getEngineName(),
+				measurement.getElementCount(), measurement.getLoadMilliseconds(),
+				measurement.getTransformMilliseconds(), measurement.getSaveMilliseconds(),
+				measurement.getWallMilliseconds(), measurement.getElementsPerSecond(), measurement.getPeakMemoryBytes());
+	}
+
+	/**
+	 * Runs the comparison.
+	 *
+	 * @param args
+	 *            the arguments
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length < 3) {
+			System.out.println("Usage: ThroughputComparison <case name> <work directory> <element count>...");
+			return;
+		}
+
+		File workDirectory = new File(args[1]);
+		ThroughputComparison comparison = new ThroughputComparison(BenchmarkCase.getBundledCase(args[0]),
+				workDirectory);
+		comparison.generateNmfSynchronization();
+
+		List<String> csvLines = new ArrayList<String>();
+		csvLines.add("engine,elements,loadMilliseconds,transformMilliseconds,saveMilliseconds,wallMilliseconds,"
+				+ "elementsPerSecond,peakMemoryBytes");
+		for (int i = 2; i < args.length; i++) {
+			for (EngineMeasurement measurement : comparison.compare(Integer.parseInt(args[i]))) {
+				String csvLine = toCsvLine(measurement);
+				System.out.println(csvLine);
+				csvLines.add(csvLine);
+			}
+		}
+
+		FileUtils.writeLines(new File(workDirectory, RESULTFILENAME), StandardCharsets.UTF_8.name(), csvLines);
+	}
+}
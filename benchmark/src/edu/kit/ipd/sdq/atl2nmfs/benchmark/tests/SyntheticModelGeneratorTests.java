@@ -0,0 +1,95 @@
+package edu.kit.ipd.sdq.atl2nmfs.benchmark.tests;
+
+import java.io.File;
+import java.util.Iterator;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import edu.kit.ipd.sdq.atl2nmfs.benchmark.SyntheticModelGenerator;
+
+/**
+ * The SyntheticModelGeneratorTests Class.
+ */
+public class SyntheticModelGeneratorTests {
+
+	private static final int ELEMENTCOUNT = 500;
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	/**
+	 * Determinism test. The same seed must generate the same model and a different seed a different model.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void DeterminismTest() throws Exception {
+		File metamodelFile = new File("resources/Families2Persons/Families.ecore");
+		File firstModelFile = temporaryFolder.newFile("First.xmi");
+		File secondModelFile = temporaryFolder.newFile("Second.xmi");
+		File otherSeedModelFile = temporaryFolder.newFile("OtherSeed.xmi");
+
+		SyntheticModelGenerator.generate(metamodelFile, firstModelFile, ELEMENTCOUNT,
+				SyntheticModelGenerator.DEFAULTFANOUT, SyntheticModelGenerator.DEFAULTREFERENCEDENSITY, 1);
+		SyntheticModelGenerator.generate(metamodelFile, secondModelFile, ELEMENTCOUNT,
+				SyntheticModelGenerator.DEFAULTFANOUT, SyntheticModelGenerator.DEFAULTREFERENCEDENSITY, 1);
+		SyntheticModelGenerator.generate(metamodelFile, otherSeedModelFile, ELEMENTCOUNT,
+				SyntheticModelGenerator.DEFAULTFANOUT, SyntheticModelGenerator.DEFAULTREFERENCEDENSITY, 2);
+
+		Assert.assertTrue(FileUtils.contentEquals(firstModelFile, secondModelFile));
+		Assert.assertFalse(FileUtils.contentEquals(firstModelFile, otherSeedModelFile));
+	}
+
+	/**
+	 * Validity test. The generated models of metamodels with required attributes, required containments and
+	 * required references with single valued opposites must be valid and contain the returned number of elements.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void ValidityTest() throws Exception {
+		generateAndValidate("resources/Families2Persons/Families.ecore");
+		generateAndValidate("resources/PetriNet2PNML/PetriNet.ecore");
+		generateAndValidate("resources/PortV4/TypeA.ecore");
+		generateAndValidate("resources/Inheritance/TypeA.ecore");
+	}
+
+	/**
+	 * Generates a model for the passed metamodel, loads the saved model again and validates it.
+	 *
+	 * @param metamodelPath
+	 *            the metamodel path
+	 * @throws Exception
+	 */
+	private void generateAndValidate(String metamodelPath) throws Exception {
+		File metamodelFile = new File(metamodelPath);
+		File modelFile = new File(temporaryFolder.getRoot(),
+				metamodelFile.getParentFile().getName() + "." + metamodelFile.getName() + ".xmi");
+
+		int generatedElementCount = SyntheticModelGenerator.generate(metamodelFile, modelFile, ELEMENTCOUNT);
+		Assert.assertTrue(metamodelPath, generatedElementCount >= ELEMENTCOUNT);
+
+		ResourceSet resourceSet = SyntheticModelGenerator.createResourceSet();
+		SyntheticModelGenerator.loadMetamodel(resourceSet, metamodelFile);
+		Resource modelResource = resourceSet.getResource(URI.createFileURI(modelFile.getAbsolutePath()), true);
+
+		int loadedElementCount = 0;
+		for (Iterator<?> iterator = modelResource.getAllContents(); iterator.hasNext(); iterator.next()) {
+			loadedElementCount++;
+		}
+		Assert.assertEquals(metamodelPath, generatedElementCount, loadedElementCount);
+
+		try {
+			SyntheticModelGenerator.validate(modelResource);
+		} catch (IllegalStateException exception) {
+			Assert.fail(metamodelPath + ": " + exception.getMessage());
+		}
+	}
+}
@@ -3,42 +3,92 @@ package edu.kit.ipd.sdq.atl2nmfs;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang.NotImplementedException;
 import org.eclipse.m2m.atl.common.ATL.Library;
 import org.eclipse.m2m.atl.common.ATL.LibraryRef;
+import org.eclipse.m2m.atl.common.ATL.Module;
+import org.eclipse.m2m.atl.common.OCL.OclModel;
 import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
 
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 
+import edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper;
+import edu.kit.ipd.sdq.atl2nmfs.helper.AtlSupportAnalyzer;
+import edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzerFactory;
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationListener;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationReport;
 import edu.kit.ipd.sdq.atl2nmfs.transformer.atl.AtlTransformer;
 import edu.kit.ipd.sdq.atl2nmfs.utils.AtlParserUtils;
+import edu.kit.ipd.sdq.atl2nmfs.utils.GenerationReportUtils;
+import edu.kit.ipd.sdq.atl2nmfs.utils.IncrementalGenerationUtils;
 
 /**
  * The Atl2NmfSynchronizations Class.
  */
 class Atl2NmfSynchronizations {
 
+	/**
+	 * The version of the generator. It is part of the fingerprint of an incremental generation
+	 * together with the hash of the generator.
+	 */
+	public static final String GENERATORVERSION = "1.1.0";
+
+	/**
+	 * The directory of the libraries which are copied next to the generated code.
+	 */
+	private static final String LIBSDIRECTORY = "resources/Libs";
+
+	/**
+	 * The directory of Ecore2Code which transforms the metamodels into code.
+	 */
+	private static final String ECORE2CODEDIRECTORY = "resources/Ecore2Code";
+
+	private static String generatorHash;
+
 	private final Injector injector;
 	private final JavaIoFileSystemAccess fileSystemAccess;
 	private final AtlTransformer atlTransformer;
+	private final GenerationInstrumentation generationInstrumentation;
+	private final GenerationOptions options;
+	private GenerationReport lastGenerationReport;
 
 	/**
-	 * Class constructor.
+	 * Class constructor which uses the default generation options.
 	 */
 	public new() {
+		this(new GenerationOptions());
+	}
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param options
+	 *            the generation options
+	 */
+	public new(GenerationOptions options) {
+		this.options = options;
+
 		// initialize file system access
-		fileSystemAccess = new JavaIoFileSystemAccess();
-		injector = Guice.createInjector(new Atl2NmfSynchronizationsModule(), new EncodingProviderModule());
+		fileSystemAccess = if (options.isIncremental) new IncrementalFileSystemAccess() else new JavaIoFileSystemAccess();
+		injector = Guice.createInjector(new Atl2NmfSynchronizationsModule(options), new EncodingProviderModule());
 
 		injector.injectMembers(fileSystemAccess);
 		atlTransformer = injector.getInstance(AtlTransformer);
+		generationInstrumentation = injector.getInstance(GenerationInstrumentation);
 	}
 
 	/**
-	 * Generates the NMF S. code for the passed ATL transformation.
+	 * Generates the NMF S. code for the passed ATL transformation. The measurements of the generation
+	 * are written to the file [transformationName].generationReport.json in the output path.
 	 *
 	 * @param transformationName
 	 *            the transformation name
@@ -61,32 +111,106 @@ class Atl2NmfSynchronizations {
 			throw new FileNotFoundException("The transformation file " + transformationFilePath + " was not found");
 		}
 
-		// parse the transformation file
-		var parsedAtlModule = AtlParserUtils.parseModule(transformationFile.getAbsolutePath());
+		lastGenerationReport = null;
+		generationInstrumentation.startGeneration(transformationName);
 
-		// check if libraries exists and parse them if existing
+		// parse the transformation file
+		var Module parsedAtlModule = null;
 		var parsedAtlLibraries = new ArrayList<Library>();
-		var atlLibraries = parsedAtlModule.getLibraries();
-		if (atlLibraries.size() > 0) {
-			var transformationDirectory = transformationFile.getParentFile();
-
-			for (LibraryRef library : atlLibraries) {
-				var libraryFile = new File(transformationDirectory + "/" + library.getName() + ".atl");
-				if (!libraryFile.isFile()) {
-					throw new FileNotFoundException("The referenced library file '" + library.getName()
-							+ ".atl' was not found. Does the file have this name and is in the same directory as the transformation file?");
+		var libraryFiles = new ArrayList<File>();
+		var phaseTimer = generationInstrumentation.startPhase("parse");
+		try {
+			parsedAtlModule = AtlParserUtils.parseModule(transformationFile.getAbsolutePath());
+
+			// check if libraries exists and parse them if existing
+			var atlLibraries = parsedAtlModule.getLibraries();
+			if (atlLibraries.size() > 0) {
+				var transformationDirectory = transformationFile.getParentFile();
+
+				for (LibraryRef library : atlLibraries) {
+					var libraryFile = new File(transformationDirectory + "/" + library.getName() + ".atl");
+					if (!libraryFile.isFile()) {
+						throw new FileNotFoundException("The referenced library file '" + library.getName()
+								+ ".atl' was not found. Does the file have this name and is in the same directory as the transformation file?");
+					}
+
+					var parsedAtlLibrary = AtlParserUtils.parseLibrary(libraryFile.getAbsolutePath());
+					parsedAtlLibraries.add(parsedAtlLibrary);
+					libraryFiles.add(libraryFile);
 				}
+			}
+		} finally {
+			generationInstrumentation.finishPhase(phaseTimer);
+		}
+
+		var String fingerprint = null;
+		if (options.isIncremental) {
+			// skip the generation if neither the inputs nor the generator changed since the last run. The check is done
+			// before the metamodels are loaded, since an up to date output was generated from a supported transformation
+			var inputFiles = new ArrayList<File>();
+			inputFiles.add(transformationFile);
+			inputFiles.addAll(libraryFiles);
+			inputFiles.addAll(inputMetamodelPaths.map[new File(it)]);
+			inputFiles.addAll(outputMetamodelPaths.map[new File(it)]);
+
+			fingerprint = IncrementalGenerationUtils.computeFingerprint(GENERATORVERSION + "-" + getGeneratorHash(),
+				options.toString, transformationName, inputFiles);
+			if (IncrementalGenerationUtils.isUpToDate(outputPath, fingerprint) &&
+				new File(outputPath + "/" + transformationName + ".csproj").isFile()) {
+				System.out.println("The generated code of " + transformationName + " is up to date");
 
-				var parsedAtlLibrary = AtlParserUtils.parseLibrary(libraryFile.getAbsolutePath());
-				parsedAtlLibraries.add(parsedAtlLibrary);
+				generationInstrumentation.incrementCounter("upToDate", 1);
+				lastGenerationReport = generationInstrumentation.finishGeneration(getCacheStatistics());
+				GenerationReportUtils.writeReport(GenerationReportUtils.getReportFile(outputPath, transformationName),
+					lastGenerationReport);
+				return;
 			}
+
+			// a failed generation must never be considered as up to date
+			IncrementalGenerationUtils.deleteFingerprint(outputPath);
 		}
 
-		// TODO: analyze ATL transformation and check if all the used ATL
-		// constructs are supported by the Atl2NmfS HOT
+		// check if all the used ATL constructs are supported by the Atl2NmfS HOT before any code is generated.
+		// The transformation is analyzed while the metamodels are loaded into the cache of the ecore analyzers
+		var unsupportedConstructs = new ArrayList<String>();
+		phaseTimer = generationInstrumentation.startPhase("analyzeSupport");
+		try {
+			val atlModule = parsedAtlModule;
+			val atlLibraries = parsedAtlLibraries;
+			val atlSupportAnalyzer = injector.getInstance(AtlSupportAnalyzer);
+			var supportAnalysis = CompletableFuture.runAsync([atlSupportAnalyzer.analyzeSupport(atlModule, atlLibraries)]);
+
+			unsupportedConstructs.addAll(preloadMetamodels(atlModule.inModels, inputMetamodelPaths));
+			unsupportedConstructs.addAll(preloadMetamodels(atlModule.outModels, outputMetamodelPaths));
+			try {
+				supportAnalysis.join();
+			} catch (CompletionException e) {
+				throw e.cause;
+			}
+			unsupportedConstructs.addAll(atlSupportAnalyzer.unsupportedConstructs);
+			generationInstrumentation.incrementCounter("unsupportedConstructs", unsupportedConstructs.size);
+		} finally {
+			generationInstrumentation.finishPhase(phaseTimer);
+		}
+
+		if (!unsupportedConstructs.isEmpty) {
+			throw new NotImplementedException("The transformation " + transformationName +
+				" uses constructs which are not supported yet:" + System.lineSeparator +
+				String.join(System.lineSeparator, unsupportedConstructs));
+		}
 
 		// copy the required files into the output directory
-		FileUtils.copyDirectory(new File("resources/Libs"), new File(outputPath + "/Libs"));
+		phaseTimer = generationInstrumentation.startPhase("copyLibraries");
+		try {
+			if (options.isIncremental) {
+				IncrementalGenerationUtils.copyDirectoryIfChanged(new File(LIBSDIRECTORY),
+					new File(outputPath + "/Libs"));
+			} else {
+				FileUtils.copyDirectory(new File(LIBSDIRECTORY), new File(outputPath + "/Libs"));
+			}
+		} finally {
+			generationInstrumentation.finishPhase(phaseTimer);
+		}
 
 		// initialize and run the higher-order transformation
 		fileSystemAccess.setOutputPath(outputPath);
@@ -95,5 +219,103 @@ class Atl2NmfSynchronizations {
 
 		var projectFileName = transformationName + ".csproj";
 		atlTransformer.createCSharpCode(outputPath, projectFileName);
+
+		lastGenerationReport = generationInstrumentation.finishGeneration(getCacheStatistics());
+		GenerationReportUtils.writeReport(GenerationReportUtils.getReportFile(outputPath, transformationName),
+			lastGenerationReport);
+
+		if (options.isIncremental) {
+			IncrementalGenerationUtils.writeFingerprint(outputPath, fingerprint);
+		}
+	}
+
+	/**
+	 * Gets the hash of the generator. It covers all class files of the generator, the libraries which are
+	 * copied next to the generated code and Ecore2Code. It is computed once per process.
+	 *
+	 * @return the hash of the generator
+	 * @throws Exception
+	 */
+	def private static synchronized String getGeneratorHash() throws Exception {
+		if (generatorHash == null) {
+			generatorHash = IncrementalGenerationUtils.computeGeneratorHash(Atl2NmfSynchronizations,
+				#[new File(LIBSDIRECTORY), new File(ECORE2CODEDIRECTORY)]);
+		}
+
+		return generatorHash;
+	}
+
+	/**
+	 * Loads the metamodels of the passed models into the cache of the ecore analyzers. The paths must be passed
+	 * in the same order as the metamodels are defined in the ATL transformation and if the same metamodel is used
+	 * multiple times its path must be passed only once. Missing paths are reported by the metamodel analyzer.
+	 *
+	 * @param atlModels
+	 *            the input or output models of the ATL transformation
+	 * @param metamodelPaths
+	 *            the paths to the metamodels
+	 * @return the descriptions of the metamodels which are not supported
+	 */
+	def private List<String> preloadMetamodels(List<OclModel> atlModels, List<String> metamodelPaths) {
+		var unsupportedMetamodels = new ArrayList<String>();
+		var ecoreAnalyzerFactory = injector.getInstance(EcoreAnalyzerFactory);
+
+		var metamodelNames = new LinkedHashSet<String>(atlModels.map[it.metamodel.name]);
+		var index = 0;
+		for (metamodelName : metamodelNames) {
+			if (index < metamodelPaths.size) {
+				try {
+					ecoreAnalyzerFactory.create(metamodelName, metamodelPaths.get(index));
+				} catch (NotImplementedException e) {
+					unsupportedMetamodels.add(e.message + " (" + metamodelPaths.get(index) + ")");
+				}
+			}
+			index++;
+		}
+
+		return unsupportedMetamodels;
+	}
+
+	/**
+	 * Gets the statistics of the caches which were used while the last transformation was generated.
+	 * The statistics of the parse cache and the ecore analyzer cache are shared by all transformations
+	 * of the process.
+	 *
+	 * @return the cache statistics
+	 */
+	public def List<CacheStatisticsInfo> getCacheStatistics() {
+		var cacheStatistics = new ArrayList<CacheStatisticsInfo>(injector.getInstance(Atl2NmfSHelper).cacheStatistics);
+		cacheStatistics.add(injector.getInstance(EcoreAnalyzerFactory).cacheStatistics);
+		cacheStatistics.add(AtlParserUtils.getCacheStatistics());
+		return cacheStatistics;
+	}
+
+	/**
+	 * Gets the report of the last generation.
+	 *
+	 * @return the generation report or null if no generation was finished yet
+	 */
+	public def GenerationReport getLastGenerationReport() {
+		return lastGenerationReport;
+	}
+
+	/**
+	 * Adds a listener which is notified about the measurements of the generations.
+	 *
+	 * @param listener
+	 *            the listener
+	 */
+	public def void addGenerationListener(GenerationListener listener) {
+		generationInstrumentation.addListener(listener);
+	}
+
+	/**
+	 * Removes a generation listener.
+	 *
+	 * @param listener
+	 *            the listener
+	 */
+	public def void removeGenerationListener(GenerationListener listener) {
+		generationInstrumentation.removeListener(listener);
 	}
 }
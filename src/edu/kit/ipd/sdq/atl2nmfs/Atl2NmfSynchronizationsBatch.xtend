@@ -0,0 +1,160 @@
+package edu.kit.ipd.sdq.atl2nmfs;
+
+import edu.kit.ipd.sdq.atl2nmfs.batch.BatchJobInfo
+import edu.kit.ipd.sdq.atl2nmfs.batch.BatchJobResult
+import edu.kit.ipd.sdq.atl2nmfs.utils.BatchManifestUtils
+import java.util.ArrayList
+import java.util.List
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+/**
+ * The Atl2NmfSynchronizationsBatch Class.
+ *
+ * Runs the Atl2NmfS HOT for many transformations in one JVM. Every worker thread owns one
+ * Atl2NmfSynchronizations instance with its own injector, so the analysis state of concurrent
+ * jobs is isolated while the pipeline is reused for all jobs which are executed by the same worker.
+ */
+class Atl2NmfSynchronizationsBatch {
+
+	private final int parallelism;
+	private final ThreadLocal<Atl2NmfSynchronizations> pipelines;
+
+	/**
+	 * Class constructor which uses the default generation options.
+	 *
+	 * @param parallelism
+	 *            the maximum number of jobs which are executed concurrently
+	 */
+	public new(int parallelism) {
+		this(parallelism, new GenerationOptions());
+	}
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param parallelism
+	 *            the maximum number of jobs which are executed concurrently
+	 * @param options
+	 *            the generation options used for all jobs
+	 */
+	public new(int parallelism, GenerationOptions options) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("The parallelism of the batch must be at least 1 but was " + parallelism);
+		}
+
+		this.parallelism = parallelism;
+		this.pipelines = ThreadLocal.withInitial[new Atl2NmfSynchronizations(options)];
+	}
+
+	/**
+	 * Runs the passed jobs and waits until all of them are finished.
+	 *
+	 * @param jobInfos
+	 *            the job infos
+	 * @return the results of the jobs in the order of the passed job infos
+	 * @throws Exception
+	 */
+	public def List<BatchJobResult> run(List<BatchJobInfo> jobInfos) throws Exception {
+		var executorService = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(jobInfos.size, 1)));
+
+		try {
+			var futures = new ArrayList<Future<BatchJobResult>>();
+			for (jobInfo : jobInfos) {
+				futures.add(executorService.submit(createJob(jobInfo)));
+			}
+
+			var results = new ArrayList<BatchJobResult>();
+			for (future : futures) {
+				results.add(future.get());
+			}
+
+			return results;
+		} finally {
+			executorService.shutdown();
+		}
+	}
+
+	/**
+	 * Creates the callable which executes the passed job on the pipeline of the current worker.
+	 *
+	 * @param jobInfo
+	 *            the job info
+	 * @return the callable
+	 */
+	private def Callable<BatchJobResult> createJob(BatchJobInfo jobInfo) {
+		return [
+			var startTime = System.nanoTime();
+			var Exception jobException = null;
+
+			try {
+				pipelines.get().doGenerate(jobInfo.transformationName, jobInfo.transformationFilePath,
+					jobInfo.outputPath, jobInfo.inputMetamodelPaths, jobInfo.outputMetamodelPaths);
+			} catch (Exception exception) {
+				jobException = exception;
+			}
+
+			var durationInMilliseconds = (System.nanoTime() - startTime) / 1000000;
+			return new BatchJobResult(jobInfo, durationInMilliseconds, jobException);
+		];
+	}
+
+	/**
+	 * Prints the report of the passed batch results.
+	 *
+	 * @param results
+	 *            the results of the batch
+	 */
+	public def static void printReport(List<BatchJobResult> results) {
+		var successfulJobs = results.filter[it.isSuccessful].size;
+
+		System.out.println("Batch finished: " + successfulJobs + " of " + results.size + " jobs succeeded");
+		for (result : results) {
+			var status = if(result.isSuccessful) "OK" else "FAILED";
+			System.out.println(status + "\t" + result.durationInMilliseconds + " ms\t" +
+				result.jobInfo.transformationName);
+
+			if (!result.isSuccessful) {
+				System.out.println("\t" + result.exception.class.simpleName + ": " + result.exception.message);
+			}
+		}
+	}
+
+	/**
+	 * Executes the batch which is described by the passed manifest.
+	 * Usage: Atl2NmfSynchronizationsBatch [--incremental] &lt;manifest&gt; [parallelism]
+	 *
+	 * @param args
+	 *            the arguments
+	 */
+	public def static void main(String[] args) throws Exception {
+		var options = new GenerationOptions();
+		var arguments = new ArrayList<String>();
+		for (argument : args) {
+			if (argument.equals("--incremental")) {
+				options.incremental = true;
+			} else {
+				arguments.add(argument);
+			}
+		}
+
+		if (arguments.size < 1 || arguments.size > 2) {
+			System.out.println("Usage: Atl2NmfSynchronizationsBatch [--incremental] <manifest> [parallelism]");
+			System.exit(2);
+		}
+
+		var parallelism = Runtime.getRuntime().availableProcessors();
+		if (arguments.size == 2) {
+			parallelism = Integer.parseInt(arguments.get(1));
+		}
+
+		var jobInfos = BatchManifestUtils.parseManifest(arguments.get(0));
+		var results = new Atl2NmfSynchronizationsBatch(parallelism, options).run(jobInfos);
+		printReport(results);
+
+		if (results.exists[!it.isSuccessful]) {
+			System.exit(1);
+		}
+	}
+}
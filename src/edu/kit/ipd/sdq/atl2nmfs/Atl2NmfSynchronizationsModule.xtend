@@ -9,6 +9,8 @@ import edu.kit.ipd.sdq.atl2nmfs.helper.AtlHelperAnalyzer
 import edu.kit.ipd.sdq.atl2nmfs.helper.AtlHelperAnalyzerImpl
 import edu.kit.ipd.sdq.atl2nmfs.helper.AtlRuleAnalyzer
 import edu.kit.ipd.sdq.atl2nmfs.helper.AtlRuleAnalyzerImpl
+import edu.kit.ipd.sdq.atl2nmfs.helper.AtlSupportAnalyzer
+import edu.kit.ipd.sdq.atl2nmfs.helper.AtlSupportAnalyzerImpl
 import edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzerFactory
 import edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzerFactoryImpl
 import edu.kit.ipd.sdq.atl2nmfs.helper.MetamodelAnalyzer
@@ -17,6 +19,10 @@ import edu.kit.ipd.sdq.atl2nmfs.helper.ModelAnalyzer
 import edu.kit.ipd.sdq.atl2nmfs.helper.ModelAnalyzerImpl
 import edu.kit.ipd.sdq.atl2nmfs.helper.OclReturnTypeAnalyzer
 import edu.kit.ipd.sdq.atl2nmfs.helper.OclReturnTypeAnalyzerImpl
+import edu.kit.ipd.sdq.atl2nmfs.helper.PartitionAnalyzer
+import edu.kit.ipd.sdq.atl2nmfs.helper.PartitionAnalyzerImpl
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentationImpl
 import edu.kit.ipd.sdq.atl2nmfs.transformer.atl.AtlTransformer
 import edu.kit.ipd.sdq.atl2nmfs.transformer.atl.AtlTransformerImpl
 import edu.kit.ipd.sdq.atl2nmfs.transformer.atl.BindingTransformer
@@ -33,6 +39,8 @@ import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOperationTransformer
 import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOperationTransformerImpl
 import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOperatorTransformer
 import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOperatorTransformerImpl
+import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOptimizer
+import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOptimizerImpl
 import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclTransformer
 import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclTransformerImpl
 
@@ -40,18 +48,40 @@ import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclTransformerImpl
  * The Atl2NmfSynchronizationsModule Class.
  */
 class Atl2NmfSynchronizationsModule extends AbstractModule {
+	private final GenerationOptions options;
+
+	/**
+	 * Class constructor which uses the default generation options.
+	 */
+	new() {
+		this(new GenerationOptions());
+	}
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param options
+	 *            the generation options which are available to all components
+	 */
+	new(GenerationOptions options) {
+		this.options = options;
+	}
 
 	/* (non-Javadoc)
 	 * @see com.google.inject.AbstractModule#configure
 	 */
 	@Override
 	protected override void configure() {
+		bind(GenerationOptions).toInstance(options);
+
 		bind(Atl2NmfSHelper).to(Atl2NmfSHelperImpl).in(Singleton);
 		bind(AtlHelperAnalyzer).to(AtlHelperAnalyzerImpl).in(Singleton);
 		bind(AtlRuleAnalyzer).to(AtlRuleAnalyzerImpl).in(Singleton);
+		bind(AtlSupportAnalyzer).to(AtlSupportAnalyzerImpl).in(Singleton);
 		bind(MetamodelAnalyzer).to(MetamodelAnalyzerImpl).in(Singleton);
 		bind(ModelAnalyzer).to(ModelAnalyzerImpl).in(Singleton);
 		bind(OclReturnTypeAnalyzer).to(OclReturnTypeAnalyzerImpl).in(Singleton);
+		bind(PartitionAnalyzer).to(PartitionAnalyzerImpl).in(Singleton);
 		bind(EcoreAnalyzerFactory).to(EcoreAnalyzerFactoryImpl).in(Singleton);
 
 		bind(AtlTransformer).to(AtlTransformerImpl).in(Singleton);
@@ -64,5 +94,8 @@ class Atl2NmfSynchronizationsModule extends AbstractModule {
 		bind(OclIteratorTransformer).to(OclIteratorTransformerImpl).in(Singleton);
 		bind(OclOperationTransformer).to(OclOperationTransformerImpl).in(Singleton);
 		bind(OclOperatorTransformer).to(OclOperatorTransformerImpl).in(Singleton);
+		bind(OclOptimizer).to(OclOptimizerImpl).in(Singleton);
+
+		bind(GenerationInstrumentation).to(GenerationInstrumentationImpl).in(Singleton);
 	}
 }
\ No newline at end of file
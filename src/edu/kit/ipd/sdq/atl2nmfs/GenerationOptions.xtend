@@ -0,0 +1,232 @@
+package edu.kit.ipd.sdq.atl2nmfs;
+
+/**
+ * The GenerationOptions Class.
+ */
+class GenerationOptions {
+	private Boolean incremental;
+	private Boolean parallelTransformation;
+	private Boolean memoizedAttributeHelpers;
+	private Boolean oclOptimization;
+	private Boolean sharedFilteredViews;
+	private Boolean partitionedSynchronization;
+	private Boolean runtimeMetrics;
+	private Boolean runtimeRuleMetrics;
+	private Boolean compressedModels;
+
+	/**
+	 * Class constructor which creates the default options.
+	 */
+	public new() {
+		this.incremental = false;
+		this.parallelTransformation = false;
+		this.memoizedAttributeHelpers = true;
+		this.oclOptimization = true;
+		this.sharedFilteredViews = true;
+		this.partitionedSynchronization = false;
+		this.runtimeMetrics = false;
+		this.runtimeRuleMetrics = false;
+		this.compressedModels = false;
+	}
+
+	/**
+	 * Gets the value indicating if the generation is incremental. An incremental generation
+	 * is skipped if none of the inputs changed and only writes files which content changed.
+	 *
+	 * @return the value indicating if the generation is incremental
+	 */
+	def Boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Sets the value indicating if the generation is incremental.
+	 *
+	 * @param incremental
+	 *            the value indicating if the generation is incremental
+	 */
+	def void setIncremental(Boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	/**
+	 * Gets the value indicating if the rules, bindings, helpers and filters are transformed concurrently.
+	 * The generated code is the same as in the sequential mode.
+	 *
+	 * @return the value indicating if the transformation is parallel
+	 */
+	def Boolean isParallelTransformation() {
+		return parallelTransformation;
+	}
+
+	/**
+	 * Sets the value indicating if the rules, bindings, helpers and filters are transformed concurrently.
+	 *
+	 * @param parallelTransformation
+	 *            the value indicating if the transformation is parallel
+	 */
+	def void setParallelTransformation(Boolean parallelTransformation) {
+		this.parallelTransformation = parallelTransformation;
+	}
+
+	/**
+	 * Gets the value indicating if the attribute helpers with a model element context are computed only once
+	 * for each context element (as defined by the ATL semantics). The cached values are incremental and
+	 * therefore updated when the dependencies of the helper change.
+	 *
+	 * @return the value indicating if the attribute helpers are memoized
+	 */
+	def Boolean isMemoizedAttributeHelpers() {
+		return memoizedAttributeHelpers;
+	}
+
+	/**
+	 * Sets the value indicating if the attribute helpers with a model element context are memoized.
+	 *
+	 * @param memoizedAttributeHelpers
+	 *            the value indicating if the attribute helpers are memoized
+	 */
+	def void setMemoizedAttributeHelpers(Boolean memoizedAttributeHelpers) {
+		this.memoizedAttributeHelpers = memoizedAttributeHelpers;
+	}
+
+	/**
+	 * Gets the value indicating if the OCL expressions are optimized while they are transformed. Iterator
+	 * expressions are fused with the following operation (e.g. "select(...)->size()" is transformed into one
+	 * "Count" call) and operators which only consist of literals are evaluated.
+	 *
+	 * @return the value indicating if the OCL expressions are optimized
+	 */
+	def Boolean isOclOptimization() {
+		return oclOptimization;
+	}
+
+	/**
+	 * Sets the value indicating if the OCL expressions are optimized while they are transformed.
+	 *
+	 * @param oclOptimization
+	 *            the value indicating if the OCL expressions are optimized
+	 */
+	def void setOclOptimization(Boolean oclOptimization) {
+		this.oclOptimization = oclOptimization;
+	}
+
+	/**
+	 * Gets the value indicating if the bindings which call a rule with a filter use a shared view of all
+	 * instances which fulfill the filter. The view is maintained incrementally once per input model, type and
+	 * filter instead of evaluating the filter for the elements of every binding.
+	 *
+	 * @return the value indicating if shared filtered views are used
+	 */
+	def Boolean isSharedFilteredViews() {
+		return sharedFilteredViews;
+	}
+
+	/**
+	 * Sets the value indicating if the bindings which call a rule with a filter use a shared filtered view.
+	 *
+	 * @param sharedFilteredViews
+	 *            the value indicating if shared filtered views are used
+	 */
+	def void setSharedFilteredViews(Boolean sharedFilteredViews) {
+		this.sharedFilteredViews = sharedFilteredViews;
+	}
+
+	/**
+	 * Gets the value indicating if the generated program splits the initial synchronization into partitions of
+	 * root elements which are synchronized concurrently. The partitions are only generated if no rule, filter or
+	 * helper of the transformation can reach an element of another containment tree. The output root elements are
+	 * ordered by partition, therefore the option is disabled by default. The order only depends on the input models
+	 * and the partition count of the program (option --partitions) but differs from a single synchronization.
+	 *
+	 * @return the value indicating if the partitioned synchronization is generated
+	 */
+	def Boolean isPartitionedSynchronization() {
+		return partitionedSynchronization;
+	}
+
+	/**
+	 * Sets the value indicating if the generated program splits the initial synchronization into partitions.
+	 *
+	 * @param partitionedSynchronization
+	 *            the value indicating if the partitioned synchronization is generated
+	 */
+	def void setPartitionedSynchronization(Boolean partitionedSynchronization) {
+		this.partitionedSynchronization = partitionedSynchronization;
+	}
+
+	/**
+	 * Gets the value indicating if the generated program measures its load, synchronization and save times, the
+	 * throughput and the peak managed memory. The measurements are written as JSON file with the option --metrics.
+	 *
+	 * @return the value indicating if the runtime metrics are generated
+	 */
+	def Boolean isRuntimeMetrics() {
+		return runtimeMetrics;
+	}
+
+	/**
+	 * Sets the value indicating if the generated program measures its runtime metrics.
+	 *
+	 * @param runtimeMetrics
+	 *            the value indicating if the runtime metrics are generated
+	 */
+	def void setRuntimeMetrics(Boolean runtimeMetrics) {
+		this.runtimeMetrics = runtimeMetrics;
+	}
+
+	/**
+	 * Gets the value indicating if the generated synchronization rules count their instantiated output elements.
+	 * The counts are only measured if the runtime metrics are generated.
+	 *
+	 * @return the value indicating if the rule instantiations are counted
+	 */
+	def Boolean isRuntimeRuleMetrics() {
+		return runtimeRuleMetrics;
+	}
+
+	/**
+	 * Sets the value indicating if the generated synchronization rules count their instantiated output elements.
+	 *
+	 * @param runtimeRuleMetrics
+	 *            the value indicating if the rule instantiations are counted
+	 */
+	def void setRuntimeRuleMetrics(Boolean runtimeRuleMetrics) {
+		this.runtimeRuleMetrics = runtimeRuleMetrics;
+	}
+
+	/**
+	 * Gets the value indicating if the generated program reads and writes compressed models. A model path with
+	 * the extension .xmiz is read and written as gzip compressed XMI, all other paths as XMI. The
+	 * models are streamed from and to the files.
+	 *
+	 * @return the value indicating if the compressed models are supported
+	 */
+	def Boolean isCompressedModels() {
+		return compressedModels;
+	}
+
+	/**
+	 * Sets the value indicating if the generated program reads and writes compressed models.
+	 *
+	 * @param compressedModels
+	 *            the value indicating if the compressed models are supported
+	 */
+	def void setCompressedModels(Boolean compressedModels) {
+		this.compressedModels = compressedModels;
+	}
+
+	/**
+	 * Gets the textual representation of all options which influence the generated code.
+	 * It is part of the fingerprint of an incremental generation. The parallel transformation is not part of
+	 * it since it does not change the generated code.
+	 *
+	 * @return the textual representation of the options
+	 */
+	override String toString() {
+		return "incremental=" + incremental + ";memoizedAttributeHelpers=" + memoizedAttributeHelpers +
+			";oclOptimization=" + oclOptimization + ";sharedFilteredViews=" + sharedFilteredViews +
+			";partitionedSynchronization=" + partitionedSynchronization + ";runtimeMetrics=" + runtimeMetrics +
+			";runtimeRuleMetrics=" + runtimeRuleMetrics + ";compressedModels=" + compressedModels;
+	}
+}
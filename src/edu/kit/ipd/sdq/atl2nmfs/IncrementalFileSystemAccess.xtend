@@ -0,0 +1,25 @@
+package edu.kit.ipd.sdq.atl2nmfs;
+
+import org.eclipse.xtext.generator.JavaIoFileSystemAccess
+
+/**
+ * The IncrementalFileSystemAccess Class.
+ *
+ * A file system access which only writes a file if its content changed, so the timestamps
+ * of unchanged generated files are kept and MSBuild does not recompile them.
+ */
+class IncrementalFileSystemAccess extends JavaIoFileSystemAccess {
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.xtext.generator.JavaIoFileSystemAccess#generateFile
+	 */
+	override void generateFile(String fileName, String outputConfigName, CharSequence contents) {
+		var file = getFile(fileName, outputConfigName);
+		if (file.isFile() && readTextFile(fileName, outputConfigName).toString().equals(contents.toString())) {
+			// the file is unchanged
+			return;
+		}
+
+		super.generateFile(fileName, outputConfigName, contents);
+	}
+}
@@ -0,0 +1,82 @@
+package edu.kit.ipd.sdq.atl2nmfs.batch
+
+import java.util.List
+
+/**
+ * The BatchJobInfo Class.
+ */
+class BatchJobInfo {
+	private final String transformationName;
+	private final String transformationFilePath;
+	private final String outputPath;
+	private final List<String> inputMetamodelPaths;
+	private final List<String> outputMetamodelPaths;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param transformationName
+	 *            the transformation name
+	 * @param transformationFilePath
+	 *            the path to the transformation file
+	 * @param outputPath
+	 *            the output path
+	 * @param inputMetamodelPaths
+	 *            the paths to the input metamodels
+	 * @param outputMetamodelPaths
+	 *            the paths to the output metamodels
+	 */
+	new(String transformationName, String transformationFilePath, String outputPath, List<String> inputMetamodelPaths,
+		List<String> outputMetamodelPaths) {
+		this.transformationName = transformationName;
+		this.transformationFilePath = transformationFilePath;
+		this.outputPath = outputPath;
+		this.inputMetamodelPaths = inputMetamodelPaths;
+		this.outputMetamodelPaths = outputMetamodelPaths;
+	}
+
+	/**
+	 * Gets the transformation name.
+	 *
+	 * @return the transformation name
+	 */
+	def String getTransformationName() {
+		return transformationName;
+	}
+
+	/**
+	 * Gets the path to the transformation file.
+	 *
+	 * @return the path to the transformation file
+	 */
+	def String getTransformationFilePath() {
+		return transformationFilePath;
+	}
+
+	/**
+	 * Gets the output path.
+	 *
+	 * @return the output path
+	 */
+	def String getOutputPath() {
+		return outputPath;
+	}
+
+	/**
+	 * Gets the paths to the input metamodels.
+	 *
+	 * @return the paths to the input metamodels
+	 */
+	def List<String> getInputMetamodelPaths() {
+		return inputMetamodelPaths;
+	}
+
+	/**
+	 * Gets the paths to the output metamodels.
+	 *
+	 * @return the paths to the output metamodels
+	 */
+	def List<String> getOutputMetamodelPaths() {
+		return outputMetamodelPaths;
+	}
+}
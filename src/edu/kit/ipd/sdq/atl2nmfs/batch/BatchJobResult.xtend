@@ -0,0 +1,62 @@
+package edu.kit.ipd.sdq.atl2nmfs.batch
+
+/**
+ * The BatchJobResult Class.
+ */
+class BatchJobResult {
+	private final BatchJobInfo jobInfo;
+	private final long durationInMilliseconds;
+	private final Exception exception;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param jobInfo
+	 *            the job info
+	 * @param durationInMilliseconds
+	 *            the wall-clock duration of the job in milliseconds
+	 * @param exception
+	 *            the exception which caused the job to fail or null if the job succeeded
+	 */
+	new(BatchJobInfo jobInfo, long durationInMilliseconds, Exception exception) {
+		this.jobInfo = jobInfo;
+		this.durationInMilliseconds = durationInMilliseconds;
+		this.exception = exception;
+	}
+
+	/**
+	 * Gets the job info.
+	 *
+	 * @return the job info
+	 */
+	def BatchJobInfo getJobInfo() {
+		return jobInfo;
+	}
+
+	/**
+	 * Gets the wall-clock duration of the job in milliseconds.
+	 *
+	 * @return the wall-clock duration of the job in milliseconds
+	 */
+	def long getDurationInMilliseconds() {
+		return durationInMilliseconds;
+	}
+
+	/**
+	 * Gets the exception which caused the job to fail.
+	 *
+	 * @return the exception or null if the job succeeded
+	 */
+	def Exception getException() {
+		return exception;
+	}
+
+	/**
+	 * Checks if the job succeeded.
+	 *
+	 * @return the boolean indicating if the job succeeded
+	 */
+	def Boolean isSuccessful() {
+		return exception == null;
+	}
+}
@@ -11,6 +11,9 @@ import edu.kit.ipd.sdq.atl2nmfs.helper.infos.PossibleReturnTypeInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.RuleInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.HelperInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.MetamodelInfo
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.AllInstancesInfo
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.FilteredViewInfo
 
 /**
  * The Atl2NmfSHelper Interface.
@@ -95,6 +98,27 @@ interface Atl2NmfSHelper {
 	 */
 	def String getFilterClassName();
 
+	/**
+	 * Gets the memoized value class name.
+	 * 
+	 * @return the memoized value class name
+	 */
+	def String getMemoizedValueClassName();
+
+	/**
+	 * Gets the runtime metrics class name.
+	 * 
+	 * @return the runtime metrics class name
+	 */
+	def String getRuntimeMetricsClassName();
+
+	/**
+	 * Gets the model partition class name.
+	 * 
+	 * @return the model partition class name
+	 */
+	def String getModelPartitionClassName();
+
 	/**
 	 * Gets the filter name extension.
 	 * 
@@ -130,6 +154,66 @@ interface Atl2NmfSHelper {
 	 */
 	def List<ModelInfo> getOutputModelInfos();
 
+	/**
+	 * Registers the usage of the OCL operation "allInstances" for the passed type and input model.
+	 * 
+	 * @param inputModelInfo
+	 *            the input model info
+	 * @param typeName
+	 *            the type name
+	 * @param transformedTypeName
+	 *            the transformed type name
+	 * @return the all instances info of the type
+	 */
+	def AllInstancesInfo registerAllInstancesUsage(ModelInfo inputModelInfo, String typeName,
+		String transformedTypeName);
+
+	/**
+	 * Gets the all instances infos of all types which are used with the OCL operation "allInstances".
+	 * 
+	 * @return the all instances infos
+	 */
+	def List<AllInstancesInfo> getAllInstancesInfos();
+
+	/**
+	 * Registers the usage of the shared view of all instances of the passed type and input model which
+	 * fulfill the passed filter.
+	 * 
+	 * @param inputModelInfo
+	 *            the input model info
+	 * @param typeName
+	 *            the type name
+	 * @param transformedTypeName
+	 *            the transformed type name
+	 * @param filterName
+	 *            the filter name
+	 * @return the filtered view info
+	 */
+	def FilteredViewInfo registerFilteredViewUsage(ModelInfo inputModelInfo, String typeName,
+		String transformedTypeName, String filterName);
+
+	/**
+	 * Gets the filtered view infos of all shared views which are used by bindings.
+	 * 
+	 * @return the filtered view infos
+	 */
+	def List<FilteredViewInfo> getFilteredViewInfos();
+
+	/**
+	 * Checks if the input models can be partitioned by their root elements, so that the partitions can be
+	 * synchronized independently of each other.
+	 * 
+	 * @return the boolean indicating if the input models can be partitioned
+	 */
+	def Boolean isPartitionable();
+
+	/**
+	 * Gets the descriptions of the expressions which prevent the partitioning of the input models.
+	 * 
+	 * @return the partition blockers
+	 */
+	def List<String> getPartitionBlockers();
+
 	/**
 	 * Gets the return type info from an output metamodel for the passed values.
 	 * 
@@ -306,4 +390,12 @@ interface Atl2NmfSHelper {
 	 */
 	def List<MetamodelInfo> getOutputMetamodelInfos();
 
+	/**
+	 * Gets the statistics of the caches which are used during the transformation of the OCL expressions.
+	 * The caches are cleared whenever a new transformation is initialized.
+	 * 
+	 * @return the cache statistics
+	 */
+	def List<CacheStatisticsInfo> getCacheStatistics();
+
 }
@@ -13,6 +13,11 @@ import edu.kit.ipd.sdq.atl2nmfs.helper.infos.PossibleReturnTypeInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.RuleInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.HelperInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.MetamodelInfo
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.AllInstancesInfo
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.FilteredViewInfo
+import java.util.Arrays
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation
 
 /**
  * The Atl2NmfSHelperImpl Class.
@@ -23,7 +28,9 @@ public class Atl2NmfSHelperImpl implements Atl2NmfSHelper {
 	private final AtlHelperAnalyzer atlHelperAnalyzer;
 	private final AtlRuleAnalyzer atlRuleAnalyzer;
 	private final OclReturnTypeAnalyzer oclReturnTypeAnalyzer;
+	private final PartitionAnalyzer partitionAnalyzer;
 	private final OclTransformer oclTransformer;
+	private final GenerationInstrumentation generationInstrumentation;
 
 	private static final String CSHARPFILENAMEEXTENSION = ".cs";
 	private static final String NMFFILENAMEEXTENSION = ".nmf";
@@ -33,6 +40,9 @@ public class Atl2NmfSHelperImpl implements Atl2NmfSHelper {
 	private static final String OUTPUTMODELCONTAINERCLASSNAME = "OutputModelContainer";
 	private static final String HELPERCLASSNAME = "HelperExtensionMethods";
 	private static final String FILTERCLASSNAME = "FilterExtensionMethods";
+	private static final String MEMOIZEDVALUECLASSNAME = "MemoizedValue";
+	private static final String RUNTIMEMETRICSCLASSNAME = "RuntimeMetrics";
+	private static final String MODELPARTITIONCLASSNAME = "ModelPartition";
 	private static final String FILTERNAMEEXTENSION = "Filter";
 	private static final String MAINCLASSNAME = "Program";
 	private static final String NAMESPACEEXTENSION = "Namespace";
@@ -52,18 +62,26 @@ public class Atl2NmfSHelperImpl implements Atl2NmfSHelper {
 	 *            the ATL rule analyzer
 	 * @param oclReturnTypeAnalyzer
 	 *            the OCL return type analyzer
+	 * @param partitionAnalyzer
+	 *            the partition analyzer
 	 * @param oclTransformer
 	 *            the OCL transformer
+	 * @param generationInstrumentation
+	 *            the generation instrumentation
 	 */
 	@Inject
 	new(MetamodelAnalyzer metamodelAnalyzer, ModelAnalyzer modelAnalyzer, AtlHelperAnalyzer atlHelperAnalyzer,
-		AtlRuleAnalyzer atlRuleAnalyzer, OclReturnTypeAnalyzer oclReturnTypeAnalyzer, OclTransformer oclTransformer) {
+		AtlRuleAnalyzer atlRuleAnalyzer, OclReturnTypeAnalyzer oclReturnTypeAnalyzer,
+		PartitionAnalyzer partitionAnalyzer, OclTransformer oclTransformer,
+		GenerationInstrumentation generationInstrumentation) {
 		this.metamodelAnalyzer = metamodelAnalyzer;
 		this.modelAnalyzer = modelAnalyzer;
 		this.atlHelperAnalyzer = atlHelperAnalyzer;
 		this.atlRuleAnalyzer = atlRuleAnalyzer;
 		this.oclReturnTypeAnalyzer = oclReturnTypeAnalyzer;
+		this.partitionAnalyzer = partitionAnalyzer;
 		this.oclTransformer = oclTransformer;
+		this.generationInstrumentation = generationInstrumentation;
 	}
 
 	/* (non-Javadoc)
@@ -73,11 +91,47 @@ public class Atl2NmfSHelperImpl implements Atl2NmfSHelper {
 		List<String> inputMetamodelPaths, List<String> outputMetamodelPaths) {
 		this.transformationName = atlModule.name;
 
-		metamodelAnalyzer.analyzeMetamodels(atlModule, inputMetamodelPaths, outputMetamodelPaths);
-		oclReturnTypeAnalyzer.initialize(metamodelAnalyzer.inputMetamodelInfos);
-		modelAnalyzer.analyzeModels(atlModule);
-		atlHelperAnalyzer.analyzeHelpers(atlModule, atlLibraries);
-		atlRuleAnalyzer.analyzeRules(atlModule);
+		// the cached results are only valid for the elements of one ATL module
+		oclReturnTypeAnalyzer.clearCache();
+		oclTransformer.clearCache();
+
+		var phaseTimer = generationInstrumentation.startPhase("analyzeMetamodels");
+		try {
+			metamodelAnalyzer.analyzeMetamodels(atlModule, inputMetamodelPaths, outputMetamodelPaths);
+			oclReturnTypeAnalyzer.initialize(metamodelAnalyzer.inputMetamodelInfos);
+		} finally {
+			generationInstrumentation.finishPhase(phaseTimer);
+		}
+
+		phaseTimer = generationInstrumentation.startPhase("analyzeModels");
+		try {
+			modelAnalyzer.analyzeModels(atlModule);
+		} finally {
+			generationInstrumentation.finishPhase(phaseTimer);
+		}
+
+		phaseTimer = generationInstrumentation.startPhase("analyzeHelpers");
+		try {
+			atlHelperAnalyzer.analyzeHelpers(atlModule, atlLibraries);
+		} finally {
+			generationInstrumentation.finishPhase(phaseTimer);
+		}
+
+		phaseTimer = generationInstrumentation.startPhase("analyzeRules");
+		try {
+			atlRuleAnalyzer.analyzeRules(atlModule);
+		} finally {
+			generationInstrumentation.finishPhase(phaseTimer);
+		}
+
+		phaseTimer = generationInstrumentation.startPhase("analyzePartitions");
+		try {
+			partitionAnalyzer.analyzePartitions(atlModule, atlLibraries,
+				metamodelAnalyzer.inputMetamodelInfos.map[ecoreAnalyzer]);
+			generationInstrumentation.incrementCounter("partitionBlockers", partitionAnalyzer.partitionBlockers.size);
+		} finally {
+			generationInstrumentation.finishPhase(phaseTimer);
+		}
 	}
 
 	/* (non-Javadoc)
@@ -143,6 +197,27 @@ public class Atl2NmfSHelperImpl implements Atl2NmfSHelper {
 		return FILTERCLASSNAME;
 	}
 
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper#getMemoizedValueClassName
+	 */
+	override String getMemoizedValueClassName() {
+		return MEMOIZEDVALUECLASSNAME;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper#getRuntimeMetricsClassName
+	 */
+	override String getRuntimeMetricsClassName() {
+		return RUNTIMEMETRICSCLASSNAME;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper#getModelPartitionClassName
+	 */
+	override String getModelPartitionClassName() {
+		return MODELPARTITIONCLASSNAME;
+	}
+
 	/* (non-Javadoc)
 	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper#getFilterNameExtension
 	 */
@@ -178,6 +253,50 @@ public class Atl2NmfSHelperImpl implements Atl2NmfSHelper {
 		return modelAnalyzer.outputModelInfos;
 	}
 
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper#registerAllInstancesUsage
+	 */
+	override AllInstancesInfo registerAllInstancesUsage(ModelInfo inputModelInfo, String typeName,
+		String transformedTypeName) {
+		return modelAnalyzer.registerAllInstancesUsage(inputModelInfo, typeName, transformedTypeName);
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper#getAllInstancesInfos
+	 */
+	override List<AllInstancesInfo> getAllInstancesInfos() {
+		return modelAnalyzer.allInstancesInfos;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper#registerFilteredViewUsage
+	 */
+	override FilteredViewInfo registerFilteredViewUsage(ModelInfo inputModelInfo, String typeName,
+		String transformedTypeName, String filterName) {
+		return modelAnalyzer.registerFilteredViewUsage(inputModelInfo, typeName, transformedTypeName, filterName);
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper#getFilteredViewInfos
+	 */
+	override List<FilteredViewInfo> getFilteredViewInfos() {
+		return modelAnalyzer.filteredViewInfos;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper#isPartitionable
+	 */
+	override Boolean isPartitionable() {
+		return partitionAnalyzer.isPartitionable();
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper#getPartitionBlockers
+	 */
+	override List<String> getPartitionBlockers() {
+		return partitionAnalyzer.getPartitionBlockers();
+	}
+
 	/* (non-Javadoc)
 	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper#getReturnTypeInfoFromOutputMetamodel
 	 */
@@ -310,4 +429,11 @@ public class Atl2NmfSHelperImpl implements Atl2NmfSHelper {
 	override public List<HelperInfo> getAllHelperInfos() {
 		return atlHelperAnalyzer.getAllHelperInfos();
 	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper#getCacheStatistics
+	 */
+	override List<CacheStatisticsInfo> getCacheStatistics() {
+		return Arrays.asList(oclReturnTypeAnalyzer.cacheStatistics, oclTransformer.cacheStatistics);
+	}
 }
@@ -5,7 +5,12 @@ import edu.kit.ipd.sdq.atl2nmfs.helper.infos.RuleInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.RuleType
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.TypeInfo
 import java.util.ArrayList
+import java.util.Collections
+import java.util.EnumMap
+import java.util.HashMap
 import java.util.List
+import java.util.Map
+import java.util.concurrent.ConcurrentHashMap
 import org.apache.commons.lang.NotImplementedException
 import org.eclipse.m2m.atl.common.ATL.LazyMatchedRule
 import org.eclipse.m2m.atl.common.ATL.MatchedRule
@@ -18,6 +23,9 @@ class AtlRuleAnalyzerImpl implements AtlRuleAnalyzer {
 	private final Atl2NmfSHelper atl2NmfSHelper;
 
 	private List<RuleInfo> ruleInfos;
+	private Map<String, RuleInfo> ruleInfosByName;
+	private Map<RuleType, Map<String, List<RuleInfo>>> ruleInfosByRuleTypeAndInputType;
+	private Map<TypeInfo, List<RuleInfo>> possibleRuleInfosByInputTypeInfo;
 
 	/**
 	 * Class constructor.
@@ -35,6 +43,10 @@ class AtlRuleAnalyzerImpl implements AtlRuleAnalyzer {
 	 */
 	override void analyzeRules(Module atlModule) {
 		ruleInfos = new ArrayList<RuleInfo>();
+		ruleInfosByName = new HashMap<String, RuleInfo>();
+		ruleInfosByRuleTypeAndInputType = new EnumMap<RuleType, Map<String, List<RuleInfo>>>(RuleType);
+		// the possible rule infos are resolved on demand and the rules can be transformed concurrently
+		possibleRuleInfosByInputTypeInfo = new ConcurrentHashMap<TypeInfo, List<RuleInfo>>();
 
 		// retrieve the matched rules (matched, lazyMatched and uniqueLazyMatched)
 		// since called rules are an imperative construct we don't support them
@@ -75,13 +87,40 @@ class AtlRuleAnalyzerImpl implements AtlRuleAnalyzer {
 
 		var ruleInfo = new RuleInfo(atl2NmfSHelper, matchedRule, ruleType);
 		ruleInfos.add(ruleInfo);
+		registerRuleInfo(ruleInfo);
+	}
+
+	/**
+	 * Registers the passed rule info in the lookup indexes.
+	 * 
+	 * @param ruleInfo
+	 *            the rule info
+	 */
+	def private void registerRuleInfo(RuleInfo ruleInfo) {
+		// the first rule with a name wins like in a linear search
+		ruleInfosByName.putIfAbsent(ruleInfo.name, ruleInfo);
+
+		var ruleInfosByInputType = ruleInfosByRuleTypeAndInputType.get(ruleInfo.ruleType);
+		if (ruleInfosByInputType == null) {
+			ruleInfosByInputType = new HashMap<String, List<RuleInfo>>();
+			ruleInfosByRuleTypeAndInputType.put(ruleInfo.ruleType, ruleInfosByInputType);
+		}
+
+		var ruleInfosOfInputType = ruleInfosByInputType.get(ruleInfo.inputTypeName);
+		if (ruleInfosOfInputType == null) {
+			ruleInfosOfInputType = new ArrayList<RuleInfo>();
+			ruleInfosByInputType.put(ruleInfo.inputTypeName, ruleInfosOfInputType);
+		}
+
+		ruleInfosOfInputType.add(ruleInfo);
 	}
 
 	/* (non-Javadoc)
 	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.AtlRuleAnalyzer#isLazyRule
 	 */
 	override Boolean isLazyRule(String ruleName) {
-		return ruleInfos.exists[it.ruleType != RuleType.MATCHED && it.name.equals(ruleName)];
+		var ruleInfo = ruleInfosByName.get(ruleName);
+		return ruleInfo != null && ruleInfo.ruleType != RuleType.MATCHED;
 	}
 
 	/* (non-Javadoc)
@@ -95,16 +134,23 @@ class AtlRuleAnalyzerImpl implements AtlRuleAnalyzer {
 	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.AtlRuleAnalyzer#getRuleInfo
 	 */
 	override RuleInfo getRuleInfo(String ruleName) {
-		return ruleInfos.findFirst[it.getName.equals(ruleName)];
+		return ruleInfosByName.get(ruleName);
 	}
 
 	/* (non-Javadoc)
 	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.AtlRuleAnalyzer#getPossibleRuleInfosForInputTypeInfo
 	 */
 	override List<RuleInfo> getPossibleRuleInfosForInputTypeInfo(TypeInfo inputTypeInfo) {
+		// the result only depends on the type hierarchy which does not change during a transformation
+		var cachedRuleInfos = possibleRuleInfosByInputTypeInfo.get(inputTypeInfo);
+		if (cachedRuleInfos != null) {
+			return cachedRuleInfos;
+		}
+
 		val possibleRuleInfos = new ArrayList<RuleInfo>();
 
 		// we have to return all rules who match the input type and also all rules who match a sub type of the input type 
+		// the sub type infos contain already the sub types of the sub types
 		val foundRuleInfos = getPossibleRulesForInputType(inputTypeInfo.name);
 		possibleRuleInfos.addAll(foundRuleInfos);
 
@@ -113,7 +159,9 @@ class AtlRuleAnalyzerImpl implements AtlRuleAnalyzer {
 			possibleRuleInfos.addAll(foundSubTypeRuleInfos);
 		}
 
-		return possibleRuleInfos;
+		var unmodifiableRuleInfos = Collections.unmodifiableList(possibleRuleInfos);
+		possibleRuleInfosByInputTypeInfo.put(inputTypeInfo, unmodifiableRuleInfos);
+		return unmodifiableRuleInfos;
 	}
 
 	/**
@@ -126,9 +174,15 @@ class AtlRuleAnalyzerImpl implements AtlRuleAnalyzer {
 	def private List<RuleInfo> getPossibleRulesForInputType(String inputType) {
 		// only matched rules are considered since lazy matched rules and unique lazy matched rules
 		// have to be called directly and therefore must be excluded here
-		var possibleRuleInfos = ruleInfos.filter [ ruleInfo |
-			ruleInfo.getInputTypeName == inputType && ruleInfo.ruleType == RuleType.MATCHED
-		].toList;
+		var ruleInfosByInputType = ruleInfosByRuleTypeAndInputType.get(RuleType.MATCHED);
+		if (ruleInfosByInputType == null) {
+			return Collections.emptyList();
+		}
+
+		var possibleRuleInfos = ruleInfosByInputType.get(inputType);
+		if (possibleRuleInfos == null) {
+			return Collections.emptyList();
+		}
 
 		return possibleRuleInfos;
 	}
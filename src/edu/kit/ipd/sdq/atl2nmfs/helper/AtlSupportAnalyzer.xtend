@@ -0,0 +1,38 @@
+package edu.kit.ipd.sdq.atl2nmfs.helper;
+
+import java.util.List
+import org.eclipse.m2m.atl.common.ATL.Library
+import org.eclipse.m2m.atl.common.ATL.Module
+
+/**
+ * The AtlSupportAnalyzer Interface.
+ */
+interface AtlSupportAnalyzer {
+
+	/**
+	 * Analyze if all ATL and OCL constructs which are used by the ATL module and its libraries are supported
+	 * by the Atl2NmfS HOT. The analysis only needs the parsed transformation and can therefore be executed
+	 * before the metamodels are analyzed.
+	 *
+	 * @param atlModule
+	 *            the ATL module
+	 * @param atlLibraries
+	 *            the ATL libraries
+	 */
+	def void analyzeSupport(Module atlModule, List<Library> atlLibraries);
+
+	/**
+	 * Checks if all used constructs are supported.
+	 *
+	 * @return the boolean indicating if all used constructs are supported
+	 */
+	def Boolean isSupported();
+
+	/**
+	 * Gets the descriptions of the used constructs which are not supported.
+	 *
+	 * @return the unsupported constructs
+	 */
+	def List<String> getUnsupportedConstructs();
+
+}
@@ -0,0 +1,207 @@
+package edu.kit.ipd.sdq.atl2nmfs.helper
+
+import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclIteratorTransformerImpl
+import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOperationTransformerImpl
+import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOperatorTransformerImpl
+import java.util.ArrayList
+import java.util.Collections
+import java.util.HashSet
+import java.util.List
+import java.util.Set
+import org.eclipse.emf.ecore.EObject
+import org.eclipse.m2m.atl.common.ATL.ActionBlock
+import org.eclipse.m2m.atl.common.ATL.CalledRule
+import org.eclipse.m2m.atl.common.ATL.Helper
+import org.eclipse.m2m.atl.common.ATL.LazyMatchedRule
+import org.eclipse.m2m.atl.common.ATL.Library
+import org.eclipse.m2m.atl.common.ATL.LocatedElement
+import org.eclipse.m2m.atl.common.ATL.MatchedRule
+import org.eclipse.m2m.atl.common.ATL.Module
+import org.eclipse.m2m.atl.common.OCL.BooleanExp
+import org.eclipse.m2m.atl.common.OCL.EnumLiteralExp
+import org.eclipse.m2m.atl.common.OCL.IfExp
+import org.eclipse.m2m.atl.common.OCL.IntegerExp
+import org.eclipse.m2m.atl.common.OCL.IteratorExp
+import org.eclipse.m2m.atl.common.OCL.NavigationOrAttributeCallExp
+import org.eclipse.m2m.atl.common.OCL.OclExpression
+import org.eclipse.m2m.atl.common.OCL.OclModelElement
+import org.eclipse.m2m.atl.common.OCL.OclType
+import org.eclipse.m2m.atl.common.OCL.Operation
+import org.eclipse.m2m.atl.common.OCL.OperationCallExp
+import org.eclipse.m2m.atl.common.OCL.OperatorCallExp
+import org.eclipse.m2m.atl.common.OCL.RealExp
+import org.eclipse.m2m.atl.common.OCL.StringExp
+import org.eclipse.m2m.atl.common.OCL.VariableExp
+
+/**
+ * The AtlSupportAnalyzerImpl Class.
+ *
+ * The supported names of the operations, operators and iterators are the names which are handled by the OCL
+ * transformers.
+ */
+class AtlSupportAnalyzerImpl implements AtlSupportAnalyzer {
+	private List<String> unsupportedConstructs;
+	private Set<String> functionalHelperNames;
+	private Set<String> lazyRuleNames;
+	private List<OperationCallExp> operationCallExps;
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.AtlSupportAnalyzer#analyzeSupport
+	 */
+	override void analyzeSupport(Module atlModule, List<Library> atlLibraries) {
+		unsupportedConstructs = new ArrayList<String>();
+		functionalHelperNames = new HashSet<String>();
+		lazyRuleNames = new HashSet<String>();
+		operationCallExps = new ArrayList<OperationCallExp>();
+
+		// the module and the libraries are traversed only once. A called operation can be a helper or a lazy rule
+		// which is defined after the call, therefore the operation calls are checked after the traversal
+		analyzeElement(atlModule, atlModule);
+		for (atlLibrary : atlLibraries) {
+			analyzeElement(atlLibrary, atlModule);
+		}
+
+		for (operationCallExp : operationCallExps) {
+			analyzeOperationCallExp(operationCallExp, atlModule);
+		}
+	}
+
+	/**
+	 * Analyze all elements which are contained in the passed element.
+	 *
+	 * @param element
+	 *            the ATL module or library
+	 * @param atlModule
+	 *            the ATL module
+	 */
+	def private void analyzeElement(EObject element, Module atlModule) {
+		var iterator = element.eAllContents;
+		while (iterator.hasNext) {
+			var content = iterator.next;
+			if (content instanceof CalledRule || content instanceof ActionBlock) {
+				// the imperative constructs are not analyzed any further
+				addUnsupportedConstruct(content as LocatedElement,
+					"Imperative constructs like called rules and action blocks are not supported");
+				iterator.prune;
+			}
+			else if (content instanceof MatchedRule) {
+				val matchedRule = content as MatchedRule;
+				if (matchedRule.inPattern.elements.size > 1) {
+					addUnsupportedConstruct(matchedRule,
+						"Multiple Input Patterns for an ATL Rule are not supported yet. Rule name: " + matchedRule.name);
+				}
+				if (matchedRule instanceof LazyMatchedRule) {
+					lazyRuleNames.add(matchedRule.name);
+				}
+			}
+			else if (content instanceof Helper) {
+				val feature = (content as Helper).definition.feature;
+				if (feature instanceof Operation) {
+					functionalHelperNames.add((feature as Operation).name);
+				}
+			}
+			else if (content instanceof OclExpression && !(content instanceof OclType)) {
+				// the types are only used as declarations and as arguments of operations
+				analyzeExpression(content as OclExpression);
+			}
+		}
+	}
+
+	/**
+	 * Analyze the passed OCL expression. Only the expression itself is analyzed, the contained expressions
+	 * are analyzed by the traversal.
+	 *
+	 * @param expression
+	 *            the OCL expression
+	 */
+	def private void analyzeExpression(OclExpression expression) {
+		if (expression instanceof OperatorCallExp) {
+			val operatorCallExp = expression as OperatorCallExp;
+			if (!OclOperatorTransformerImpl.SUPPORTEDOPERATORNAMES.contains(operatorCallExp.operationName)) {
+				addUnsupportedConstruct(expression, operatorCallExp.operationName + " Operator not supported yet");
+			}
+		}
+		else if (expression instanceof OperationCallExp) {
+			operationCallExps.add(expression as OperationCallExp);
+		}
+		else if (expression instanceof IteratorExp) {
+			val iteratorExp = expression as IteratorExp;
+			if (iteratorExp.iterators.size > 1) {
+				addUnsupportedConstruct(expression, "IteratorExpressions with multiple iterators are not supported yet");
+			}
+			if (!OclIteratorTransformerImpl.SUPPORTEDITERATORNAMES.contains(iteratorExp.name)) {
+				addUnsupportedConstruct(expression, iteratorExp.name + " Iterator is not supported yet");
+			}
+		}
+		else if (!(expression instanceof IfExp || expression instanceof NavigationOrAttributeCallExp ||
+			expression instanceof VariableExp || expression instanceof BooleanExp || expression instanceof StringExp ||
+			expression instanceof EnumLiteralExp || expression instanceof IntegerExp || expression instanceof RealExp)) {
+			addUnsupportedConstruct(expression,
+				"The expression type '" + expression.eClass.name + "' is not supported yet");
+		}
+	}
+
+	/**
+	 * Analyze the passed operation call expression.
+	 *
+	 * @param expression
+	 *            the operation call expression
+	 * @param atlModule
+	 *            the ATL module
+	 */
+	def private void analyzeOperationCallExp(OperationCallExp expression, Module atlModule) {
+		val operationName = expression.operationName;
+		if (lazyRuleNames.contains(operationName) || functionalHelperNames.contains(operationName)) {
+			return;
+		}
+
+		if (!OclOperationTransformerImpl.SUPPORTEDOPERATIONNAMES.contains(operationName)) {
+			addUnsupportedConstruct(expression, operationName + " Operation is not supported yet");
+		}
+		else if (operationName.equals("allInstances")) {
+			// the instances are searched in the input model of the metamodel of the type
+			if (expression.source instanceof OclModelElement) {
+				val metamodelName = (expression.source as OclModelElement).model.name;
+				if (atlModule.inModels.filter[it.metamodel.name.equals(metamodelName)].size != 1) {
+					addUnsupportedConstruct(expression,
+						"Multiple possible input models for the 'allInstances' OCL Operations are not supported yet");
+				}
+			}
+			else {
+				addUnsupportedConstruct(expression,
+					"Only a model element type is supported as source of the 'allInstances' OCL Operation");
+			}
+		}
+	}
+
+	/**
+	 * Adds an unsupported construct.
+	 *
+	 * @param element
+	 *            the element which is not supported
+	 * @param description
+	 *            the description of the unsupported construct
+	 */
+	def private void addUnsupportedConstruct(LocatedElement element, String description) {
+		if (element.location != null) {
+			unsupportedConstructs.add(description + " (" + element.location + ")");
+		}
+		else {
+			unsupportedConstructs.add(description);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.AtlSupportAnalyzer#isSupported
+	 */
+	override Boolean isSupported() {
+		return unsupportedConstructs.isEmpty;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.AtlSupportAnalyzer#getUnsupportedConstructs
+	 */
+	override List<String> getUnsupportedConstructs() {
+		return Collections.unmodifiableList(unsupportedConstructs);
+	}
+}
@@ -18,6 +18,13 @@ interface EcoreAnalyzer {
 	 */
 	def TypeInfo getTypeInfo(String typeName);
 
+	/**
+	 * Gets the metamodel name.
+	 * 
+	 * @return the metamodel name
+	 */
+	def String getMetamodelName();
+
 	/**
 	 * Gets the ns uri.
 	 * 
@@ -67,4 +74,39 @@ interface EcoreAnalyzer {
 	 */
 	def Boolean isFeaturesTypeACollection(String classifierName, String featureName);
 
+	/**
+	 * Checks if the classifier has a feature with the passed name. The inherited features are considered too.
+	 * 
+	 * @param classifierName
+	 *            the classifier name
+	 * @param featureName
+	 *            the feature name
+	 * @return the boolean indicating if the classifier has the feature
+	 */
+	def Boolean hasFeature(String classifierName, String featureName);
+
+	/**
+	 * Checks if the feature of the classifier is a containment reference.
+	 * 
+	 * @param classifierName
+	 *            the classifier name
+	 * @param featureName
+	 *            the feature name
+	 * @return the boolean indicating if the feature is a containment reference
+	 */
+	def Boolean isContainmentReference(String classifierName, String featureName);
+
+	/**
+	 * Checks if the feature of the classifier is a cross reference. A cross reference is a reference which is
+	 * neither a containment nor a container reference and can therefore point to an element of another
+	 * containment tree.
+	 * 
+	 * @param classifierName
+	 *            the classifier name
+	 * @param featureName
+	 *            the feature name
+	 * @return the boolean indicating if the feature is a cross reference
+	 */
+	def Boolean isCrossReference(String classifierName, String featureName);
+
 }
@@ -1,12 +1,15 @@
 package edu.kit.ipd.sdq.atl2nmfs.helper
 
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo
+
 /**
  * A factory for creating EcoreAnalyzer objects.
  */
 interface EcoreAnalyzerFactory {
 
 	/**
-	 * Creates a EcoreAnalyzer.
+	 * Creates a EcoreAnalyzer. The analyzer of a metamodel can be shared with other transformations
+	 * and therefore the returned analyzer and its type infos must not be modified.
 	 * 
 	 * @param metamodelName
 	 *            the metamodel name
@@ -16,4 +19,16 @@ interface EcoreAnalyzerFactory {
 	 */
 	def EcoreAnalyzer create(String metamodelName, String metamodelPath);
 
+	/**
+	 * Gets the statistics of the ecore analyzer cache.
+	 * 
+	 * @return the statistics of the ecore analyzer cache
+	 */
+	def CacheStatisticsInfo getCacheStatistics();
+
+	/**
+	 * Clears the ecore analyzer cache.
+	 */
+	def void clearCache();
+
 }
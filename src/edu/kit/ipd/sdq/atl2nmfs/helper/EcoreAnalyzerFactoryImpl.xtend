@@ -1,14 +1,105 @@
 package edu.kit.ipd.sdq.atl2nmfs.helper
 
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo
+import edu.kit.ipd.sdq.atl2nmfs.utils.HashUtils
+import java.io.File
+import java.util.LinkedHashMap
+import java.util.Map
+
 /**
  * The EcoreAnalyzerFactoryImpl Class.
+ * 
+ * The analyzed metamodels are cached for the whole process, so a metamodel which is used by many
+ * transformations is only loaded and analyzed once. The cache key is computed from the metamodel name,
+ * the path and the content of the metamodel, therefore a changed metamodel is analyzed again. The cache keeps
+ * the most recently used metamodels, its size can be changed with the system property
+ * atl2nmfs.ecoreanalyzer.cache.size.
  */
 class EcoreAnalyzerFactoryImpl implements EcoreAnalyzerFactory {
 
+	private static final String CACHESIZEPROPERTY = "atl2nmfs.ecoreanalyzer.cache.size";
+	private static final int DEFAULTCACHESIZE = 64;
+
+	// the cache is shared by all injectors since concurrent batch jobs use their own injector. The map is
+	// in access order, so the least recently used metamodel is removed first
+	private static final Map<String, EcoreAnalyzer> ecoreAnalyzerCache = new LinkedHashMap<String, EcoreAnalyzer>(16, 0.75f, true);
+	private static long cacheHits = 0;
+	private static long cacheMisses = 0;
+
 	/* (non-Javadoc)
 	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzerFactory#create
 	 */
 	override EcoreAnalyzer create(String metamodelName, String metamodelPath) {
-		return new EcoreAnalyzerImpl(metamodelName, metamodelPath);
+		var metamodelFile = new File(metamodelPath);
+		if (!metamodelFile.isFile()) {
+			// the ecore analyzer reports the missing metamodel
+			return new EcoreAnalyzerImpl(metamodelName, metamodelPath);
+		}
+
+		var messageDigest = HashUtils.createMessageDigest();
+		HashUtils.update(messageDigest, metamodelName);
+		HashUtils.update(messageDigest, metamodelFile.absolutePath);
+		HashUtils.update(messageDigest, metamodelFile);
+		var cacheKey = HashUtils.toHexString(messageDigest);
+
+		synchronized (ecoreAnalyzerCache) {
+			var cachedEcoreAnalyzer = ecoreAnalyzerCache.get(cacheKey);
+			if (cachedEcoreAnalyzer != null) {
+				cacheHits++;
+				return cachedEcoreAnalyzer;
+			}
+		}
+
+		// the metamodel is analyzed outside of the lock, so different metamodels are analyzed concurrently.
+		// A failed analysis is not cached
+		var ecoreAnalyzer = new EcoreAnalyzerImpl(metamodelName, metamodelPath);
+
+		synchronized (ecoreAnalyzerCache) {
+			cacheMisses++;
+
+			// concurrent runs could have analyzed the same metamodel in the meantime and
+			// all callers should get the same ecore analyzer
+			var cachedEcoreAnalyzer = ecoreAnalyzerCache.get(cacheKey);
+			if (cachedEcoreAnalyzer != null) {
+				return cachedEcoreAnalyzer;
+			}
+
+			ecoreAnalyzerCache.put(cacheKey, ecoreAnalyzer);
+			if (ecoreAnalyzerCache.size > getMaximumCacheSize()) {
+				ecoreAnalyzerCache.remove(ecoreAnalyzerCache.keySet.iterator.next);
+			}
+
+			return ecoreAnalyzer;
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzerFactory#getCacheStatistics
+	 */
+	override CacheStatisticsInfo getCacheStatistics() {
+		synchronized (ecoreAnalyzerCache) {
+			return new CacheStatisticsInfo("EcoreAnalyzer", cacheHits, cacheMisses);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzerFactory#clearCache
+	 */
+	override void clearCache() {
+		synchronized (ecoreAnalyzerCache) {
+			ecoreAnalyzerCache.clear();
+			cacheHits = 0;
+			cacheMisses = 0;
+		}
+	}
+
+	/**
+	 * Gets the maximum number of analyzed metamodels which are kept in memory. It can be changed with
+	 * the system property atl2nmfs.ecoreanalyzer.cache.size.
+	 *
+	 * @return the maximum number of analyzed metamodels which are kept in memory
+	 */
+	def private static int getMaximumCacheSize() {
+		return Math.max(1, Integer.getInteger(CACHESIZEPROPERTY, DEFAULTCACHESIZE));
 	}
 }
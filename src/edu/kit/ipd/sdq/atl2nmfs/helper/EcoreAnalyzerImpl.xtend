@@ -4,13 +4,19 @@ import edu.kit.ipd.sdq.atl2nmfs.helper.infos.PossibleReturnTypeInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.ReturnTypeInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.TypeInfo
 import java.util.ArrayList
+import java.util.Collections
+import java.util.HashMap
+import java.util.HashSet
+import java.util.LinkedHashMap
 import java.util.List
+import java.util.Map
 import org.apache.commons.lang.NotImplementedException
+import org.apache.commons.lang.StringUtils
 import org.eclipse.emf.common.util.URI
 import org.eclipse.emf.ecore.EClass
 import org.eclipse.emf.ecore.EPackage
+import org.eclipse.emf.ecore.EReference
 import org.eclipse.emf.ecore.EStructuralFeature
-import org.eclipse.emf.ecore.impl.EClassImpl
 import org.eclipse.emf.ecore.impl.EReferenceImpl
 import org.eclipse.emf.ecore.resource.Resource
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl
@@ -23,7 +29,9 @@ class EcoreAnalyzerImpl implements EcoreAnalyzer {
 	private final String metamodelName;
 	private final Resource resource;
 	private final EPackage mainPackage;
-	private final List<TypeInfo> typeInfos;
+	private final Map<String, TypeInfo> typeInfosByName;
+	private final Map<String, Map<String, EStructuralFeature>> featuresByClassifierName;
+	private final Map<String, List<TypeInfo>> typeInfosByContainedFeatureType;
 
 	/**
 	 * Class constructor.
@@ -36,8 +44,9 @@ class EcoreAnalyzerImpl implements EcoreAnalyzer {
 	new(String metamodelName, String metamodelPath) {
 		this.metamodelName = metamodelName;
 
-		Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().put("*", new XMIResourceFactoryImpl());
+		// register the factory only in the local resource set because metamodels can be loaded concurrently
 		var resourceSet = new ResourceSetImpl();
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("*", new XMIResourceFactoryImpl());
 		resource = resourceSet.getResource(URI.createURI(metamodelPath), true);
 
 		var packages = resource.getContents();
@@ -54,8 +63,13 @@ class EcoreAnalyzerImpl implements EcoreAnalyzer {
 				" found. Please make sure that the package name in the Ecore metamodel is the same name as the metamodel name in the ATL Transformation.");
 
 		// analyze ecore metamodel and initialize type hierarchy
-		typeInfos = new ArrayList<TypeInfo>();
+		typeInfosByName = new LinkedHashMap<String, TypeInfo>();
 		initializeTypeHierarchy();
+
+		// build the indexes which are used to answer all queries without scanning the metamodel
+		featuresByClassifierName = new HashMap<String, Map<String, EStructuralFeature>>();
+		typeInfosByContainedFeatureType = new HashMap<String, List<TypeInfo>>();
+		initializeFeatureIndexes();
 	}
 
 	/**
@@ -77,6 +91,36 @@ class EcoreAnalyzerImpl implements EcoreAnalyzer {
 		}
 	}
 
+	/**
+	 * Initialize the feature indexes.
+	 */
+	def private void initializeFeatureIndexes() {
+		for (eClass : mainPackage.getEClassifiers.filter(EClass)) {
+			// the structural feature list contains also all inherited structural features from super types
+			var featuresByName = new HashMap<String, EStructuralFeature>();
+			var containedFeatureTypes = new HashSet<String>();
+			for (structuralFeature : eClass.getEAllStructuralFeatures) {
+				// keep the first feature with a name like the previous linear search did
+				featuresByName.putIfAbsent(structuralFeature.name, structuralFeature);
+
+				// each classifier must be registered only once per feature type
+				var featureType = structuralFeature.getEType;
+				if (featureType != null && containedFeatureTypes.add(featureType.name)) {
+					var featureTypeName = featureType.name;
+					var containingTypeInfos = typeInfosByContainedFeatureType.get(featureTypeName);
+					if (containingTypeInfos == null) {
+						containingTypeInfos = new ArrayList<TypeInfo>();
+						typeInfosByContainedFeatureType.put(featureTypeName, containingTypeInfos);
+					}
+
+					containingTypeInfos.add(typeInfosByName.get(StringUtils.capitalize(eClass.name)));
+				}
+			}
+
+			featuresByClassifierName.putIfAbsent(eClass.name, featuresByName);
+		}
+	}
+
 	/**
 	 * Initialize super and sub type infos.
 	 * 
@@ -103,11 +147,13 @@ class EcoreAnalyzerImpl implements EcoreAnalyzer {
 	 * @return the type info
 	 */
 	def private TypeInfo getOrCreateTypeInfo(String typeName) {
-		var typeInfo = typeInfos.findFirst[it.name == typeName];
+		// the type infos are registered with their capitalized name, since the generated types are capitalized as well.
+		// A classifier with a lowercase name therefore gets one type info which is shared with its super and sub types
+		var typeInfo = typeInfosByName.get(StringUtils.capitalize(typeName));
 
 		if (typeInfo == null) {
 			typeInfo = new TypeInfo(metamodelName, typeName);
-			typeInfos.add(typeInfo);
+			typeInfosByName.put(typeInfo.name, typeInfo);
 		}
 
 		return typeInfo;
@@ -117,7 +163,7 @@ class EcoreAnalyzerImpl implements EcoreAnalyzer {
 	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzer#getTypeInfo
 	 */
 	override TypeInfo getTypeInfo(String typeName) {
-		var typeInfo = typeInfos.findFirst[it.name.equals(typeName)];
+		var typeInfo = typeInfosByName.get(typeName);
 
 		if (typeInfo == null) {
 			throw new IllegalArgumentException("No type info for the type '" + typeName + "' could be found.")
@@ -126,6 +172,13 @@ class EcoreAnalyzerImpl implements EcoreAnalyzer {
 		return typeInfo;
 	}
 
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzer#getMetamodelName
+	 */
+	override String getMetamodelName() {
+		return metamodelName;
+	}
+
 	/* (non-Javadoc)
 	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzer#getNsUri
 	 */
@@ -219,24 +272,12 @@ class EcoreAnalyzerImpl implements EcoreAnalyzer {
 	 */
 	override List<TypeInfo> getAllTypeInfosThatContainFeatureWithType(String containingFeatureType) {
 		// we are looking for all classifier that contain a structural feature with a specific type
-		val possibleTypeInfos = new ArrayList<TypeInfo>();
-
-		for (eClassifier : mainPackage.getEClassifiers) {
-			var eClass = eClassifier as EClassImpl;
-			if (eClass != null) {
-				// the structural feature list contains also all inherited structural features from super types
-				var containsRequiredFeature = eClass.getEAllStructuralFeatures.exists [ structuralFeature |
-					structuralFeature.getEType.name.equals(containingFeatureType);
-				]
-
-				if (containsRequiredFeature) {
-					var typeInfo = getTypeInfo(eClass.name);
-					possibleTypeInfos.add(typeInfo);
-				}
-			}
+		var possibleTypeInfos = typeInfosByContainedFeatureType.get(containingFeatureType);
+		if (possibleTypeInfos == null) {
+			return Collections.emptyList();
 		}
 
-		return possibleTypeInfos;
+		return Collections.unmodifiableList(possibleTypeInfos);
 	}
 
 	/* (non-Javadoc)
@@ -276,6 +317,45 @@ class EcoreAnalyzerImpl implements EcoreAnalyzer {
 		return false;
 	}
 
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzer#hasFeature
+	 */
+	override Boolean hasFeature(String classifierName, String featureName) {
+		var featuresByName = featuresByClassifierName.get(classifierName);
+		return featuresByName != null && featuresByName.containsKey(featureName);
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzer#isContainmentReference
+	 */
+	override Boolean isContainmentReference(String classifierName, String featureName) {
+		var structuralFeature = getFeature(classifierName, featureName);
+		if (structuralFeature == null) {
+			throw new IllegalArgumentException("The element " + featureName + " was not found in the classifier " +
+				classifierName)
+		}
+
+		return structuralFeature instanceof EReference && (structuralFeature as EReference).isContainment;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzer#isCrossReference
+	 */
+	override Boolean isCrossReference(String classifierName, String featureName) {
+		var structuralFeature = getFeature(classifierName, featureName);
+		if (structuralFeature == null) {
+			throw new IllegalArgumentException("The element " + featureName + " was not found in the classifier " +
+				classifierName)
+		}
+
+		if (structuralFeature instanceof EReference) {
+			val reference = structuralFeature as EReference;
+			return !reference.isContainment && !reference.isContainer;
+		}
+
+		return false;
+	}
+
 	/**
 	 * Gets the feature.
 	 * 
@@ -286,16 +366,13 @@ class EcoreAnalyzerImpl implements EcoreAnalyzer {
 	 * @return the feature
 	 */
 	def private EStructuralFeature getFeature(String classifierName, String featureName) {
-		var eClassifier = mainPackage.getEClassifiers.findFirst [
-			it.name.equals(classifierName);
-		]
-		var eClass = eClassifier as EClassImpl;
+		var featuresByName = featuresByClassifierName.get(classifierName);
+		if (featuresByName == null) {
+			throw new IllegalArgumentException("The classifier " + classifierName + " was not found in the metamodel " +
+				metamodelName);
+		}
 
 		// the structural feature list contains also all inherited structural features from super types
-		var structuralFeature = eClass.getEAllStructuralFeatures.findFirst [
-			it.name.equals(featureName);
-		]
-
-		return structuralFeature;
+		return featuresByName.get(featureName);
 	}
 }
@@ -0,0 +1,92 @@
+package edu.kit.ipd.sdq.atl2nmfs.helper
+
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo
+import java.util.IdentityHashMap
+
+/**
+ * The MemoizationCache Class.
+ *
+ * Caches values by the identity of an element of the ATL model and an optional secondary key.
+ * The elements of the ATL model do not override equals, so the identity is the only correct key
+ * and the cache is only valid as long as the same ATL model is transformed. All methods can be
+ * called concurrently.
+ *
+ * @param <V>
+ *            the type of the cached values
+ */
+class MemoizationCache<V> {
+	private final String cacheName;
+	private final IdentityHashMap<Object, IdentityHashMap<Object, V>> values;
+
+	private long hits;
+	private long misses;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param cacheName
+	 *            the cache name which is used in the statistics
+	 */
+	new(String cacheName) {
+		this.cacheName = cacheName;
+		this.values = new IdentityHashMap<Object, IdentityHashMap<Object, V>>();
+	}
+
+	/**
+	 * Gets the cached value and counts the lookup as hit or miss.
+	 *
+	 * @param element
+	 *            the element
+	 * @param secondaryKey
+	 *            the secondary key (can be null)
+	 * @return the cached value or null if no value is cached
+	 */
+	def synchronized V get(Object element, Object secondaryKey) {
+		var valuesOfElement = values.get(element);
+		if (valuesOfElement != null && valuesOfElement.containsKey(secondaryKey)) {
+			hits++;
+			return valuesOfElement.get(secondaryKey);
+		}
+
+		misses++;
+		return null;
+	}
+
+	/**
+	 * Caches the value.
+	 *
+	 * @param element
+	 *            the element
+	 * @param secondaryKey
+	 *            the secondary key (can be null)
+	 * @param value
+	 *            the value
+	 */
+	def synchronized void put(Object element, Object secondaryKey, V value) {
+		var valuesOfElement = values.get(element);
+		if (valuesOfElement == null) {
+			valuesOfElement = new IdentityHashMap<Object, V>();
+			values.put(element, valuesOfElement);
+		}
+
+		valuesOfElement.put(secondaryKey, value);
+	}
+
+	/**
+	 * Removes all cached values and resets the statistics.
+	 */
+	def synchronized void clear() {
+		values.clear();
+		hits = 0;
+		misses = 0;
+	}
+
+	/**
+	 * Gets the statistics of the cache.
+	 *
+	 * @return the statistics of the cache
+	 */
+	def synchronized CacheStatisticsInfo getStatistics() {
+		return new CacheStatisticsInfo(cacheName, hits, misses);
+	}
+}
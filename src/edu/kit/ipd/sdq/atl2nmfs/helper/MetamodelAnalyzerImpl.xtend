@@ -8,6 +8,8 @@ import edu.kit.ipd.sdq.atl2nmfs.helper.infos.TypeInfo
 import java.util.ArrayList
 import java.util.Collections
 import java.util.List
+import java.util.Map
+import java.util.concurrent.ConcurrentHashMap
 import org.eclipse.m2m.atl.common.ATL.Module
 
 /**
@@ -19,6 +21,7 @@ class MetamodelAnalyzerImpl implements MetamodelAnalyzer {
 
 	private List<MetamodelInfo> inputMetamodelInfos;
 	private List<MetamodelInfo> outputMetamodelInfos;
+	private Map<String, List<RuleInfo>> requiredRuleInfosCache;
 
 	/**
 	 * Class constructor.
@@ -39,6 +42,10 @@ class MetamodelAnalyzerImpl implements MetamodelAnalyzer {
 	 */
 	override void analyzeMetamodels(Module atlModule, List<String> inputMetamodelPaths,
 		List<String> outputMetamodelPaths) {
+		// the cached rule resolutions are only valid for one transformation
+		// and the bindings can be transformed concurrently
+		requiredRuleInfosCache = new ConcurrentHashMap<String, List<RuleInfo>>();
+
 		// initialize input metamodel infos
 		inputMetamodelInfos = new ArrayList<MetamodelInfo>();
 		var inputIndex = 0;
@@ -151,6 +158,34 @@ class MetamodelAnalyzerImpl implements MetamodelAnalyzer {
 	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.MetamodelAnalyzer#getRequiredRuleInfos
 	 */
 	override List<RuleInfo> getRequiredRuleInfos(String inputMetamodelName, String inputTypeName,
+		String outputMetamodelName, String outputTypeName) {
+		// the result only depends on the input and the expected output type so it is resolved only once for each combination
+		var cacheKey = inputMetamodelName + "!" + inputTypeName + "->" + outputMetamodelName + "!" + outputTypeName;
+		var cachedRuleInfos = requiredRuleInfosCache.get(cacheKey);
+		if (cachedRuleInfos != null) {
+			return cachedRuleInfos;
+		}
+
+		var requiredRuleInfos = Collections.unmodifiableList(
+			resolveRequiredRuleInfos(inputMetamodelName, inputTypeName, outputMetamodelName, outputTypeName));
+		requiredRuleInfosCache.put(cacheKey, requiredRuleInfos);
+		return requiredRuleInfos;
+	}
+
+	/**
+	 * Resolves the required rule infos for the passed input and expected output type.
+	 * 
+	 * @param inputMetamodelName
+	 *            the input metamodel name
+	 * @param inputTypeName
+	 *            the input type name
+	 * @param outputMetamodelName
+	 *            the output metamodel name
+	 * @param outputTypeName
+	 *            the output type name
+	 * @return the required rule infos
+	 */
+	def private List<RuleInfo> resolveRequiredRuleInfos(String inputMetamodelName, String inputTypeName,
 		String outputMetamodelName, String outputTypeName) {
 		// we have to return all the rules which input type matches the the type of the input ocl binding expression or one of its subtypes		
 		val inputTypeInfo = getTypeInfoFromInputMetamodel(inputMetamodelName, inputTypeName);
@@ -1,5 +1,7 @@
 package edu.kit.ipd.sdq.atl2nmfs.helper;
 
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.AllInstancesInfo
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.FilteredViewInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.ModelInfo
 import java.util.List
 import org.eclipse.m2m.atl.common.ATL.Module
@@ -31,4 +33,50 @@ interface ModelAnalyzer {
 	 */
 	def List<ModelInfo> getOutputModelInfos();
 
+	/**
+	 * Registers the usage of the OCL operation "allInstances" for the passed type and input model.
+	 * An instance index is only created for the registered types.
+	 * 
+	 * @param inputModelInfo
+	 *            the input model info
+	 * @param typeName
+	 *            the type name
+	 * @param transformedTypeName
+	 *            the transformed type name
+	 * @return the all instances info of the type
+	 */
+	def AllInstancesInfo registerAllInstancesUsage(ModelInfo inputModelInfo, String typeName,
+		String transformedTypeName);
+
+	/**
+	 * Gets the all instances infos of all registered types ordered by their property name.
+	 * 
+	 * @return the all instances infos
+	 */
+	def List<AllInstancesInfo> getAllInstancesInfos();
+
+	/**
+	 * Registers the usage of the shared view of all instances of the passed type and input model which
+	 * fulfill the passed filter. The instance index of the type is registered too.
+	 * 
+	 * @param inputModelInfo
+	 *            the input model info
+	 * @param typeName
+	 *            the type name
+	 * @param transformedTypeName
+	 *            the transformed type name
+	 * @param filterName
+	 *            the filter name
+	 * @return the filtered view info
+	 */
+	def FilteredViewInfo registerFilteredViewUsage(ModelInfo inputModelInfo, String typeName,
+		String transformedTypeName, String filterName);
+
+	/**
+	 * Gets the filtered view infos of all registered views ordered by their property name.
+	 * 
+	 * @return the filtered view infos
+	 */
+	def List<FilteredViewInfo> getFilteredViewInfos();
+
 }
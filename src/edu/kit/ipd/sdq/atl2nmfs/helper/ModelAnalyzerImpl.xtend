@@ -1,8 +1,12 @@
 package edu.kit.ipd.sdq.atl2nmfs.helper
 
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.AllInstancesInfo
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.FilteredViewInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.ModelInfo
 import java.util.ArrayList
 import java.util.List
+import java.util.Map
+import java.util.TreeMap
 import org.eclipse.m2m.atl.common.ATL.Module
 
 /**
@@ -12,6 +16,14 @@ class ModelAnalyzerImpl implements ModelAnalyzer {
 	private List<ModelInfo> inputModelInfos;
 	private List<ModelInfo> outputModelInfos;
 
+	// the types which are used with the OCL operation "allInstances" by their property name
+	// a sorted map is used so that the instance indexes are always created in the same order
+	// even if the OCL expressions are transformed concurrently
+	private Map<String, AllInstancesInfo> allInstancesInfos;
+
+	// the shared views of the filtered instances by their property name
+	private Map<String, FilteredViewInfo> filteredViewInfos;
+
 	/* (non-Javadoc)
 	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.ModelAnalyzer#analyzeModels
 	 */
@@ -35,6 +47,10 @@ class ModelAnalyzerImpl implements ModelAnalyzer {
 			var modelInfo = new ModelInfo(outputModelName, outputMetamodelName, false)
 			outputModelInfos.add(modelInfo);
 		]
+
+		// the usages of the OCL operation "allInstances" are registered during the transformation
+		allInstancesInfos = new TreeMap<String, AllInstancesInfo>();
+		filteredViewInfos = new TreeMap<String, FilteredViewInfo>();
 	}
 
 	/* (non-Javadoc)
@@ -50,4 +66,52 @@ class ModelAnalyzerImpl implements ModelAnalyzer {
 	override List<ModelInfo> getOutputModelInfos() {
 		return outputModelInfos;
 	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.ModelAnalyzer#registerAllInstancesUsage
+	 */
+	override synchronized AllInstancesInfo registerAllInstancesUsage(ModelInfo inputModelInfo, String typeName,
+		String transformedTypeName) {
+		var allInstancesInfo = new AllInstancesInfo(inputModelInfo, typeName, transformedTypeName);
+
+		var registeredAllInstancesInfo = allInstancesInfos.get(allInstancesInfo.propertyName);
+		if (registeredAllInstancesInfo != null) {
+			return registeredAllInstancesInfo;
+		}
+
+		allInstancesInfos.put(allInstancesInfo.propertyName, allInstancesInfo);
+		return allInstancesInfo;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.ModelAnalyzer#getAllInstancesInfos
+	 */
+	override synchronized List<AllInstancesInfo> getAllInstancesInfos() {
+		return new ArrayList<AllInstancesInfo>(allInstancesInfos.values);
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.ModelAnalyzer#registerFilteredViewUsage
+	 */
+	override synchronized FilteredViewInfo registerFilteredViewUsage(ModelInfo inputModelInfo, String typeName,
+		String transformedTypeName, String filterName) {
+		// the view filters the instance index of the type, so the index is shared with the "allInstances" usages
+		var allInstancesInfo = registerAllInstancesUsage(inputModelInfo, typeName, transformedTypeName);
+		var filteredViewInfo = new FilteredViewInfo(allInstancesInfo, filterName);
+
+		var registeredFilteredViewInfo = filteredViewInfos.get(filteredViewInfo.propertyName);
+		if (registeredFilteredViewInfo != null) {
+			return registeredFilteredViewInfo;
+		}
+
+		filteredViewInfos.put(filteredViewInfo.propertyName, filteredViewInfo);
+		return filteredViewInfo;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.ModelAnalyzer#getFilteredViewInfos
+	 */
+	override synchronized List<FilteredViewInfo> getFilteredViewInfos() {
+		return new ArrayList<FilteredViewInfo>(filteredViewInfos.values);
+	}
 }
@@ -1,5 +1,6 @@
 package edu.kit.ipd.sdq.atl2nmfs.helper;
 
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.MetamodelInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.ReturnTypeInfo
 import java.util.List
@@ -19,7 +20,8 @@ interface OclReturnTypeAnalyzer {
 	def void initialize(List<MetamodelInfo> inputMetamodelInfos);
 
 	/**
-	 * Gets the return type info.
+	 * Gets the return type info. The results are cached until the analyzer is initialized again,
+	 * therefore the returned return type info must not be modified.
 	 * 
 	 * @param expression
 	 *            the OCL expression
@@ -27,4 +29,16 @@ interface OclReturnTypeAnalyzer {
 	 */
 	def ReturnTypeInfo getReturnTypeInfo(OclExpression expression);
 
+	/**
+	 * Gets the statistics of the return type info cache.
+	 * 
+	 * @return the statistics of the return type info cache
+	 */
+	def CacheStatisticsInfo getCacheStatistics();
+
+	/**
+	 * Clears the return type info cache.
+	 */
+	def void clearCache();
+
 }
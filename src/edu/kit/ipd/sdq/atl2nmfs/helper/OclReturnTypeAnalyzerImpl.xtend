@@ -1,6 +1,7 @@
 package edu.kit.ipd.sdq.atl2nmfs.helper
 
 import com.google.inject.Inject
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.MetamodelInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.ReturnTypeInfo
 import java.util.Arrays
@@ -55,6 +56,9 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 
 	private List<MetamodelInfo> inputMetamodelInfos;
 
+	// the inferred return type infos of all analyzed OCL expressions (and their sub expressions)
+	private final MemoizationCache<ReturnTypeInfo> returnTypeInfoCache;
+
 	/**
 	 * Class constructor.
 	 * 
@@ -64,6 +68,7 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 	@Inject
 	new(Atl2NmfSHelper atl2NmfSHelper) {
 		this.atl2NmfSHelper = atl2NmfSHelper;
+		this.returnTypeInfoCache = new MemoizationCache<ReturnTypeInfo>("OCL return type analysis");
 	}
 
 	/* (non-Javadoc)
@@ -73,6 +78,7 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 		// the OCL expressions are only using input metamodel elements therefore
 		// we only need the input metamodel infos to be able to infer the return types
 		this.inputMetamodelInfos = inputMetamodelInfos;
+		returnTypeInfoCache.clear();
 	}
 
 	/* (non-Javadoc)
@@ -83,7 +89,62 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 		// we don't need to determine the exact simple type like string or something similar
 		// because we don't have to call a rule for a simple type but we need the correct metamodel type
 		// to choose the right rule. So in case of a simple type we just return null
-		return analyze(expression);
+		if (expression == null) {
+			return null;
+		}
+
+		// the cached instance is returned since the callers are only reading it
+		var returnTypeInfo = returnTypeInfoCache.get(expression, null);
+		if (returnTypeInfo == null) {
+			returnTypeInfo = analyze(expression);
+			returnTypeInfoCache.put(expression, null, returnTypeInfo);
+		}
+
+		return returnTypeInfo;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.OclReturnTypeAnalyzer#getCacheStatistics
+	 */
+	override CacheStatisticsInfo getCacheStatistics() {
+		return returnTypeInfoCache.statistics;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.OclReturnTypeAnalyzer#clearCache
+	 */
+	override void clearCache() {
+		returnTypeInfoCache.clear();
+	}
+
+	/**
+	 * Analyzes the passed element of the ATL model and caches the result. The analysis of an element
+	 * is dependent on the results of its sub elements which are therefore analyzed with this function
+	 * too, so every sub tree is only analyzed once per transformation.
+	 * 
+	 * @param element
+	 *            the element (an OCL expression, a list of OCL expressions or a variable declaration)
+	 * @return a copy of the inferred return type info which can be modified by the caller
+	 */
+	def private ReturnTypeInfo analyzeMemoized(Object element) {
+		if (element == null) {
+			return null;
+		}
+
+		var returnTypeInfo = returnTypeInfoCache.get(element, null);
+		if (returnTypeInfo == null) {
+			returnTypeInfo = analyze(element);
+			returnTypeInfoCache.put(element, null, returnTypeInfo);
+		}
+
+		if (returnTypeInfo == null) {
+			// e.g. an empty list of OCL expressions
+			return null;
+		}
+
+		// the dispatch functions are modifying the return type infos of the sub elements
+		// so the cached instance must not be returned
+		return new ReturnTypeInfo(returnTypeInfo);
 	}
 
 	/**
@@ -127,7 +188,7 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 			return null;
 		}
 
-		return analyze(expressions.get(0));
+		return analyzeMemoized(expressions.get(0));
 	}
 
 	/**
@@ -138,8 +199,8 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 	 * @return the inferred return type info
 	 */
 	def private dispatch ReturnTypeInfo analyze(OperatorCallExp expression) {
-		var sourceReturnTypeInfo = analyze(expression.source);
-		var argumentReturnTypeInfo = analyze(expression.arguments);
+		var sourceReturnTypeInfo = analyzeMemoized(expression.source);
+		var argumentReturnTypeInfo = analyzeMemoized(expression.arguments);
 
 		if (sourceReturnTypeInfo.typePrimitive && argumentReturnTypeInfo.typePrimitive) {
 			// the return type is primitive
@@ -163,8 +224,8 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 	 * @return the inferred return type info
 	 */
 	def private dispatch ReturnTypeInfo analyze(IfExp expression) {
-		var thenExpressionReturnTypeInfo = analyze(expression.thenExpression);
-		var elseExpressionReturnTypeInfo = analyze(expression.elseExpression);
+		var thenExpressionReturnTypeInfo = analyzeMemoized(expression.thenExpression);
+		var elseExpressionReturnTypeInfo = analyzeMemoized(expression.elseExpression);
 
 		if (thenExpressionReturnTypeInfo.typePrimitive && elseExpressionReturnTypeInfo.typePrimitive) {
 			// the return type is primitive
@@ -204,7 +265,7 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 		} // check if the called operation is a lazy or a unique lazy rule
 		else if (atl2NmfSHelper.isLazyRule(expression.operationName)) {
 			var lazyRuleInfo = atl2NmfSHelper.getRuleInfo(expression.operationName);
-			var argumentsReturnTypeInfo = analyze(expression.arguments);
+			var argumentsReturnTypeInfo = analyzeMemoized(expression.arguments);
 			returnTypeInfo = new ReturnTypeInfo(lazyRuleInfo, argumentsReturnTypeInfo);
 		} 
 		else {
@@ -212,7 +273,7 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 			// check if the return type of the operation is complex or not
 			if (operationsWithComplexReturnType.contains(expression.operationName)) {
 				// these operations have a return type which is dependent of the type of the source on which the operation is called
-				returnTypeInfo = analyze(expression.source);
+				returnTypeInfo = analyzeMemoized(expression.source);
 			} 
 			else {
 				// all other operations have a primitive return type like boolean or string
@@ -244,8 +305,8 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 				var operationBodyExpression = expression.body as OperationCallExp;
 
 				if (operationBodyExpression.operationName.equals("oclIsKindOf")) {
-					var operationReturnTypeInfo = analyze(operationBodyExpression.arguments);
-					var sourceReturnTypeInfo = analyze(expression.source);
+					var operationReturnTypeInfo = analyzeMemoized(operationBodyExpression.arguments);
+					var sourceReturnTypeInfo = analyzeMemoized(expression.source);
 
 					// we have to return the operation return type but have to use the isCollection variable of the source return type or it would be always false
 					operationReturnTypeInfo.isTypeCollection = sourceReturnTypeInfo.getIsTypeCollection;
@@ -253,18 +314,18 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 				}
 			}
 
-			returnTypeInfo = analyze(expression.source);
+			returnTypeInfo = analyzeMemoized(expression.source);
 		} 
 		else if (expression.name.equals("any") || expression.name.equals("reject") ||
 			expression.name.equals("sortedBy")) {
 
 			// these iterators return an element or a collection of elements with the type of the element type of the source collection
-			returnTypeInfo = analyze(expression.source);
+			returnTypeInfo = analyzeMemoized(expression.source);
 		} 
 		else if (expression.name.equals("collect")) {
 			// returns a collection of elements which results in applying body to each element of the source collection
 			// so we have to return the type of the body expression
-			returnTypeInfo = analyze(expression.body);
+			returnTypeInfo = analyzeMemoized(expression.body);
 		} 
 		else {
 			// all other iterator types like exists, forAll, ... return a boolean value
@@ -301,7 +362,7 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 			}
 		}
 
-		val classifierReturnTypeInfo = analyze(expression.source);
+		val classifierReturnTypeInfo = analyzeMemoized(expression.source);
 		if (classifierReturnTypeInfo.typePrimitive || StringUtils.isBlank(elementName)) {
 			// in case of a simple type is the classifier name null
 			throw new IllegalArgumentException(
@@ -324,7 +385,7 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 	 */
 	def private dispatch ReturnTypeInfo analyze(VariableExp expression) {
 		// calls SimpleInPatternElement, SimpleOutPatternElement or Iterator
-		return analyze(expression.referredVariable);
+		return analyzeMemoized(expression.referredVariable);
 	}
 
 	/**
@@ -348,7 +409,7 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 	 * @return the inferred return type info
 	 */
 	def private dispatch ReturnTypeInfo analyze(SimpleInPatternElement expression) {
-		return analyze(expression.type);
+		return analyzeMemoized(expression.type);
 	}
 
 	/**
@@ -361,7 +422,7 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 	def private dispatch ReturnTypeInfo analyze(SimpleOutPatternElement expression) {
 		// When analyzing the OCL return type from an expression of the input side and an SimpleOutPatternElement 
 		// is analyzed it means that another output element is referenced in the expression
-		var returnTypeInfo = analyze(expression.type);
+		var returnTypeInfo = analyzeMemoized(expression.type);
 		returnTypeInfo.usageOfAnotherOutputPatternElement = true;
 		returnTypeInfo.nameOfTheReferencedOutputPatternElement = expression.varName;
 		return returnTypeInfo;
@@ -379,7 +440,7 @@ class OclReturnTypeAnalyzerImpl implements OclReturnTypeAnalyzer {
 		var container = expression.eContainer;
 		var iteratorExp = container as IteratorExp;
 
-		return analyze(iteratorExp.source);
+		return analyzeMemoized(iteratorExp.source);
 	}
 
 	/**
@@ -0,0 +1,39 @@
+package edu.kit.ipd.sdq.atl2nmfs.helper;
+
+import java.util.List
+import org.eclipse.m2m.atl.common.ATL.Library
+import org.eclipse.m2m.atl.common.ATL.Module
+
+/**
+ * The PartitionAnalyzer Interface.
+ */
+interface PartitionAnalyzer {
+
+	/**
+	 * Analyze if the input models can be partitioned by their root elements. This is the case if no
+	 * expression of the ATL module and its libraries can reach an element of another containment tree.
+	 *
+	 * @param atlModule
+	 *            the ATL module
+	 * @param atlLibraries
+	 *            the ATL libraries
+	 * @param inputEcoreAnalyzers
+	 *            the ecore analyzers of the input metamodels
+	 */
+	def void analyzePartitions(Module atlModule, List<Library> atlLibraries, List<EcoreAnalyzer> inputEcoreAnalyzers);
+
+	/**
+	 * Checks if the input models can be partitioned by their root elements.
+	 *
+	 * @return the boolean indicating if the input models can be partitioned
+	 */
+	def Boolean isPartitionable();
+
+	/**
+	 * Gets the descriptions of the expressions which prevent the partitioning of the input models.
+	 *
+	 * @return the partition blockers
+	 */
+	def List<String> getPartitionBlockers();
+
+}
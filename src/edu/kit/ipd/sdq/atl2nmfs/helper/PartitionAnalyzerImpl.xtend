@@ -0,0 +1,270 @@
+package edu.kit.ipd.sdq.atl2nmfs.helper
+
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.ReturnTypeInfo
+import java.util.ArrayList
+import java.util.Collections
+import java.util.HashSet
+import java.util.List
+import java.util.Set
+import org.apache.commons.lang.StringUtils
+import org.eclipse.emf.ecore.EObject
+import org.eclipse.m2m.atl.common.ATL.Helper
+import org.eclipse.m2m.atl.common.ATL.Library
+import org.eclipse.m2m.atl.common.ATL.Module
+import org.eclipse.m2m.atl.common.OCL.Attribute
+import org.eclipse.m2m.atl.common.OCL.Iterator
+import org.eclipse.m2m.atl.common.OCL.IteratorExp
+import org.eclipse.m2m.atl.common.OCL.NavigationOrAttributeCallExp
+import org.eclipse.m2m.atl.common.OCL.OclExpression
+import org.eclipse.m2m.atl.common.OCL.OclFeatureDefinition
+import org.eclipse.m2m.atl.common.OCL.OclModelElement
+import org.eclipse.m2m.atl.common.OCL.OperationCallExp
+import org.eclipse.m2m.atl.common.OCL.VariableExp
+
+/**
+ * The PartitionAnalyzerImpl Class.
+ */
+class PartitionAnalyzerImpl implements PartitionAnalyzer {
+	private static final List<String> GLOBALOPERATIONNAMES = #["allInstances", "allInstancesFrom"];
+	// these iterators and operations return elements of the source collection
+	private static final List<String> ELEMENTPRESERVINGITERATORNAMES = #["select", "reject", "any", "sortedBy"];
+	private static final List<String> ELEMENTPRESERVINGOPERATIONNAMES = #["asSequence", "asSet", "asBag",
+		"asOrderedSet", "first", "last", "at", "flatten"];
+
+	private List<String> partitionBlockers;
+	private List<EcoreAnalyzer> inputEcoreAnalyzers;
+	private Set<String> attributeHelperNames;
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.PartitionAnalyzer#analyzePartitions
+	 */
+	override void analyzePartitions(Module atlModule, List<Library> atlLibraries,
+		List<EcoreAnalyzer> inputEcoreAnalyzers) {
+		partitionBlockers = new ArrayList<String>();
+		this.inputEcoreAnalyzers = inputEcoreAnalyzers;
+
+		// the navigation of an attribute helper is no feature navigation, the expression of the helper is analyzed itself
+		attributeHelperNames = new HashSet<String>();
+		collectAttributeHelperNames(atlModule);
+		for (atlLibrary : atlLibraries) {
+			collectAttributeHelperNames(atlLibrary);
+		}
+
+		// a rule, a filter or a helper can only reach an element of another containment tree with an instance index
+		// or with a cross reference. The navigation to the children and to the parent stays in the same tree, so
+		// the refImmediateComposite operation and the container references do not prevent the partitioning
+		analyzeElement(atlModule);
+		for (atlLibrary : atlLibraries) {
+			analyzeElement(atlLibrary);
+		}
+	}
+
+	/**
+	 * Collects the names of the attribute helpers which are contained in the passed element.
+	 *
+	 * @param element
+	 *            the ATL module or library
+	 */
+	def private void collectAttributeHelperNames(EObject element) {
+		for (helper : element.eAllContents.filter(Helper).toIterable) {
+			var feature = helper.definition?.feature;
+			if (feature instanceof Attribute) {
+				attributeHelperNames.add((feature as Attribute).name);
+			}
+		}
+	}
+
+	/**
+	 * Analyze all expressions which are contained in the passed element.
+	 *
+	 * @param element
+	 *            the ATL module or library
+	 */
+	def private void analyzeElement(EObject element) {
+		var iterator = element.eAllContents;
+		while (iterator.hasNext) {
+			var content = iterator.next;
+			if (content instanceof OperationCallExp) {
+				val operationCallExp = content as OperationCallExp;
+				if (GLOBALOPERATIONNAMES.contains(operationCallExp.operationName)) {
+					addPartitionBlocker(operationCallExp,
+						"The operation " + operationCallExp.operationName + " reads all elements of a type");
+				}
+			}
+			else if (content instanceof NavigationOrAttributeCallExp) {
+				val navigationExp = content as NavigationOrAttributeCallExp;
+				if (!attributeHelperNames.contains(navigationExp.name)) {
+					analyzeNavigation(navigationExp);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Analyze the navigation of a feature. The feature is resolved on the type of the navigation source, so
+	 * the navigation prevents the partitioning if the feature is a cross reference or can't be resolved.
+	 *
+	 * @param navigationExp
+	 *            the navigation expression
+	 */
+	def private void analyzeNavigation(NavigationOrAttributeCallExp navigationExp) {
+		var sourceTypeInfo = getElementTypeInfo(navigationExp.source);
+		var ecoreAnalyzer = getEcoreAnalyzer(sourceTypeInfo);
+		if (ecoreAnalyzer == null || !ecoreAnalyzer.hasFeature(sourceTypeInfo.typeName, navigationExp.name)) {
+			addPartitionBlocker(navigationExp,
+				"The feature " + navigationExp.name + " can't be resolved and could point to another containment tree");
+		}
+		else if (ecoreAnalyzer.isCrossReference(sourceTypeInfo.typeName, navigationExp.name)) {
+			addPartitionBlocker(navigationExp,
+				"The cross reference " + navigationExp.name + " can point to another containment tree");
+		}
+	}
+
+	/**
+	 * Gets the type of the element or of the elements which the passed expression returns. Only the
+	 * expressions which are used as the source of a navigation are supported.
+	 *
+	 * @param expression
+	 *            the OCL expression
+	 * @return the type info or null if the type can't be resolved
+	 */
+	def private ReturnTypeInfo getElementTypeInfo(OclExpression expression) {
+		if (expression instanceof VariableExp) {
+			return getVariableTypeInfo(expression as VariableExp);
+		}
+		else if (expression instanceof NavigationOrAttributeCallExp) {
+			val navigationExp = expression as NavigationOrAttributeCallExp;
+			var sourceTypeInfo = getElementTypeInfo(navigationExp.source);
+			var ecoreAnalyzer = getEcoreAnalyzer(sourceTypeInfo);
+			if (ecoreAnalyzer == null || !ecoreAnalyzer.hasFeature(sourceTypeInfo.typeName, navigationExp.name) ||
+				!ecoreAnalyzer.isFeaturesTypeComplex(sourceTypeInfo.typeName, navigationExp.name)) {
+				return null;
+			}
+
+			return ecoreAnalyzer.getReturnTypeInfoOfFeature(sourceTypeInfo.typeName, navigationExp.name);
+		}
+		else if (expression instanceof IteratorExp) {
+			val iteratorExp = expression as IteratorExp;
+			if (ELEMENTPRESERVINGITERATORNAMES.contains(iteratorExp.name)) {
+				return getElementTypeInfo(iteratorExp.source);
+			}
+		}
+		else if (expression instanceof OperationCallExp) {
+			val operationCallExp = expression as OperationCallExp;
+			if (GLOBALOPERATIONNAMES.contains(operationCallExp.operationName)) {
+				return getModelElementTypeInfo(operationCallExp.source);
+			}
+			else if (ELEMENTPRESERVINGOPERATIONNAMES.contains(operationCallExp.operationName)) {
+				return getElementTypeInfo(operationCallExp.source);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets the type of the variable which is referred by the passed expression. The type is taken from the
+	 * declaration of the variable, from the source of an iterator or from the context of a helper.
+	 *
+	 * @param variableExp
+	 *            the variable expression
+	 * @return the type info or null if the type can't be resolved
+	 */
+	def private ReturnTypeInfo getVariableTypeInfo(VariableExp variableExp) {
+		var variable = variableExp.referredVariable;
+		if (variable == null) {
+			return null;
+		}
+
+		if (variable.type instanceof OclModelElement) {
+			return getModelElementTypeInfo(variable.type);
+		}
+		else if (variable instanceof Iterator) {
+			var container = variable.eContainer;
+			if (container instanceof IteratorExp) {
+				return getElementTypeInfo((container as IteratorExp).source);
+			}
+		}
+		else if ("self".equals(variable.varName)) {
+			// self is the context element of the helper which contains the expression
+			var container = variableExp.eContainer;
+			while (container != null && !(container instanceof OclFeatureDefinition)) {
+				container = container.eContainer;
+			}
+
+			var featureDefinition = container as OclFeatureDefinition;
+			if (featureDefinition != null && featureDefinition.context_ != null) {
+				return getModelElementTypeInfo(featureDefinition.context_.context_);
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Gets the type of the passed model element.
+	 *
+	 * @param element
+	 *            the OCL type
+	 * @return the type info or null if the element is no model element
+	 */
+	def private ReturnTypeInfo getModelElementTypeInfo(EObject element) {
+		if (!(element instanceof OclModelElement)) {
+			return null;
+		}
+
+		var oclModelElement = element as OclModelElement;
+		if (oclModelElement.model == null) {
+			return null;
+		}
+
+		return new ReturnTypeInfo(oclModelElement.model.name, oclModelElement.name);
+	}
+
+	/**
+	 * Gets the ecore analyzer of the input metamodel of the passed type.
+	 *
+	 * @param typeInfo
+	 *            the type info
+	 * @return the ecore analyzer or null if the type is not a type of an input metamodel
+	 */
+	def private EcoreAnalyzer getEcoreAnalyzer(ReturnTypeInfo typeInfo) {
+		if (typeInfo == null || typeInfo.typePrimitive || typeInfo.typeName == null) {
+			return null;
+		}
+
+		// the names of a return type info are capitalized
+		return inputEcoreAnalyzers.findFirst[StringUtils.capitalize(metamodelName).equals(typeInfo.metamodelName)];
+	}
+
+	/**
+	 * Adds a partition blocker.
+	 *
+	 * @param expression
+	 *            the expression which prevents the partitioning
+	 * @param description
+	 *            the description of the partition blocker
+	 */
+	def private void addPartitionBlocker(OclExpression expression, String description) {
+		if (expression.location != null) {
+			partitionBlockers.add(description + " (" + expression.location + ")");
+		}
+		else {
+			partitionBlockers.add(description);
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.PartitionAnalyzer#isPartitionable
+	 */
+	override Boolean isPartitionable() {
+		return partitionBlockers.isEmpty;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.helper.PartitionAnalyzer#getPartitionBlockers
+	 */
+	override List<String> getPartitionBlockers() {
+		return Collections.unmodifiableList(partitionBlockers);
+	}
+}
@@ -0,0 +1,73 @@
+package edu.kit.ipd.sdq.atl2nmfs.helper.infos
+
+/**
+ * The AllInstancesInfo Class.
+ * This class holds all information which is needed to create the instance index of a type
+ * which is used with the OCL operation "allInstances" in an input model.
+ */
+class AllInstancesInfo {
+	private final ModelInfo inputModelInfo;
+	private final String typeName;
+	private final String transformedTypeName;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param inputModelInfo
+	 *            the info of the input model which contains the instances
+	 * @param typeName
+	 *            the name of the type
+	 * @param transformedTypeName
+	 *            the transformed name of the type
+	 */
+	new(ModelInfo inputModelInfo, String typeName, String transformedTypeName) {
+		this.inputModelInfo = inputModelInfo;
+		this.typeName = typeName;
+		this.transformedTypeName = transformedTypeName;
+	}
+
+	/**
+	 * Gets the input model info.
+	 *
+	 * @return the input model info
+	 */
+	def ModelInfo getInputModelInfo() {
+		return inputModelInfo;
+	}
+
+	/**
+	 * Gets the type name.
+	 *
+	 * @return the type name
+	 */
+	def String getTypeName() {
+		return typeName;
+	}
+
+	/**
+	 * Gets the transformed type name.
+	 *
+	 * @return the transformed type name
+	 */
+	def String getTransformedTypeName() {
+		return transformedTypeName;
+	}
+
+	/**
+	 * Gets the name of the property of the input model container which holds the instance index.
+	 *
+	 * @return the property name
+	 */
+	def String getPropertyName() {
+		return '''AllInstancesOfinputModelInfo.metamodelNametypeNameIninputModelInfo.name''';
+	}
+
+	/**
+	 * Gets the name of the field of the input model container which holds the instance index.
+	 *
+	 * @return the field name
+	 */
+	def String getFieldName() {
+		return '''allInstancesOfinputModelInfo.metamodelNametypeNameIninputModelInfo.name''';
+	}
+}
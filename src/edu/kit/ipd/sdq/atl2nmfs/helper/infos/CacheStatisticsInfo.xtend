@@ -0,0 +1,74 @@
+package edu.kit.ipd.sdq.atl2nmfs.helper.infos
+
+/**
+ * The CacheStatisticsInfo Class.
+ * This class holds the number of hits and misses of a cache since it was cleared the last time.
+ */
+class CacheStatisticsInfo {
+	private final String cacheName;
+	private final long hits;
+	private final long misses;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param cacheName
+	 *            the cache name
+	 * @param hits
+	 *            the number of hits
+	 * @param misses
+	 *            the number of misses
+	 */
+	new(String cacheName, long hits, long misses) {
+		this.cacheName = cacheName;
+		this.hits = hits;
+		this.misses = misses;
+	}
+
+	/**
+	 * Gets the cache name.
+	 *
+	 * @return the cache name
+	 */
+	def String getCacheName() {
+		return cacheName;
+	}
+
+	/**
+	 * Gets the number of hits.
+	 *
+	 * @return the number of hits
+	 */
+	def long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Gets the number of misses.
+	 *
+	 * @return the number of misses
+	 */
+	def long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Gets the hit rate between 0 and 1.
+	 *
+	 * @return the hit rate or 0 if the cache was not used
+	 */
+	def double getHitRate() {
+		if (hits + misses == 0) {
+			return 0;
+		}
+
+		return hits as double / (hits + misses);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString
+	 */
+	override String toString() {
+		return cacheName + ": " + hits + " hits, " + misses + " misses";
+	}
+}
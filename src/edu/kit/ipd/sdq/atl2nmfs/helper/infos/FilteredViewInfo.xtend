@@ -0,0 +1,71 @@
+package edu.kit.ipd.sdq.atl2nmfs.helper.infos
+
+/**
+ * The FilteredViewInfo Class.
+ * This class holds all information which is needed to create the shared view of all instances of a type
+ * in an input model which fulfill the filter of a rule. The view is used by all bindings which call the rule.
+ */
+class FilteredViewInfo {
+	private final AllInstancesInfo allInstancesInfo;
+	private final String filterName;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param allInstancesInfo
+	 *            the all instances info of the filtered type
+	 * @param filterName
+	 *            the name of the filter
+	 */
+	new(AllInstancesInfo allInstancesInfo, String filterName) {
+		this.allInstancesInfo = allInstancesInfo;
+		this.filterName = filterName;
+	}
+
+	/**
+	 * Gets the all instances info of the filtered type.
+	 *
+	 * @return the all instances info
+	 */
+	def AllInstancesInfo getAllInstancesInfo() {
+		return allInstancesInfo;
+	}
+
+	/**
+	 * Gets the filter name.
+	 *
+	 * @return the filter name
+	 */
+	def String getFilterName() {
+		return filterName;
+	}
+
+	/**
+	 * Gets the transformed name of the filtered type.
+	 *
+	 * @return the transformed type name
+	 */
+	def String getTransformedTypeName() {
+		return allInstancesInfo.transformedTypeName;
+	}
+
+	/**
+	 * Gets the name of the property of the input model container which holds the filtered view.
+	 *
+	 * @return the property name
+	 */
+	def String getPropertyName() {
+		var inputModelInfo = allInstancesInfo.inputModelInfo;
+		return '''filterNameInstancesOfinputModelInfo.metamodelNameallInstancesInfo.typeNameIninputModelInfo.name''';
+	}
+
+	/**
+	 * Gets the name of the field of the input model container which holds the filtered view.
+	 *
+	 * @return the field name
+	 */
+	def String getFieldName() {
+		var inputModelInfo = allInstancesInfo.inputModelInfo;
+		return '''filterName.toFirstLowerInstancesOfinputModelInfo.metamodelNameallInstancesInfo.typeNameIninputModelInfo.name''';
+	}
+}
@@ -29,6 +29,7 @@ class HelperInfo {
 	private final HelperType helperType;
 	private final Boolean hasContext;
 	private final String transformedContext;
+	private final Boolean isContextModelElement;
 
 	private final String transformedReturnTypeName;
 	private final String returnTypeName;
@@ -58,10 +59,12 @@ class HelperInfo {
 		this.hasContext = contextDefinition != null;
 		if (hasContext) {
 			this.transformedContext = atl2NmfSHelper.transformExpression(contextDefinition.context_);
+			this.isContextModelElement = contextDefinition.context_ instanceof OclModelElement;
 		} 
 		else {
 			// if the helper has no context declared then it has a global context and must be called with 'thisModule'
 			this.transformedContext = null;
+			this.isContextModelElement = false;
 		}
 
 		this.parameterInfos = new ArrayList<ParameterInfo>();
@@ -206,6 +209,15 @@ class HelperInfo {
 		return transformedContext;
 	}
 
+	/**
+	 * Checks if the context is a model element.
+	 * 
+	 * @return the boolean
+	 */
+	def Boolean isContextModelElement() {
+		return isContextModelElement;
+	}
+
 	/**
 	 * Checks if the return type is primitive.
 	 * 
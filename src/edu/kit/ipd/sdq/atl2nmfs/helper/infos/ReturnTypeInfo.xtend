@@ -87,6 +87,25 @@ class ReturnTypeInfo {
 		this.possibleReturnTypeInfos = null;
 	}
 
+	/**
+	 * Class constructor to create a copy of another instance.
+	 *
+	 * @param returnTypeInfo
+	 *            the return type info which should be copied
+	 */
+	new(ReturnTypeInfo returnTypeInfo) {
+		this.metamodelName = returnTypeInfo.metamodelName;
+		this.typeName = returnTypeInfo.typeName;
+		this.isTypePrimitive = returnTypeInfo.isTypePrimitive;
+		this.lazyRuleInfo = returnTypeInfo.lazyRuleInfo;
+		this.isAmbiguous = returnTypeInfo.isAmbiguous;
+		this.possibleReturnTypeInfos = returnTypeInfo.possibleReturnTypeInfos;
+
+		this.isTypeCollection = returnTypeInfo.isTypeCollection;
+		this.usageOfAnotherOutputPatternElement = returnTypeInfo.usageOfAnotherOutputPatternElement;
+		this.nameOfTheReferencedOutputPatternElement = returnTypeInfo.nameOfTheReferencedOutputPatternElement;
+	}
+
 	/**
 	 * Gets the metamodel name.
 	 * 
@@ -0,0 +1,67 @@
+package edu.kit.ipd.sdq.atl2nmfs.instrumentation
+
+/**
+ * The ExternalProcessInfo Class.
+ * This class holds the duration of an external process (like Ecore2Code) which was required by the generation.
+ */
+class ExternalProcessInfo {
+	private final String processName;
+	private final String argument;
+	private final long durationInNanoseconds;
+	private final Boolean cacheHit;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param processName
+	 *            the name of the process
+	 * @param argument
+	 *            the argument which identifies the run (like the path of the transformed metamodel)
+	 * @param durationInNanoseconds
+	 *            the duration in nanoseconds
+	 * @param cacheHit
+	 *            the boolean indicating if the result was taken from a cache and the process was not started
+	 */
+	new(String processName, String argument, long durationInNanoseconds, Boolean cacheHit) {
+		this.processName = processName;
+		this.argument = argument;
+		this.durationInNanoseconds = durationInNanoseconds;
+		this.cacheHit = cacheHit;
+	}
+
+	/**
+	 * Gets the name of the process.
+	 *
+	 * @return the name of the process
+	 */
+	def String getProcessName() {
+		return processName;
+	}
+
+	/**
+	 * Gets the argument which identifies the run.
+	 *
+	 * @return the argument
+	 */
+	def String getArgument() {
+		return argument;
+	}
+
+	/**
+	 * Gets the duration in nanoseconds.
+	 *
+	 * @return the duration in nanoseconds
+	 */
+	def long getDurationInNanoseconds() {
+		return durationInNanoseconds;
+	}
+
+	/**
+	 * Gets the boolean indicating if the result was taken from a cache.
+	 *
+	 * @return the boolean indicating if the result was taken from a cache
+	 */
+	def Boolean getCacheHit() {
+		return cacheHit;
+	}
+}
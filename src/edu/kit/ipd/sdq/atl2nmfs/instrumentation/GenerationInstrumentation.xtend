@@ -0,0 +1,111 @@
+package edu.kit.ipd.sdq.atl2nmfs.instrumentation
+
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo
+import java.util.List
+
+/**
+ * The GenerationInstrumentation Interface.
+ * Collects the measurements of a generation. All methods can be called concurrently.
+ */
+interface GenerationInstrumentation {
+
+	/**
+	 * Starts a new generation. All measurements of the previous generation are discarded.
+	 * 
+	 * @param transformationName
+	 *            the transformation name
+	 */
+	def void startGeneration(String transformationName);
+
+	/**
+	 * Starts a phase. The phase must be finished by the same thread.
+	 * 
+	 * @param phaseName
+	 *            the phase name
+	 * @return the phase timer which must be passed to finishPhase
+	 */
+	def PhaseTimer startPhase(String phaseName);
+
+	/**
+	 * Finishes a phase and notifies the listeners.
+	 * 
+	 * @param phaseTimer
+	 *            the phase timer which was returned by startPhase
+	 * @return the phase info
+	 */
+	def PhaseInfo finishPhase(PhaseTimer phaseTimer);
+
+	/**
+	 * Records the transformation time of a rule. The times of rules with the same name are summed up.
+	 * 
+	 * @param ruleName
+	 *            the rule name
+	 * @param durationInNanoseconds
+	 *            the duration in nanoseconds
+	 */
+	def void recordRuleTransformation(String ruleName, long durationInNanoseconds);
+
+	/**
+	 * Records the transformation time of a helper. The times of helpers with the same name are summed up.
+	 * 
+	 * @param helperName
+	 *            the helper name
+	 * @param durationInNanoseconds
+	 *            the duration in nanoseconds
+	 */
+	def void recordHelperTransformation(String helperName, long durationInNanoseconds);
+
+	/**
+	 * Increments a counter.
+	 * 
+	 * @param counterName
+	 *            the counter name
+	 * @param value
+	 *            the value which is added to the counter
+	 */
+	def void incrementCounter(String counterName, long value);
+
+	/**
+	 * Records a rewrite of the OCL optimizer. The rewrites are counted for every rule or helper.
+	 * 
+	 * @param ownerName
+	 *            the name of the rule or helper which contains the rewritten expression
+	 * @param rewriteName
+	 *            the rewrite name
+	 */
+	def void recordOclRewrite(String ownerName, String rewriteName);
+
+	/**
+	 * Records the run of an external process.
+	 * 
+	 * @param externalProcessInfo
+	 *            the external process info
+	 */
+	def void recordExternalProcess(ExternalProcessInfo externalProcessInfo);
+
+	/**
+	 * Finishes the generation, creates the report and notifies the listeners.
+	 * 
+	 * @param cacheStatistics
+	 *            the statistics of the caches which were used by the generation
+	 * @return the generation report
+	 */
+	def GenerationReport finishGeneration(List<CacheStatisticsInfo> cacheStatistics);
+
+	/**
+	 * Adds a listener.
+	 * 
+	 * @param listener
+	 *            the listener
+	 */
+	def void addListener(GenerationListener listener);
+
+	/**
+	 * Removes a listener.
+	 * 
+	 * @param listener
+	 *            the listener
+	 */
+	def void removeListener(GenerationListener listener);
+
+}
@@ -0,0 +1,170 @@
+package edu.kit.ipd.sdq.atl2nmfs.instrumentation
+
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo
+import java.util.ArrayList
+import java.util.LinkedHashMap
+import java.util.List
+import java.util.Map
+import java.util.TreeMap
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * The GenerationInstrumentationImpl Class.
+ */
+class GenerationInstrumentationImpl implements GenerationInstrumentation {
+	private final List<GenerationListener> listeners;
+
+	private String transformationName;
+	private long startTime;
+	private List<PhaseInfo> phaseInfos;
+	private Map<String, Long> ruleDurations;
+	private Map<String, Long> helperDurations;
+	private Map<String, Long> counters;
+	private Map<String, Map<String, Long>> oclRewrites;
+	private List<ExternalProcessInfo> externalProcessInfos;
+
+	/**
+	 * Class constructor.
+	 */
+	new() {
+		this.listeners = new CopyOnWriteArrayList<GenerationListener>();
+		startGeneration(null);
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation#startGeneration
+	 */
+	override synchronized void startGeneration(String transformationName) {
+		this.transformationName = transformationName;
+		this.startTime = System.nanoTime();
+		this.phaseInfos = new ArrayList<PhaseInfo>();
+		this.ruleDurations = new LinkedHashMap<String, Long>();
+		this.helperDurations = new LinkedHashMap<String, Long>();
+		this.counters = new TreeMap<String, Long>();
+		this.oclRewrites = new TreeMap<String, Map<String, Long>>();
+		this.externalProcessInfos = new ArrayList<ExternalProcessInfo>();
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation#startPhase
+	 */
+	override PhaseTimer startPhase(String phaseName) {
+		return new PhaseTimer(phaseName);
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation#finishPhase
+	 */
+	override PhaseInfo finishPhase(PhaseTimer phaseTimer) {
+		var phaseInfo = phaseTimer.stop();
+
+		var String currentTransformationName;
+		synchronized (this) {
+			phaseInfos.add(phaseInfo);
+			currentTransformationName = transformationName;
+		}
+
+		// the listeners are notified outside of the lock since they can take some time
+		for (listener : listeners) {
+			listener.phaseFinished(currentTransformationName, phaseInfo);
+		}
+
+		return phaseInfo;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation#recordRuleTransformation
+	 */
+	override synchronized void recordRuleTransformation(String ruleName, long durationInNanoseconds) {
+		add(ruleDurations, ruleName, durationInNanoseconds);
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation#recordHelperTransformation
+	 */
+	override synchronized void recordHelperTransformation(String helperName, long durationInNanoseconds) {
+		add(helperDurations, helperName, durationInNanoseconds);
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation#incrementCounter
+	 */
+	override synchronized void incrementCounter(String counterName, long value) {
+		add(counters, counterName, value);
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation#recordOclRewrite
+	 */
+	override synchronized void recordOclRewrite(String ownerName, String rewriteName) {
+		var rewrites = oclRewrites.get(ownerName);
+		if (rewrites == null) {
+			rewrites = new TreeMap<String, Long>();
+			oclRewrites.put(ownerName, rewrites);
+		}
+
+		add(rewrites, rewriteName, 1);
+		add(counters, "oclRewrites", 1);
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation#recordExternalProcess
+	 */
+	override synchronized void recordExternalProcess(ExternalProcessInfo externalProcessInfo) {
+		externalProcessInfos.add(externalProcessInfo);
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation#finishGeneration
+	 */
+	override GenerationReport finishGeneration(List<CacheStatisticsInfo> cacheStatistics) {
+		var GenerationReport generationReport;
+		synchronized (this) {
+			var copiedOclRewrites = new TreeMap<String, Map<String, Long>>();
+			for (entry : oclRewrites.entrySet) {
+				copiedOclRewrites.put(entry.key, new TreeMap<String, Long>(entry.value));
+			}
+
+			generationReport = new GenerationReport(transformationName, System.nanoTime() - startTime,
+				new ArrayList<PhaseInfo>(phaseInfos), new LinkedHashMap<String, Long>(ruleDurations),
+				new LinkedHashMap<String, Long>(helperDurations), new TreeMap<String, Long>(counters), copiedOclRewrites,
+				new ArrayList<ExternalProcessInfo>(externalProcessInfos),
+				new ArrayList<CacheStatisticsInfo>(cacheStatistics));
+		}
+
+		for (listener : listeners) {
+			listener.generationFinished(generationReport);
+		}
+
+		return generationReport;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation#addListener
+	 */
+	override void addListener(GenerationListener listener) {
+		listeners.add(listener);
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation#removeListener
+	 */
+	override void removeListener(GenerationListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Adds the passed value to the value of the key in the map.
+	 * 
+	 * @param map
+	 *            the map
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value which is added
+	 */
+	def private static void add(Map<String, Long> map, String key, long value) {
+		var currentValue = map.get(key);
+		map.put(key, if (currentValue == null) value else currentValue + value);
+	}
+}
@@ -0,0 +1,27 @@
+package edu.kit.ipd.sdq.atl2nmfs.instrumentation
+
+/**
+ * The GenerationListener Interface.
+ * A generation listener is notified about the measurements of a generation, e.g. to feed build dashboards.
+ */
+interface GenerationListener {
+
+	/**
+	 * Is called when a phase of the generation was finished. It is called by the thread which executed the phase.
+	 * 
+	 * @param transformationName
+	 *            the name of the transformation which is generated
+	 * @param phaseInfo
+	 *            the phase info
+	 */
+	def void phaseFinished(String transformationName, PhaseInfo phaseInfo);
+
+	/**
+	 * Is called when the generation was finished.
+	 * 
+	 * @param generationReport
+	 *            the generation report
+	 */
+	def void generationFinished(GenerationReport generationReport);
+
+}
@@ -0,0 +1,150 @@
+package edu.kit.ipd.sdq.atl2nmfs.instrumentation
+
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo
+import java.util.List
+import java.util.Map
+
+/**
+ * The GenerationReport Class.
+ * This class holds all measurements of one generation of an ATL transformation.
+ */
+class GenerationReport {
+	private final String transformationName;
+	private final long durationInNanoseconds;
+	private final List<PhaseInfo> phaseInfos;
+	private final Map<String, Long> ruleDurations;
+	private final Map<String, Long> helperDurations;
+	private final Map<String, Long> counters;
+	private final Map<String, Map<String, Long>> oclRewrites;
+	private final List<ExternalProcessInfo> externalProcessInfos;
+	private final List<CacheStatisticsInfo> cacheStatistics;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param transformationName
+	 *            the transformation name
+	 * @param durationInNanoseconds
+	 *            the wall time of the whole generation in nanoseconds
+	 * @param phaseInfos
+	 *            the infos of the finished phases in the order they were finished
+	 * @param ruleDurations
+	 *            the transformation time in nanoseconds of every rule
+	 * @param helperDurations
+	 *            the transformation time in nanoseconds of every helper
+	 * @param counters
+	 *            the counters
+	 * @param oclRewrites
+	 *            the number of every applied OCL rewrite by the name of the rule or helper
+	 * @param externalProcessInfos
+	 *            the infos of the external processes
+	 * @param cacheStatistics
+	 *            the cache statistics
+	 */
+	new(String transformationName, long durationInNanoseconds, List<PhaseInfo> phaseInfos,
+		Map<String, Long> ruleDurations, Map<String, Long> helperDurations, Map<String, Long> counters,
+		Map<String, Map<String, Long>> oclRewrites, List<ExternalProcessInfo> externalProcessInfos, List<CacheStatisticsInfo> cacheStatistics) {
+		this.transformationName = transformationName;
+		this.durationInNanoseconds = durationInNanoseconds;
+		this.phaseInfos = phaseInfos;
+		this.ruleDurations = ruleDurations;
+		this.helperDurations = helperDurations;
+		this.counters = counters;
+		this.oclRewrites = oclRewrites;
+		this.externalProcessInfos = externalProcessInfos;
+		this.cacheStatistics = cacheStatistics;
+	}
+
+	/**
+	 * Gets the transformation name.
+	 *
+	 * @return the transformation name
+	 */
+	def String getTransformationName() {
+		return transformationName;
+	}
+
+	/**
+	 * Gets the wall time of the whole generation in nanoseconds.
+	 *
+	 * @return the wall time of the whole generation in nanoseconds
+	 */
+	def long getDurationInNanoseconds() {
+		return durationInNanoseconds;
+	}
+
+	/**
+	 * Gets the infos of the finished phases in the order they were finished.
+	 *
+	 * @return the phase infos
+	 */
+	def List<PhaseInfo> getPhaseInfos() {
+		return phaseInfos;
+	}
+
+	/**
+	 * Gets the transformation time in nanoseconds of every rule.
+	 *
+	 * @return the rule durations
+	 */
+	def Map<String, Long> getRuleDurations() {
+		return ruleDurations;
+	}
+
+	/**
+	 * Gets the transformation time in nanoseconds of every helper.
+	 *
+	 * @return the helper durations
+	 */
+	def Map<String, Long> getHelperDurations() {
+		return helperDurations;
+	}
+
+	/**
+	 * Gets the counters (like the number of rules, bindings or generated lines).
+	 *
+	 * @return the counters
+	 */
+	def Map<String, Long> getCounters() {
+		return counters;
+	}
+
+	/**
+	 * Gets the value of a counter.
+	 *
+	 * @param counterName
+	 *            the counter name
+	 * @return the value of the counter or 0 if it was never incremented
+	 */
+	def long getCounter(String counterName) {
+		var value = counters.get(counterName);
+		return if (value == null) 0 else value;
+	}
+
+	/**
+	 * Gets the number of every applied OCL rewrite by the name of the rule or helper which contains the rewritten expression.
+	 *
+	 * @return the OCL rewrites
+	 */
+	def Map<String, Map<String, Long>> getOclRewrites() {
+		return oclRewrites;
+	}
+
+	/**
+	 * Gets the infos of the external processes.
+	 *
+	 * @return the external process infos
+	 */
+	def List<ExternalProcessInfo> getExternalProcessInfos() {
+		return externalProcessInfos;
+	}
+
+	/**
+	 * Gets the cache statistics.
+	 *
+	 * @return the cache statistics
+	 */
+	def List<CacheStatisticsInfo> getCacheStatistics() {
+		return cacheStatistics;
+	}
+}
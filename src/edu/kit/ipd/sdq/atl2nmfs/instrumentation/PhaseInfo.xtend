@@ -0,0 +1,61 @@
+package edu.kit.ipd.sdq.atl2nmfs.instrumentation
+
+/**
+ * The PhaseInfo Class.
+ * This class holds the measured wall time and allocation of a finished phase of the generation.
+ */
+class PhaseInfo {
+	private final String name;
+	private final long durationInNanoseconds;
+	private final long allocatedBytes;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param name
+	 *            the name of the phase
+	 * @param durationInNanoseconds
+	 *            the wall time of the phase in nanoseconds
+	 * @param allocatedBytes
+	 *            the bytes which were allocated by the thread of the phase or -1 if it is not supported by the JVM
+	 */
+	new(String name, long durationInNanoseconds, long allocatedBytes) {
+		this.name = name;
+		this.durationInNanoseconds = durationInNanoseconds;
+		this.allocatedBytes = allocatedBytes;
+	}
+
+	/**
+	 * Gets the name of the phase.
+	 *
+	 * @return the name of the phase
+	 */
+	def String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the wall time of the phase in nanoseconds.
+	 *
+	 * @return the wall time of the phase in nanoseconds
+	 */
+	def long getDurationInNanoseconds() {
+		return durationInNanoseconds;
+	}
+
+	/**
+	 * Gets the bytes which were allocated by the thread of the phase.
+	 *
+	 * @return the allocated bytes or -1 if it is not supported by the JVM
+	 */
+	def long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString
+	 */
+	override String toString() {
+		return name + ": " + durationInNanoseconds / 1000000 + " ms, " + allocatedBytes + " bytes";
+	}
+}
@@ -0,0 +1,68 @@
+package edu.kit.ipd.sdq.atl2nmfs.instrumentation
+
+import java.lang.management.ManagementFactory
+
+/**
+ * The PhaseTimer Class.
+ * This class holds the start values of a running phase. A phase must be finished by the thread which started it,
+ * since the allocation is measured for the current thread only.
+ */
+class PhaseTimer {
+	private final String name;
+	private final long startTime;
+	private final long startAllocatedBytes;
+
+	/**
+	 * Class constructor which starts the timer.
+	 *
+	 * @param name
+	 *            the name of the phase
+	 */
+	new(String name) {
+		this.name = name;
+		this.startAllocatedBytes = getCurrentThreadAllocatedBytes();
+		this.startTime = System.nanoTime();
+	}
+
+	/**
+	 * Gets the name of the phase.
+	 *
+	 * @return the name of the phase
+	 */
+	def String getName() {
+		return name;
+	}
+
+	/**
+	 * Stops the timer.
+	 *
+	 * @return the phase info with the measured values
+	 */
+	def PhaseInfo stop() {
+		var duration = System.nanoTime() - startTime;
+		var allocatedBytes = getCurrentThreadAllocatedBytes();
+		if (allocatedBytes >= 0 && startAllocatedBytes >= 0) {
+			allocatedBytes = allocatedBytes - startAllocatedBytes;
+		} else {
+			allocatedBytes = -1;
+		}
+
+		return new PhaseInfo(name, duration, allocatedBytes);
+	}
+
+	/**
+	 * Gets the bytes which were allocated by the current thread so far.
+	 *
+	 * @return the allocated bytes or -1 if it is not supported by the JVM
+	 */
+	def private static long getCurrentThreadAllocatedBytes() {
+		val threadMXBean = ManagementFactory.getThreadMXBean();
+		if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+			if (threadMXBean.isThreadAllocatedMemorySupported && threadMXBean.isThreadAllocatedMemoryEnabled) {
+				return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().id);
+			}
+		}
+
+		return -1;
+	}
+}
@@ -0,0 +1,165 @@
+package edu.kit.ipd.sdq.atl2nmfs.instrumentation
+
+import java.util.Map
+
+/**
+ * The RuntimeMetrics Class.
+ * This class holds the measurements which a generated program wrote with the option --metrics.
+ * The phase times of a batch are summed up over all model sets, the throughput is based on the wall time of the
+ * synchronization of all model sets.
+ */
+class RuntimeMetrics {
+	private final long modelSets;
+	private final long inputElements;
+	private final double loadMilliseconds;
+	private final double synchronizeMilliseconds;
+	private final double synchronizeWallMilliseconds;
+	private final double saveMilliseconds;
+	private final double totalMilliseconds;
+	private final double elementsPerSecond;
+	private final long peakManagedMemoryBytes;
+	private final long peakWorkingSetBytes;
+	private final Map<String, Long> ruleInstantiations;
+
+	/**
+	 * Class constructor.
+	 *
+	 * @param modelSets
+	 *            the number of synchronized model sets
+	 * @param inputElements
+	 *            the number of elements of all input models
+	 * @param loadMilliseconds
+	 *            the time to load the models in milliseconds
+	 * @param synchronizeMilliseconds
+	 *            the time of the initial synchronization in milliseconds, summed up over all model sets
+	 * @param synchronizeWallMilliseconds
+	 *            the wall time in which at least one model set was synchronized in milliseconds
+	 * @param saveMilliseconds
+	 *            the time to save the output models in milliseconds
+	 * @param totalMilliseconds
+	 *            the wall time of the program in milliseconds
+	 * @param elementsPerSecond
+	 *            the number of input elements which were synchronized per second of synchronization wall time
+	 * @param peakManagedMemoryBytes
+	 *            the peak of the sampled managed memory in bytes
+	 * @param peakWorkingSetBytes
+	 *            the peak working set of the process in bytes
+	 * @param ruleInstantiations
+	 *            the number of instantiated output elements by rule name
+	 */
+	new(long modelSets, long inputElements, double loadMilliseconds, double synchronizeMilliseconds,
+		double synchronizeWallMilliseconds, double saveMilliseconds, double totalMilliseconds, double elementsPerSecond, long peakManagedMemoryBytes,
+		long peakWorkingSetBytes, Map<String, Long> ruleInstantiations) {
+		this.modelSets = modelSets;
+		this.inputElements = inputElements;
+		this.loadMilliseconds = loadMilliseconds;
+		this.synchronizeMilliseconds = synchronizeMilliseconds;
+		this.synchronizeWallMilliseconds = synchronizeWallMilliseconds;
+		this.saveMilliseconds = saveMilliseconds;
+		this.totalMilliseconds = totalMilliseconds;
+		this.elementsPerSecond = elementsPerSecond;
+		this.peakManagedMemoryBytes = peakManagedMemoryBytes;
+		this.peakWorkingSetBytes = peakWorkingSetBytes;
+		this.ruleInstantiations = ruleInstantiations;
+	}
+
+	/**
+	 * Gets the number of synchronized model sets.
+	 *
+	 * @return the number of model sets
+	 */
+	def long getModelSets() {
+		return modelSets;
+	}
+
+	/**
+	 * Gets the number of elements of all input models.
+	 *
+	 * @return the number of input elements
+	 */
+	def long getInputElements() {
+		return inputElements;
+	}
+
+	/**
+	 * Gets the time to load the models in milliseconds.
+	 *
+	 * @return the load time in milliseconds
+	 */
+	def double getLoadMilliseconds() {
+		return loadMilliseconds;
+	}
+
+	/**
+	 * Gets the time of the initial synchronization in milliseconds, summed up over all model sets.
+	 *
+	 * @return the synchronization time in milliseconds
+	 */
+	def double getSynchronizeMilliseconds() {
+		return synchronizeMilliseconds;
+	}
+
+	/**
+	 * Gets the wall time in which at least one model set was synchronized in milliseconds.
+	 *
+	 * @return the synchronization wall time in milliseconds
+	 */
+	def double getSynchronizeWallMilliseconds() {
+		return synchronizeWallMilliseconds;
+	}
+
+	/**
+	 * Gets the time to save the output models in milliseconds.
+	 *
+	 * @return the save time in milliseconds
+	 */
+	def double getSaveMilliseconds() {
+		return saveMilliseconds;
+	}
+
+	/**
+	 * Gets the wall time of the program in milliseconds.
+	 *
+	 * @return the total time in milliseconds
+	 */
+	def double getTotalMilliseconds() {
+		return totalMilliseconds;
+	}
+
+	/**
+	 * Gets the number of input elements which were synchronized per second of synchronization wall time.
+	 *
+	 * @return the elements per second
+	 */
+	def double getElementsPerSecond() {
+		return elementsPerSecond;
+	}
+
+	/**
+	 * Gets the peak of the sampled managed memory in bytes.
+	 *
+	 * @return the peak managed memory in bytes
+	 */
+	def long getPeakManagedMemoryBytes() {
+		return peakManagedMemoryBytes;
+	}
+
+	/**
+	 * Gets the peak working set of the process in bytes.
+	 *
+	 * @return the peak working set in bytes
+	 */
+	def long getPeakWorkingSetBytes() {
+		return peakWorkingSetBytes;
+	}
+
+	/**
+	 * Gets the number of instantiated output elements by rule name. It is empty if the rule instantiations
+	 * were not counted.
+	 *
+	 * @return the rule instantiations
+	 */
+	def Map<String, Long> getRuleInstantiations() {
+		return ruleInstantiations;
+	}
+}
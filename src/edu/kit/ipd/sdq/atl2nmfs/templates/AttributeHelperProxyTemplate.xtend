@@ -32,5 +32,27 @@ class AttributeHelperProxyTemplate {
 
 		return attributeHelperProxyTemplate;
 	}
+
+	/**
+	 * Creates the code of the observable proxy of a memoized attribute helper.
+	 * 
+	 * @param helperInfo
+	 *            the helper info
+	 * @param helperClassName
+	 *            the name of the helper class which contains the memoized values
+	 * @return the created code as string
+	 */
+	def static String createMemoizedCode(HelperInfo helperInfo, String helperClassName) {
+		var uncapitalizedName = WordUtils.uncapitalize(helperInfo.getTransformedName);
+
+		// all observers of the same context element share one incremental value
+		var attributeHelperProxyTemplate = '''
+			public static INotifyValue<helperInfo.getTransformedReturnTypeName> helperInfo.getTransformedName(INotifyValue<helperInfo.getTransformedContext> self)
+			{
+			    return helperClassName.uncapitalizedNameValues.Observe(self);
+			}
+		'''
+
+		return attributeHelperProxyTemplate;
+	}
 }
-		
\ No newline at end of file
@@ -1,6 +1,7 @@
 package edu.kit.ipd.sdq.atl2nmfs.templates
 
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.HelperInfo
+import org.apache.commons.lang.WordUtils
 
 /**
  * The AttributeHelperTemplate Class.
@@ -28,4 +29,34 @@ class AttributeHelperTemplate {
 
 		return attributeHelperTemplate;
 	}
+
+	/**
+	 * Creates the code of an attribute helper which is computed only once for each context element.
+	 * The helper must have a model element as context.
+	 * 
+	 * @param helperInfo
+	 *            the helper info
+	 * @param memoizedValueClassName
+	 *            the memoized value class name
+	 * @return the created code as string
+	 */
+	def static String createMemoizedCode(HelperInfo helperInfo, String memoizedValueClassName) {
+		var uncapitalizedName = WordUtils.uncapitalize(helperInfo.getTransformedName);
+
+		// the memoized value is shared with the observable proxy (which can access it since it is a nested class)
+		// it is important that the parameter has the name self because this name is used in the expression
+		var attributeHelperTemplate = '''
+			private static readonly memoizedValueClassName<helperInfo.getTransformedContext, helperInfo.getTransformedReturnTypeName> uncapitalizedNameValues = new memoizedValueClassName<helperInfo.getTransformedContext, helperInfo.getTransformedReturnTypeName>(
+			    self => helperInfo.getTransformedExpression);
+			
+			[ObservableProxy(typeof(Proxies), "helperInfo.getTransformedName")]
+			public static helperInfo.getTransformedReturnTypeName helperInfo.getTransformedName(this helperInfo.getTransformedContext self)
+			{
+				//attribute helper, computed once for each context element and updated when its dependencies change
+				return uncapitalizedNameValues.GetValue(self);
+			}
+		'''
+
+		return attributeHelperTemplate;
+	}
 }
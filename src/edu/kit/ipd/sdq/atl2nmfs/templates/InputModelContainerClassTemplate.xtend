@@ -2,6 +2,8 @@ package edu.kit.ipd.sdq.atl2nmfs.templates
 
 import java.util.List
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.ModelInfo
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.AllInstancesInfo
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.FilteredViewInfo
 
 /**
  * The InputModelContainerClassTemplate Class.
@@ -13,15 +15,32 @@ class InputModelContainerClassTemplate {
 	 * 
 	 * @param namespace
 	 *            the namespace
-	 * @param inputModelInfos
-	 *            the input model infos
 	 * @param className
 	 *            the class name
+	 * @param inputModelInfos
+	 *            the input model infos
+	 * @param allInstancesInfos
+	 *            the all instances infos of the types which are used with the OCL operation "allInstances"
+	 *            or by a filtered view
+	 * @param filteredViewInfos
+	 *            the filtered view infos of the rule filters which are shared by the bindings
+	 * @param partitioned
+	 *            the value indicating if the elements of the input models can be restricted to a partition
 	 * @return the created code as string
 	 */
 	def static String createCode(String namespace, String className,
-		List<ModelInfo> inputModelInfos) {
+		List<ModelInfo> inputModelInfos, List<AllInstancesInfo> allInstancesInfos,
+		List<FilteredViewInfo> filteredViewInfos, Boolean partitioned) {
+		// an instance index is created for every type which is used with the OCL operation "allInstances".
+		// It is created on the first access and shared by all expressions, afterwards NMF keeps it up to date
+		// when elements are added to or removed from the input model instead of searching the whole model again.
+		// The filtered views are based on these indices, so every filter is evaluated only once per element.
+		// If the input models are partitioned the main rule only uses the elements of the partition of the container,
+		// by default these are all descendants of the input model. The elements of a partition can not be observed,
+		// therefore the indices always use all descendants of the input model
 		var inputModelContainerTemplate = '''
+			using NMF.Expressions;
+			using NMF.Expressions.Linq;
 			using NMF.Models;
 			
 			namespace namespace
@@ -32,12 +51,51 @@ class InputModelContainerClassTemplate {
 			    	{
 						FOR inputModelInfo : inputModelInfos
 						this.inputModelInfo.name = inputModelInfo.name;
+						IF partitioned
+						this.inputModelInfo.nameElements = inputModelInfo.name.Descendants();
+						ENDIF
 						ENDFOR
 					}
 					
 					FOR inputModelInfo : inputModelInfos
 					public Model inputModelInfo.name { get; private set; }
 					
+					IF partitioned
+					public IEnumerableExpression<IModelElement> inputModelInfo.nameElements { get; set; }
+					
+					ENDIF
+					ENDFOR
+					FOR allInstancesInfo : allInstancesInfos
+					private INotifyEnumerable<allInstancesInfo.transformedTypeName> allInstancesInfo.fieldName;
+					
+					public INotifyEnumerable<allInstancesInfo.transformedTypeName> allInstancesInfo.propertyName
+					{
+						get
+						{
+							if (allInstancesInfo.fieldName == null)
+							{
+								allInstancesInfo.fieldName = allInstancesInfo.inputModelInfo.name.Descendants().OfType<allInstancesInfo.transformedTypeName>().AsNotifiable();
+							}
+							return allInstancesInfo.fieldName;
+						}
+					}
+					
+					ENDFOR
+					FOR filteredViewInfo : filteredViewInfos
+					private INotifyEnumerable<filteredViewInfo.transformedTypeName> filteredViewInfo.fieldName;
+					
+					public INotifyEnumerable<filteredViewInfo.transformedTypeName> filteredViewInfo.propertyName
+					{
+						get
+						{
+							if (filteredViewInfo.fieldName == null)
+							{
+								filteredViewInfo.fieldName = filteredViewInfo.allInstancesInfo.propertyName.Where(x => x.filteredViewInfo.filterName());
+							}
+							return filteredViewInfo.fieldName;
+						}
+					}
+					
 					ENDFOR
 				}
 			}
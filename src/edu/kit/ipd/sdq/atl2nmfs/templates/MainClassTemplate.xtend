@@ -27,49 +27,191 @@ class MainClassTemplate {
 	 *            the input model infos
 	 * @param outputModelInfos
 	 *            the output model infos
+	 * @param runtimeMetricsClassName
+	 *            the runtime metrics class name or null if the load, synchronization and save times are not measured
+	 * @param modelPartitionClassName
+	 *            the model partition class name or null if the input models can not be partitioned
+	 * @param compressedModels
+	 *            the value indicating if models with the extension .xmiz are read and written as gzip compressed XMI
 	 * @return the created code as string
 	 */
 	def static String createCode(String transformationName, String mainClassName, String mainRuleName,
 		String inputModelContainerClassName, String outputModelContainerClassName, String namespace,
-		List<ModelInfo> inputModelInfos, List<ModelInfo> outputModelInfos) {
+		List<ModelInfo> inputModelInfos, List<ModelInfo> outputModelInfos, String runtimeMetricsClassName,
+		String modelPartitionClassName, Boolean compressedModels) {
+			var runtimeMetrics = runtimeMetricsClassName != null;
+			var partitioned = modelPartitionClassName != null;
+
 			// remark: we have to use AppDomain.CurrentDomain.BaseDirectory instead of Environment.CurrentDirectory 
 			// because if we run the program from a JUnit test the Environment.CurrentDirectory variable would 
 			// point to the directory where the JUnit test was started not the C# program
 			// the InputModelContainer property is needed to transform the OCL "allInstances" Operation
 			// TODO: only create the InputModelContainer property when the OCL "allInstances" Operation is used in the transformation
+			// the program runs a single synchronization by default. With the options --watch and --pipe the synchronization
+			// context is kept alive and change batches are applied to the models, NMF propagates them incrementally and only
+			// the changed models are saved afterwards. A change batch is a ModelChangeCollection (see NMF.Models.Evolution
+			// and the ModelChangeRecorder) which is serialized with the NMF XmlSerializer.
+			// With the option --batch the model sets of a manifest are synchronized concurrently by one transformation instance,
+			// so that the process startup and the JIT compilation are only paid once for all model sets.
+			// If the runtime metrics are generated the option --metrics writes them as JSON file after the synchronization.
+			// If the input models can be partitioned the initial synchronization of a single run is split into partitions
+			// of root elements which are synchronized concurrently with the degree of the option --parallelism. The number of
+			// partitions is fixed (option --partitions), so the order of the output root elements does not depend on the host.
+			// All models are loaded and saved by the LoadModel and SaveModel methods. If the compressed models are supported
+			// a model with the extension .xmiz is a gzip compressed XMI document, which is decompressed while it is parsed
+			// and compressed while it is serialized. The output models are serialized directly into the file streams
 			var mainClassTemplate = '''
 				using System;
+				using System.Collections.Generic;
+				using System.IO;
+				IF compressedModels
+				using System.IO.Compression;
+				ENDIF
+				using System.IO.Pipes;
+				using System.Linq;
+				using System.Threading;
+				using System.Threading.Tasks;
 				using NMF.Models;
+				using NMF.Models.Evolution;
+				using NMF.Models.Repository;
+				using NMF.Serialization;
 				using NMF.Synchronizations;
 				using NMF.Transformations;
-				using NMF.Models.Repository;
-				using System.IO;
 				
 				namespace namespace
 				{
 				    class mainClassName
 				    {
-				        static void Main(string[] args)
+				        private const int WatchPollingInterval = 500;
+				        private const string ChangeBatchSearchPattern = "*.xml";
+				        private const string FailedChangeBatchExtension = ".failed";
+				        private const string PipeExitCommand = "exit";
+				        private const char ManifestSeparator = ';';
+				        private const string ManifestCommentPrefix = "#";
+				        IF partitioned
+				        private const int DefaultPartitionCount = 8;
+				        ENDIF
+				        IF compressedModels
+				        private const string CompressedModelExtension = ".xmiz";
+				        private const int ModelStreamBufferSize = 1 << 20;
+				        ENDIF
+				
+				        private static volatile bool stopRequested;
+				        IF runtimeMetrics
+				        private static string metricsPath;
+				        ENDIF
+				
+				        static int Main(string[] args)
 				        {
-				            if (args.Length != inputModelInfos.size + outputModelInfos.size)
+				            var direction = SynchronizationDirection.LeftToRight;
+				            var changePropagation = ChangePropagationMode.OneWay;
+				            string watchDirectory = null;
+				            string pipeName = null;
+				            string batchManifestPath = null;
+				            var parallelism = Environment.ProcessorCount;
+				            IF partitioned
+				            var partitionCount = DefaultPartitionCount;
+				            ENDIF
+				            var modelPaths = new List<string>();
+				
+				            try
+				            {
+				                for (int i = 0; i < args.Length; i++)
+				                {
+				                    switch (args[i])
+				                    {
+				                        case "--direction":
+				                            direction = (SynchronizationDirection)Enum.Parse(typeof(SynchronizationDirection), GetOptionValue(args, ref i), true);
+				                            break;
+				                        case "--propagation":
+				                            changePropagation = (ChangePropagationMode)Enum.Parse(typeof(ChangePropagationMode), GetOptionValue(args, ref i), true);
+				                            break;
+				                        case "--watch":
+				                            watchDirectory = Path.Combine(AppDomain.CurrentDomain.BaseDirectory, GetOptionValue(args, ref i));
+				                            break;
+				                        case "--pipe":
+				                            pipeName = GetOptionValue(args, ref i);
+				                            break;
+				                        case "--batch":
+				                            batchManifestPath = Path.Combine(AppDomain.CurrentDomain.BaseDirectory, GetOptionValue(args, ref i));
+				                            break;
+				                        case "--parallelism":
+				                            parallelism = int.Parse(GetOptionValue(args, ref i));
+				                            break;
+				                        IF partitioned
+				                        case "--partitions":
+				                            partitionCount = int.Parse(GetOptionValue(args, ref i));
+				                            break;
+				                        ENDIF
+				                        IF runtimeMetrics
+				                        case "--metrics":
+				                            metricsPath = Path.Combine(AppDomain.CurrentDomain.BaseDirectory, GetOptionValue(args, ref i));
+				                            break;
+				                        ENDIF
+				                        default:
+				                            modelPaths.Add(args[i]);
+				                            break;
+				                    }
+				                }
+				            }
+				            catch (Exception exception) when (exception is ArgumentException || exception is FormatException || exception is OverflowException)
+				            {
+				                // an option without a value or with a malformed value
+				                Console.WriteLine("Wrong usage! " + exception.Message);
+				                PrintUsage();
+				                return 1;
+				            }
+				
+				            var isLongRunning = watchDirectory != null || pipeName != null;
+				            if (batchManifestPath != null)
+				            {
+				                if (modelPaths.Count != 0 || isLongRunning || parallelism < 1)
+				                {
+				                    Console.WriteLine("The option --batch can not be combined with model paths, --watch or --pipe and requires a parallelism of at least 1.");
+				                    return 1;
+				                }
+				                
+				                try
+				                {
+				                    return RunBatch(batchManifestPath, parallelism, direction);
+				                }
+				                catch (Exception exception) when (exception is InvalidDataException || exception is IOException)
+				                {
+				                    // the manifest could not be read, the failures of single model sets are handled by RunBatch
+				                    Console.WriteLine("The batch manifest could not be read: " + exception.Message);
+				                    return 1;
+				                }
+				            }
+				
+				            if (modelPaths.Count != inputModelInfos.size + outputModelInfos.size)
 				            {
 				                Console.WriteLine("Wrong usage!");
-				                Console.WriteLine(inputModelInfos.size + " input model paths and " + outputModelInfos.size + " output model paths are expected.");
+				                PrintUsage();
+				                return 1;
+				            }
+				
+				            if (isLongRunning && changePropagation == ChangePropagationMode.None)
+				            {
+				                Console.WriteLine("The options --watch and --pipe require a change propagation mode other than None.");
+				                return 1;
 				            }
 				        	
 				        	//absolute path is needed for the execution from a junit test
 							FOR i : 1 .. inputModelInfos.size
-							var absolutePathInputModeli = Path.Combine(AppDomain.CurrentDomain.BaseDirectory, args[i-1]);
+							var absolutePathInputModeli = Path.Combine(AppDomain.CurrentDomain.BaseDirectory, modelPaths[i-1]);
 							ENDFOR		        	
 							
 							FOR i : 1 .. outputModelInfos.size
-							var absoulutePathOutputModeli = Path.Combine(AppDomain.CurrentDomain.BaseDirectory, args[inputModelInfos.size+i-1]);
+							var absoulutePathOutputModeli = Path.Combine(AppDomain.CurrentDomain.BaseDirectory, modelPaths[inputModelInfos.size+i-1]);
 							ENDFOR		
 							
+							IF runtimeMetrics
+							var loadStopwatch = runtimeMetricsClassName.StartPhase();
+							ENDIF
 							//load input models
 							var repository = new ModelRepository();
 							FOR i : 1 .. inputModelInfos.size
-							var inputModeli = repository.Resolve(absolutePathInputModeli);
+							var inputModeli = LoadModel(repository, absolutePathInputModeli);
 							ENDFOR	
 							
 							//check if the input models exist
@@ -79,23 +221,447 @@ class MainClassTemplate {
 							ENDFOR
 							
 							FOR i : 1 .. outputModelInfos.size
-							var outputModeli = File.Exists(absoulutePathOutputModeli) ? repository.Resolve(absoulutePathOutputModeli) : new Model();
+							var outputModeli = File.Exists(absoulutePathOutputModeli) ? LoadModel(repository, absoulutePathOutputModeli) : new Model();
 							ENDFOR				
+							IF runtimeMetrics
+							runtimeMetricsClassName.EndPhase(runtimeMetricsClassName.LoadPhase, loadStopwatch);
+							FOR i : 1 .. inputModelInfos.size
+							runtimeMetricsClassName.CountInputElements(inputModeli);
+							ENDFOR
+							runtimeMetricsClassName.CountModelSet();
+							ENDIF
 							
 							var inputModelContainer = new inputModelContainerClassName(FOR i : 1 .. inputModelInfos.size SEPARATOR ', 'inputModeliENDFOR);
 							var outputModelContainer = new outputModelContainerClassName(FOR i : 1 .. outputModelInfos.size SEPARATOR ', 'outputModeliENDFOR);
-										
-							var direction = SynchronizationDirection.LeftToRight;
-							var changePropagartion = ChangePropagationMode.OneWay;
+							
 							transformationName transformation = new transformationName();
 							transformationName.inputModelContainerClassName = inputModelContainer;
+							IF partitioned
+							
+							// the partitions are only used for the initial synchronization of new output models if the program stops
+							// afterwards, since the synchronization contexts of the partitions are discarded after the merge.
+							// The partition count only depends on the option and the input models and not on the parallelism
+							partitionCount = Math.Min(partitionCount, FOR i : 1 .. inputModelInfos.size SEPARATOR ' + 'inputModeli.RootElements.CountENDFOR);
+							var isPartitioned = !isLongRunning && direction == SynchronizationDirection.LeftToRight && partitionCount > 1 && parallelism > 0FOR i : 1 .. outputModelInfos.size && outputModeli.RootElements.Count == 0ENDFOR;
+							ENDIF
 				
-							var context = transformation.Synchronize<inputModelContainerClassName, outputModelContainerClassName>(transformation.SynchronizationRule<transformationName.mainRuleName>(), ref inputModelContainer, ref outputModelContainer, direction, changePropagartion);
+							IF runtimeMetrics
+							var synchronizeStopwatch = runtimeMetricsClassName.StartPhase();
+							ENDIF
+							IF partitioned
+							ISynchronizationContext context = null;
+							if (isPartitioned)
+							{
+								SynchronizePartitioned(transformation, inputModelContainer, outputModelContainer, partitionCount, parallelism);
+							}
+							else
+							{
+								context = transformation.Synchronize<inputModelContainerClassName, outputModelContainerClassName>(transformation.SynchronizationRule<transformationName.mainRuleName>(), ref inputModelContainer, ref outputModelContainer, direction, changePropagation);
+							}
+							ELSE
+							var context = transformation.Synchronize<inputModelContainerClassName, outputModelContainerClassName>(transformation.SynchronizationRule<transformationName.mainRuleName>(), ref inputModelContainer, ref outputModelContainer, direction, changePropagation);
+							ENDIF
+							IF runtimeMetrics
+							runtimeMetricsClassName.EndPhase(runtimeMetricsClassName.SynchronizePhase, synchronizeStopwatch);
+							var saveStopwatch = runtimeMetricsClassName.StartPhase();
+							ENDIF
 							
 							var outputRepository = new ModelRepository();
 							FOR i : 1 .. outputModelInfos.size
-							outputRepository.Save(outputModelContainer.outputModelInfos.get(i-1).name, absoulutePathOutputModeli);
-							ENDFOR							
+							SaveModel(outputRepository, outputModelContainer.outputModelInfos.get(i-1).name, absoulutePathOutputModeli);
+							ENDFOR
+							IF runtimeMetrics
+							runtimeMetricsClassName.EndPhase(runtimeMetricsClassName.SavePhase, saveStopwatch);
+							
+							if (metricsPath != null)
+							{
+								runtimeMetricsClassName.Write(metricsPath);
+							}
+							ENDIF
+							
+							if (!isLongRunning)
+							{
+								return 0;
+							}
+							
+							// the models which are changed by a change batch or by its propagation are saved after the batch was applied
+							// the input models can only be changed by the propagation if the changes are propagated in both directions
+							var modelPathsByModel = new Dictionary<Model, string>();
+							FOR i : 1 .. outputModelInfos.size
+							modelPathsByModel.Add(outputModelContainer.outputModelInfos.get(i-1).name, absoulutePathOutputModeli);
+							ENDFOR
+							if (changePropagation == ChangePropagationMode.TwoWay)
+							{
+								FOR i : 1 .. inputModelInfos.size
+								modelPathsByModel.Add(inputModelContainer.inputModelInfos.get(i-1).name, absolutePathInputModeli);
+								ENDFOR
+							}
+							
+							var changedModels = new HashSet<Model>();
+							foreach (var model in modelPathsByModel.Keys)
+							{
+								var observedModel = model;
+								observedModel.BubbledChange += (sender, e) => changedModels.Add(observedModel);
+							}
+							
+							var serializer = new XmlSerializer(new Type[] { typeof(ModelChangeCollection) });
+							Console.CancelKeyPress += (sender, e) =>
+							{
+								// the watch loop is stopped gracefully after the current change batch
+								stopRequested = true;
+								e.Cancel = pipeName == null;
+							};
+							
+							if (watchDirectory != null)
+							{
+								WatchDirectory(watchDirectory, serializer, repository, outputRepository, changedModels, modelPathsByModel);
+							}
+							else
+							{
+								ServePipe(pipeName, serializer, repository, outputRepository, changedModels, modelPathsByModel);
+							}
+							
+							// keep the synchronization context alive until the program is stopped
+							GC.KeepAlive(context);
+							return 0;
+						}
+						
+						private static string GetOptionValue(string[] args, ref int index)
+						{
+							if (index + 1 >= args.Length)
+							{
+								throw new ArgumentException("The option " + args[index] + " requires a value");
+							}
+							
+							index++;
+							return args[index];
+						}
+						
+						private static void PrintUsage()
+						{
+							Console.WriteLine(inputModelInfos.size + " input model paths and " + outputModelInfos.size + " output model paths are expected.");
+							// the parallelism is used by the partitions and by the batch mode
+							Console.WriteLine("Options: [--direction <SynchronizationDirection>] [--propagation <ChangePropagationMode>] [--watch <directory>] [--pipe <name>]IF partitioned [--partitions <number>]ENDIF [--parallelism <number>]IF runtimeMetrics [--metrics <file>]ENDIF");
+							Console.WriteLine("Batch mode: --batch <manifest> [--parallelism <number>] [--direction <SynchronizationDirection>]");
+						}
+						
+						private static Model LoadModel(ModelRepository repository, string path)
+						{
+							IF compressedModels
+							if (!path.EndsWith(CompressedModelExtension, StringComparison.OrdinalIgnoreCase))
+							{
+								return repository.Resolve(path);
+							}
+							
+							if (!File.Exists(path))
+							{
+								return null;
+							}
+							
+							// the model is decompressed while it is parsed, so the uncompressed document is never stored
+							using (var fileStream = new FileStream(path, FileMode.Open, FileAccess.Read, FileShare.Read, ModelStreamBufferSize, FileOptions.SequentialScan))
+							using (var stream = new GZipStream(fileStream, CompressionMode.Decompress))
+							{
+								return repository.Serializer.Deserialize(stream, new Uri(Path.GetFullPath(path)), repository, true);
+							}
+							ELSE
+							return repository.Resolve(path);
+							ENDIF
+						}
+						
+						private static void SaveModel(ModelRepository repository, Model model, string path)
+						{
+							IF compressedModels
+							// the model is serialized directly into the file stream without an intermediate document
+							using (var fileStream = new FileStream(path, FileMode.Create, FileAccess.Write, FileShare.None, ModelStreamBufferSize, FileOptions.SequentialScan))
+							{
+								if (path.EndsWith(CompressedModelExtension, StringComparison.OrdinalIgnoreCase))
+								{
+									using (var stream = new GZipStream(fileStream, CompressionMode.Compress))
+									{
+										repository.Save(model, stream, new Uri(Path.GetFullPath(path)));
+									}
+								}
+								else
+								{
+									repository.Save(model, fileStream, new Uri(Path.GetFullPath(path)));
+								}
+							}
+							ELSE
+							repository.Save(model, path);
+							ENDIF
+						}
+						
+						private static int RunBatch(string manifestPath, int parallelism, SynchronizationDirection direction)
+						{
+							var modelSets = ReadManifest(manifestPath);
+							
+							// the transformation instance is shared by all model sets. Its rules are initialized once before
+							// the model sets are synchronized concurrently, every model set gets its own repositories and context
+							transformationName transformation = new transformationName();
+							transformation.Initialize();
+							
+							var failedModelSets = 0;
+							var parallelOptions = new ParallelOptions { MaxDegreeOfParallelism = parallelism };
+							Parallel.ForEach(modelSets, parallelOptions, modelSet =>
+							{
+								try
+								{
+									SynchronizeModelSet(transformation, modelSet.Item2, direction);
+								}
+								catch (Exception exception)
+								{
+									Interlocked.Increment(ref failedModelSets);
+									Console.WriteLine("The model set in line " + modelSet.Item1 + " of the manifest failed: " + exception.Message);
+								}
+							});
+							
+							Console.WriteLine("Synchronized " + (modelSets.Count - failedModelSets) + " of " + modelSets.Count + " model set(s)");
+							IF runtimeMetrics
+							
+							// the phase times are summed up over all model sets
+							if (metricsPath != null)
+							{
+								runtimeMetricsClassName.Write(metricsPath);
+							}
+							ENDIF
+							return failedModelSets == 0 ? 0 : 2;
+						}
+						
+						private static List<Tuple<int, string[]>> ReadManifest(string manifestPath)
+						{
+							// every line contains the paths of the input models followed by the paths of the output models separated
+							// by a semicolon. Relative paths are resolved against the directory of the manifest
+							var manifestDirectory = Path.GetDirectoryName(Path.GetFullPath(manifestPath));
+							var modelSets = new List<Tuple<int, string[]>>();
+							var lineNumber = 0;
+							foreach (var line in File.ReadLines(manifestPath))
+							{
+								lineNumber++;
+								if (line.Trim().Length == 0 || line.TrimStart().StartsWith(ManifestCommentPrefix))
+								{
+									continue;
+								}
+								
+								var modelPaths = line.Split(ManifestSeparator);
+								if (modelPaths.Length != inputModelInfos.size + outputModelInfos.size)
+								{
+									throw new InvalidDataException("Line " + lineNumber + " of the manifest must contain inputModelInfos.size input model paths and outputModelInfos.size output model paths");
+								}
+								
+								modelSets.Add(Tuple.Create(lineNumber, modelPaths.Select(modelPath => Path.Combine(manifestDirectory, modelPath.Trim())).ToArray()));
+							}
+							
+							return modelSets;
+						}
+						
+						private static void SynchronizeModelSet(transformationName transformation, string[] modelPaths, SynchronizationDirection direction)
+						{
+							// the repositories are only referenced by this method, so the models are released after the model set was saved
+							IF runtimeMetrics
+							var loadStopwatch = runtimeMetricsClassName.StartPhase();
+							ENDIF
+							var repository = new ModelRepository();
+							FOR i : 1 .. inputModelInfos.size
+							var inputModeli = LoadModel(repository, modelPaths[i-1]);
+							if(inputModeli == null)
+								throw new FileNotFoundException("The i. input model with the path '" + modelPaths[i-1] + "' was not found");
+							ENDFOR
+							
+							FOR i : 1 .. outputModelInfos.size
+							var outputModeli = File.Exists(modelPaths[inputModelInfos.size+i-1]) ? LoadModel(repository, modelPaths[inputModelInfos.size+i-1]) : new Model();
+							ENDFOR
+							IF runtimeMetrics
+							runtimeMetricsClassName.EndPhase(runtimeMetricsClassName.LoadPhase, loadStopwatch);
+							FOR i : 1 .. inputModelInfos.size
+							runtimeMetricsClassName.CountInputElements(inputModeli);
+							ENDFOR
+							runtimeMetricsClassName.CountModelSet();
+							ENDIF
+							
+							var inputModelContainer = new inputModelContainerClassName(FOR i : 1 .. inputModelInfos.size SEPARATOR ', 'inputModeliENDFOR);
+							var outputModelContainer = new outputModelContainerClassName(FOR i : 1 .. outputModelInfos.size SEPARATOR ', 'outputModeliENDFOR);
+							
+							// the input model container is stored per thread
+							transformationName.inputModelContainerClassName = inputModelContainer;
+							try
+							{
+								// the changes are not propagated since the context is discarded after the model set was saved
+								IF runtimeMetrics
+								var synchronizeStopwatch = runtimeMetricsClassName.StartPhase();
+								ENDIF
+								transformation.Synchronize<inputModelContainerClassName, outputModelContainerClassName>(transformation.SynchronizationRule<transformationName.mainRuleName>(), ref inputModelContainer, ref outputModelContainer, direction, ChangePropagationMode.None);
+								IF runtimeMetrics
+								runtimeMetricsClassName.EndPhase(runtimeMetricsClassName.SynchronizePhase, synchronizeStopwatch);
+								var saveStopwatch = runtimeMetricsClassName.StartPhase();
+								ENDIF
+								
+								var outputRepository = new ModelRepository();
+								FOR i : 1 .. outputModelInfos.size
+								SaveModel(outputRepository, outputModelContainer.outputModelInfos.get(i-1).name, modelPaths[inputModelInfos.size+i-1]);
+								ENDFOR
+								IF runtimeMetrics
+								runtimeMetricsClassName.EndPhase(runtimeMetricsClassName.SavePhase, saveStopwatch);
+								ENDIF
+							}
+							finally
+							{
+								transformationName.inputModelContainerClassName = null;
+							}
+						}
+						IF partitioned
+						
+						private static void SynchronizePartitioned(transformationName transformation, inputModelContainerClassName inputModelContainer, outputModelContainerClassName outputModelContainer, int partitionCount, int parallelism)
+						{
+							// the root elements of all input models are split into contiguous ranges, so every partition contains whole
+							// containment trees. The rules are initialized once before the partitions are synchronized concurrently
+							var rootElements = new List<Tuple<int, IModelElement>>();
+							FOR i : 1 .. inputModelInfos.size
+							rootElements.AddRange(inputModelContainer.inputModelInfos.get(i-1).name.RootElements.Select(rootElement => Tuple.Create(i-1, rootElement)));
+							ENDFOR
+							transformation.Initialize();
+							
+							var partitionOutputModelContainers = new outputModelContainerClassName[partitionCount];
+							var parallelOptions = new ParallelOptions { MaxDegreeOfParallelism = Math.Min(parallelism, partitionCount) };
+							Parallel.For(0, partitionCount, parallelOptions, partitionIndex =>
+							{
+								var firstIndex = rootElements.Count * partitionIndex / partitionCount;
+								var partitionRootElements = rootElements.GetRange(firstIndex, rootElements.Count * (partitionIndex + 1) / partitionCount - firstIndex);
+								
+								var partitionInputModelContainer = new inputModelContainerClassName(FOR inputModelInfo : inputModelInfos SEPARATOR ', 'inputModelContainer.inputModelInfo.nameENDFOR);
+								FOR i : 1 .. inputModelInfos.size
+								partitionInputModelContainer.inputModelInfos.get(i-1).nameElements = new modelPartitionClassName(partitionRootElements.Where(rootElement => rootElement.Item1 == i-1).Select(rootElement => rootElement.Item2).ToList());
+								ENDFOR
+								var partitionOutputModelContainer = new outputModelContainerClassName();
+								
+								// the input model container is stored per thread and the calling thread can execute a partition too
+								var previousInputModelContainer = transformationName.inputModelContainerClassName;
+								transformationName.inputModelContainerClassName = partitionInputModelContainer;
+								try
+								{
+									transformation.Synchronize<inputModelContainerClassName, outputModelContainerClassName>(transformation.SynchronizationRule<transformationName.mainRuleName>(), ref partitionInputModelContainer, ref partitionOutputModelContainer, SynchronizationDirection.LeftToRight, ChangePropagationMode.None);
+								}
+								finally
+								{
+									transformationName.inputModelContainerClassName = previousInputModelContainer;
+								}
+								
+								partitionOutputModelContainers[partitionIndex] = partitionOutputModelContainer;
+							});
+							
+							// the root elements are moved to the output models in the order of the partitions and in their order
+							// within a partition, so the output models only depend on the input models and the partition count
+							foreach (var partitionOutputModelContainer in partitionOutputModelContainers)
+							{
+								FOR outputModelInfo : outputModelInfos
+								foreach (var rootElement in partitionOutputModelContainer.outputModelInfo.name.RootElements.ToList())
+								{
+									outputModelContainer.outputModelInfo.name.RootElements.Add(rootElement);
+								}
+								ENDFOR
+							}
+						}
+						ENDIF
+						
+						private static void WatchDirectory(string watchDirectory, XmlSerializer serializer, ModelRepository repository, ModelRepository outputRepository, HashSet<Model> changedModels, Dictionary<Model, string> modelPathsByModel)
+						{
+							Directory.CreateDirectory(watchDirectory);
+							Console.WriteLine("Watching '" + watchDirectory + "' for change batches (" + ChangeBatchSearchPattern + "). Press Ctrl+C to stop.");
+							
+							while (!stopRequested)
+							{
+								// the change batches are applied in the order of their names. A change batch should be written under
+								// another name and renamed afterwards, so that no partially written change batch is read
+								var changeBatchPaths = Directory.GetFiles(watchDirectory, ChangeBatchSearchPattern).OrderBy(path => path, StringComparer.Ordinal).ToList();
+								foreach (var changeBatchPath in changeBatchPaths)
+								{
+									try
+									{
+										ApplyChangeBatch(changeBatchPath, serializer, repository, outputRepository, changedModels, modelPathsByModel);
+										File.Delete(changeBatchPath);
+									}
+									catch (Exception exception)
+									{
+										Console.WriteLine("The change batch '" + changeBatchPath + "' could not be applied: " + exception.Message);
+										
+										// File.Move can not overwrite a file, so a failed change batch with the same name is replaced
+										var failedChangeBatchPath = changeBatchPath + FailedChangeBatchExtension;
+										File.Delete(failedChangeBatchPath);
+										File.Move(changeBatchPath, failedChangeBatchPath);
+									}
+								}
+								
+								Thread.Sleep(WatchPollingInterval);
+							}
+						}
+						
+						private static void ServePipe(string pipeName, XmlSerializer serializer, ModelRepository repository, ModelRepository outputRepository, HashSet<Model> changedModels, Dictionary<Model, string> modelPathsByModel)
+						{
+							Console.WriteLine("Listening on the pipe '" + pipeName + "' for paths of change batches. Send '" + PipeExitCommand + "' to stop.");
+							
+							while (!stopRequested)
+							{
+								using (var pipe = new NamedPipeServerStream(pipeName, PipeDirection.InOut))
+								{
+									pipe.WaitForConnection();
+									try
+									{
+										// disposing the writer flushes it and closes the pipe, the reader is disposed afterwards
+										using (var reader = new StreamReader(pipe))
+										using (var writer = new StreamWriter(pipe))
+										{
+											writer.AutoFlush = true;
+											
+											// every line is the path of a change batch, the result is answered with a line too
+											string line;
+											while (pipe.IsConnected && (line = reader.ReadLine()) != null)
+											{
+												if (line.Trim() == PipeExitCommand)
+												{
+													stopRequested = true;
+													writer.WriteLine("OK");
+													break;
+												}
+												
+												try
+												{
+													ApplyChangeBatch(Path.Combine(AppDomain.CurrentDomain.BaseDirectory, line.Trim()), serializer, repository, outputRepository, changedModels, modelPathsByModel);
+													writer.WriteLine("OK");
+												}
+												catch (Exception exception)
+												{
+													writer.WriteLine("ERROR " + exception.Message);
+												}
+											}
+										}
+									}
+									catch (IOException exception)
+									{
+										// the client closed the pipe while an answer was written
+										Console.WriteLine("The pipe connection was closed: " + exception.Message);
+									}
+								}
+							}
+						}
+						
+						private static void ApplyChangeBatch(string changeBatchPath, XmlSerializer serializer, ModelRepository repository, ModelRepository outputRepository, HashSet<Model> changedModels, Dictionary<Model, string> modelPathsByModel)
+						{
+							var changes = serializer.Deserialize(changeBatchPath) as ModelChangeCollection;
+							if (changes == null)
+							{
+								throw new InvalidDataException("The file '" + changeBatchPath + "' does not contain a model change collection");
+							}
+							
+							// the changes are propagated incrementally by the synchronization context while they are applied
+							changedModels.Clear();
+							changes.Apply(repository);
+							
+							foreach (var changedModel in changedModels)
+							{
+								SaveModel(outputRepository, changedModel, modelPathsByModel[changedModel]);
+							}
+							Console.WriteLine("Applied '" + Path.GetFileName(changeBatchPath) + "', saved " + changedModels.Count + " changed model(s)");
+							changedModels.Clear();
 						}
 					}
 				}
@@ -0,0 +1,154 @@
+package edu.kit.ipd.sdq.atl2nmfs.templates
+
+/**
+ * The MemoizedValueClassTemplate Class.
+ */
+class MemoizedValueClassTemplate {
+
+	/**
+	 * Creates the code.
+	 * 
+	 * @param namespace
+	 *            the namespace
+	 * @param className
+	 *            the class name
+	 * @return the created code as string
+	 */
+	def static String createCode(String namespace, String className) {
+		// the values are stored in a ConditionalWeakTable so that they are collected together with their context element
+		// each stored value is an attached incremental value which is updated by NMF when the dependencies of the helper change
+		var memoizedValueTemplate = '''
+			using System;
+			using System.Linq.Expressions;
+			using System.Runtime.CompilerServices;
+			using NMF.Expressions;
+			
+			namespace namespace
+			{
+			    public class className<TContext, TResult> where TContext : class
+			    {
+			        private readonly ObservingFunc<TContext, TResult> func;
+			        private readonly ConditionalWeakTable<TContext, INotifyValue<TResult>> values = new ConditionalWeakTable<TContext, INotifyValue<TResult>>();
+			
+			        public className(Expression<Func<TContext, TResult>> expression)
+			        {
+			            this.func = new ObservingFunc<TContext, TResult>(expression);
+			        }
+			
+			        public TResult GetValue(TContext context)
+			        {
+			            if (context == null)
+			            {
+			                return func.Evaluate(context);
+			            }
+			
+			            return GetNotifyValue(context).Value;
+			        }
+			
+			        public INotifyValue<TResult> GetNotifyValue(TContext context)
+			        {
+			            if (context == null)
+			            {
+			                return func.Observe(new ConstantValue<TContext>(context));
+			            }
+			
+			            return values.GetValue(context, element => func.Observe(new ConstantValue<TContext>(element)));
+			        }
+			
+			        public INotifyValue<TResult> Observe(INotifyValue<TContext> context)
+			        {
+			            return new ObservedValue(this, context);
+			        }
+			
+			        private class ObservedValue : INotifyValue<TResult>
+			        {
+			            private readonly className<TContext, TResult> memoizedValue;
+			            private readonly INotifyValue<TContext> context;
+			            private INotifyValue<TResult> current;
+			            private bool isAttached;
+			
+			            public ObservedValue(className<TContext, TResult> memoizedValue, INotifyValue<TContext> context)
+			            {
+			                this.memoizedValue = memoizedValue;
+			                this.context = context;
+			                Attach();
+			            }
+			
+			            public event EventHandler<ValueChangedEventArgs> ValueChanged;
+			
+			            public TResult Value
+			            {
+			                get { return isAttached ? current.Value : memoizedValue.GetValue(context.Value); }
+			            }
+			
+			            public bool IsAttached
+			            {
+			                get { return isAttached; }
+			            }
+			
+			            public void Attach()
+			            {
+			                if (isAttached)
+			                {
+			                    return;
+			                }
+			
+			                isAttached = true;
+			                if (!context.IsAttached)
+			                {
+			                    context.Attach();
+			                }
+			
+			                context.ValueChanged += ContextChanged;
+			                current = memoizedValue.GetNotifyValue(context.Value);
+			                current.ValueChanged += CurrentChanged;
+			            }
+			
+			            public void Detach()
+			            {
+			                if (!isAttached)
+			                {
+			                    return;
+			                }
+			
+			                // the shared value stays attached since it can be used by other observers of the same context element
+			                isAttached = false;
+			                context.ValueChanged -= ContextChanged;
+			                current.ValueChanged -= CurrentChanged;
+			                current = null;
+			            }
+			
+			            private void ContextChanged(object sender, ValueChangedEventArgs e)
+			            {
+			                var oldValue = current.Value;
+			                current.ValueChanged -= CurrentChanged;
+			                current = memoizedValue.GetNotifyValue(context.Value);
+			                current.ValueChanged += CurrentChanged;
+			
+			                if (!Equals(oldValue, current.Value))
+			                {
+			                    OnValueChanged(new ValueChangedEventArgs(oldValue, current.Value));
+			                }
+			            }
+			
+			            private void CurrentChanged(object sender, ValueChangedEventArgs e)
+			            {
+			                OnValueChanged(e);
+			            }
+			
+			            private void OnValueChanged(ValueChangedEventArgs e)
+			            {
+			                var handler = ValueChanged;
+			                if (handler != null)
+			                {
+			                    handler(this, e);
+			                }
+			            }
+			        }
+			    }
+			}
+		'''
+
+		return memoizedValueTemplate;
+	}
+}
@@ -0,0 +1,72 @@
+package edu.kit.ipd.sdq.atl2nmfs.templates
+
+/**
+ * The ModelPartitionClassTemplate Class.
+ */
+class ModelPartitionClassTemplate {
+
+	/**
+	 * Creates the code.
+	 *
+	 * @param namespace
+	 *            the namespace
+	 * @param className
+	 *            the class name
+	 * @return the created code as string
+	 */
+	def static String createCode(String namespace, String className) {
+		// a partition contains whole containment trees of an input model. It replaces the descendants of the input model
+		// in the main rule, so that only the elements of the partition are synchronized. The root elements of a partition
+		// are fixed, so the notifiable collection only observes the descendants of each root element
+		var modelPartitionTemplate = '''
+			using System.Collections;
+			using System.Collections.Generic;
+			using NMF.Expressions;
+			using NMF.Expressions.Linq;
+			using NMF.Models;
+
+			namespace namespace
+			{
+			    public class className : IEnumerableExpression<IModelElement>
+			    {
+			        private readonly IList<IModelElement> rootElements;
+
+			        public className(IList<IModelElement> rootElements)
+			        {
+			            this.rootElements = rootElements;
+			        }
+
+			        public IEnumerator<IModelElement> GetEnumerator()
+			        {
+			            foreach (var rootElement in rootElements)
+			            {
+			                yield return rootElement;
+			                foreach (var descendant in rootElement.Descendants())
+			                {
+			                    yield return descendant;
+			                }
+			            }
+			        }
+
+			        IEnumerator IEnumerable.GetEnumerator()
+			        {
+			            return GetEnumerator();
+			        }
+
+			        public INotifyEnumerable<IModelElement> AsNotifiable()
+			        {
+			            var rootElementsWithUpdates = rootElements.WithUpdates();
+			            return rootElementsWithUpdates.Concat(rootElementsWithUpdates.SelectMany(rootElement => rootElement.Descendants().AsNotifiable()));
+			        }
+
+			        INotifyEnumerable IEnumerableExpression.AsNotifiable()
+			        {
+			            return AsNotifiable();
+			        }
+			    }
+			}
+		'''
+
+		return modelPartitionTemplate;
+	}
+}
@@ -25,6 +25,7 @@ class ReflectiveSynchronizationClassTemplate {
 		// we need the "using System.Globalization" import for the case that a double value is parsed
 		// the InputModel property is needed to transform the OCL "allInstances" Operation
 		// the InputModel property is static so all the inner classes can easily access it (C# inner classes behave differently to java inner classes)
+		// its value is stored per thread, so that several model sets can be synchronized concurrently by one transformation instance
 		// TODO: only create the InputModel property when the OCL "allInstances" Operation is used in the transformation
 		var reflectiveSynchronizationClassTemplate = '''
 			using System;
@@ -40,7 +41,14 @@ class ReflectiveSynchronizationClassTemplate {
 			{
 			    public class transformationName : ReflectiveSynchronization
 			    {
-			    	public static inputModelContainerClassName inputModelContainerClassName { get; set; }
+			    	[ThreadStatic]
+			    	private static inputModelContainerClassName inputModelContainerClassName.toFirstLower;
+			    	
+			    	public static inputModelContainerClassName inputModelContainerClassName
+			    	{
+			    		get { return inputModelContainerClassName.toFirstLower; }
+			    		set { inputModelContainerClassName.toFirstLower = value; }
+			    	}
 			    	
 			    	FOR synchronizationRule : synchronizationRules SEPARATOR "\n"
 			    	synchronizationRule
@@ -0,0 +1,174 @@
+package edu.kit.ipd.sdq.atl2nmfs.templates
+
+/**
+ * The RuntimeMetricsClassTemplate Class.
+ */
+class RuntimeMetricsClassTemplate {
+
+	/**
+	 * Creates the code.
+	 *
+	 * @param namespace
+	 *            the namespace
+	 * @param className
+	 *            the class name
+	 * @return the created code as string
+	 */
+	def static String createCode(String namespace, String className) {
+		// the measurements are thread safe since the model sets of a batch are synchronized concurrently. The phase times
+		// are summed up over all model sets, the wall time of a phase is the union of its intervals on all threads and is
+		// used for the throughput. The runtime does not track the peak of the managed memory, therefore the managed memory
+		// is sampled at the end of every phase
+		var runtimeMetricsTemplate = '''
+			using System;
+			using System.Collections.Concurrent;
+			using System.Diagnostics;
+			using System.Globalization;
+			using System.IO;
+			using System.Linq;
+			using System.Text;
+			using System.Threading;
+			using NMF.Models;
+
+			namespace namespace
+			{
+			    public static class className
+			    {
+			        public const string LoadPhase = "load";
+			        public const string SynchronizePhase = "synchronize";
+			        public const string SavePhase = "save";
+
+			        private static readonly Stopwatch totalStopwatch = Stopwatch.StartNew();
+			        private static readonly ConcurrentDictionary<string, long> phaseTicks = new ConcurrentDictionary<string, long>();
+			        private static readonly ConcurrentDictionary<string, ConcurrentQueue<long[]>> phaseIntervals = new ConcurrentDictionary<string, ConcurrentQueue<long[]>>();
+			        private static readonly ConcurrentDictionary<string, long> ruleInstantiations = new ConcurrentDictionary<string, long>();
+			        private static long modelSets;
+			        private static long inputElements;
+			        private static long peakManagedMemory;
+
+			        public static Stopwatch StartPhase()
+			        {
+			            return Stopwatch.StartNew();
+			        }
+
+			        public static void EndPhase(string phaseName, Stopwatch stopwatch)
+			        {
+			            stopwatch.Stop();
+			            var endTicks = totalStopwatch.ElapsedTicks;
+			            var elapsedTicks = stopwatch.ElapsedTicks;
+			            phaseTicks.AddOrUpdate(phaseName, elapsedTicks, (name, ticks) => ticks + elapsedTicks);
+			            phaseIntervals.GetOrAdd(phaseName, name => new ConcurrentQueue<long[]>()).Enqueue(new[] { endTicks - elapsedTicks, endTicks });
+			            SampleManagedMemory();
+			        }
+
+			        public static void CountModelSet()
+			        {
+			            Interlocked.Increment(ref modelSets);
+			        }
+
+			        public static void CountInputElements(Model model)
+			        {
+			            Interlocked.Add(ref inputElements, model.Descendants().LongCount());
+			        }
+
+			        public static void CountInstantiation(string ruleName)
+			        {
+			            ruleInstantiations.AddOrUpdate(ruleName, 1, (name, count) => count + 1);
+			        }
+
+			        public static void Write(string path)
+			        {
+			            SampleManagedMemory();
+
+			            var synchronizeMilliseconds = GetMilliseconds(SynchronizePhase);
+			            var synchronizeWallMilliseconds = GetWallMilliseconds(SynchronizePhase);
+			            var elementsPerSecond = synchronizeWallMilliseconds > 0 ? Interlocked.Read(ref inputElements) * 1000.0 / synchronizeWallMilliseconds : 0.0;
+
+			            var builder = new StringBuilder();
+			            builder.AppendLine("{");
+			            AppendProperty(builder, "modelSets", Interlocked.Read(ref modelSets).ToString(CultureInfo.InvariantCulture));
+			            AppendProperty(builder, "inputElements", Interlocked.Read(ref inputElements).ToString(CultureInfo.InvariantCulture));
+			            AppendProperty(builder, "loadMilliseconds", GetMilliseconds(LoadPhase).ToString("0.###", CultureInfo.InvariantCulture));
+			            AppendProperty(builder, "synchronizeMilliseconds", synchronizeMilliseconds.ToString("0.###", CultureInfo.InvariantCulture));
+			            AppendProperty(builder, "synchronizeWallMilliseconds", synchronizeWallMilliseconds.ToString("0.###", CultureInfo.InvariantCulture));
+			            AppendProperty(builder, "saveMilliseconds", GetMilliseconds(SavePhase).ToString("0.###", CultureInfo.InvariantCulture));
+			            AppendProperty(builder, "totalMilliseconds", totalStopwatch.Elapsed.TotalMilliseconds.ToString("0.###", CultureInfo.InvariantCulture));
+			            AppendProperty(builder, "elementsPerSecond", elementsPerSecond.ToString("0.###", CultureInfo.InvariantCulture));
+			            AppendProperty(builder, "peakManagedMemoryBytes", Interlocked.Read(ref peakManagedMemory).ToString(CultureInfo.InvariantCulture));
+			            AppendProperty(builder, "peakWorkingSetBytes", Process.GetCurrentProcess().PeakWorkingSet64.ToString(CultureInfo.InvariantCulture));
+			            builder.Append("  \"ruleInstantiations\": {");
+			            var first = true;
+			            foreach (var ruleInstantiation in ruleInstantiations.OrderBy(pair => pair.Key, StringComparer.Ordinal))
+			            {
+			                builder.Append(first ? "\n" : ",\n");
+			                builder.Append("    \"" + ruleInstantiation.Key + "\": " + ruleInstantiation.Value.ToString(CultureInfo.InvariantCulture));
+			                first = false;
+			            }
+			            builder.AppendLine(first ? "}" : "\n  }");
+			            builder.AppendLine("}");
+
+			            File.WriteAllText(path, builder.ToString());
+			            Console.WriteLine("Runtime metrics written to '" + path + "'");
+			        }
+
+			        private static void AppendProperty(StringBuilder builder, string name, string value)
+			        {
+			            builder.AppendLine("  \"" + name + "\": " + value + ",");
+			        }
+
+			        private static double GetMilliseconds(string phaseName)
+			        {
+			            long ticks;
+			            return phaseTicks.TryGetValue(phaseName, out ticks) ? ticks * 1000.0 / Stopwatch.Frequency : 0.0;
+			        }
+
+			        private static double GetWallMilliseconds(string phaseName)
+			        {
+			            ConcurrentQueue<long[]> intervals;
+			            if (!phaseIntervals.TryGetValue(phaseName, out intervals))
+			            {
+			                return 0.0;
+			            }
+			
+			            // overlapping intervals of concurrently synchronized model sets are merged
+			            long wallTicks = 0;
+			            long mergedStart = 0;
+			            long mergedEnd = 0;
+			            foreach (var interval in intervals.OrderBy(phaseInterval => phaseInterval[0]))
+			            {
+			                if (interval[0] > mergedEnd)
+			                {
+			                    wallTicks += mergedEnd - mergedStart;
+			                    mergedStart = interval[0];
+			                    mergedEnd = interval[1];
+			                }
+			                else if (interval[1] > mergedEnd)
+			                {
+			                    mergedEnd = interval[1];
+			                }
+			            }
+			            wallTicks += mergedEnd - mergedStart;
+			            return wallTicks * 1000.0 / Stopwatch.Frequency;
+			        }
+			
+			        private static void SampleManagedMemory()
+			        {
+			            var managedMemory = GC.GetTotalMemory(false);
+			            var peak = Interlocked.Read(ref peakManagedMemory);
+			            while (managedMemory > peak)
+			            {
+			                var previousPeak = Interlocked.CompareExchange(ref peakManagedMemory, managedMemory, peak);
+			                if (previousPeak == peak)
+			                {
+			                    break;
+			                }
+			                peak = previousPeak;
+			            }
+			        }
+			    }
+			}
+		'''
+
+		return runtimeMetricsTemplate;
+	}
+}
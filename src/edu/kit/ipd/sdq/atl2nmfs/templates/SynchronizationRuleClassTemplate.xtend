@@ -22,7 +22,7 @@ class SynchronizationRuleClassTemplate {
 	 * @return the created code as string
 	 */
 	def static String createMainRuleCode(String ruleName, String inputType, String outputType, List<String> bindings) {
-		return createCode(ruleName, inputType, outputType, bindings);
+		return createCode(ruleName, inputType, outputType, bindings, null);
 	}
 
 	/**
@@ -32,11 +32,13 @@ class SynchronizationRuleClassTemplate {
 	 *            the rule info
 	 * @param bindings
 	 *            the transformed bindings
+	 * @param runtimeMetricsClassName
+	 *            the runtime metrics class name or null if the created output elements of the rule are not counted
 	 * @return the created code as string
 	 */
-	def static String createCode(RuleInfo ruleInfo, List<String> bindings) {
+	def static String createCode(RuleInfo ruleInfo, List<String> bindings, String runtimeMetricsClassName) {
 		return createCode(ruleInfo.name, ruleInfo.getTransformedInputTypeName, ruleInfo.getTransformedOutputTypeName,
-			bindings);
+			bindings, runtimeMetricsClassName);
 	}
 
 	/**
@@ -50,9 +52,14 @@ class SynchronizationRuleClassTemplate {
 	 *            the output type
 	 * @param bindings
 	 *            the transformed bindings
+	 * @param runtimeMetricsClassName
+	 *            the runtime metrics class name or null if the created output elements of the rule are not counted
 	 * @return the created code as string
 	 */
-	def private static String createCode(String ruleName, String inputType, String outputType, List<String> bindings) {
+	def private static String createCode(String ruleName, String inputType, String outputType, List<String> bindings,
+		String runtimeMetricsClassName) {
+		// an output element is only instantiated if no existing element corresponds to the input element
+		var countInstantiations = runtimeMetricsClassName != null;
 		var reflectiveSynchronizationClassTemplate = '''
 			public class ruleName : SynchronizationRule<inputType, outputType>
 			{
@@ -62,6 +69,18 @@ class SynchronizationRuleClassTemplate {
 			    	binding
 			    	ENDFOR
 			    }
+			    IF countInstantiations
+			    
+			    protected override outputType CreateRightOutput(inputType input, IEnumerable<outputType> candidates, ISynchronizationContext context, out bool existing)
+			    {
+			    	var output = base.CreateRightOutput(input, candidates, context, out existing);
+			    	if (!existing)
+			    	{
+			    		runtimeMetricsClassName.CountInstantiation("ruleName");
+			    	}
+			    	return output;
+			    }
+			    ENDIF
 			}
 		'''
 
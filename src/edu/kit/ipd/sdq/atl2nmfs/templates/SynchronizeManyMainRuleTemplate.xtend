@@ -18,13 +18,15 @@ class SynchronizeManyMainRuleTemplate {
 	 *            the output model name
 	 * @param outputModelCollectionClassName
 	 *            the output model collection class name
+	 * @param partitioned
+	 *            the value indicating if the elements of the input model can be restricted to a partition
 	 * @return the created code as string
 	 */
 	def static String createCode(RuleInfo ruleInfo, String inputModelName, String outputModelName,
-		String outputModelCollectionClassName) {
+		String outputModelCollectionClassName, Boolean partitioned) {
 		var synchronizeManyMainRuleTemplate = '''
 			SynchronizeManyLeftToRightOnly(SyncRule<ruleInfo.name>(),
-				input => input.inputModelName.Descendants().OfType<ruleInfo.getTransformedInputTypeName>()IF ruleInfo.getHasFilter.Where(x => x.ruleInfo.filterName())ENDIF,
+				input => input.inputModelNameIF partitionedElementsELSE.Descendants()ENDIF.OfType<ruleInfo.getTransformedInputTypeName>()IF ruleInfo.getHasFilter.Where(x => x.ruleInfo.filterName())ENDIF,
 				output => new outputModelCollectionClassName<ruleInfo.getTransformedOutputTypeName>(output.outputModelName.RootElements.OfType<IModelElement, ruleInfo.getTransformedOutputTypeName>()));
 		'''
 
@@ -19,7 +19,7 @@ class SynchronizeManyTemplate {
 	 */
 	def static String createCode(RuleInfo containingRuleInfo, BindingInfo bindingInfo) {
 		return createTemplateCode(null, containingRuleInfo, bindingInfo, bindingInfo.transformedDefaultExpression, false,
-			false);
+			false, null);
 	}
 
 	/**
@@ -37,11 +37,15 @@ class SynchronizeManyTemplate {
 	 *            indicating if an input cast is required
 	 * @param outputCast
 	 *            indicating if an output cast is required
+	 * @param filteredView
+	 *            the expression of the shared view of the elements which fulfill the filter of the calling rule
+	 *            or null if the filter has to be evaluated in the binding
 	 * @return the created code as string
 	 */
 	def static String createCode(RuleInfo callingRuleInfo, RuleInfo containingRuleInfo, BindingInfo bindingInfo,
-		String bindingExpression, Boolean inputCast, Boolean outputCast) {
-		return createTemplateCode(callingRuleInfo, containingRuleInfo, bindingInfo, bindingExpression, inputCast, outputCast)
+		String bindingExpression, Boolean inputCast, Boolean outputCast, String filteredView) {
+		return createTemplateCode(callingRuleInfo, containingRuleInfo, bindingInfo, bindingExpression, inputCast, outputCast,
+			filteredView)
 	}
 
 	/**
@@ -59,13 +63,16 @@ class SynchronizeManyTemplate {
 	 *            indicating if an input cast is required
 	 * @param outputCast
 	 *            indicating if an output cast is required
+	 * @param filteredView
+	 *            the expression of the shared filtered view or null
 	 * @return the created code as string
 	 */
 	def private static String createTemplateCode(RuleInfo callingRuleInfo, RuleInfo containingRuleInfo,
-		BindingInfo bindingInfo, String bindingExpression, Boolean inputCast, Boolean outputCast) {
+		BindingInfo bindingInfo, String bindingExpression, Boolean inputCast, Boolean outputCast, String filteredView) {
 		// extracted some information to be able to create a more readable template expression
 		var hasRule = callingRuleInfo != null;
 		var hasFilter = hasRule && callingRuleInfo.getHasFilter;
+		var hasFilteredView = hasFilter && filteredView != null;
 
 		var filterName = if(hasFilter) callingRuleInfo.filterName else "";
 		var ruleName = if(hasRule) callingRuleInfo.name else "";
@@ -83,7 +90,7 @@ class SynchronizeManyTemplate {
 
 		var synchronizeManyTemplate = '''
 			SynchronizeManyLeftToRightOnly(IF hasRuleSyncRule<ruleName>(),ENDIF
-				inPatternVariableName => bindingExpressionIF inputCast.OfType<expectedInputType>()ENDIFIF hasFilter.Where(x => x.filterName())ENDIF,
+				inPatternVariableName => bindingExpressionIF inputCast.OfType<expectedInputType>()ENDIFIF hasFilteredView.Intersect(filteredView)ELSEIF hasFilter.Where(x => x.filterName())ENDIF,
 				outPatternVariableName => outPatternVariableName.outputPropertyNameIF outputCast.OfType<outputType, expectedOutputType>()ENDIF);
 		'''
 
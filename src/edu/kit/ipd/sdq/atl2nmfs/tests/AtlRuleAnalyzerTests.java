@@ -0,0 +1,195 @@
+package edu.kit.ipd.sdq.atl2nmfs.tests;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.m2m.atl.common.ATL.Library;
+import org.eclipse.m2m.atl.common.ATL.Module;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import edu.kit.ipd.sdq.atl2nmfs.Atl2NmfSynchronizationsModule;
+import edu.kit.ipd.sdq.atl2nmfs.EncodingProviderModule;
+import edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper;
+import edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzer;
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.RuleInfo;
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.RuleType;
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.TypeInfo;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation;
+import edu.kit.ipd.sdq.atl2nmfs.utils.AtlParserUtils;
+
+/**
+ * The AtlRuleAnalyzerTests Class.
+ * The indexed and memoized rule resolution must return the same rules as a linear scan over all rules.
+ */
+public class AtlRuleAnalyzerTests {
+
+	private Atl2NmfSHelper atl2NmfSHelper;
+	private EcoreAnalyzer inputEcoreAnalyzer;
+	private EcoreAnalyzer outputEcoreAnalyzer;
+
+	/**
+	 * Analyzes the Inheritance transformation for each test.
+	 *
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		Injector injector = Guice.createInjector(new Atl2NmfSynchronizationsModule(), new EncodingProviderModule());
+		injector.getInstance(GenerationInstrumentation.class).startGeneration("Inheritance");
+
+		Module atlModule = AtlParserUtils.parseModule("resources/Inheritance/Inheritance.atl");
+		atl2NmfSHelper = injector.getInstance(Atl2NmfSHelper.class);
+		atl2NmfSHelper.initializeNewTransformation(atlModule, new ArrayList<Library>(),
+				Arrays.asList("resources/Inheritance/TypeA.ecore"), Arrays.asList("resources/Inheritance/TypeB.ecore"));
+
+		inputEcoreAnalyzer = atl2NmfSHelper.getInputMetamodelInfos().get(0).getEcoreAnalyzer();
+		outputEcoreAnalyzer = atl2NmfSHelper.getOutputMetamodelInfos().get(0).getEcoreAnalyzer();
+	}
+
+	/**
+	 * Sub type test. The rules of a type with sub types contain the rules of all its sub types.
+	 */
+	@Test
+	public void SubTypeTest() {
+		for (String typeName : Arrays.asList("AA", "ObjectX", "ObjectR", "C")) {
+			TypeInfo inputTypeInfo = inputEcoreAnalyzer.getTypeInfo(typeName);
+			List<RuleInfo> expectedRuleInfos = getPossibleRuleInfosLinear(inputTypeInfo);
+
+			List<RuleInfo> possibleRuleInfos = atl2NmfSHelper.getPossibleRuleInfosForInputTypeInfo(inputTypeInfo);
+			Assert.assertEquals(typeName, getRuleNames(expectedRuleInfos), getRuleNames(possibleRuleInfos));
+
+			// the second call is answered from the cache
+			Assert.assertSame(typeName, possibleRuleInfos,
+					atl2NmfSHelper.getPossibleRuleInfosForInputTypeInfo(inputTypeInfo));
+		}
+
+		Assert.assertEquals(Arrays.asList("RuleD2Element", "RuleB2Element", "RuleB2SubElement"),
+				sorted(getRuleNames(atl2NmfSHelper.getPossibleRuleInfosForInputTypeInfo(
+						inputEcoreAnalyzer.getTypeInfo("AA")))));
+	}
+
+	/**
+	 * Ambiguous input type test. The two rules of the type B are resolved depending on the expected output type.
+	 */
+	@Test
+	public void AmbiguousInputTypeTest() {
+		TypeInfo inputTypeInfo = inputEcoreAnalyzer.getTypeInfo("B");
+		Assert.assertEquals(Arrays.asList("RuleB2Element", "RuleB2SubElement"),
+				getRuleNames(atl2NmfSHelper.getPossibleRuleInfosForInputTypeInfo(inputTypeInfo)));
+
+		for (String outputTypeName : Arrays.asList("Element", "SubElement")) {
+			List<RuleInfo> expectedRuleInfos = getRequiredRuleInfosLinear(inputTypeInfo,
+					outputEcoreAnalyzer.getTypeInfo(outputTypeName));
+
+			List<RuleInfo> requiredRuleInfos = atl2NmfSHelper.getRequiredRuleInfos("TypeA", "B", "TypeB",
+					outputTypeName);
+			Assert.assertEquals(outputTypeName, getRuleNames(expectedRuleInfos), getRuleNames(requiredRuleInfos));
+
+			// the second call is answered from the cache
+			List<RuleInfo> cachedRuleInfos = atl2NmfSHelper.getRequiredRuleInfos("TypeA", "B", "TypeB",
+					outputTypeName);
+			Assert.assertSame(outputTypeName, requiredRuleInfos, cachedRuleInfos);
+		}
+
+		Assert.assertEquals(Arrays.asList("RuleB2Element", "RuleB2SubElement"),
+				getRuleNames(atl2NmfSHelper.getRequiredRuleInfos("TypeA", "B", "TypeB", "Element")));
+		Assert.assertEquals(Arrays.asList("RuleB2SubElement"),
+				getRuleNames(atl2NmfSHelper.getRequiredRuleInfos("TypeA", "B", "TypeB", "SubElement")));
+	}
+
+	/**
+	 * Gets the possible rules of the passed input type with a linear scan over all rules.
+	 *
+	 * @param inputTypeInfo
+	 *            the input type info
+	 * @return the possible rule infos
+	 */
+	private List<RuleInfo> getPossibleRuleInfosLinear(TypeInfo inputTypeInfo) {
+		List<RuleInfo> possibleRuleInfos = new ArrayList<RuleInfo>();
+		possibleRuleInfos.addAll(getMatchedRuleInfosLinear(inputTypeInfo.getName()));
+		for (TypeInfo subTypeInfo : inputTypeInfo.getSubTypeInfos()) {
+			possibleRuleInfos.addAll(getMatchedRuleInfosLinear(subTypeInfo.getName()));
+		}
+
+		return possibleRuleInfos;
+	}
+
+	/**
+	 * Gets the matched rules of the passed input type with a linear scan over all rules.
+	 *
+	 * @param inputTypeName
+	 *            the input type name
+	 * @return the matched rule infos
+	 */
+	private List<RuleInfo> getMatchedRuleInfosLinear(String inputTypeName) {
+		List<RuleInfo> matchedRuleInfos = new ArrayList<RuleInfo>();
+		for (RuleInfo ruleInfo : atl2NmfSHelper.getAllRuleInfos()) {
+			if (ruleInfo.getRuleType() == RuleType.MATCHED && ruleInfo.getInputTypeName().equals(inputTypeName)) {
+				matchedRuleInfos.add(ruleInfo);
+			}
+		}
+
+		return matchedRuleInfos;
+	}
+
+	/**
+	 * Gets the required rules of the passed input and expected output type with a linear scan over all rules.
+	 *
+	 * @param inputTypeInfo
+	 *            the input type info
+	 * @param outputTypeInfo
+	 *            the expected output type info
+	 * @return the required rule infos
+	 */
+	private List<RuleInfo> getRequiredRuleInfosLinear(TypeInfo inputTypeInfo, TypeInfo outputTypeInfo) {
+		List<RuleInfo> requiredRuleInfos = new ArrayList<RuleInfo>();
+		for (RuleInfo ruleInfo : getPossibleRuleInfosLinear(inputTypeInfo)) {
+			TypeInfo ruleOutputTypeInfo = outputEcoreAnalyzer.getTypeInfo(ruleInfo.getOutputTypeName());
+			if (ruleOutputTypeInfo == outputTypeInfo || outputTypeInfo.getSubTypeInfos().contains(ruleOutputTypeInfo)) {
+				requiredRuleInfos.add(ruleInfo);
+			}
+		}
+
+		return requiredRuleInfos;
+	}
+
+	/**
+	 * Gets the names of the passed rules in their order.
+	 *
+	 * @param ruleInfos
+	 *            the rule infos
+	 * @return the rule names
+	 */
+	private static List<String> getRuleNames(List<RuleInfo> ruleInfos) {
+		List<String> ruleNames = new ArrayList<String>();
+		for (RuleInfo ruleInfo : ruleInfos) {
+			ruleNames.add(ruleInfo.getName());
+		}
+
+		return ruleNames;
+	}
+
+	/**
+	 * Sorts the passed names in the order of the rules in the Inheritance transformation.
+	 *
+	 * @param ruleNames
+	 *            the rule names
+	 * @return the sorted rule names
+	 */
+	private List<String> sorted(List<String> ruleNames) {
+		List<String> sortedRuleNames = new ArrayList<String>();
+		for (RuleInfo ruleInfo : atl2NmfSHelper.getAllRuleInfos()) {
+			if (ruleNames.contains(ruleInfo.getName())) {
+				sortedRuleNames.add(ruleInfo.getName());
+			}
+		}
+
+		return sortedRuleNames;
+	}
+}
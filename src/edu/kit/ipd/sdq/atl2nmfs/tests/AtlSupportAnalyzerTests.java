@@ -0,0 +1,124 @@
+package edu.kit.ipd.sdq.atl2nmfs.tests;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.m2m.atl.common.ATL.Library;
+import org.eclipse.m2m.atl.common.OCL.Iterator;
+import org.eclipse.m2m.atl.common.OCL.IteratorExp;
+import org.eclipse.m2m.atl.common.OCL.OCLFactory;
+import org.eclipse.m2m.atl.common.OCL.OperatorCallExp;
+import org.eclipse.m2m.atl.common.OCL.VariableExp;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import edu.kit.ipd.sdq.atl2nmfs.helper.AtlSupportAnalyzer;
+import edu.kit.ipd.sdq.atl2nmfs.helper.AtlSupportAnalyzerImpl;
+import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclIteratorTransformerImpl;
+import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOperatorTransformerImpl;
+import edu.kit.ipd.sdq.atl2nmfs.utils.AtlParserUtils;
+
+/**
+ * The AtlSupportAnalyzerTests Class.
+ */
+public class AtlSupportAnalyzerTests {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	/**
+	 * Supported transformations test. The bundled transformations must not be rejected.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void SupportedTransformationsTest() throws Exception {
+		String[] transformationNames = { "A2BHelperWithoutContext", "A2BMultipleInputAndOutput",
+				"A2BMultipleInputSameType", "Families2Persons", "PetriNet2Grafcet", "PortV3", "TestTransformation" };
+
+		for (String transformationName : transformationNames) {
+			AtlSupportAnalyzer atlSupportAnalyzer = analyze(
+					"resources/" + transformationName + "/" + transformationName + ".atl");
+			Assert.assertTrue(transformationName + ": " + atlSupportAnalyzer.getUnsupportedConstructs(),
+					atlSupportAnalyzer.isSupported());
+		}
+	}
+
+	/**
+	 * Unsupported constructs test. All unsupported constructs are collected in one analysis.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void UnsupportedConstructsTest() throws Exception {
+		File transformationFile = temporaryFolder.newFile("Unsupported.atl");
+		FileUtils.writeStringToFile(transformationFile,
+				"module Unsupported;\n"
+				+ "create OUT : TypeB from IN1 : TypeA, IN2 : TypeA;\n"
+				+ "rule RuleA {\n"
+				+ "	from\n"
+				+ "		s : TypeA!A,\n"
+				+ "		o : TypeA!B\n"
+				+ "	to\n"
+				+ "		t : TypeB!A(\n"
+				+ "			name <- let n : String = s.nameA in n.toUpper(),\n"
+				+ "			elms <- TypeA!B.allInstances()\n"
+				+ "		)\n"
+				+ "}\n",
+				StandardCharsets.UTF_8.name());
+
+		AtlSupportAnalyzer atlSupportAnalyzer = analyze(transformationFile.getPath());
+		List<String> unsupportedConstructs = atlSupportAnalyzer.getUnsupportedConstructs();
+
+		Assert.assertFalse(atlSupportAnalyzer.isSupported());
+		Assert.assertEquals(unsupportedConstructs.toString(), 4, unsupportedConstructs.size());
+		Assert.assertTrue(unsupportedConstructs.stream().anyMatch(construct -> construct.contains("Multiple Input")));
+		Assert.assertTrue(unsupportedConstructs.stream().anyMatch(construct -> construct.contains("LetExp")));
+		Assert.assertTrue(unsupportedConstructs.stream().anyMatch(construct -> construct.contains("toUpper")));
+		Assert.assertTrue(unsupportedConstructs.stream().anyMatch(construct -> construct.contains("allInstances")));
+	}
+
+	/**
+	 * Supported names test. Every operator and iterator which is supported by the analyzer must be transformed
+	 * by the OCL transformers.
+	 */
+	@Test
+	public void SupportedNamesTest() {
+		OclOperatorTransformerImpl operatorTransformer = new OclOperatorTransformerImpl();
+		for (String operatorName : OclOperatorTransformerImpl.SUPPORTEDOPERATORNAMES) {
+			OperatorCallExp operatorCallExp = OCLFactory.eINSTANCE.createOperatorCallExp();
+			operatorCallExp.setOperationName(operatorName);
+			Assert.assertFalse(operatorName, operatorTransformer.transform(operatorCallExp, "a", "b").isEmpty());
+		}
+
+		OclIteratorTransformerImpl iteratorTransformer = new OclIteratorTransformerImpl(null);
+		for (String iteratorName : OclIteratorTransformerImpl.SUPPORTEDITERATORNAMES) {
+			IteratorExp iteratorExp = OCLFactory.eINSTANCE.createIteratorExp();
+			iteratorExp.setName(iteratorName);
+			Iterator iterator = OCLFactory.eINSTANCE.createIterator();
+			iterator.setVarName("e");
+			iteratorExp.getIterators().add(iterator);
+			VariableExp body = OCLFactory.eINSTANCE.createVariableExp();
+			Assert.assertFalse(iteratorName, iteratorTransformer.transform(iteratorExp, "a", "e", body, false).isEmpty());
+		}
+	}
+
+	/**
+	 * Analyzes the support of a transformation without libraries.
+	 *
+	 * @param transformationFilePath
+	 *            the transformation file path
+	 * @return the atl support analyzer
+	 * @throws Exception
+	 */
+	private static AtlSupportAnalyzer analyze(String transformationFilePath) throws Exception {
+		AtlSupportAnalyzer atlSupportAnalyzer = new AtlSupportAnalyzerImpl();
+		atlSupportAnalyzer.analyzeSupport(AtlParserUtils.parseModule(transformationFilePath), new ArrayList<Library>());
+		return atlSupportAnalyzer;
+	}
+}
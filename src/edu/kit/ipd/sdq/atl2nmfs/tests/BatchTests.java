@@ -0,0 +1,50 @@
+package edu.kit.ipd.sdq.atl2nmfs.tests;
+
+import java.io.File;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.atl2nmfs.Atl2NmfSynchronizationsBatch;
+import edu.kit.ipd.sdq.atl2nmfs.batch.BatchJobInfo;
+import edu.kit.ipd.sdq.atl2nmfs.batch.BatchJobResult;
+import edu.kit.ipd.sdq.atl2nmfs.utils.BatchManifestUtils;
+
+/**
+ * The BatchTests Class.
+ */
+public class BatchTests {
+
+	/**
+	 * Executes the Atl2NmfS HOT for all jobs of the sample batch manifest
+	 * concurrently and checks that every job created its project file.
+	 */
+	@Test
+	public void SampleBatchTest() {
+		List<BatchJobInfo> jobInfos = null;
+		try {
+			jobInfos = BatchManifestUtils.parseManifest("resources/BatchManifest.txt");
+		} catch (Exception exception) {
+			Assert.fail("Parsing of the batch manifest failed. Exception message: " + exception.getMessage());
+		}
+		Assert.assertEquals(4, jobInfos.size());
+
+		List<BatchJobResult> results = null;
+		try {
+			results = new Atl2NmfSynchronizationsBatch(2).run(jobInfos);
+		} catch (Exception exception) {
+			Assert.fail("Execution of the batch failed. Exception message: " + exception.getMessage());
+		}
+		Atl2NmfSynchronizationsBatch.printReport(results);
+
+		Assert.assertEquals(jobInfos.size(), results.size());
+		for (BatchJobResult result : results) {
+			Assert.assertTrue(result.isSuccessful());
+
+			BatchJobInfo jobInfo = result.getJobInfo();
+			File projectFile = new File(jobInfo.getOutputPath() + "/" + jobInfo.getTransformationName() + ".csproj");
+			Assert.assertTrue(projectFile.exists());
+		}
+	}
+}
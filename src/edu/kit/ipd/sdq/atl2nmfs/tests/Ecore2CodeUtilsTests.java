@@ -0,0 +1,73 @@
+package edu.kit.ipd.sdq.atl2nmfs.tests;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import edu.kit.ipd.sdq.atl2nmfs.utils.Ecore2CodeUtils;
+
+/**
+ * The Ecore2CodeUtilsTests Class.
+ */
+public class Ecore2CodeUtilsTests {
+
+	private static final String CACHEDIRECTORYPROPERTY = "atl2nmfs.ecore2code.cache";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private File cacheDirectory;
+
+	/**
+	 * Uses an empty cache directory for each test.
+	 *
+	 * @throws Exception
+	 */
+	@Before
+	public void setUp() throws Exception {
+		cacheDirectory = temporaryFolder.newFolder("cache");
+		System.setProperty(CACHEDIRECTORYPROPERTY, cacheDirectory.getPath());
+	}
+
+	/**
+	 * Resets the cache directory.
+	 */
+	@After
+	public void tearDown() {
+		System.clearProperty(CACHEDIRECTORYPROPERTY);
+	}
+
+	/**
+	 * Incomplete cache directory test. A cache directory which was left incomplete by an aborted run must
+	 * be replaced by the next run.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void IncompleteCacheDirectoryTest() throws Exception {
+		String metamodelPath = "resources/Families2Persons/Families.ecore";
+		File codeFile = new File(temporaryFolder.getRoot(), "Families.cs");
+		File nmfFile = new File(temporaryFolder.getRoot(), "Families.nmf");
+
+		Assert.assertFalse(Ecore2CodeUtils.transform(metamodelPath, "Test", codeFile.getPath(), nmfFile.getPath()));
+		Assert.assertTrue(Ecore2CodeUtils.transform(metamodelPath, "Test", codeFile.getPath(), nmfFile.getPath()));
+
+		// simulate an aborted run which only created some of the files
+		File[] cacheEntries = cacheDirectory.listFiles();
+		Assert.assertEquals(1, cacheEntries.length);
+		Assert.assertTrue(new File(cacheEntries[0], ".complete").delete());
+		Assert.assertTrue(new File(cacheEntries[0], "Families.cs").delete());
+
+		codeFile.delete();
+		nmfFile.delete();
+		Assert.assertFalse(Ecore2CodeUtils.transform(metamodelPath, "Test", codeFile.getPath(), nmfFile.getPath()));
+		Assert.assertTrue(codeFile.isFile());
+		Assert.assertTrue(nmfFile.isFile());
+		Assert.assertTrue(Ecore2CodeUtils.transform(metamodelPath, "Test", codeFile.getPath(), nmfFile.getPath()));
+	}
+}
@@ -0,0 +1,175 @@
+package edu.kit.ipd.sdq.atl2nmfs.tests;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzer;
+import edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzerFactory;
+import edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzerFactoryImpl;
+import edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzerImpl;
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.ReturnTypeInfo;
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.TypeInfo;
+
+/**
+ * The EcoreAnalyzerTests Class.
+ */
+public class EcoreAnalyzerTests {
+
+	private static final String METAMODELPATH = "resources/Families2Persons/Families.ecore";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	/**
+	 * Type hierarchy test.
+	 */
+	@Test
+	public void TypeHierarchyTest() {
+		EcoreAnalyzer ecoreAnalyzer = new EcoreAnalyzerImpl("Families", METAMODELPATH);
+
+		TypeInfo memberTypeInfo = ecoreAnalyzer.getTypeInfo("Member");
+		TypeInfo famElemTypeInfo = ecoreAnalyzer.getTypeInfo("FamElem");
+		Assert.assertEquals("Families", memberTypeInfo.getMetamodelName());
+		Assert.assertTrue(memberTypeInfo.getSuperTypeInfos().contains(famElemTypeInfo));
+		Assert.assertTrue(famElemTypeInfo.getSubTypeInfos().contains(memberTypeInfo));
+		Assert.assertEquals(2, famElemTypeInfo.getSubTypeInfos().size());
+
+		try {
+			ecoreAnalyzer.getTypeInfo("Person");
+			Assert.fail("An unknown type must not be resolved");
+		} catch (IllegalArgumentException exception) {
+			// expected
+		}
+	}
+
+	/**
+	 * Lowercase type names test. The type infos are registered with their capitalized names, so a classifier with
+	 * a lowercase name must get a single type info which is shared with its super and sub types.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void LowercaseTypeNamesTest() throws Exception {
+		File metamodelFile = temporaryFolder.newFile("Lowercase.ecore");
+		FileUtils.writeStringToFile(metamodelFile, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<ecore:EPackage xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\"\n"
+				+ "    xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"\n"
+				+ "    xmlns:ecore=\"http://www.eclipse.org/emf/2002/Ecore\" name=\"Lowercase\"\n"
+				+ "    nsURI=\"http://lowercase\" nsPrefix=\"lowercase\">\n"
+				+ "  <eClassifiers xsi:type=\"ecore:EClass\" name=\"element\" abstract=\"true\"/>\n"
+				+ "  <eClassifiers xsi:type=\"ecore:EClass\" name=\"node\" eSuperTypes=\"#//element\"/>\n"
+				+ "  <eClassifiers xsi:type=\"ecore:EClass\" name=\"edge\" eSuperTypes=\"#//element\"/>\n"
+				+ "</ecore:EPackage>\n", StandardCharsets.UTF_8);
+
+		EcoreAnalyzer ecoreAnalyzer = new EcoreAnalyzerImpl("Lowercase", metamodelFile.getAbsolutePath());
+
+		TypeInfo elementTypeInfo = ecoreAnalyzer.getTypeInfo("Element");
+		TypeInfo nodeTypeInfo = ecoreAnalyzer.getTypeInfo("Node");
+		TypeInfo edgeTypeInfo = ecoreAnalyzer.getTypeInfo("Edge");
+		Assert.assertEquals("Element", elementTypeInfo.getName());
+		Assert.assertEquals(2, elementTypeInfo.getSubTypeInfos().size());
+		Assert.assertTrue(elementTypeInfo.getSubTypeInfos().contains(nodeTypeInfo));
+		Assert.assertTrue(elementTypeInfo.getSubTypeInfos().contains(edgeTypeInfo));
+		Assert.assertEquals(1, nodeTypeInfo.getSuperTypeInfos().size());
+		Assert.assertSame(elementTypeInfo, nodeTypeInfo.getSuperTypeInfos().get(0));
+		Assert.assertSame(elementTypeInfo, edgeTypeInfo.getSuperTypeInfos().get(0));
+	}
+
+	/**
+	 * Feature index test.
+	 */
+	@Test
+	public void FeatureIndexTest() {
+		EcoreAnalyzer ecoreAnalyzer = new EcoreAnalyzerImpl("Families", METAMODELPATH);
+
+		Assert.assertTrue(ecoreAnalyzer.isFeaturesTypeComplex("Family", "sons"));
+		Assert.assertTrue(ecoreAnalyzer.isFeaturesTypeACollection("Family", "sons"));
+		Assert.assertFalse(ecoreAnalyzer.isFeaturesTypeComplex("Member", "firstName"));
+		Assert.assertFalse(ecoreAnalyzer.isFeaturesTypeACollection("Family", "father"));
+
+		ReturnTypeInfo returnTypeInfo = ecoreAnalyzer.getReturnTypeInfoOfFeature("Member", "familyFather");
+		Assert.assertEquals("Family", returnTypeInfo.getTypeName());
+		Assert.assertFalse(returnTypeInfo.getIsTypeCollection());
+	}
+
+	/**
+	 * Containment reference test. The references are resolved on the passed classifier, so a feature which is
+	 * only defined in the sub types of the classifier is not found.
+	 */
+	@Test
+	public void ContainmentReferenceTest() {
+		EcoreAnalyzer ecoreAnalyzer = new EcoreAnalyzerImpl("PetriNet", "resources/PetriNet2Grafcet/PetriNet.ecore");
+
+		Assert.assertTrue(ecoreAnalyzer.hasFeature("PetriNet", "elements"));
+		Assert.assertTrue(ecoreAnalyzer.isContainmentReference("PetriNet", "elements"));
+		Assert.assertTrue(ecoreAnalyzer.hasFeature("Place", "incomingArc"));
+		Assert.assertFalse(ecoreAnalyzer.isContainmentReference("Place", "incomingArc"));
+		Assert.assertFalse(ecoreAnalyzer.isContainmentReference("Place", "net"));
+		Assert.assertFalse(ecoreAnalyzer.isContainmentReference("Place", "name"));
+
+		Assert.assertFalse(ecoreAnalyzer.hasFeature("Element", "incomingArc"));
+		Assert.assertFalse(ecoreAnalyzer.hasFeature("UnknownClassifier", "elements"));
+	}
+
+	/**
+	 * Reverse type index test.
+	 */
+	@Test
+	public void ReverseTypeIndexTest() {
+		EcoreAnalyzer ecoreAnalyzer = new EcoreAnalyzerImpl("Families", METAMODELPATH);
+
+		List<TypeInfo> typeInfosContainingMember = ecoreAnalyzer.getAllTypeInfosThatContainFeatureWithType("Member");
+		Assert.assertEquals(1, typeInfosContainingMember.size());
+		Assert.assertEquals("Family", typeInfosContainingMember.get(0).getName());
+
+		List<TypeInfo> typeInfosContainingString = ecoreAnalyzer.getAllTypeInfosThatContainFeatureWithType("EString");
+		Assert.assertEquals(2, typeInfosContainingString.size());
+
+		Assert.assertTrue(ecoreAnalyzer.getAllTypeInfosThatContainFeatureWithType("FamElem").isEmpty());
+	}
+
+	/**
+	 * Ecore analyzer cache test.
+	 */
+	@Test
+	public void EcoreAnalyzerCacheTest() {
+		EcoreAnalyzerFactory ecoreAnalyzerFactory = new EcoreAnalyzerFactoryImpl();
+		ecoreAnalyzerFactory.clearCache();
+
+		EcoreAnalyzer ecoreAnalyzer = ecoreAnalyzerFactory.create("Families", METAMODELPATH);
+		// the metamodel is only analyzed once per process, also by other factories
+		Assert.assertSame(ecoreAnalyzer, ecoreAnalyzerFactory.create("Families", METAMODELPATH));
+		Assert.assertSame(ecoreAnalyzer, new EcoreAnalyzerFactoryImpl().create("Families", METAMODELPATH));
+
+		Assert.assertEquals(2, ecoreAnalyzerFactory.getCacheStatistics().getHits());
+		Assert.assertEquals(1, ecoreAnalyzerFactory.getCacheStatistics().getMisses());
+	}
+
+	/**
+	 * Ecore analyzer cache size test. The least recently used metamodel is removed if the cache is full.
+	 */
+	@Test
+	public void EcoreAnalyzerCacheSizeTest() {
+		EcoreAnalyzerFactory ecoreAnalyzerFactory = new EcoreAnalyzerFactoryImpl();
+		ecoreAnalyzerFactory.clearCache();
+		System.setProperty("atl2nmfs.ecoreanalyzer.cache.size", "1");
+		try {
+			EcoreAnalyzer ecoreAnalyzer = ecoreAnalyzerFactory.create("Families", METAMODELPATH);
+			ecoreAnalyzerFactory.create("Persons", "resources/Families2Persons/Persons.ecore");
+			Assert.assertNotSame(ecoreAnalyzer, ecoreAnalyzerFactory.create("Families", METAMODELPATH));
+
+			Assert.assertEquals(0, ecoreAnalyzerFactory.getCacheStatistics().getHits());
+			Assert.assertEquals(3, ecoreAnalyzerFactory.getCacheStatistics().getMisses());
+		} finally {
+			System.clearProperty("atl2nmfs.ecoreanalyzer.cache.size");
+			ecoreAnalyzerFactory.clearCache();
+		}
+	}
+}
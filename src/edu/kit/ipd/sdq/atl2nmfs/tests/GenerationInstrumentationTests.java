@@ -0,0 +1,154 @@
+package edu.kit.ipd.sdq.atl2nmfs.tests;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.atl2nmfs.Atl2NmfSynchronizations;
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions;
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.ExternalProcessInfo;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentationImpl;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationListener;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationReport;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.PhaseInfo;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.RuntimeMetrics;
+import edu.kit.ipd.sdq.atl2nmfs.utils.ExecutionUtils;
+import edu.kit.ipd.sdq.atl2nmfs.utils.GenerationReportUtils;
+
+/**
+ * The GenerationInstrumentationTests Class.
+ */
+public class GenerationInstrumentationTests {
+
+	/**
+	 * Report test.
+	 */
+	@Test
+	public void ReportTest() {
+		final List<PhaseInfo> finishedPhases = new ArrayList<PhaseInfo>();
+		final List<GenerationReport> finishedReports = new ArrayList<GenerationReport>();
+
+		GenerationInstrumentation instrumentation = new GenerationInstrumentationImpl();
+		instrumentation.addListener(new GenerationListener() {
+			@Override
+			public void phaseFinished(String transformationName, PhaseInfo phaseInfo) {
+				finishedPhases.add(phaseInfo);
+			}
+
+			@Override
+			public void generationFinished(GenerationReport generationReport) {
+				finishedReports.add(generationReport);
+			}
+		});
+
+		instrumentation.startGeneration("Families2Persons");
+		instrumentation.finishPhase(instrumentation.startPhase("transformRules"));
+		instrumentation.recordRuleTransformation("Member2Male", 1000000);
+		instrumentation.recordRuleTransformation("Member2Male", 500000);
+		instrumentation.recordHelperTransformation("familyName", 2000000);
+		instrumentation.incrementCounter("bindings", 2);
+		instrumentation.incrementCounter("bindings", 3);
+		instrumentation.recordExternalProcess(new ExternalProcessInfo("Ecore2Code", "Families.ecore", 1000000, true));
+		GenerationReport report = instrumentation
+				.finishGeneration(Arrays.asList(new CacheStatisticsInfo("Test", 3, 1)));
+
+		Assert.assertEquals(1, finishedPhases.size());
+		Assert.assertEquals("transformRules", finishedPhases.get(0).getName());
+		Assert.assertEquals(1, finishedReports.size());
+		Assert.assertSame(report, finishedReports.get(0));
+
+		Assert.assertEquals("Families2Persons", report.getTransformationName());
+		Assert.assertEquals(Long.valueOf(1500000), report.getRuleDurations().get("Member2Male"));
+		Assert.assertEquals(5, report.getCounter("bindings"));
+		Assert.assertEquals(0, report.getCounter("helpers"));
+
+		String json = GenerationReportUtils.toJson(report);
+		Assert.assertTrue(json.contains("\"transformationName\": \"Families2Persons\""));
+		Assert.assertTrue(json.contains("\"Member2Male\": 1.500"));
+		Assert.assertTrue(json.contains("\"bindings\": 5"));
+		Assert.assertTrue(json.contains("\"cacheHit\": true"));
+		Assert.assertTrue(json.contains("\"hitRate\": 0.7500"));
+
+		// a new generation discards the previous measurements
+		instrumentation.startGeneration("PetriNet2PNML");
+		Assert.assertTrue(instrumentation.finishGeneration(new ArrayList<CacheStatisticsInfo>()).getCounters().isEmpty());
+	}
+
+	/**
+	 * Up to date report test. An incremental generation which is skipped because the generated code is up to
+	 * date must still finish its report.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void UpToDateReportTest() throws Exception {
+		String outputPath = "generated/UpToDateReport";
+		FileUtils.deleteDirectory(new File(outputPath));
+
+		GenerationOptions options = new GenerationOptions();
+		options.setIncremental(true);
+		Atl2NmfSynchronizations atl2NmfSynchronizations = new Atl2NmfSynchronizations(options);
+
+		final List<GenerationReport> finishedReports = new ArrayList<GenerationReport>();
+		atl2NmfSynchronizations.addGenerationListener(new GenerationListener() {
+			@Override
+			public void phaseFinished(String transformationName, PhaseInfo phaseInfo) {
+			}
+
+			@Override
+			public void generationFinished(GenerationReport generationReport) {
+				finishedReports.add(generationReport);
+			}
+		});
+
+		for (int run = 0; run < 2; run++) {
+			atl2NmfSynchronizations.doGenerate("Families2Persons",
+					"resources/Families2Persons/Families2Persons.atl", outputPath,
+					Arrays.asList("resources/Families2Persons/Families.ecore"),
+					Arrays.asList("resources/Families2Persons/Persons.ecore"));
+		}
+
+		Assert.assertEquals(2, finishedReports.size());
+		Assert.assertEquals(0, finishedReports.get(0).getCounter("upToDate"));
+		Assert.assertEquals(1, finishedReports.get(1).getCounter("upToDate"));
+		// the metamodels are not loaded if the generated code is up to date
+		for (PhaseInfo phaseInfo : finishedReports.get(1).getPhaseInfos()) {
+			Assert.assertNotEquals("analyzeSupport", phaseInfo.getName());
+		}
+		Assert.assertSame(finishedReports.get(1), atl2NmfSynchronizations.getLastGenerationReport());
+		Assert.assertTrue(GenerationReportUtils.getReportFile(outputPath, "Families2Persons").isFile());
+	}
+
+	/**
+	 * Runtime metrics parse test.
+	 */
+	@Test
+	public void RuntimeMetricsParseTest() {
+		String json = "{\n  \"modelSets\": 2,\n  \"inputElements\": 1200,\n  \"loadMilliseconds\": 12.5,\n"
+				+ "  \"synchronizeMilliseconds\": 40,\n  \"synchronizeWallMilliseconds\": 25,\n"
+				+ "  \"saveMilliseconds\": 7.25,\n  \"totalMilliseconds\": 80.125,\n"
+				+ "  \"elementsPerSecond\": 48000,\n  \"peakManagedMemoryBytes\": 1048576,\n"
+				+ "  \"peakWorkingSetBytes\": 20971520,\n  \"ruleInstantiations\": {\n    \"Member2Female\": 4,\n"
+				+ "    \"Member2Male\": 6\n  }\n}\n";
+
+		RuntimeMetrics runtimeMetrics = ExecutionUtils.parseRuntimeMetrics(json);
+		Assert.assertEquals(2, runtimeMetrics.getModelSets());
+		Assert.assertEquals(1200, runtimeMetrics.getInputElements());
+		Assert.assertEquals(12.5, runtimeMetrics.getLoadMilliseconds(), 0.0);
+		Assert.assertEquals(40.0, runtimeMetrics.getSynchronizeMilliseconds(), 0.0);
+		Assert.assertEquals(25.0, runtimeMetrics.getSynchronizeWallMilliseconds(), 0.0);
+		Assert.assertEquals(7.25, runtimeMetrics.getSaveMilliseconds(), 0.0);
+		Assert.assertEquals(48000.0, runtimeMetrics.getElementsPerSecond(), 0.0);
+		Assert.assertEquals(1048576, runtimeMetrics.getPeakManagedMemoryBytes());
+		Assert.assertEquals(Long.valueOf(4), runtimeMetrics.getRuleInstantiations().get("Member2Female"));
+		Assert.assertEquals(Long.valueOf(6), runtimeMetrics.getRuleInstantiations().get("Member2Male"));
+		Assert.assertFalse(runtimeMetrics.getRuleInstantiations().containsKey("modelSets"));
+	}
+}
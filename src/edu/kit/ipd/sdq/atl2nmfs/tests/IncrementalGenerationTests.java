@@ -0,0 +1,103 @@
+package edu.kit.ipd.sdq.atl2nmfs.tests;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import edu.kit.ipd.sdq.atl2nmfs.Atl2NmfSynchronizations;
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions;
+
+/**
+ * The IncrementalGenerationTests Class.
+ */
+public class IncrementalGenerationTests {
+
+	private static final String FINGERPRINTFILENAME = ".atl2nmfs.fingerprint";
+	private static final String REPORTFILENAMEEXTENSION = ".generationReport.json";
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	/**
+	 * Changed input test. A second incremental generation with a changed binding must only rewrite the file
+	 * which contains the changed rule. All other generated files and the copied libraries must keep their
+	 * timestamps.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void ChangedInputTest() throws Exception {
+		File outputDirectory = new File("generated/Incremental/Families2Persons");
+		FileUtils.deleteDirectory(outputDirectory);
+
+		File transformationFile = new File(temporaryFolder.getRoot(), "Families2Persons.atl");
+		FileUtils.copyFile(new File("resources/Families2Persons/Families2Persons.atl"), transformationFile);
+
+		GenerationOptions options = new GenerationOptions();
+		options.setIncremental(true);
+		Atl2NmfSynchronizations atl2NmfSynchronizations = new Atl2NmfSynchronizations(options);
+		atl2NmfSynchronizations.doGenerate("Families2Persons", transformationFile.getPath(),
+				outputDirectory.getPath(), Arrays.asList("resources/Families2Persons/Families.ecore"),
+				Arrays.asList("resources/Families2Persons/Persons.ecore"));
+
+		// mark all generated files as old, so every rewritten file gets a newer timestamp
+		long oldTimestamp = (System.currentTimeMillis() / 1000 - 3600) * 1000;
+		List<File> generatedFiles = getGeneratedFiles(outputDirectory);
+		for (File generatedFile : generatedFiles) {
+			Assert.assertTrue(generatedFile.setLastModified(oldTimestamp));
+		}
+
+		// change the separator of the binding of the rule Member2Male only
+		String transformation = FileUtils.readFileToString(transformationFile, StandardCharsets.UTF_8);
+		int ruleIndex = transformation.indexOf("rule Member2Male");
+		String changedTransformation = transformation.substring(0, ruleIndex)
+				+ transformation.substring(ruleIndex).replaceFirst("' '", "', '");
+		Assert.assertNotEquals(transformation, changedTransformation);
+		FileUtils.writeStringToFile(transformationFile, changedTransformation, StandardCharsets.UTF_8);
+
+		atl2NmfSynchronizations.doGenerate("Families2Persons", transformationFile.getPath(),
+				outputDirectory.getPath(), Arrays.asList("resources/Families2Persons/Families.ecore"),
+				Arrays.asList("resources/Families2Persons/Persons.ecore"));
+		Assert.assertEquals(0, atl2NmfSynchronizations.getLastGenerationReport().getCounter("upToDate"));
+
+		List<String> rewrittenFilePaths = new ArrayList<String>();
+		for (File generatedFile : getGeneratedFiles(outputDirectory)) {
+			if (generatedFile.lastModified() != oldTimestamp) {
+				rewrittenFilePaths.add(outputDirectory.toPath().relativize(generatedFile.toPath()).toString());
+			}
+		}
+		Assert.assertEquals(Arrays.asList("Families2Persons.cs"), rewrittenFilePaths);
+		Assert.assertTrue(FileUtils.readFileToString(new File(outputDirectory, "Families2Persons.cs"),
+				StandardCharsets.UTF_8).contains("\", \""));
+	}
+
+	/**
+	 * Gets the sorted generated files of the passed directory without the fingerprint and the generation
+	 * report, which are written by every generation.
+	 *
+	 * @param directory
+	 *            the directory
+	 * @return the generated files
+	 */
+	private List<File> getGeneratedFiles(File directory) {
+		Collection<File> files = FileUtils.listFiles(directory, null, true);
+		List<File> generatedFiles = new ArrayList<File>();
+		for (File file : files) {
+			if (!file.getName().equals(FINGERPRINTFILENAME) && !file.getName().endsWith(REPORTFILENAMEEXTENSION)) {
+				generatedFiles.add(file);
+			}
+		}
+
+		generatedFiles.sort(null);
+		return generatedFiles;
+	}
+}
@@ -0,0 +1,62 @@
+package edu.kit.ipd.sdq.atl2nmfs.tests;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.atl2nmfs.utils.JsonUtils;
+
+/**
+ * The JsonUtilsTests Class.
+ */
+public class JsonUtilsTests {
+
+	/**
+	 * Nested values test. Nested objects and arrays must be read with their numbers, strings and literals.
+	 */
+	@Test
+	public void NestedValuesTest() {
+		Map<String, Object> values = JsonUtils.parseObject("{ \"name\": \"Member2Male \\\"x\\\"\\n\\u0041\","
+				+ " \"counts\": [1, -2.5, 3e2], \"nested\": { \"enabled\": true, \"missing\": null, \"empty\": {} } }");
+
+		Assert.assertEquals(Arrays.asList("name", "counts", "nested"), Arrays.asList(values.keySet().toArray()));
+		Assert.assertEquals("Member2Male \"x\"\nA", values.get("name"));
+		Assert.assertEquals(Arrays.asList(Long.valueOf(1), Double.valueOf(-2.5), Double.valueOf(300)),
+				values.get("counts"));
+
+		@SuppressWarnings("unchecked")
+		Map<String, Object> nestedValues = (Map<String, Object>) values.get("nested");
+		Assert.assertEquals(Boolean.TRUE, nestedValues.get("enabled"));
+		Assert.assertTrue(nestedValues.containsKey("missing"));
+		Assert.assertNull(nestedValues.get("missing"));
+		Assert.assertTrue(((Map<?, ?>) nestedValues.get("empty")).isEmpty());
+
+		Assert.assertTrue(((List<?>) JsonUtils.parse(" [ ] ")).isEmpty());
+	}
+
+	/**
+	 * Invalid JSON test. A malformed document must be rejected with the position of the error.
+	 */
+	@Test
+	public void InvalidJsonTest() {
+		for (String json : Arrays.asList("{ \"modelSets\": 2", "{ \"modelSets\" 2 }", "{ \"modelSets\": 2 } 3",
+				"{ \"name\": \"unterminated }", "{ \"modelSets\": two }", "[1, 2]")) {
+			try {
+				JsonUtils.parseObject(json);
+				Assert.fail("The JSON string " + json + " must not be parsed");
+			} catch (IllegalArgumentException exception) {
+				// expected
+			}
+		}
+
+		try {
+			JsonUtils.parse("{ \"modelSets\" 2 }");
+			Assert.fail("A missing colon must not be parsed");
+		} catch (IllegalArgumentException exception) {
+			Assert.assertEquals("Expected ':' at position 14 of the JSON string", exception.getMessage());
+		}
+	}
+}
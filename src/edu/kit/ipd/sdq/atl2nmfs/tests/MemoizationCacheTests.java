@@ -0,0 +1,43 @@
+package edu.kit.ipd.sdq.atl2nmfs.tests;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.atl2nmfs.helper.MemoizationCache;
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo;
+
+/**
+ * The MemoizationCacheTests Class.
+ */
+public class MemoizationCacheTests {
+
+	/**
+	 * Identity key test.
+	 */
+	@Test
+	public void IdentityKeyTest() {
+		MemoizationCache<String> cache = new MemoizationCache<String>("Test");
+		String element = new String("expression");
+		String equalElement = new String("expression");
+		Object secondaryKey = new Object();
+
+		Assert.assertNull(cache.get(element, null));
+		cache.put(element, null, "transformed");
+		cache.put(element, secondaryKey, "transformedWithSecondaryKey");
+
+		Assert.assertEquals("transformed", cache.get(element, null));
+		Assert.assertEquals("transformedWithSecondaryKey", cache.get(element, secondaryKey));
+		// the elements are compared by their identity
+		Assert.assertNull(cache.get(equalElement, null));
+		Assert.assertNull(cache.get(element, new Object()));
+
+		CacheStatisticsInfo statistics = cache.getStatistics();
+		Assert.assertEquals(2, statistics.getHits());
+		Assert.assertEquals(3, statistics.getMisses());
+
+		cache.clear();
+		Assert.assertNull(cache.get(element, null));
+		Assert.assertEquals(0, cache.getStatistics().getHits());
+		Assert.assertEquals(1, cache.getStatistics().getMisses());
+	}
+}
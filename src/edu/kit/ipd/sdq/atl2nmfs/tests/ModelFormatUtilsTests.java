@@ -0,0 +1,40 @@
+package edu.kit.ipd.sdq.atl2nmfs.tests;
+
+import java.io.File;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import edu.kit.ipd.sdq.atl2nmfs.utils.ModelFormatUtils;
+
+/**
+ * The ModelFormatUtilsTests Class.
+ */
+public class ModelFormatUtilsTests {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	/**
+	 * Round trip test. A compressed and decompressed model must be equal to the original model.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void RoundTripTest() throws Exception {
+		File xmiModelFile = new File("resources/Families2Persons/SampleFamilies.xmi");
+		String compressedModelPath = ModelFormatUtils
+				.getCompressedModelPath(new File(temporaryFolder.getRoot(), "SampleFamilies.xmi").getPath());
+		File decompressedModelFile = new File(temporaryFolder.getRoot(), "DecompressedFamilies.xmi");
+
+		ModelFormatUtils.compress(xmiModelFile.getPath(), compressedModelPath);
+		Assert.assertTrue(ModelFormatUtils.isCompressed(compressedModelPath));
+		Assert.assertTrue(new File(compressedModelPath).isFile());
+
+		ModelFormatUtils.decompress(compressedModelPath, decompressedModelFile.getPath());
+		Assert.assertTrue(FileUtils.contentEquals(xmiModelFile, decompressedModelFile));
+	}
+}
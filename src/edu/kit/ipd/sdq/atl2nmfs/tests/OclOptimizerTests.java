@@ -0,0 +1,214 @@
+package edu.kit.ipd.sdq.atl2nmfs.tests;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+
+import org.eclipse.m2m.atl.common.OCL.IntegerExp;
+import org.eclipse.m2m.atl.common.OCL.OCLFactory;
+import org.eclipse.m2m.atl.common.OCL.OclExpression;
+import org.eclipse.m2m.atl.common.OCL.OperatorCallExp;
+import org.eclipse.m2m.atl.common.OCL.RealExp;
+import org.eclipse.m2m.atl.common.OCL.StringExp;
+import org.eclipse.m2m.atl.common.OCL.VariableExp;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import edu.kit.ipd.sdq.atl2nmfs.Atl2NmfSynchronizations;
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions;
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentationImpl;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationReport;
+import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOptimizer;
+import edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOptimizerImpl;
+
+/**
+ * The OclOptimizerTests Class.
+ */
+public class OclOptimizerTests {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	/**
+	 * Constant folding test.
+	 */
+	@Test
+	public void ConstantFoldingTest() {
+		GenerationInstrumentation instrumentation = new GenerationInstrumentationImpl();
+		OclOptimizer optimizer = new OclOptimizerImpl(null, instrumentation, new GenerationOptions());
+		instrumentation.startGeneration("Test");
+
+		// (1 + 2) * 3
+		Assert.assertEquals("9", optimizer.foldConstants(operator("*", operator("+", integer(1), integer(2)), integer(3))));
+		// 1 - 4
+		Assert.assertEquals("(-3)", optimizer.foldConstants(operator("-", integer(1), integer(4))));
+		// 1 / 2.0
+		Assert.assertEquals("0.5", optimizer.foldConstants(operator("/", integer(1), real(2.0))));
+		// 'a' + 'b'
+		Assert.assertEquals("\"ab\"", optimizer.foldConstants(operator("+", string("a"), string("b"))));
+		// 2 > 1
+		Assert.assertEquals("true", optimizer.foldConstants(operator(">", integer(2), integer(1))));
+
+		// the integer division is not folded since it is an integer division in C#
+		Assert.assertNull(optimizer.foldConstants(operator("/", integer(1), integer(2))));
+		// an expression with a variable is not constant
+		VariableExp variable = OCLFactory.eINSTANCE.createVariableExp();
+		Assert.assertNull(optimizer.foldConstants(operator("+", variable, integer(1))));
+
+		GenerationReport report = instrumentation.finishGeneration(new ArrayList<CacheStatisticsInfo>());
+		Assert.assertEquals(5, report.getCounter("oclRewrites"));
+		Assert.assertEquals(Long.valueOf(5), report.getOclRewrites().get("unknown").get("constantFolding"));
+
+		// nothing is folded if the optimization is disabled
+		GenerationOptions options = new GenerationOptions();
+		options.setOclOptimization(false);
+		OclOptimizer disabledOptimizer = new OclOptimizerImpl(null, instrumentation, options);
+		Assert.assertNull(disabledOptimizer.foldConstants(operator("+", integer(1), integer(2))));
+	}
+
+	/**
+	 * Fusion transformation test. The fusible iterator expressions of a transformation are emitted as one LINQ call,
+	 * a select with oclIsKindOf and an iterator with a lazy rule call in its body are not fused.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void FusionTransformationTest() throws Exception {
+		File transformationFile = temporaryFolder.newFile("OclFusion.atl");
+		FileUtils.writeStringToFile(transformationFile,
+				"module OclFusion;\n"
+				+ "create OUT : PathExp from IN : PetriNet;\n"
+				+ "helper context PetriNet!PetriNet def: namedPlaceCount : Integer =\n"
+				+ "	self.places->select(p | p.name = 'a')->size();\n"
+				+ "helper context PetriNet!PetriNet def: allPlacesNamed : Boolean =\n"
+				+ "	self.places->reject(r | r.name = 'a')->isEmpty();\n"
+				+ "helper context PetriNet!PetriNet def: firstNamedPlace : PetriNet!Place =\n"
+				+ "	self.places->select(f | f.name = 'a')->first();\n"
+				+ "helper context PetriNet!PetriNet def: outgoingArcCount : Integer =\n"
+				+ "	self.places->collect(c | c.outgoing)->flatten()->size();\n"
+				+ "helper context PetriNet!PetriNet def: transitionCount : Integer =\n"
+				+ "	self.transitions->select(k | k.oclIsKindOf(PetriNet!Transition))->size();\n"
+				+ "helper context PetriNet!PetriNet def: unmappedPlaceCount : Integer =\n"
+				+ "	self.places->select(l | thisModule.Place2Transition(l).oclIsUndefined())->size();\n"
+				+ "rule PetriNet2PathExp {\n"
+				+ "	from\n"
+				+ "		pn : PetriNet!PetriNet\n"
+				+ "	to\n"
+				+ "		pe : PathExp!PathExp (\n"
+				+ "			name <- pn.name,\n"
+				+ "			transitions <- pn.places->collect(e | thisModule.Place2Transition(e))\n"
+				+ "		)\n"
+				+ "}\n"
+				+ "lazy rule Place2Transition {\n"
+				+ "	from\n"
+				+ "		s : PetriNet!Place\n"
+				+ "	to\n"
+				+ "		t : PathExp!Transition (\n"
+				+ "			name <- s.name\n"
+				+ "		)\n"
+				+ "}\n",
+				StandardCharsets.UTF_8.name());
+		File outputDirectory = temporaryFolder.newFolder("OclFusion.NMFSynchronizations");
+
+		Atl2NmfSynchronizations atl2NmfSynchronizations = new Atl2NmfSynchronizations(new GenerationOptions());
+		atl2NmfSynchronizations.doGenerate("OclFusion", transformationFile.getPath(), outputDirectory.getPath(),
+				Arrays.asList("resources/PetriNet2PathExp/PetriNet.ecore"),
+				Arrays.asList("resources/PetriNet2PathExp/PathExp.ecore"));
+
+		StringBuilder code = new StringBuilder();
+		for (File codeFile : FileUtils.listFiles(outputDirectory, new String[] { "cs" }, false)) {
+			code.append(FileUtils.readFileToString(codeFile, StandardCharsets.UTF_8));
+		}
+		String generatedCode = code.toString();
+
+		// select->size, reject->isEmpty, select->first and collect->flatten are fused
+		Assert.assertTrue(generatedCode.contains(".Count(p => "));
+		Assert.assertFalse(generatedCode.contains(".Where(p => "));
+		Assert.assertTrue(generatedCode.contains(".All(r => "));
+		Assert.assertFalse(generatedCode.contains(".Where(r => "));
+		Assert.assertTrue(generatedCode.contains(".FirstOrDefault(f => "));
+		Assert.assertFalse(generatedCode.contains(".Where(f => "));
+		Assert.assertTrue(generatedCode.contains(".SelectMany(c => "));
+		Assert.assertFalse(generatedCode.contains(".Select(c => "));
+
+		// the select with oclIsKindOf is transformed into OfType and the body with the lazy rule call is not fused
+		Assert.assertTrue(generatedCode.contains(".OfType<"));
+		Assert.assertFalse(generatedCode.contains(".Count(k => "));
+		Assert.assertTrue(generatedCode.contains(".Where(l => "));
+		Assert.assertFalse(generatedCode.contains(".Count(l => "));
+
+		Map<String, Map<String, Long>> oclRewrites = atl2NmfSynchronizations.getLastGenerationReport().getOclRewrites();
+		Assert.assertEquals(Long.valueOf(1), oclRewrites.get("namedPlaceCount").get("select->size"));
+		Assert.assertEquals(Long.valueOf(1), oclRewrites.get("allPlacesNamed").get("reject->isEmpty"));
+		Assert.assertEquals(Long.valueOf(1), oclRewrites.get("firstNamedPlace").get("select->first"));
+		Assert.assertEquals(Long.valueOf(1), oclRewrites.get("outgoingArcCount").get("collect->flatten"));
+		Assert.assertFalse(oclRewrites.containsKey("transitionCount"));
+		Assert.assertFalse(oclRewrites.containsKey("unmappedPlaceCount"));
+	}
+
+	/**
+	 * Creates an operator call expression.
+	 *
+	 * @param operationName
+	 *            the operation name
+	 * @param source
+	 *            the source expression
+	 * @param argument
+	 *            the argument expression
+	 * @return the operator call expression
+	 */
+	private static OperatorCallExp operator(String operationName, OclExpression source, OclExpression argument) {
+		OperatorCallExp expression = OCLFactory.eINSTANCE.createOperatorCallExp();
+		expression.setOperationName(operationName);
+		expression.setSource(source);
+		expression.getArguments().add(argument);
+		return expression;
+	}
+
+	/**
+	 * Creates an integer expression.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the integer expression
+	 */
+	private static IntegerExp integer(int value) {
+		IntegerExp expression = OCLFactory.eINSTANCE.createIntegerExp();
+		expression.setIntegerSymbol(value);
+		return expression;
+	}
+
+	/**
+	 * Creates a real expression.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the real expression
+	 */
+	private static RealExp real(double value) {
+		RealExp expression = OCLFactory.eINSTANCE.createRealExp();
+		expression.setRealSymbol(value);
+		return expression;
+	}
+
+	/**
+	 * Creates a string expression.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the string expression
+	 */
+	private static StringExp string(String value) {
+		StringExp expression = OCLFactory.eINSTANCE.createStringExp();
+		expression.setStringSymbol(value);
+		return expression;
+	}
+}
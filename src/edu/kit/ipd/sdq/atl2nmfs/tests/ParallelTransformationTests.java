@@ -0,0 +1,130 @@
+package edu.kit.ipd.sdq.atl2nmfs.tests;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.atl2nmfs.Atl2NmfSynchronizations;
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions;
+
+/**
+ * The ParallelTransformationTests Class.
+ * The code which is generated with the parallel transformation must be byte identical to the code of a sequential
+ * generation.
+ */
+public class ParallelTransformationTests {
+
+	private static final String REPORTFILENAMEEXTENSION = ".generationReport.json";
+
+	/**
+	 * Generates the passed transformation sequentially and in parallel and compares the generated files.
+	 *
+	 * @param transformationName
+	 *            the transformation name
+	 * @param inputMetamodelNames
+	 *            the file names of the input metamodels
+	 * @param outputMetamodelNames
+	 *            the file names of the output metamodels
+	 */
+	private void GenerateAndCompare(String transformationName, List<String> inputMetamodelNames,
+			List<String> outputMetamodelNames) {
+		String resourcePath = "resources/" + transformationName + "/";
+		File sequentialOutputDirectory = new File("generated/Parallel/" + transformationName + ".Sequential");
+		File parallelOutputDirectory = new File("generated/Parallel/" + transformationName + ".Parallel");
+
+		List<String> inputMetamodelPaths = new ArrayList<String>();
+		for (String inputMetamodelName : inputMetamodelNames) {
+			inputMetamodelPaths.add(resourcePath + inputMetamodelName);
+		}
+		List<String> outputMetamodelPaths = new ArrayList<String>();
+		for (String outputMetamodelName : outputMetamodelNames) {
+			outputMetamodelPaths.add(resourcePath + outputMetamodelName);
+		}
+
+		try {
+			FileUtils.deleteDirectory(sequentialOutputDirectory);
+			FileUtils.deleteDirectory(parallelOutputDirectory);
+
+			GenerationOptions sequentialOptions = new GenerationOptions();
+			sequentialOptions.setParallelTransformation(false);
+			new Atl2NmfSynchronizations(sequentialOptions).doGenerate(transformationName,
+					resourcePath + transformationName + ".atl", sequentialOutputDirectory.getPath(), inputMetamodelPaths,
+					outputMetamodelPaths);
+
+			GenerationOptions parallelOptions = new GenerationOptions();
+			parallelOptions.setParallelTransformation(true);
+			new Atl2NmfSynchronizations(parallelOptions).doGenerate(transformationName,
+					resourcePath + transformationName + ".atl", parallelOutputDirectory.getPath(), inputMetamodelPaths,
+					outputMetamodelPaths);
+		} catch (Exception exception) {
+			Assert.fail("Execution of the Atl2NmfS HOT failed. Exception message: " + exception.getMessage());
+		}
+
+		try {
+			// the generation report contains the measured times and differs between all generations
+			List<String> sequentialFiles = getRelativeFilePaths(sequentialOutputDirectory);
+			Assert.assertEquals(sequentialFiles, getRelativeFilePaths(parallelOutputDirectory));
+			for (String relativeFilePath : sequentialFiles) {
+				Assert.assertTrue(transformationName + ": " + relativeFilePath + " differs",
+						FileUtils.contentEquals(new File(sequentialOutputDirectory, relativeFilePath),
+								new File(parallelOutputDirectory, relativeFilePath)));
+			}
+		} catch (Exception exception) {
+			Assert.fail("The generated files could not be compared. Exception message: " + exception.getMessage());
+		}
+	}
+
+	/**
+	 * Gets the sorted paths of all generated files relative to the passed directory without the generation report.
+	 *
+	 * @param directory
+	 *            the directory
+	 * @return the relative file paths
+	 */
+	private List<String> getRelativeFilePaths(File directory) {
+		Collection<File> files = FileUtils.listFiles(directory, null, true);
+		List<String> relativeFilePaths = new ArrayList<String>();
+		for (File file : files) {
+			String relativeFilePath = directory.toPath().relativize(file.toPath()).toString();
+			if (!relativeFilePath.endsWith(REPORTFILENAMEEXTENSION)) {
+				relativeFilePaths.add(relativeFilePath);
+			}
+		}
+
+		relativeFilePaths.sort(null);
+		return relativeFilePaths;
+	}
+
+	/**
+	 * Bundled cases test. Every bundled transformation is generated sequentially and in parallel.
+	 */
+	@Test
+	public void BundledCasesTest() {
+		GenerateAndCompare("A2BContainment", Arrays.asList("TypeA.ecore"), Arrays.asList("TypeB.ecore"));
+		GenerateAndCompare("A2BHelperWithoutContext", Arrays.asList("TypeA.ecore"), Arrays.asList("TypeB.ecore"));
+		GenerateAndCompare("A2BMultipleInputAndOutput", Arrays.asList("TypeA.ecore", "TypeB.ecore"),
+				Arrays.asList("TypeC.ecore", "TypeD.ecore"));
+		GenerateAndCompare("A2BMultipleInputDifferentType", Arrays.asList("TypeA.ecore", "TypeC.ecore"),
+				Arrays.asList("TypeB.ecore"));
+		GenerateAndCompare("A2BMultipleInputSameType", Arrays.asList("TypeA.ecore"), Arrays.asList("TypeB.ecore"));
+		GenerateAndCompare("A2BMultipleOutput", Arrays.asList("TypeA.ecore"),
+				Arrays.asList("TypeB.ecore", "TypeC.ecore"));
+		GenerateAndCompare("Families2Persons", Arrays.asList("Families.ecore"), Arrays.asList("Persons.ecore"));
+		GenerateAndCompare("Families2PersonsWithLibrary", Arrays.asList("Families.ecore"),
+				Arrays.asList("Persons.ecore"));
+		GenerateAndCompare("Inheritance", Arrays.asList("TypeA.ecore"), Arrays.asList("TypeB.ecore"));
+		GenerateAndCompare("PetriNet2Grafcet", Arrays.asList("PetriNet.ecore"), Arrays.asList("Grafcet.ecore"));
+		GenerateAndCompare("PetriNet2PNML", Arrays.asList("PetriNet.ecore"), Arrays.asList("PNML.ecore"));
+		GenerateAndCompare("PetriNet2PathExp", Arrays.asList("PetriNet.ecore"), Arrays.asList("PathExp.ecore"));
+		GenerateAndCompare("PortV2", Arrays.asList("TypeA.ecore"), Arrays.asList("TypeB.ecore"));
+		GenerateAndCompare("PortV3", Arrays.asList("TypeA.ecore"), Arrays.asList("TypeB.ecore"));
+		GenerateAndCompare("PortV4", Arrays.asList("TypeA.ecore"), Arrays.asList("TypeB.ecore"));
+		GenerateAndCompare("TestTransformation", Arrays.asList("Families.ecore"), Arrays.asList("Persons.ecore"));
+	}
+}
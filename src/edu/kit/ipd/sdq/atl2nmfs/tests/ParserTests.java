@@ -89,4 +89,32 @@ public class ParserTests {
 		Assert.assertNotNull(secondMatchedRule);
 		Assert.assertEquals(secondMatchedRule.getName(), "Member2Female");
 	}
+
+	/**
+	 * Parse cache test.
+	 */
+	@Test
+	public void ParseCacheTest() {
+		String transformationFilePath = "resources/Families2Persons/Families2Persons.atl";
+
+		try {
+			Module parsedModule = AtlParserUtils.parseModule(transformationFilePath);
+			// the same content is only parsed once and all callers get the same element
+			Assert.assertSame(parsedModule, AtlParserUtils.parseModule(transformationFilePath));
+
+			// after the memory cache was cleared the element is loaded from the cache directory
+			AtlParserUtils.clearCache();
+			Module loadedModule = AtlParserUtils.parseModule(transformationFilePath);
+			Assert.assertNotSame(parsedModule, loadedModule);
+			Assert.assertEquals(1, AtlParserUtils.getCacheStatistics().getHits());
+			Assert.assertEquals(0, AtlParserUtils.getCacheStatistics().getMisses());
+
+			Assert.assertEquals(parsedModule.getName(), loadedModule.getName());
+			Assert.assertEquals(parsedModule.getElements().size(), loadedModule.getElements().size());
+			Assert.assertEquals(parsedModule.getInModels().get(0).getMetamodel().getName(),
+					loadedModule.getInModels().get(0).getMetamodel().getName());
+		} catch (Exception exception) {
+			Assert.fail("Parsing of the module failed. Exception message: " + exception.getMessage());
+		}
+	}
 }
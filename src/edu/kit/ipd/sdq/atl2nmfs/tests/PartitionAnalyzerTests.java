@@ -0,0 +1,119 @@
+package edu.kit.ipd.sdq.atl2nmfs.tests;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.m2m.atl.common.ATL.Library;
+import org.eclipse.m2m.atl.common.ATL.Module;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzer;
+import edu.kit.ipd.sdq.atl2nmfs.helper.EcoreAnalyzerImpl;
+import edu.kit.ipd.sdq.atl2nmfs.helper.PartitionAnalyzer;
+import edu.kit.ipd.sdq.atl2nmfs.helper.PartitionAnalyzerImpl;
+import edu.kit.ipd.sdq.atl2nmfs.utils.AtlParserUtils;
+
+/**
+ * The PartitionAnalyzerTests Class.
+ */
+public class PartitionAnalyzerTests {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	/**
+	 * Partitionable transformation test. The helpers of Families2Persons only navigate to the container of a
+	 * member.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void PartitionableTransformationTest() throws Exception {
+		PartitionAnalyzer partitionAnalyzer = analyze("resources/Families2Persons/Families2Persons.atl",
+				new EcoreAnalyzerImpl("Families", "resources/Families2Persons/Families.ecore"));
+
+		Assert.assertTrue(partitionAnalyzer.isPartitionable());
+		Assert.assertTrue(partitionAnalyzer.getPartitionBlockers().isEmpty());
+	}
+
+	/**
+	 * All instances test.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void AllInstancesTest() throws Exception {
+		PartitionAnalyzer partitionAnalyzer = analyze("resources/PortV3/PortV3.atl",
+				new EcoreAnalyzerImpl("TypeA", "resources/PortV3/TypeA.ecore"));
+
+		Assert.assertFalse(partitionAnalyzer.isPartitionable());
+		Assert.assertEquals(2, partitionAnalyzer.getPartitionBlockers().size());
+		Assert.assertTrue(partitionAnalyzer.getPartitionBlockers().get(0).contains("allInstances"));
+	}
+
+	/**
+	 * Cross reference test.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void CrossReferenceTest() throws Exception {
+		EcoreAnalyzer ecoreAnalyzer = new EcoreAnalyzerImpl("PetriNet", "resources/PetriNet2Grafcet/PetriNet.ecore");
+		Assert.assertTrue(ecoreAnalyzer.isCrossReference("Place", "incomingArc"));
+		Assert.assertFalse(ecoreAnalyzer.isCrossReference("PetriNet", "elements"));
+		Assert.assertFalse(ecoreAnalyzer.isCrossReference("Place", "net"));
+
+		PartitionAnalyzer partitionAnalyzer = analyze("resources/PetriNet2Grafcet/PetriNet2Grafcet.atl",
+				ecoreAnalyzer);
+		Assert.assertFalse(partitionAnalyzer.isPartitionable());
+		Assert.assertTrue(partitionAnalyzer.getPartitionBlockers().stream()
+				.anyMatch(partitionBlocker -> partitionBlocker.contains("incomingArc")));
+	}
+
+	/**
+	 * Unresolved feature test. The feature incomingArc is only defined in the sub types of the helper context,
+	 * so it can't be resolved and could be a cross reference.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void UnresolvedFeatureTest() throws Exception {
+		File transformationFile = temporaryFolder.newFile("Unresolved.atl");
+		FileUtils.writeStringToFile(transformationFile,
+				"module Unresolved;\n" + "create OUT : Grafcet from IN : PetriNet;\n\n"
+						+ "helper context PetriNet!Element def: incomingArcCount : Integer =\n"
+						+ "\tself.incomingArc->size();\n",
+				StandardCharsets.UTF_8);
+
+		PartitionAnalyzer partitionAnalyzer = analyze(transformationFile.getPath(),
+				new EcoreAnalyzerImpl("PetriNet", "resources/PetriNet2Grafcet/PetriNet.ecore"));
+		Assert.assertFalse(partitionAnalyzer.isPartitionable());
+		Assert.assertEquals(1, partitionAnalyzer.getPartitionBlockers().size());
+		Assert.assertTrue(partitionAnalyzer.getPartitionBlockers().get(0).contains("can't be resolved"));
+	}
+
+	/**
+	 * Analyzes the partitions of a transformation without libraries.
+	 *
+	 * @param transformationFilePath
+	 *            the transformation file path
+	 * @param inputEcoreAnalyzer
+	 *            the ecore analyzer of the input metamodel
+	 * @return the partition analyzer
+	 * @throws Exception
+	 */
+	private static PartitionAnalyzer analyze(String transformationFilePath, EcoreAnalyzer inputEcoreAnalyzer)
+			throws Exception {
+		Module atlModule = AtlParserUtils.parseModule(transformationFilePath);
+
+		PartitionAnalyzer partitionAnalyzer = new PartitionAnalyzerImpl();
+		partitionAnalyzer.analyzePartitions(atlModule, new ArrayList<Library>(), Arrays.asList(inputEcoreAnalyzer));
+		return partitionAnalyzer;
+	}
+}
@@ -1,16 +1,29 @@
 package edu.kit.ipd.sdq.atl2nmfs.tests;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang.StringUtils;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
 import org.junit.Assert;
 import org.junit.Test;
 
 import edu.kit.ipd.sdq.atl2nmfs.Atl2NmfSynchronizations;
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions;
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.RuntimeMetrics;
 import edu.kit.ipd.sdq.atl2nmfs.utils.MsBuildUtils;
 import edu.kit.ipd.sdq.atl2nmfs.utils.ExecutionUtils;
+import edu.kit.ipd.sdq.atl2nmfs.utils.ModelFormatUtils;
 
 /**
  * The TransformationTests Class.
@@ -82,6 +95,81 @@ public class TransformationTests {
 		//TODO: compare the created models with the models created by the ATL transformation
 	}
 
+	/**
+	 * Generate the NMF Synchronization code with the passed options and build it.
+	 *
+	 * @param options
+	 *            the generation options
+	 * @param transformationName
+	 *            the transformation name
+	 * @param transformationPath
+	 *            the transformation path
+	 * @param outputPath
+	 *            the output path
+	 * @param inputMetamodelPaths
+	 *            the input metamodel paths
+	 * @param outputMetamodelPaths
+	 *            the output metamodel paths
+	 * @return the path of the built executable file
+	 */
+	private String GenerateBuild(GenerationOptions options, String transformationName, String transformationPath,
+			String outputPath, List<String> inputMetamodelPaths, List<String> outputMetamodelPaths) {
+		try {
+			Atl2NmfSynchronizations atl2NmfSynchronizations = new Atl2NmfSynchronizations(options);
+			atl2NmfSynchronizations.doGenerate(transformationName, transformationPath, outputPath, inputMetamodelPaths,
+					outputMetamodelPaths);
+			MsBuildUtils.build(outputPath + "/" + transformationName + ".csproj");
+		} catch (Exception exception) {
+			Assert.fail("Generation or build failed. Exception message: " + exception.getMessage());
+		}
+
+		return outputPath + "/bin/" + transformationName + ".exe";
+	}
+
+	/**
+	 * Asserts that both models contain equal root elements regardless of their order. The output root elements
+	 * of the partitions are moved to the output model in partition order, which differs from the rule order of a
+	 * single synchronization. The containment tree of each root element is synchronized in one partition, so
+	 * the root elements themselves must be equal including the order of their contents.
+	 *
+	 * @param expectedModelPath
+	 *            the path of the expected model
+	 * @param actualModelPath
+	 *            the path of the actual model
+	 * @param metamodelPath
+	 *            the path of the metamodel of both models
+	 */
+	private void AssertEquivalentModels(String expectedModelPath, String actualModelPath, String metamodelPath) {
+		try {
+			ResourceSet resourceSet = new ResourceSetImpl();
+			resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put("*", new XMIResourceFactoryImpl());
+			EPackage ePackage = (EPackage) resourceSet.getResource(URI.createFileURI(metamodelPath), true)
+					.getContents().get(0);
+			resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+
+			List<EObject> expectedRootElements = resourceSet
+					.getResource(URI.createFileURI(new File(expectedModelPath).getAbsolutePath()), true).getContents();
+			List<EObject> actualRootElements = new ArrayList<EObject>(resourceSet
+					.getResource(URI.createFileURI(new File(actualModelPath).getAbsolutePath()), true).getContents());
+			Assert.assertEquals(expectedRootElements.size(), actualRootElements.size());
+
+			for (EObject expectedRootElement : expectedRootElements) {
+				EObject equalRootElement = null;
+				for (EObject actualRootElement : actualRootElements) {
+					if (EcoreUtil.equals(expectedRootElement, actualRootElement)) {
+						equalRootElement = actualRootElement;
+						break;
+					}
+				}
+
+				Assert.assertNotNull("No equal root element found for " + expectedRootElement, equalRootElement);
+				actualRootElements.remove(equalRootElement);
+			}
+		} catch (Exception exception) {
+			Assert.fail("The models could not be compared. Exception message: " + exception.getMessage());
+		}
+	}
+
 	/**
 	 * Families 2 persons with library test.
 	 */
@@ -99,6 +187,132 @@ public class TransformationTests {
 				Arrays.asList(outputMetamodelPath), Arrays.asList(inputModelPath), Arrays.asList(outputModelFileName));
 	}
 
+	/**
+	 * Families 2 persons batch test. The built code synchronizes several model sets in one process and every
+	 * model set must have the same output as a single synchronization.
+	 */
+	@Test
+	public void Families2PersonsBatchTest() {
+		String transformationName = "Families2Persons";
+		String transformationPath = "resources/Families2Persons/Families2Persons.atl";
+		String outputPath = "generated/Families2PersonsBatch.NMFSynchronizations";
+		String inputMetamodelPath = "resources/Families2Persons/Families.ecore";
+		String outputMetamodelPath = "resources/Families2Persons/Persons.ecore";
+		String inputModelPath = "resources/Families2Persons/SampleFamilies.xmi";
+		String singleOutputModelPath = outputPath + "/bin/SamplePersonsOutput.xmi";
+
+		String executableFilePath = GenerateBuild(new GenerationOptions(), transformationName, transformationPath,
+				outputPath, Arrays.asList(inputMetamodelPath), Arrays.asList(outputMetamodelPath));
+		new File(singleOutputModelPath).delete();
+		try {
+			ExecutionUtils.execute(executableFilePath, outputPath, Arrays.asList(inputModelPath),
+					Arrays.asList(singleOutputModelPath));
+		} catch (Exception exception) {
+			Assert.fail("Execution of the NMF Synchronizations failed. Exception message: " + exception.getMessage());
+		}
+
+		List<List<String>> inputModelPathsOfModelSets = new ArrayList<List<String>>();
+		List<List<String>> outputModelPathsOfModelSets = new ArrayList<List<String>>();
+		for (int i = 0; i < 4; i++) {
+			inputModelPathsOfModelSets.add(Arrays.asList(inputModelPath));
+			outputModelPathsOfModelSets.add(Arrays.asList(outputPath + "/bin/SamplePersonsOutput" + i + ".xmi"));
+		}
+
+		for (List<String> outputModelPaths : outputModelPathsOfModelSets) {
+			new File(outputModelPaths.get(0)).delete();
+		}
+
+		try {
+			ExecutionUtils.executeBatch(executableFilePath, inputModelPathsOfModelSets, outputModelPathsOfModelSets, 2);
+		} catch (Exception exception) {
+			Assert.fail("Batch execution of the NMF Synchronizations failed. Exception message: " + exception.getMessage());
+		}
+
+		try {
+			for (List<String> outputModelPaths : outputModelPathsOfModelSets) {
+				Assert.assertTrue(FileUtils.contentEquals(new File(singleOutputModelPath),
+						new File(outputModelPaths.get(0))));
+			}
+		} catch (Exception exception) {
+			Assert.fail("The models could not be compared. Exception message: " + exception.getMessage());
+		}
+	}
+
+	/**
+	 * Families 2 persons runtime metrics test. The built code measures its runtime and writes the metrics.
+	 */
+	@Test
+	public void Families2PersonsRuntimeMetricsTest() {
+		String transformationName = "Families2Persons";
+		String transformationPath = "resources/Families2Persons/Families2Persons.atl";
+		String outputPath = "generated/Families2PersonsRuntimeMetrics.NMFSynchronizations";
+		String inputMetamodelPath = "resources/Families2Persons/Families.ecore";
+		String outputMetamodelPath = "resources/Families2Persons/Persons.ecore";
+		String inputModelPath = "resources/Families2Persons/SampleFamilies.xmi";
+
+		GenerationOptions options = new GenerationOptions();
+		options.setRuntimeMetrics(true);
+		options.setRuntimeRuleMetrics(true);
+		try {
+			Atl2NmfSynchronizations atl2NmfSynchronizations = new Atl2NmfSynchronizations(options);
+			atl2NmfSynchronizations.doGenerate(transformationName, transformationPath, outputPath,
+					Arrays.asList(inputMetamodelPath), Arrays.asList(outputMetamodelPath));
+			MsBuildUtils.build(outputPath + "/" + transformationName + ".csproj");
+		} catch (Exception exception) {
+			Assert.fail("Generation or build failed. Exception message: " + exception.getMessage());
+		}
+
+		RuntimeMetrics runtimeMetrics = null;
+		try {
+			String executableFilePath = outputPath + "/bin/" + transformationName + ".exe";
+			runtimeMetrics = ExecutionUtils.executeWithRuntimeMetrics(executableFilePath, Arrays.asList(inputModelPath),
+					Arrays.asList(outputPath + "/bin/SamplePersonsOutput.xmi"), outputPath + "/bin/RuntimeMetrics.json");
+		} catch (Exception exception) {
+			Assert.fail("Execution of the NMF Synchronizations failed. Exception message: " + exception.getMessage());
+		}
+
+		Assert.assertEquals(1, runtimeMetrics.getModelSets());
+		Assert.assertTrue(runtimeMetrics.getInputElements() > 0);
+		Assert.assertFalse(runtimeMetrics.getRuleInstantiations().isEmpty());
+	}
+
+	/**
+	 * Families 2 persons compressed models test. The built code reads and writes compressed models and the
+	 * decompressed output model must be equal to the output model of the XMI synchronization.
+	 */
+	@Test
+	public void Families2PersonsCompressedModelsTest() {
+		String transformationName = "Families2Persons";
+		String outputPath = "generated/Families2PersonsCompressedModels.NMFSynchronizations";
+		String inputModelPath = "resources/Families2Persons/SampleFamilies.xmi";
+		String compressedInputModelPath = outputPath + "/bin/SampleFamilies.xmiz";
+		String xmiOutputModelPath = outputPath + "/bin/SamplePersonsOutput.xmi";
+		String compressedOutputModelPath = outputPath + "/bin/SamplePersonsCompressedOutput.xmiz";
+		String decompressedOutputModelPath = outputPath + "/bin/SamplePersonsDecompressedOutput.xmi";
+
+		GenerationOptions options = new GenerationOptions();
+		options.setCompressedModels(true);
+		String executableFilePath = GenerateBuild(options, transformationName,
+				"resources/Families2Persons/Families2Persons.atl", outputPath,
+				Arrays.asList("resources/Families2Persons/Families.ecore"),
+				Arrays.asList("resources/Families2Persons/Persons.ecore"));
+
+		new File(xmiOutputModelPath).delete();
+		new File(compressedOutputModelPath).delete();
+		try {
+			ModelFormatUtils.compress(inputModelPath, compressedInputModelPath);
+			ExecutionUtils.execute(executableFilePath, outputPath, Arrays.asList(inputModelPath),
+					Arrays.asList(xmiOutputModelPath));
+			ExecutionUtils.execute(executableFilePath, outputPath, Arrays.asList(compressedInputModelPath),
+					Arrays.asList(compressedOutputModelPath));
+
+			ModelFormatUtils.decompress(compressedOutputModelPath, decompressedOutputModelPath);
+			Assert.assertTrue(FileUtils.contentEquals(new File(xmiOutputModelPath), new File(decompressedOutputModelPath)));
+		} catch (Exception exception) {
+			Assert.fail("Execution of the NMF Synchronizations failed. Exception message: " + exception.getMessage());
+		}
+	}
+
 	/**
 	 * Families 2 persons test.
 	 */
@@ -337,6 +551,52 @@ public class TransformationTests {
 				Arrays.asList(outputMetamodelPath), Arrays.asList(inputModelPath), Arrays.asList(outputModelFileName));
 	}
 
+	/**
+	 * Port V 3 all instances index test. Both filters use the OCL operation "allInstances" with the type BlockA,
+	 * so the input model container must hold exactly one shared instance index for it and none for the other
+	 * types. A transformation without "allInstances" must not get any instance index.
+	 */
+	@Test
+	public void PortV3AllInstancesIndexTest() {
+		String outputPath = "generated/PortV3AllInstancesIndex.NMFSynchronizations";
+		String families2PersonsOutputPath = "generated/Families2PersonsAllInstancesIndex.NMFSynchronizations";
+
+		try {
+			new Atl2NmfSynchronizations().doGenerate("PortV3", "resources/PortV3/PortV3.atl", outputPath,
+					Arrays.asList("resources/PortV3/TypeA.ecore"), Arrays.asList("resources/PortV3/TypeB.ecore"));
+			new Atl2NmfSynchronizations().doGenerate("Families2Persons",
+					"resources/Families2Persons/Families2Persons.atl", families2PersonsOutputPath,
+					Arrays.asList("resources/Families2Persons/Families.ecore"),
+					Arrays.asList("resources/Families2Persons/Persons.ecore"));
+		} catch (Exception exception) {
+			Assert.fail("Execution of the Atl2NmfS HOT failed. Exception message: " + exception.getMessage());
+		}
+
+		try {
+			String containerCode = FileUtils.readFileToString(new File(outputPath + "/InputModelContainer.cs"),
+					StandardCharsets.UTF_8);
+			Assert.assertEquals(1, StringUtils.countMatches(containerCode, "private INotifyEnumerable<"));
+			Assert.assertTrue(containerCode.contains("> allInstancesOfTypeABlockAIninA;"));
+			Assert.assertFalse(containerCode.contains("PortA"));
+
+			// both filters refer to the shared index
+			int indexUsages = 0;
+			for (File codeFile : FileUtils.listFiles(new File(outputPath), new String[] { "cs" }, false)) {
+				if (!codeFile.getName().equals("InputModelContainer.cs")) {
+					indexUsages += StringUtils.countMatches(FileUtils.readFileToString(codeFile, StandardCharsets.UTF_8),
+							".AllInstancesOfTypeABlockAIninA");
+				}
+			}
+			Assert.assertTrue(String.valueOf(indexUsages), indexUsages >= 2);
+
+			String families2PersonsContainerCode = FileUtils.readFileToString(
+					new File(families2PersonsOutputPath + "/InputModelContainer.cs"), StandardCharsets.UTF_8);
+			Assert.assertFalse(families2PersonsContainerCode.contains("INotifyEnumerable<"));
+		} catch (Exception exception) {
+			Assert.fail("The generated code could not be read. Exception message: " + exception.getMessage());
+		}
+	}
+
 	/**
 	 * Port V 2 lazy rules test.
 	 */
@@ -387,4 +647,94 @@ public class TransformationTests {
 		GenerateBuildExecute(transformationName, transformationPath, outputPath, Arrays.asList(inputMetamodelPath),
 				Arrays.asList(outputMetamodelPath), Arrays.asList(inputModelPath), Arrays.asList(outputModelFileName));
 	}
+
+	/**
+	 * Inheritance partitioned test. The filtered rules are called by bindings, so the partitions must not use
+	 * shared filtered views. The input model has several root elements which are split into two partitions.
+	 * The partitioned output must not depend on the parallelism. It contains the same root elements as a single
+	 * synchronization, but in partition order instead of rule order.
+	 */
+	@Test
+	public void InheritancePartitionedTest() {
+		String transformationName = "Inheritance";
+		String outputPath = "generated/InheritancePartitioned.NMFSynchronizations";
+		String inputModelPath = "resources/Inheritance/SampleInputMultipleRoots.xmi";
+		String sequentialOutputModelPath = outputPath + "/bin/SampleOutputSequential.xmi";
+		String partitionedOutputModelPath = outputPath + "/bin/SampleOutputPartitioned.xmi";
+		String parallelPartitionedOutputModelPath = outputPath + "/bin/SampleOutputParallelPartitioned.xmi";
+
+		GenerationOptions options = new GenerationOptions();
+		options.setPartitionedSynchronization(true);
+		options.setSharedFilteredViews(true);
+		String executableFilePath = GenerateBuild(options, transformationName,
+				"resources/Inheritance/Inheritance.atl", outputPath, Arrays.asList("resources/Inheritance/TypeA.ecore"),
+				Arrays.asList("resources/Inheritance/TypeB.ecore"));
+
+		// an existing output model would prevent the partitions
+		new File(sequentialOutputModelPath).delete();
+		new File(partitionedOutputModelPath).delete();
+		new File(parallelPartitionedOutputModelPath).delete();
+		try {
+			ExecutionUtils.executeWithOptions(executableFilePath, Arrays.asList("--partitions", "1"),
+					Arrays.asList(inputModelPath), Arrays.asList(sequentialOutputModelPath));
+			ExecutionUtils.executeWithOptions(executableFilePath,
+					Arrays.asList("--partitions", "2", "--parallelism", "1"), Arrays.asList(inputModelPath),
+					Arrays.asList(partitionedOutputModelPath));
+			ExecutionUtils.executeWithOptions(executableFilePath,
+					Arrays.asList("--partitions", "2", "--parallelism", "4"), Arrays.asList(inputModelPath),
+					Arrays.asList(parallelPartitionedOutputModelPath));
+			Assert.assertTrue(FileUtils.contentEquals(new File(partitionedOutputModelPath),
+					new File(parallelPartitionedOutputModelPath)));
+		} catch (Exception exception) {
+			Assert.fail("Execution of the NMF Synchronizations failed. Exception message: " + exception.getMessage());
+		}
+
+		AssertEquivalentModels(sequentialOutputModelPath, partitionedOutputModelPath,
+				"resources/Inheritance/TypeB.ecore");
+	}
+
+	/**
+	 * Inheritance shared filtered views test. The bindings of the containment references call filtered rules,
+	 * so they use the shared filtered views. The output must be the same as the output without the views.
+	 */
+	@Test
+	public void InheritanceSharedFilteredViewsTest() {
+		String transformationName = "Inheritance";
+		String viewsOutputPath = "generated/InheritanceSharedFilteredViews.NMFSynchronizations";
+		String noViewsOutputPath = "generated/InheritanceNoSharedFilteredViews.NMFSynchronizations";
+		String inputModelPath = "resources/Inheritance/SampleInput.xmi";
+		String viewsOutputModelPath = viewsOutputPath + "/bin/SampleOutput.xmi";
+		String noViewsOutputModelPath = noViewsOutputPath + "/bin/SampleOutput.xmi";
+
+		GenerationOptions viewsOptions = new GenerationOptions();
+		viewsOptions.setSharedFilteredViews(true);
+		String viewsExecutableFilePath = GenerateBuild(viewsOptions, transformationName,
+				"resources/Inheritance/Inheritance.atl", viewsOutputPath,
+				Arrays.asList("resources/Inheritance/TypeA.ecore"), Arrays.asList("resources/Inheritance/TypeB.ecore"));
+
+		GenerationOptions noViewsOptions = new GenerationOptions();
+		noViewsOptions.setSharedFilteredViews(false);
+		String noViewsExecutableFilePath = GenerateBuild(noViewsOptions, transformationName,
+				"resources/Inheritance/Inheritance.atl", noViewsOutputPath,
+				Arrays.asList("resources/Inheritance/TypeA.ecore"), Arrays.asList("resources/Inheritance/TypeB.ecore"));
+
+		new File(viewsOutputModelPath).delete();
+		new File(noViewsOutputModelPath).delete();
+		try {
+			String viewsCode = FileUtils.readFileToString(new File(viewsOutputPath + "/" + transformationName + ".cs"),
+					StandardCharsets.UTF_8);
+			String noViewsCode = FileUtils.readFileToString(
+					new File(noViewsOutputPath + "/" + transformationName + ".cs"), StandardCharsets.UTF_8);
+			Assert.assertTrue(viewsCode.contains(".Intersect("));
+			Assert.assertFalse(noViewsCode.contains(".Intersect("));
+
+			ExecutionUtils.executeWithOptions(viewsExecutableFilePath, new ArrayList<String>(),
+					Arrays.asList(inputModelPath), Arrays.asList(viewsOutputModelPath));
+			ExecutionUtils.executeWithOptions(noViewsExecutableFilePath, new ArrayList<String>(),
+					Arrays.asList(inputModelPath), Arrays.asList(noViewsOutputModelPath));
+			Assert.assertTrue(FileUtils.contentEquals(new File(noViewsOutputModelPath), new File(viewsOutputModelPath)));
+		} catch (Exception exception) {
+			Assert.fail("Execution of the NMF Synchronizations failed. Exception message: " + exception.getMessage());
+		}
+	}
 }
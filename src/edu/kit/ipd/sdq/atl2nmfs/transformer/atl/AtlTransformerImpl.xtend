@@ -4,6 +4,9 @@ import com.google.inject.Inject
 import java.io.File
 import java.util.ArrayList
 import java.util.List
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
 import org.eclipse.m2m.atl.common.ATL.Library
 import org.eclipse.m2m.atl.common.ATL.Module
 import org.eclipse.xtext.generator.IFileSystemAccess
@@ -15,8 +18,16 @@ import edu.kit.ipd.sdq.atl2nmfs.templates.ExtensionMethodClassTemplate
 import edu.kit.ipd.sdq.atl2nmfs.templates.ReflectiveSynchronizationClassTemplate
 import edu.kit.ipd.sdq.atl2nmfs.templates.MainClassTemplate
 import edu.kit.ipd.sdq.atl2nmfs.templates.ProjectTemplate
+import edu.kit.ipd.sdq.atl2nmfs.templates.MemoizedValueClassTemplate
+import edu.kit.ipd.sdq.atl2nmfs.templates.RuntimeMetricsClassTemplate
+import edu.kit.ipd.sdq.atl2nmfs.templates.ModelPartitionClassTemplate
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.HelperType
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.MetamodelInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper
+import edu.kit.ipd.sdq.atl2nmfs.utils.Ecore2CodeUtils
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.ExternalProcessInfo
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions
 
 /**
  * The AtlTransformerImpl Class.
@@ -26,6 +37,8 @@ class AtlTransformerImpl implements AtlTransformer {
 	private final HelperTransformer helperTransformer;
 	private final FilterTransformer filterTransformer;
 	private final RuleTransformer ruleTransformer;
+	private final GenerationInstrumentation generationInstrumentation;
+	private final GenerationOptions options;
 
 	private List<String> fileList;
 	private List<String> embeddedFileList;
@@ -47,14 +60,21 @@ class AtlTransformerImpl implements AtlTransformer {
 	 *            the filter transformer
 	 * @param ruleTransformer
 	 *            the rule transformer
+	 * @param generationInstrumentation
+	 *            the generation instrumentation
+	 * @param options
+	 *            the generation options
 	 */
 	@Inject
 	new(Atl2NmfSHelper atl2NmfSHelper, HelperTransformer helperTransformer, FilterTransformer filterTransformer,
-		RuleTransformer ruleTransformer) {
+		RuleTransformer ruleTransformer, GenerationInstrumentation generationInstrumentation,
+		GenerationOptions options) {
 		this.atl2NmfSHelper = atl2NmfSHelper;
 		this.helperTransformer = helperTransformer;
 		this.filterTransformer = filterTransformer;
 		this.ruleTransformer = ruleTransformer;
+		this.generationInstrumentation = generationInstrumentation;
+		this.options = options;
 	}
 
 	/* (non-Javadoc)
@@ -80,7 +100,12 @@ class AtlTransformerImpl implements AtlTransformer {
 	 */
 	public override void createCSharpCode(String outputPath, String projectFileName) {
 		// start the transformation
-		transformEcoreMetamodels(outputPath);
+		var phaseTimer = generationInstrumentation.startPhase("transformEcoreMetamodels");
+		try {
+			transformEcoreMetamodels(outputPath);
+		} finally {
+			generationInstrumentation.finishPhase(phaseTimer);
+		}
 
 		createAssemblyInfoFile();
 		createOutputModelCollectionFile();
@@ -90,7 +115,8 @@ class AtlTransformerImpl implements AtlTransformer {
 	}
 
 	/**
-	 * Transforms the ecore metamodels.
+	 * Transforms the ecore metamodels. The metamodels are independent of each other and
+	 * are therefore transformed concurrently.
 	 * 
 	 * @param outputPath
 	 *            the output path where the transformed ecore metamodels are saved
@@ -99,16 +125,42 @@ class AtlTransformerImpl implements AtlTransformer {
 		val inputMetamodelInfos = atl2NmfSHelper.getInputMetamodelInfos();
 		val outputMetamodelInfos = atl2NmfSHelper.getOutputMetamodelInfos()
 
-		for (inputMetamodelInfo : inputMetamodelInfos) {
-			transformEcoreMetamodel(inputMetamodelInfo, outputPath);
-		}
-
+		var metamodelInfosToTransform = new ArrayList<MetamodelInfo>(inputMetamodelInfos);
 		for (outputMetamodelInfo : outputMetamodelInfos) {
 			// if one of the output metamodels was also used as input metamodel 
 			// we don't have to transform it again since we can reuse it.
 			if (!inputMetamodelInfos.exists[it.path.equals(outputMetamodelInfo.path)]) {
-				transformEcoreMetamodel(outputMetamodelInfo, outputPath);
+				metamodelInfosToTransform.add(outputMetamodelInfo);
+			}
+		}
+
+		if (metamodelInfosToTransform.isEmpty) {
+			return;
+		}
+
+		var threadCount = Math.min(metamodelInfosToTransform.size, Runtime.getRuntime().availableProcessors());
+		var executorService = Executors.newFixedThreadPool(threadCount);
+		try {
+			var futures = new ArrayList<Future<?>>();
+			for (metamodelInfo : metamodelInfosToTransform) {
+				futures.add(executorService.submit([|transformEcoreMetamodel(metamodelInfo, outputPath)] as Runnable));
+			}
+
+			for (future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException exception) {
+					throw exception.cause;
+				}
 			}
+		} finally {
+			executorService.shutdown();
+		}
+
+		// register the created files in a deterministic order
+		for (metamodelInfo : metamodelInfosToTransform) {
+			fileList.add(metamodelInfo.fileNameWithoutExtension + atl2NmfSHelper.getCSharpFilenameExtension);
+			embeddedFileList.add(metamodelInfo.fileNameWithoutExtension + atl2NmfSHelper.nmfFilenameExtension);
 		}
 	}
 
@@ -126,23 +178,12 @@ class AtlTransformerImpl implements AtlTransformer {
 		var nmfMetamodelPath = outputPath + "/" + metamodelInfo.fileNameWithoutExtension +
 			atl2NmfSHelper.nmfFilenameExtension;
 
-		// create and start the ecore2code process
-		var ecore2CodeProcessBuilder = new ProcessBuilder("resources/Ecore2Code/Ecore2Code", "-n",
-			atl2NmfSHelper.projectNamespace, "-o", nmfMetamodelCodePath, "-m", nmfMetamodelPath, metamodelInfo.path);
-
-		// redirect the outputs to the default output of the current java process (console in this case)
-		ecore2CodeProcessBuilder.inheritIO();
-
-		var ecore2CodeProcess = ecore2CodeProcessBuilder.start();
-		var returnValueEcore2Code = ecore2CodeProcess.waitFor();
-		if (returnValueEcore2Code != 0) {
-			throw new IllegalArgumentException("Ecore2Code failed while transforming " +
-				metamodelInfo.fileNameWithoutExtension);
-		}
-
-		// register the created files
-		fileList.add(metamodelInfo.fileNameWithoutExtension + atl2NmfSHelper.getCSharpFilenameExtension);
-		embeddedFileList.add(metamodelInfo.fileNameWithoutExtension + atl2NmfSHelper.nmfFilenameExtension);
+		// the result of ecore2code is reused if the same metamodel was already transformed before
+		var startTime = System.nanoTime();
+		var cacheHit = Ecore2CodeUtils.transform(metamodelInfo.path, atl2NmfSHelper.projectNamespace,
+			nmfMetamodelCodePath, nmfMetamodelPath);
+		generationInstrumentation.recordExternalProcess(
+			new ExternalProcessInfo("Ecore2Code", metamodelInfo.path, System.nanoTime() - startTime, cacheHit));
 	}
 
 	/**
@@ -165,7 +206,7 @@ class AtlTransformerImpl implements AtlTransformer {
 			combinedMetamodelInfos, atl2NmfSHelper.projectNamespace);
 
 		var assemblyInfoFileName = new File("Properties/AssemblyInfo" + atl2NmfSHelper.getCSharpFilenameExtension);
-		fsa.generateFile(assemblyInfoFileName.path, assemblyInfoFileCode);
+		generateFile(assemblyInfoFileName.path, assemblyInfoFileCode);
 		fileList.add(assemblyInfoFileName.path);
 	}
 
@@ -178,7 +219,7 @@ class AtlTransformerImpl implements AtlTransformer {
 
 		var outputModelCollectionFileName = atl2NmfSHelper.outputModelCollectionClassName +
 			atl2NmfSHelper.getCSharpFilenameExtension;
-		fsa.generateFile(outputModelCollectionFileName, outputModelCollectionFileCode);
+		generateFile(outputModelCollectionFileName, outputModelCollectionFileCode);
 		fileList.add(outputModelCollectionFileName);
 	}
 
@@ -186,16 +227,6 @@ class AtlTransformerImpl implements AtlTransformer {
 	 * Creates the transformation files.
 	 */
 	private def void createTransformationFiles() {
-		// create the input model container
-		var inputModelInfos = atl2NmfSHelper.inputModelInfos;
-		var inputModelContainerCode = InputModelContainerClassTemplate.createCode(atl2NmfSHelper.projectNamespace,
-			atl2NmfSHelper.inputModelContainerClassName,
-			inputModelInfos);
-		var inputModelContainerFileName = atl2NmfSHelper.inputModelContainerClassName +
-			atl2NmfSHelper.getCSharpFilenameExtension;
-		fsa.generateFile(inputModelContainerFileName, inputModelContainerCode);
-		fileList.add(inputModelContainerFileName);
-
 		// create the output model container
 		var outputModelInfos = atl2NmfSHelper.outputModelInfos;
 		var outputModelContainerCode = OutputModelContainerClassTemplate.createCode(atl2NmfSHelper.projectNamespace,
@@ -203,46 +234,85 @@ class AtlTransformerImpl implements AtlTransformer {
 			outputModelInfos);
 		var outputModelContainerFileName = atl2NmfSHelper.outputModelContainerClassName +
 			atl2NmfSHelper.getCSharpFilenameExtension;
-		fsa.generateFile(outputModelContainerFileName, outputModelContainerCode);
+		generateFile(outputModelContainerFileName, outputModelContainerCode);
 		fileList.add(outputModelContainerFileName);
 
 		// transform helpers
 		var helperClassName = atl2NmfSHelper.helperClassName;
 		var helperCodeList = new ArrayList<String>();
 		var helperProxiesCodeList = new ArrayList<String>();
-		helperTransformer.transformHelpers(helperCodeList, helperProxiesCodeList)
+		var phaseTimer = generationInstrumentation.startPhase("transformHelpers");
+		try {
+			helperTransformer.transformHelpers(helperCodeList, helperProxiesCodeList)
+		} finally {
+			generationInstrumentation.finishPhase(phaseTimer);
+		}
 
 		if (helperCodeList.size != 0) {
 			var helperClassCode = ExtensionMethodClassTemplate.createCode(atl2NmfSHelper.projectNamespace,
 				helperClassName, helperCodeList, helperProxiesCodeList);
 			var helperFileName = helperClassName + atl2NmfSHelper.getCSharpFilenameExtension;
-			fsa.generateFile(helperFileName, helperClassCode);
+			generateFile(helperFileName, helperClassCode);
 			fileList.add(helperFileName);
 		}
 
+		// the memoized attribute helpers store their values with the memoized value class
+		if (options.isMemoizedAttributeHelpers && atl2NmfSHelper.allHelperInfos.exists [
+			helperType == HelperType.ATTRIBUTE && isContextModelElement
+		]) {
+			var memoizedValueClassCode = MemoizedValueClassTemplate.createCode(atl2NmfSHelper.projectNamespace,
+				atl2NmfSHelper.memoizedValueClassName);
+			var memoizedValueFileName = atl2NmfSHelper.memoizedValueClassName + atl2NmfSHelper.getCSharpFilenameExtension;
+			generateFile(memoizedValueFileName, memoizedValueClassCode);
+			fileList.add(memoizedValueFileName);
+		}
+
 		// transform filters
 		var filterClassName = atl2NmfSHelper.filterClassName;
 		var filterCodeList = new ArrayList<String>();
 		var filterProxiesCodeList = new ArrayList<String>();
-		filterTransformer.transformFilters(filterCodeList, filterProxiesCodeList)
+		phaseTimer = generationInstrumentation.startPhase("transformFilters");
+		try {
+			filterTransformer.transformFilters(filterCodeList, filterProxiesCodeList)
+		} finally {
+			generationInstrumentation.finishPhase(phaseTimer);
+		}
 
 		if (filterCodeList.size != 0) {
 			var filterClassCode = ExtensionMethodClassTemplate.createCode(atl2NmfSHelper.projectNamespace,
 				filterClassName, filterCodeList, filterProxiesCodeList);
 			var filterFileName = filterClassName + atl2NmfSHelper.getCSharpFilenameExtension;
-			fsa.generateFile(filterFileName, filterClassCode);
+			generateFile(filterFileName, filterClassCode);
 			fileList.add(filterFileName);
 		}
 
 		// transform matched rules
 		var ruleCodeList = new ArrayList<String>();
-		ruleTransformer.transformMatchedRules(ruleCodeList);
+		phaseTimer = generationInstrumentation.startPhase("transformRules");
+		try {
+			ruleTransformer.transformMatchedRules(ruleCodeList);
+		} finally {
+			generationInstrumentation.finishPhase(phaseTimer);
+		}
 		var transformationFileCode = ReflectiveSynchronizationClassTemplate.createCode(
 			atl2NmfSHelper.transformationName, atl2NmfSHelper.inputModelContainerClassName,
 			atl2NmfSHelper.projectNamespace, ruleCodeList);
 		var transformationFileName = atl2NmfSHelper.transformationName + atl2NmfSHelper.getCSharpFilenameExtension;
-		fsa.generateFile(transformationFileName, transformationFileCode);
+		generateFile(transformationFileName, transformationFileCode);
 		fileList.add(transformationFileName);
+
+		// create the input model container
+		// it must be created after all OCL expressions were transformed since it contains
+		// the instance indexes of all types which are used with the OCL operation "allInstances"
+		// and the filtered views which are used by the bindings
+		var inputModelInfos = atl2NmfSHelper.inputModelInfos;
+		var inputModelContainerCode = InputModelContainerClassTemplate.createCode(atl2NmfSHelper.projectNamespace,
+			atl2NmfSHelper.inputModelContainerClassName,
+			inputModelInfos, atl2NmfSHelper.allInstancesInfos, atl2NmfSHelper.filteredViewInfos, isPartitioned);
+		var inputModelContainerFileName = atl2NmfSHelper.inputModelContainerClassName +
+			atl2NmfSHelper.getCSharpFilenameExtension;
+		generateFile(inputModelContainerFileName, inputModelContainerCode);
+		fileList.add(inputModelContainerFileName);
 	}
 
 	/**
@@ -255,12 +325,67 @@ class AtlTransformerImpl implements AtlTransformer {
 		var mainClassCode = MainClassTemplate.createCode(atl2NmfSHelper.transformationName,
 			atl2NmfSHelper.mainClassName, atl2NmfSHelper.mainRuleName, atl2NmfSHelper.inputModelContainerClassName,
 			atl2NmfSHelper.outputModelContainerClassName, atl2NmfSHelper.projectNamespace, inputModelInfos,
-			outputModelInfos);
-			var mainClassFileName = atl2NmfSHelper.mainClassName + atl2NmfSHelper.getCSharpFilenameExtension;
-			fsa.generateFile(mainClassFileName, mainClassCode);
-			fileList.add(mainClassFileName);
+			outputModelInfos, if(options.isRuntimeMetrics) atl2NmfSHelper.runtimeMetricsClassName else null,
+			if(isPartitioned) atl2NmfSHelper.modelPartitionClassName else null, options.isCompressedModels);
+		var mainClassFileName = atl2NmfSHelper.mainClassName + atl2NmfSHelper.getCSharpFilenameExtension;
+		generateFile(mainClassFileName, mainClassCode);
+		fileList.add(mainClassFileName);
+
+		// the runtime metrics class is used by the main class and optionally by the synchronization rules
+		if (options.isRuntimeMetrics) {
+			var runtimeMetricsClassCode = RuntimeMetricsClassTemplate.createCode(atl2NmfSHelper.projectNamespace,
+				atl2NmfSHelper.runtimeMetricsClassName);
+			var runtimeMetricsFileName = atl2NmfSHelper.runtimeMetricsClassName +
+				atl2NmfSHelper.getCSharpFilenameExtension;
+			generateFile(runtimeMetricsFileName, runtimeMetricsClassCode);
+			fileList.add(runtimeMetricsFileName);
 		}
 
+		// the model partition class restricts the main rule to the root elements of a partition
+		if (isPartitioned) {
+			var modelPartitionClassCode = ModelPartitionClassTemplate.createCode(atl2NmfSHelper.projectNamespace,
+				atl2NmfSHelper.modelPartitionClassName);
+			var modelPartitionFileName = atl2NmfSHelper.modelPartitionClassName +
+				atl2NmfSHelper.getCSharpFilenameExtension;
+			generateFile(modelPartitionFileName, modelPartitionClassCode);
+			fileList.add(modelPartitionFileName);
+		}
+	}
+
+	/**
+	 * Checks if the generated program synchronizes partitions of the input models concurrently.
+	 * 
+	 * @return the boolean indicating if the input models are partitioned
+	 */
+	private def Boolean isPartitioned() {
+		return options.isPartitionedSynchronization && atl2NmfSHelper.isPartitionable;
+	}
+
+	/**
+	 * Writes a generated file and counts its lines.
+	 * 
+	 * @param fileName
+	 *            the name of the file relative to the output path
+	 * @param code
+	 *            the code of the file
+	 */
+	private def void generateFile(String fileName, CharSequence code) {
+		fsa.generateFile(fileName, code);
+
+		var lineCount = 0;
+		if (code.length > 0) {
+			lineCount = 1;
+			for (var index = 0; index < code.length; index++) {
+				if (code.charAt(index) == '\n'.charAt(0)) {
+					lineCount++;
+				}
+			}
+		}
+
+		generationInstrumentation.incrementCounter("generatedFiles", 1);
+		generationInstrumentation.incrementCounter("generatedLines", lineCount);
+	}
+
 	/**
 	 * Creates the project file.
 	 * 
@@ -270,7 +395,7 @@ class AtlTransformerImpl implements AtlTransformer {
 	private def void createProjectFile(String projectFileName) {
 		var projectFileCode = ProjectTemplate.createCode(fileList, embeddedFileList,
 			atl2NmfSHelper.projectNamespace, atl2NmfSHelper.transformationName);
-		fsa.generateFile(projectFileName, projectFileCode);
+		generateFile(projectFileName, projectFileCode);
 	}
 }
 	
\ No newline at end of file
@@ -12,32 +12,58 @@ import edu.kit.ipd.sdq.atl2nmfs.helper.infos.RuleType
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.ModelInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.BindingInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation
+import edu.kit.ipd.sdq.atl2nmfs.utils.ParallelUtils
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions
+import org.eclipse.m2m.atl.common.OCL.NavigationOrAttributeCallExp
+import org.eclipse.m2m.atl.common.OCL.VariableExp
 
 /**
  * The BindingTransformerImpl Class.
  */
 class BindingTransformerImpl implements BindingTransformer {
 	private final Atl2NmfSHelper atl2NmfSHelper;
+	private final GenerationInstrumentation generationInstrumentation;
+	private final GenerationOptions options;
 
 	/**
 	 * Class constructor.
 	 * 
 	 * @param atl2NmfSHelper
 	 *            the atl2nmfS helper
+	 * @param generationInstrumentation
+	 *            the generation instrumentation
+	 * @param options
+	 *            the generation options
 	 */
 	@Inject
-	new(Atl2NmfSHelper atl2NmfSHelper) {
+	new(Atl2NmfSHelper atl2NmfSHelper, GenerationInstrumentation generationInstrumentation,
+		GenerationOptions options) {
 		this.atl2NmfSHelper = atl2NmfSHelper;
+		this.generationInstrumentation = generationInstrumentation;
+		this.options = options;
 	}
 
 	/* (non-Javadoc)
 	 * @see edu.kit.ipd.sdq.atl2nmfs.transformer.atl.BindingTransformer#transformBindings
 	 */
 	override void transformBindings(RuleInfo ruleInfo, List<String> bindingsCodeList) {
+		// the bindings can be transformed concurrently, the created code is always added in the order of the bindings
+		var bindingCodesOfBindings = ParallelUtils.map(ruleInfo.bindingInfos, options.isParallelTransformation, [ bindingInfo |
+			transformBinding(bindingInfo, ruleInfo)
+		]);
+
+		for (bindingCodes : bindingCodesOfBindings) {
+			bindingsCodeList.addAll(bindingCodes);
+		}
+
 		for (bindingInfo : ruleInfo.bindingInfos) {
-			var binding = transformBinding(bindingInfo, ruleInfo);
-			bindingsCodeList.addAll(binding);
+			if (bindingInfo.inputReturnTypeInfo.isAmbiguous || bindingInfo.outputReturnTypeInfo.isAmbiguous) {
+				generationInstrumentation.incrementCounter("ambiguousBindings", 1);
+			}
 		}
+
+		generationInstrumentation.incrementCounter("bindings", ruleInfo.bindingInfos.size);
 	}
 
 	/* (non-Javadoc)
@@ -86,7 +112,7 @@ class BindingTransformerImpl implements BindingTransformer {
 			].toList;
 			for (outputModelInfo : filteredOutputModelInfos) {
 				var binding = SynchronizeManyMainRuleTemplate.createCode(matchedRuleInfo, inputModelInfo.name,
-					outputModelInfo.name, atl2NmfSHelper.outputModelCollectionClassName);
+					outputModelInfo.name, atl2NmfSHelper.outputModelCollectionClassName, isPartitioned);
 				mainRuleBindingsCodeList.add(binding);
 			}
 
@@ -97,13 +123,23 @@ class BindingTransformerImpl implements BindingTransformer {
 				].toList;
 				for (outputModelInfo : filteredAdditionalOutputModelInfos) {
 					var additionalRuleBinding = SynchronizeManyMainRuleTemplate.createCode(additionalRuleInfo,
-						inputModelInfo.name, outputModelInfo.name, atl2NmfSHelper.outputModelCollectionClassName);
+						inputModelInfo.name, outputModelInfo.name, atl2NmfSHelper.outputModelCollectionClassName,
+						isPartitioned);
 					mainRuleBindingsCodeList.add(additionalRuleBinding);
 				}
 			}
 		}
 	}
 
+	/**
+	 * Checks if the main rule synchronizes the elements of a partition of the input models.
+	 * 
+	 * @return the boolean indicating if the input models are partitioned
+	 */
+	def private Boolean isPartitioned() {
+		return options.isPartitionedSynchronization && atl2NmfSHelper.isPartitionable;
+	}
+
 	/**
 	 * Transforms a binding.
 	 * 
@@ -317,8 +353,9 @@ class BindingTransformerImpl implements BindingTransformer {
 		if (bindingInputReturnTypeInfo.getIsTypeCollection &&
 			bindingOutputReturnTypeInfo.getIsTypeCollection) {
 			// it is a collection so we have to call SynchronizeMany
+			var filteredView = getFilteredView(callingRuleInfo, containingRuleInfo, bindingInfo);
 			var code = SynchronizeManyTemplate.createCode(callingRuleInfo, containingRuleInfo, bindingInfo,
-				expression, inputCast, outputCast);
+				expression, inputCast, outputCast, filteredView);
 
 			return code;
 		} 
@@ -331,6 +368,89 @@ class BindingTransformerImpl implements BindingTransformer {
 		}
 	}
 
+	/**
+	 * Gets the expression of the shared view of all elements which fulfill the filter of the calling rule.
+	 * 
+	 * @param callingRuleInfo
+	 *            the calling rule info
+	 * @param containingRuleInfo
+	 *            the containing rule info
+	 * @param bindingInfo
+	 *            the binding info
+	 * @return the expression of the filtered view or null if the filter has to be evaluated in the binding
+	 */
+	def private String getFilteredView(RuleInfo callingRuleInfo, RuleInfo containingRuleInfo,
+		BindingInfo bindingInfo) {
+		if (!options.isSharedFilteredViews || !callingRuleInfo.getHasFilter) {
+			return null;
+		}
+
+		// the instance index of a view must be notifiable, but the elements of a partition can only be enumerated.
+		// Therefore the filter is evaluated in the binding if the input models are partitioned
+		if (isPartitioned) {
+			return null;
+		}
+
+		// the view contains the elements of exactly one input model. If several input models conform to the
+		// input metamodel of the rule the elements of the binding can come from any of them
+		val inputTypeMetamodelName = callingRuleInfo.inputTypeMetamodelName;
+		var filteredInputModelInfos = atl2NmfSHelper.inputModelInfos.filter [
+			it.metamodelName.equals(inputTypeMetamodelName)
+		];
+		if (filteredInputModelInfos.size != 1) {
+			return null;
+		}
+
+		// the intersection with the view drops the elements which are not descendants of the input model and
+		// collapses duplicates, so the view is only used if the binding source is a containment reference of an
+		// input element of the same model. These elements are distinct descendants of the model
+		if (!containingRuleInfo.inputTypeMetamodelName.equals(inputTypeMetamodelName) ||
+			!isContainmentNavigationOfInputVariable(bindingInfo, containingRuleInfo)) {
+			return null;
+		}
+
+		var filteredViewInfo = atl2NmfSHelper.registerFilteredViewUsage(filteredInputModelInfos.get(0),
+			callingRuleInfo.inputTypeName, callingRuleInfo.transformedInputTypeName, callingRuleInfo.filterName);
+
+		// we use the explicit call of the static property to avoid name conflicts
+		return atl2NmfSHelper.transformationName + "." + atl2NmfSHelper.inputModelContainerClassName + "." +
+			filteredViewInfo.propertyName;
+	}
+
+	/**
+	 * Checks if the expression of the passed binding is the navigation of a containment reference of the input
+	 * element of the containing rule.
+	 * 
+	 * @param bindingInfo
+	 *            the binding info
+	 * @param containingRuleInfo
+	 *            the containing rule info
+	 * @return the boolean indicating if the binding navigates a containment reference of the input element
+	 */
+	def private Boolean isContainmentNavigationOfInputVariable(BindingInfo bindingInfo, RuleInfo containingRuleInfo) {
+		var expression = bindingInfo.oclExpression;
+		if (!(expression instanceof NavigationOrAttributeCallExp)) {
+			return false;
+		}
+
+		val navigationExp = expression as NavigationOrAttributeCallExp;
+		if (!(navigationExp.source instanceof VariableExp) ||
+			!(navigationExp.source as VariableExp).referredVariable.varName.equals(containingRuleInfo.inputVariableName)) {
+			return false;
+		}
+
+		// the navigation source is the input element, so the reference is resolved on the input type of the rule.
+		// The view is not used if the feature can't be resolved (e.g. it is defined in a sub type or it is a helper)
+		val inputTypeMetamodelName = containingRuleInfo.inputTypeMetamodelName;
+		var metamodelInfo = atl2NmfSHelper.inputMetamodelInfos.findFirst[name.equals(inputTypeMetamodelName)];
+		if (metamodelInfo == null ||
+			!metamodelInfo.ecoreAnalyzer.hasFeature(containingRuleInfo.inputTypeName, navigationExp.name)) {
+			return false;
+		}
+
+		return metamodelInfo.ecoreAnalyzer.isContainmentReference(containingRuleInfo.inputTypeName, navigationExp.name);
+	}
+
 	/**
 	 * Transform binding where the types are primitive.
 	 * 
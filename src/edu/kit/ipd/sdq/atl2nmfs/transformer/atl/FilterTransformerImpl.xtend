@@ -1,39 +1,54 @@
 package edu.kit.ipd.sdq.atl2nmfs.transformer.atl
 
 import com.google.inject.Inject
+import java.util.ArrayList
 import java.util.List
 import edu.kit.ipd.sdq.atl2nmfs.templates.FilterTemplate
 import edu.kit.ipd.sdq.atl2nmfs.templates.FilterProxyTemplate
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.RuleInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper
+import edu.kit.ipd.sdq.atl2nmfs.utils.ParallelUtils
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions
 
 /**
  * The FilterTransformerImpl Class.
  */
 class FilterTransformerImpl implements FilterTransformer {
 	private final Atl2NmfSHelper atl2NmfSHelper;
+	private final GenerationOptions options;
 
 	/**
 	 * Class constructor.
 	 * 
 	 * @param atl2NmfSHelper
 	 *            the atl2nmfS helper
+	 * @param options
+	 *            the generation options
 	 */
 	@Inject
-	new(Atl2NmfSHelper atl2NmfSHelper) {
+	new(Atl2NmfSHelper atl2NmfSHelper, GenerationOptions options) {
 		this.atl2NmfSHelper = atl2NmfSHelper;
+		this.options = options;
 	}
 
 	/* (non-Javadoc)
 	 * @see edu.kit.ipd.sdq.atl2nmfs.transformer.atl.FilterTransformer#transformFilters
 	 */
 	override void transformFilters(List<String> filterCodeList, List<String> filterProxiesCodeList) {
-		var ruleInfos = atl2NmfSHelper.getAllRuleInfos();
+		var ruleInfosWithFilter = atl2NmfSHelper.getAllRuleInfos().filter[it.getHasFilter].toList;
 
-		for (ruleInfo : ruleInfos) {
-			if (ruleInfo.getHasFilter) {
-				createFilterCode(ruleInfo, filterCodeList, filterProxiesCodeList);
-			}
+		// the filters can be transformed concurrently, so each filter adds its code to its own lists
+		// which are merged in the order of the rules
+		var filterCodesOfRules = ParallelUtils.map(ruleInfosWithFilter, options.isParallelTransformation, [ ruleInfo |
+			val filterCodes = new ArrayList<String>();
+			val filterProxiesCodes = new ArrayList<String>();
+			createFilterCode(ruleInfo, filterCodes, filterProxiesCodes);
+			return filterCodes -> filterProxiesCodes;
+		]);
+
+		for (filterCodes : filterCodesOfRules) {
+			filterCodeList.addAll(filterCodes.key);
+			filterProxiesCodeList.addAll(filterCodes.value);
 		}
 	}
 
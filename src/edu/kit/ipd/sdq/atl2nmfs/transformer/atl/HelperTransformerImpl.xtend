@@ -1,6 +1,7 @@
 package edu.kit.ipd.sdq.atl2nmfs.transformer.atl
 
 import com.google.inject.Inject
+import java.util.ArrayList
 import java.util.List
 import edu.kit.ipd.sdq.atl2nmfs.templates.AttributeHelperProxyTemplate
 import edu.kit.ipd.sdq.atl2nmfs.templates.FunctionalHelperTemplate
@@ -9,22 +10,34 @@ import edu.kit.ipd.sdq.atl2nmfs.templates.AttributeHelperTemplate
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.HelperType
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.HelperInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation
+import edu.kit.ipd.sdq.atl2nmfs.utils.ParallelUtils
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions
 
 /**
  * The HelperTransformerImpl Class.
  */
 class HelperTransformerImpl implements HelperTransformer {
 	private final Atl2NmfSHelper atl2NmfSHelper;
+	private final GenerationInstrumentation generationInstrumentation;
+	private final GenerationOptions options;
 
 	/**
 	 * Class constructor.
 	 * 
 	 * @param atl2NmfSHelper
 	 *            the atl2nmfS helper
+	 * @param generationInstrumentation
+	 *            the generation instrumentation
+	 * @param options
+	 *            the generation options
 	 */
 	@Inject
-	new(Atl2NmfSHelper atl2NmfSHelper) {
+	new(Atl2NmfSHelper atl2NmfSHelper, GenerationInstrumentation generationInstrumentation,
+		GenerationOptions options) {
 		this.atl2NmfSHelper = atl2NmfSHelper;
+		this.generationInstrumentation = generationInstrumentation;
+		this.options = options;
 	}
 
 	/* (non-Javadoc)
@@ -32,13 +45,29 @@ class HelperTransformerImpl implements HelperTransformer {
 	 */
 	override void transformHelpers(List<String> helperCodeList, List<String> helperProxiesCodeList) {
 		var helperInfos = atl2NmfSHelper.getAllHelperInfos();
-		for (helperInfo : helperInfos) {
+
+		// the helpers can be transformed concurrently, so each helper adds its code to its own lists
+		// which are merged in the order of the helpers
+		var helperCodesOfHelpers = ParallelUtils.map(helperInfos, options.isParallelTransformation, [ helperInfo |
+			// the OCL expression of the helper is transformed while its code is created
+			var startTime = System.nanoTime();
+			val helperCodes = new ArrayList<String>();
+			val helperProxiesCodes = new ArrayList<String>();
 			if (helperInfo.helperType == HelperType.ATTRIBUTE) {
-				createAttributeHelperCode(helperInfo, helperCodeList, helperProxiesCodeList)
+				createAttributeHelperCode(helperInfo, helperCodes, helperProxiesCodes)
 			} else {
-				createFunctionalHelperCode(helperInfo, helperCodeList, helperProxiesCodeList)
+				createFunctionalHelperCode(helperInfo, helperCodes, helperProxiesCodes)
 			}
+			generationInstrumentation.recordHelperTransformation(helperInfo.name, System.nanoTime() - startTime);
+			return helperCodes -> helperProxiesCodes;
+		]);
+
+		for (helperCodes : helperCodesOfHelpers) {
+			helperCodeList.addAll(helperCodes.key);
+			helperProxiesCodeList.addAll(helperCodes.value);
 		}
+
+		generationInstrumentation.incrementCounter("helpers", helperInfos.size);
 	}
 
 	/**
@@ -54,6 +83,15 @@ class HelperTransformerImpl implements HelperTransformer {
 	def private void createAttributeHelperCode(HelperInfo helperInfo, List<String> helperCodeList,
 		List<String> helperProxiesCodeList) {
 		// attribute helper: no parameters, only executed once for each calling context
+		// the value is cached for each context element if the context is a model element
+		if (options.isMemoizedAttributeHelpers && helperInfo.isContextModelElement) {
+			helperCodeList.add(
+				AttributeHelperTemplate.createMemoizedCode(helperInfo, atl2NmfSHelper.memoizedValueClassName));
+			helperProxiesCodeList.add(
+				AttributeHelperProxyTemplate.createMemoizedCode(helperInfo, atl2NmfSHelper.helperClassName));
+			return;
+		}
+
 		var attributeHelperCode = AttributeHelperTemplate.createCode(helperInfo);
 		helperCodeList.add(attributeHelperCode);
 
@@ -6,6 +6,9 @@ import java.util.List
 import edu.kit.ipd.sdq.atl2nmfs.templates.SynchronizationRuleClassTemplate
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.RuleInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation
+import edu.kit.ipd.sdq.atl2nmfs.utils.ParallelUtils
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions
 
 /**
  * The RuleTransformerImpl Class.
@@ -13,6 +16,8 @@ import edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper
 class RuleTransformerImpl implements RuleTransformer {
 	private final Atl2NmfSHelper atl2NmfSHelper;
 	private final BindingTransformer bindingTransformer;
+	private final GenerationInstrumentation generationInstrumentation;
+	private final GenerationOptions options;
 
 	/**
 	 * Class constructor.
@@ -21,11 +26,18 @@ class RuleTransformerImpl implements RuleTransformer {
 	 *            the atl2nmfS helper
 	 * @param bindingTransformer
 	 *            the binding transformer
+	 * @param generationInstrumentation
+	 *            the generation instrumentation
+	 * @param options
+	 *            the generation options
 	 */
 	@Inject
-	new(Atl2NmfSHelper atl2NmfSHelper, BindingTransformer bindingTransformer) {
+	new(Atl2NmfSHelper atl2NmfSHelper, BindingTransformer bindingTransformer,
+		GenerationInstrumentation generationInstrumentation, GenerationOptions options) {
 		this.atl2NmfSHelper = atl2NmfSHelper;
 		this.bindingTransformer = bindingTransformer;
+		this.generationInstrumentation = generationInstrumentation;
+		this.options = options;
 	}
 
 	/* (non-Javadoc)
@@ -36,11 +48,21 @@ class RuleTransformerImpl implements RuleTransformer {
 		var mainRuleCode = createMainRule(ruleInfos);
 		ruleCodeList.add(mainRuleCode);
 
-		// transform the matched rules
-		for (ruleInfo : ruleInfos) {
+		// transform the matched rules. The rules are independent of each other and can be transformed
+		// concurrently, the created code is always added in the order of the rules
+		var synchronizationRuleCodesOfRules = ParallelUtils.map(ruleInfos, options.isParallelTransformation, [ ruleInfo |
+			var startTime = System.nanoTime();
 			var synchronizationRuleCodes = transformMatchedRule(ruleInfo);
+			generationInstrumentation.recordRuleTransformation(ruleInfo.name, System.nanoTime() - startTime);
+			return synchronizationRuleCodes;
+		]);
+
+		for (synchronizationRuleCodes : synchronizationRuleCodesOfRules) {
 			ruleCodeList.addAll(synchronizationRuleCodes);
 		}
+
+		generationInstrumentation.incrementCounter("rules", ruleInfos.size);
+		generationInstrumentation.incrementCounter("synchronizationRules", ruleCodeList.size);
 	}
 
 	/**
@@ -78,7 +100,8 @@ class RuleTransformerImpl implements RuleTransformer {
 		bindingTransformer.transformBindings(ruleInfo, bindingsCodeList)
 		var synchronizationRuleCode = SynchronizationRuleClassTemplate.createCode(
 			ruleInfo,
-			bindingsCodeList
+			bindingsCodeList,
+			runtimeMetricsClassName
 		);
 
 		synchronizationRulesCode.add(synchronizationRuleCode);
@@ -90,7 +113,8 @@ class RuleTransformerImpl implements RuleTransformer {
 
 			var additionalSynchronizationRuleCode = SynchronizationRuleClassTemplate.createCode(
 				additionalOutputPatternElementRuleInfo,
-				additionalBindingsCodeList
+				additionalBindingsCodeList,
+				runtimeMetricsClassName
 			);
 
 			synchronizationRulesCode.add(additionalSynchronizationRuleCode);
@@ -98,4 +122,17 @@ class RuleTransformerImpl implements RuleTransformer {
 
 		return synchronizationRulesCode;
 	}
+
+	/**
+	 * Gets the name of the runtime metrics class which counts the instantiations of the synchronization rules.
+	 * 
+	 * @return the runtime metrics class name or null if the instantiations are not counted
+	 */
+	def private String getRuntimeMetricsClassName() {
+		if (options.isRuntimeMetrics && options.isRuntimeRuleMetrics) {
+			return atl2NmfSHelper.runtimeMetricsClassName;
+		}
+
+		return null;
+	}
 }
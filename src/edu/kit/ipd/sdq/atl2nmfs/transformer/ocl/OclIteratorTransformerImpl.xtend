@@ -1,6 +1,7 @@
 package edu.kit.ipd.sdq.atl2nmfs.transformer.ocl
 
 import com.google.inject.Inject
+import java.util.Set
 import org.eclipse.m2m.atl.common.OCL.IteratorExp
 import org.eclipse.m2m.atl.common.OCL.OclExpression
 import org.eclipse.m2m.atl.common.OCL.OperationCallExp
@@ -11,6 +12,13 @@ import org.apache.commons.lang.NotImplementedException
  * The OclIteratorTransformerImpl Class.
  */
 class OclIteratorTransformerImpl implements OclIteratorTransformer {
+
+	/**
+	 * The names of the iterators which are transformed. The ATL support analyzer rejects all other iterators.
+	 */
+	public static final Set<String> SUPPORTEDITERATORNAMES = #{"select", "collect", "exists", "forAll", "any", "one",
+		"reject", "sortedBy"};
+
 	private final Atl2NmfSHelper atl2NmfSHelper;
 
 	/**
@@ -1,6 +1,7 @@
 package edu.kit.ipd.sdq.atl2nmfs.transformer.ocl
 
 import com.google.inject.Inject
+import java.util.Set
 import org.eclipse.m2m.atl.common.OCL.IteratorExp
 import org.eclipse.m2m.atl.common.OCL.OclModelElement
 import org.eclipse.m2m.atl.common.OCL.OperationCallExp
@@ -11,6 +12,16 @@ import org.apache.commons.lang.NotImplementedException
  * The OclOperationTransformerImpl Class.
  */
 class OclOperationTransformerImpl implements OclOperationTransformer {
+
+	/**
+	 * The names of the operations which are transformed. The ATL support analyzer rejects all other operations
+	 * which are no helpers or lazy rules.
+	 */
+	public static final Set<String> SUPPORTEDOPERATIONNAMES = #{"oclIsKindOf", "oclIsTypeOf", "oclIsUndefined",
+		"oclType", "implies", "max", "min", "abs", "sum", "toInteger", "toReal", "first", "last", "indexOf", "at",
+		"insertAt", "includes", "excludes", "includesAll", "excludesAll", "flatten", "isEmpty", "notEmpty", "count",
+		"size", "trim", "union", "allInstances", "refImmediateComposite"};
+
 	private final Atl2NmfSHelper atl2NmfSHelper;
 
 	/**
@@ -209,8 +220,13 @@ class OclOperationTransformerImpl implements OclOperationTransformer {
 
 		var inputModelInfo = filteredInputModelInfos.get(0);
 
+		// the instances are not searched in the whole input model on every evaluation. Instead the input model
+		// container provides an incrementally maintained instance index for every type which is used with "allInstances"
+		var allInstancesInfo = atl2NmfSHelper.registerAllInstancesUsage(inputModelInfo, oclModelElement.name,
+			transformedSource);
+
 		// we use the explicit call of the static property to avoid name conflicts
-		return '''synchronizationClassName.inputModelContainerPropertyName.inputModelInfo.name.Descendants().OfType<transformedSource>()'''
+		return '''synchronizationClassName.inputModelContainerPropertyName.allInstancesInfo.propertyName'''
 	}
 
 	/**
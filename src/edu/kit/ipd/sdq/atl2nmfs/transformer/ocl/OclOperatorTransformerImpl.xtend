@@ -1,5 +1,6 @@
 package edu.kit.ipd.sdq.atl2nmfs.transformer.ocl
 
+import java.util.Set
 import org.eclipse.m2m.atl.common.OCL.OperatorCallExp
 import org.apache.commons.lang.NotImplementedException
 
@@ -8,6 +9,12 @@ import org.apache.commons.lang.NotImplementedException
  */
 class OclOperatorTransformerImpl implements OclOperatorTransformer {
 
+	/**
+	 * The names of the operators which are transformed. The ATL support analyzer rejects all other operators.
+	 */
+	public static final Set<String> SUPPORTEDOPERATORNAMES = #{"+", "-", ">", ">=", "<", "<=", "<>", "=", "and",
+		"or", "xor", "not", "/", "*"};
+
 	/* (non-Javadoc)
 	 * @see edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOperatorTransformer#transform
 	 */
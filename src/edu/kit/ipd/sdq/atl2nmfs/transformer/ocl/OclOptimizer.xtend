@@ -0,0 +1,46 @@
+package edu.kit.ipd.sdq.atl2nmfs.transformer.ocl;
+
+import org.eclipse.m2m.atl.common.OCL.OperationCallExp;
+import org.eclipse.m2m.atl.common.OCL.OperatorCallExp;
+
+/**
+ * The OclOptimizer Interface.
+ * Rewrites OCL expressions into more efficient LINQ expressions than the node by node transformation.
+ * Every applied rewrite is recorded with the name of the rule or helper which contains the expression.
+ */
+interface OclOptimizer {
+
+	/**
+	 * Checks if the operation call and the iterator expression which is its source can be fused into one LINQ call.
+	 * 
+	 * @param expression
+	 *            the operation call expression
+	 * @return true if the expressions can be fused; otherwise false
+	 */
+	def Boolean isFusible(OperationCallExp expression);
+
+	/**
+	 * Transforms the operation call and the iterator expression which is its source into one LINQ call.
+	 * The expression must be fusible.
+	 * 
+	 * @param expression
+	 *            the operation call expression
+	 * @param transformedIteratorSource
+	 *            the transformed source expression of the iterator expression as string
+	 * @param transformedIteratorBody
+	 *            the transformed body expression of the iterator expression as string
+	 * @return the transformed string
+	 */
+	def String transformFused(OperationCallExp expression, String transformedIteratorSource,
+		String transformedIteratorBody);
+
+	/**
+	 * Evaluates an operator call expression which only consists of literals.
+	 * 
+	 * @param expression
+	 *            the operator call expression
+	 * @return the transformed literal or null if the expression is not constant
+	 */
+	def String foldConstants(OperatorCallExp expression);
+
+}
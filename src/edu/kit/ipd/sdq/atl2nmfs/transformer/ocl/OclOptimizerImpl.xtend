@@ -0,0 +1,345 @@
+package edu.kit.ipd.sdq.atl2nmfs.transformer.ocl
+
+import com.google.inject.Inject
+import org.eclipse.emf.ecore.EObject
+import org.eclipse.m2m.atl.common.ATL.Helper
+import org.eclipse.m2m.atl.common.ATL.Rule
+import org.eclipse.m2m.atl.common.OCL.BooleanExp
+import org.eclipse.m2m.atl.common.OCL.IntegerExp
+import org.eclipse.m2m.atl.common.OCL.IteratorExp
+import org.eclipse.m2m.atl.common.OCL.OclExpression
+import org.eclipse.m2m.atl.common.OCL.OperationCallExp
+import org.eclipse.m2m.atl.common.OCL.OperatorCallExp
+import org.eclipse.m2m.atl.common.OCL.RealExp
+import org.eclipse.m2m.atl.common.OCL.StringExp
+import edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationInstrumentation
+import edu.kit.ipd.sdq.atl2nmfs.GenerationOptions
+
+/**
+ * The OclOptimizerImpl Class.
+ */
+class OclOptimizerImpl implements OclOptimizer {
+	private final Atl2NmfSHelper atl2NmfSHelper;
+	private final GenerationInstrumentation generationInstrumentation;
+	private final GenerationOptions options;
+
+	/**
+	 * Class constructor.
+	 * 
+	 * @param atl2NmfSHelper
+	 *            the atl2nmfS helper
+	 * @param generationInstrumentation
+	 *            the generation instrumentation
+	 * @param options
+	 *            the generation options
+	 */
+	@Inject
+	new(Atl2NmfSHelper atl2NmfSHelper, GenerationInstrumentation generationInstrumentation,
+		GenerationOptions options) {
+		this.atl2NmfSHelper = atl2NmfSHelper;
+		this.generationInstrumentation = generationInstrumentation;
+		this.options = options;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOptimizer#isFusible
+	 */
+	override Boolean isFusible(OperationCallExp expression) {
+		if (!options.isOclOptimization || !expression.arguments.empty || !(expression.source instanceof IteratorExp)) {
+			return false;
+		}
+
+		val iteratorExpression = expression.source as IteratorExp;
+		if (iteratorExpression.iterators.size != 1 || containsCallToLazyRule(iteratorExpression.body)) {
+			// a lazy rule call in the body simplifies the iterator expression, so it must be transformed on its own
+			return false;
+		}
+
+		switch (iteratorExpression.name) {
+			case "select",
+			case "reject": {
+				// "select(c | c.oclIsKindOf(X!Y))" is transformed into "OfType<X.Y>()" which also casts the elements
+				var bodyExpression = iteratorExpression.body;
+				if (bodyExpression instanceof OperationCallExp &&
+					(bodyExpression as OperationCallExp).operationName.equals("oclIsKindOf")) {
+					return false;
+				}
+
+				return #["size", "isEmpty", "notEmpty", "first"].contains(expression.operationName);
+			}
+			case "collect":
+				// the flatten operation is only needed if the body returns a collection (see the OCL operation transformer)
+				return expression.operationName.equals("flatten") &&
+					atl2NmfSHelper.getReturnTypeInfoOfOclExpression(iteratorExpression.body).getIsTypeCollection
+			default:
+				return false
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOptimizer#transformFused
+	 */
+	override String transformFused(OperationCallExp expression, String transformedIteratorSource,
+		String transformedIteratorBody) {
+		var iteratorExpression = expression.source as IteratorExp;
+		var iteratorName = iteratorExpression.iterators.get(0).varName;
+
+		// the predicate of reject is negated, so "reject(...)->isEmpty()" is the same as "forAll(...)"
+		var isRejected = iteratorExpression.name.equals("reject");
+		var predicate = if (isRejected) "!(" + transformedIteratorBody + ")" else transformedIteratorBody;
+
+		var String transformedExpression;
+		switch (expression.operationName) {
+			case "size":
+				transformedExpression = '''transformedIteratorSource.Count(iteratorName => predicate)'''
+			case "isEmpty":
+				if (isRejected) {
+					transformedExpression = '''transformedIteratorSource.All(iteratorName => transformedIteratorBody)'''
+				} else {
+					transformedExpression = '''!transformedIteratorSource.Any(iteratorName => predicate)'''
+				}
+			case "notEmpty":
+				transformedExpression = '''transformedIteratorSource.Any(iteratorName => predicate)'''
+			case "first":
+				transformedExpression = '''transformedIteratorSource.FirstOrDefault(iteratorName => predicate)'''
+			case "flatten":
+				transformedExpression = '''transformedIteratorSource.SelectMany(iteratorName => transformedIteratorBody)'''
+			default:
+				throw new IllegalArgumentException(
+					"The operation " + expression.operationName + " can't be fused with an iterator expression")
+		}
+
+		recordRewrite(expression, iteratorExpression.name + "->" + expression.operationName);
+		return transformedExpression;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclOptimizer#foldConstants
+	 */
+	override String foldConstants(OperatorCallExp expression) {
+		if (!options.isOclOptimization) {
+			return null;
+		}
+
+		var value = evaluate(expression);
+		if (value == null || (value instanceof Double && ((value as Double).isNaN || (value as Double).isInfinite))) {
+			return null;
+		}
+
+		var String transformedExpression;
+		switch (value) {
+			String:
+				transformedExpression = "\"" + value + "\""
+			Number:
+				// negative numbers are enclosed in parentheses since they can follow another operator
+				transformedExpression = if (value.doubleValue < 0) "(" + value + ")" else value.toString
+			default:
+				transformedExpression = value.toString
+		}
+
+		recordRewrite(expression, "constantFolding");
+		return transformedExpression;
+	}
+
+	/**
+	 * Evaluates a constant OCL expression.
+	 * 
+	 * @param expression
+	 *            the OCL expression
+	 * @return the value (an Integer, Double, Boolean or String) or null if the expression is not constant
+	 */
+	def private Object evaluate(OclExpression expression) {
+		switch (expression) {
+			IntegerExp:
+				return expression.integerSymbol
+			RealExp:
+				return expression.realSymbol
+			BooleanExp:
+				return expression.isBooleanSymbol
+			StringExp:
+				return expression.stringSymbol
+			OperatorCallExp: {
+				var source = evaluate(expression.source);
+				if (source == null || expression.arguments.size > 1) {
+					return null;
+				}
+
+				if (expression.arguments.empty) {
+					return evaluateUnary(expression.operationName, source);
+				}
+
+				var argument = evaluate(expression.arguments.get(0));
+				if (argument == null) {
+					return null;
+				}
+
+				return evaluateBinary(expression.operationName, source, argument);
+			}
+			default:
+				return null
+		}
+	}
+
+	/**
+	 * Evaluates an unary operator.
+	 * 
+	 * @param operationName
+	 *            the operation name
+	 * @param operand
+	 *            the operand
+	 * @return the value or null if the operator can't be evaluated
+	 */
+	def private Object evaluateUnary(String operationName, Object operand) {
+		switch (operationName) {
+			case "not":
+				return if (operand instanceof Boolean) !(operand as Boolean) else null
+			case "-":
+				if (operand instanceof Integer && (operand as Integer) != Integer.MIN_VALUE) {
+					return -(operand as Integer)
+				} else if (operand instanceof Double) {
+					return -(operand as Double)
+				}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Evaluates a binary operator. Only the operations are evaluated which have the same result in OCL and C#,
+	 * e.g. the division of two integers is not evaluated since it is an integer division in C#.
+	 * 
+	 * @param operationName
+	 *            the operation name
+	 * @param left
+	 *            the left operand
+	 * @param right
+	 *            the right operand
+	 * @return the value or null if the operator can't be evaluated
+	 */
+	def private Object evaluateBinary(String operationName, Object left, Object right) {
+		if (left instanceof Boolean && right instanceof Boolean) {
+			var leftValue = left as Boolean;
+			var rightValue = right as Boolean;
+			switch (operationName) {
+				case "and": return leftValue && rightValue
+				case "or": return leftValue || rightValue
+				case "xor": return leftValue.booleanValue.xor(rightValue.booleanValue)
+				case "=": return leftValue == rightValue
+				case "<>": return leftValue != rightValue
+			}
+		} else if (left instanceof String && right instanceof String) {
+			switch (operationName) {
+				case "+": return (left as String) + (right as String)
+				case "=": return left.equals(right)
+				case "<>": return !left.equals(right)
+			}
+		} else if (left instanceof Integer && right instanceof Integer) {
+			var leftValue = (left as Integer).longValue;
+			var rightValue = (right as Integer).longValue;
+			switch (operationName) {
+				case "+": return toInteger(leftValue + rightValue)
+				case "-": return toInteger(leftValue - rightValue)
+				case "*": return toInteger(leftValue * rightValue)
+				default: return compare(operationName, Long.compare(leftValue, rightValue))
+			}
+		} else if (left instanceof Number && right instanceof Number) {
+			// at least one operand is a real
+			var leftValue = (left as Number).doubleValue;
+			var rightValue = (right as Number).doubleValue;
+			switch (operationName) {
+				case "+": return leftValue + rightValue
+				case "-": return leftValue - rightValue
+				case "*": return leftValue * rightValue
+				case "/": return if (rightValue != 0) leftValue / rightValue else null
+				default: return compare(operationName, Double.compare(leftValue, rightValue))
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Evaluates a comparison operator.
+	 * 
+	 * @param operationName
+	 *            the operation name
+	 * @param comparison
+	 *            the result of the comparison of the operands
+	 * @return the value or null if the operator is no comparison operator
+	 */
+	def private Boolean compare(String operationName, int comparison) {
+		switch (operationName) {
+			case "=": return comparison == 0
+			case "<>": return comparison != 0
+			case "<": return comparison < 0
+			case "<=": return comparison <= 0
+			case ">": return comparison > 0
+			case ">=": return comparison >= 0
+			default: return null
+		}
+	}
+
+	/**
+	 * Converts the result of an integer operation.
+	 * 
+	 * @param value
+	 *            the value
+	 * @return the value as Integer or null if it does not fit into an integer
+	 */
+	def private Integer toInteger(long value) {
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			return null;
+		}
+
+		return value as int;
+	}
+
+	/**
+	 * Checks if the OCL expression contains a call to a lazy rule.
+	 * 
+	 * @param expression
+	 *            the OCL expression
+	 * @return true if the expression contains a call to a lazy rule; otherwise false
+	 */
+	def private Boolean containsCallToLazyRule(OclExpression expression) {
+		if (expression instanceof OperationCallExp &&
+			atl2NmfSHelper.isLazyRule((expression as OperationCallExp).operationName)) {
+			return true;
+		}
+
+		var contents = expression.eAllContents;
+		while (contents.hasNext) {
+			val content = contents.next;
+			if (content instanceof OperationCallExp && atl2NmfSHelper.isLazyRule(content.operationName)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Records an applied rewrite for the rule or helper which contains the expression.
+	 * 
+	 * @param expression
+	 *            the rewritten expression
+	 * @param rewriteName
+	 *            the rewrite name
+	 */
+	def private void recordRewrite(OclExpression expression, String rewriteName) {
+		var EObject container = expression;
+		while (container != null && !(container instanceof Rule) && !(container instanceof Helper)) {
+			container = container.eContainer;
+		}
+
+		var String ownerName;
+		switch (container) {
+			Rule: ownerName = container.name
+			Helper: ownerName = container.definition.feature.name
+			default: ownerName = "unknown"
+		}
+
+		generationInstrumentation.recordOclRewrite(ownerName, rewriteName);
+	}
+}
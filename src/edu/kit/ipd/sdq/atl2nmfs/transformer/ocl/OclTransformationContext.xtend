@@ -0,0 +1,53 @@
+package edu.kit.ipd.sdq.atl2nmfs.transformer.ocl
+
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.PossibleReturnTypeInfo
+
+/**
+ * The OclTransformationContext Class.
+ * This class holds the state of the transformation of one OCL expression. Each transformation uses
+ * its own context, so expressions can be transformed concurrently and nested.
+ */
+class OclTransformationContext {
+	private final PossibleReturnTypeInfo possibleReturnTypeInfo;
+	private Boolean handleCallToLazyRule;
+
+	/**
+	 * Class constructor.
+	 * 
+	 * @param possibleReturnTypeInfo
+	 *            the possible return type info which should be used to solve ambiguous calls (can be null)
+	 */
+	new(PossibleReturnTypeInfo possibleReturnTypeInfo) {
+		this.possibleReturnTypeInfo = possibleReturnTypeInfo;
+		this.handleCallToLazyRule = false;
+	}
+
+	/**
+	 * Gets the possible return type info which should be used to solve ambiguous calls.
+	 * 
+	 * @return the possible return type info or null if no ambiguous calls should be solved
+	 */
+	def PossibleReturnTypeInfo getPossibleReturnTypeInfo() {
+		return possibleReturnTypeInfo;
+	}
+
+	/**
+	 * Gets the value indicating if a call to a lazy rule was transformed and the
+	 * surrounding iterator expression can be simplified.
+	 * 
+	 * @return the value indicating if a call to a lazy rule has to be handled
+	 */
+	def Boolean getHandleCallToLazyRule() {
+		return handleCallToLazyRule;
+	}
+
+	/**
+	 * Sets the value indicating if a call to a lazy rule has to be handled.
+	 * 
+	 * @param handleCallToLazyRule
+	 *            the value indicating if a call to a lazy rule has to be handled
+	 */
+	def void setHandleCallToLazyRule(Boolean handleCallToLazyRule) {
+		this.handleCallToLazyRule = handleCallToLazyRule;
+	}
+}
@@ -2,6 +2,7 @@ package edu.kit.ipd.sdq.atl2nmfs.transformer.ocl;
 
 import org.eclipse.m2m.atl.common.OCL.OclExpression;
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.PossibleReturnTypeInfo
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo
 
 /**
  * The OclTransformer Interface.
@@ -29,4 +30,17 @@ interface OclTransformer {
 	def String transformExpressionWithAmbiguousCall(OclExpression expression,
 		PossibleReturnTypeInfo possibleReturnTypeInfo);
 
+	/**
+	 * Gets the statistics of the cache which holds the transformed expressions.
+	 * 
+	 * @return the statistics of the cache
+	 */
+	def CacheStatisticsInfo getCacheStatistics();
+
+	/**
+	 * Clears the cache which holds the transformed expressions. It must be cleared
+	 * whenever a new transformation is started.
+	 */
+	def void clearCache();
+
 }
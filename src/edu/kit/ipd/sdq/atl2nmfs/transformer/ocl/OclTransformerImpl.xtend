@@ -22,6 +22,8 @@ import org.eclipse.m2m.atl.common.OCL.StringType
 import org.eclipse.m2m.atl.common.OCL.VariableExp
 import edu.kit.ipd.sdq.atl2nmfs.helper.infos.PossibleReturnTypeInfo
 import edu.kit.ipd.sdq.atl2nmfs.helper.Atl2NmfSHelper
+import edu.kit.ipd.sdq.atl2nmfs.helper.MemoizationCache
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo
 import org.apache.commons.lang.NotImplementedException
 import org.apache.commons.lang.WordUtils
 
@@ -33,9 +35,10 @@ class OclTransformerImpl implements OclTransformer {
 	private final OclIteratorTransformer oclIteratorTransformer;
 	private final OclOperationTransformer oclOperationTransformer;
 	private final OclOperatorTransformer oclOperatorTransformer;
+	private final OclOptimizer oclOptimizer;
 
-	var PossibleReturnTypeInfo possibleReturnTypeInfo = null;
-	var Boolean handleCallToLazyRule = false;
+	// the transformed expressions by the OCL expression and the possible return type info which was used to solve ambiguous calls
+	private final MemoizationCache<String> transformedExpressionCache;
 
 	/**
 	 * Class constructor.
@@ -48,14 +51,19 @@ class OclTransformerImpl implements OclTransformer {
 	 *            the OCL operation transformer
 	 * @param oclOperatorTransformer
 	 *            the OCL operator transformer
+	 * @param oclOptimizer
+	 *            the OCL optimizer
 	 */
 	@Inject
 	new(Atl2NmfSHelper atl2NmfSHelper, OclIteratorTransformer oclIteratorTransformer,
-		OclOperationTransformer oclOperationTransformer, OclOperatorTransformer oclOperatorTransformer) {
+		OclOperationTransformer oclOperationTransformer, OclOperatorTransformer oclOperatorTransformer,
+		OclOptimizer oclOptimizer) {
 		this.atl2NmfSHelper = atl2NmfSHelper;
 		this.oclIteratorTransformer = oclIteratorTransformer;
 		this.oclOperationTransformer = oclOperationTransformer;
 		this.oclOperatorTransformer = oclOperatorTransformer;
+		this.oclOptimizer = oclOptimizer;
+		this.transformedExpressionCache = new MemoizationCache<String>("OCL expression transformation");
 	}
 
 	/* (non-Javadoc)
@@ -63,10 +71,7 @@ class OclTransformerImpl implements OclTransformer {
 	 */
 	override String transformExpression(OclExpression expression) {
 		// in this expression are no ambiguous calls so we don't need the possible type to solve ambiguity
-		this.possibleReturnTypeInfo = null;
-		this.handleCallToLazyRule = false;
-
-		return transform(expression);
+		return transformMemoized(expression, null);
 	}
 
 	/* (non-Javadoc)
@@ -77,10 +82,45 @@ class OclTransformerImpl implements OclTransformer {
 		// we need this function to cast a part of the expression to allow access to a property
 		// which is only availably from a sub type. Since there could be multiple possible types
 		// we have to transform the expression for each possible type separately
-		this.possibleReturnTypeInfo = possibleReturnTypeInfo;
-		this.handleCallToLazyRule = false;
+		return transformMemoized(expression, possibleReturnTypeInfo);
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclTransformer#getCacheStatistics
+	 */
+	override CacheStatisticsInfo getCacheStatistics() {
+		return transformedExpressionCache.statistics;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.kit.ipd.sdq.atl2nmfs.transformer.ocl.OclTransformer#clearCache
+	 */
+	override void clearCache() {
+		transformedExpressionCache.clear();
+	}
+
+	/**
+	 * Transforms the OCL expression or returns the cached result if the same expression was already
+	 * transformed with the same possible return type info.
+	 * 
+	 * @param expression
+	 *            the OCL expression
+	 * @param possibleReturnTypeInfo
+	 *            the possible return type info which should be used to solve ambiguous calls (can be null)
+	 * @return the transformed string
+	 */
+	def private String transformMemoized(OclExpression expression, PossibleReturnTypeInfo possibleReturnTypeInfo) {
+		var transformedExpression = transformedExpressionCache.get(expression, possibleReturnTypeInfo);
+		if (transformedExpression != null) {
+			return transformedExpression;
+		}
 
-		return transform(expression);
+		// the state of the transformation is kept in a context since the transformation can be started again while
+		// an expression is transformed (e.g. by the iterator transformer) and expressions can be transformed concurrently
+		transformedExpression = transform(expression, new OclTransformationContext(possibleReturnTypeInfo));
+
+		transformedExpressionCache.put(expression, possibleReturnTypeInfo, transformedExpression);
+		return transformedExpression;
 	}
 
 	/**
@@ -88,9 +128,11 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the OCL expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(OclExpression expression) {
+	def private dispatch String transform(OclExpression expression, OclTransformationContext context) {
 		// is called when no specific dispatch function for the expression type is implemented
 		throw new NotImplementedException("No dispatch function for the type " + expression.class.name +
 			" implemented");
@@ -101,9 +143,11 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param v
 	 *            the void expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(Void v) {
+	def private dispatch String transform(Void v, OclTransformationContext context) {
 		// called if the parameter is null
 		return "";
 	}
@@ -113,10 +157,12 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expressions
 	 *            the OCL expressions
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(EList<OclExpression> expressions) {
-		return '''FOR expression : expressions SEPARATOR ", "transform(expression)ENDFOR'''
+	def private dispatch String transform(EList<OclExpression> expressions, OclTransformationContext context) {
+		return '''FOR expression : expressions SEPARATOR ", "transform(expression, context)ENDFOR'''
 	}
 
 	/**
@@ -124,11 +170,19 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the OCL expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(OperatorCallExp expression) {
-		var transformedSource = transform(expression.source);
-		var transformedArgument = transform(expression.arguments);
+	def private dispatch String transform(OperatorCallExp expression, OclTransformationContext context) {
+		// an operator call which only consists of literals is replaced by its value
+		var foldedExpression = oclOptimizer.foldConstants(expression);
+		if (foldedExpression != null) {
+			return foldedExpression;
+		}
+
+		var transformedSource = transform(expression.source, context);
+		var transformedArgument = transform(expression.arguments, context);
 
 		return oclOperatorTransformer.transform(expression, transformedSource, transformedArgument);
 	}
@@ -138,16 +192,28 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the operation call expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(OperationCallExp expression) {
+	def private dispatch String transform(OperationCallExp expression, OclTransformationContext context) {
 		// this function can also be used for the CollectionOperationCallExp type which is a subtype of the OperationCallExp type
-		var transformedSource = transform(expression.source);
-		var transformedArgument = transform(expression.arguments);
+		if (oclOptimizer.isFusible(expression)) {
+			// the operation and the iterator expression which is its source are transformed into one LINQ call
+			// (e.g. "select(...)->size()" into "Count(...)" instead of "Where(...).Count()")
+			var iteratorExpression = expression.source as IteratorExp;
+			var transformedIteratorSource = transform(iteratorExpression.source, context);
+			var transformedIteratorBody = transform(iteratorExpression.body, context);
+
+			return oclOptimizer.transformFused(expression, transformedIteratorSource, transformedIteratorBody);
+		}
+
+		var transformedSource = transform(expression.source, context);
+		var transformedArgument = transform(expression.arguments, context);
 
 		if (atl2NmfSHelper.isLazyRule(expression.operationName)) {
 			// we set this flag to signalize that iterator expressions can be simplified
-			handleCallToLazyRule = true;
+			context.handleCallToLazyRule = true;
 
 			// since the source of a lazy rule call is always "thisModule." we can just return the argument here
 			return transformedArgument;
@@ -161,12 +227,14 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the if expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(IfExp expression) {
-		var transformedCondition = transform(expression.condition);
-		var transformedThenExpression = transform(expression.thenExpression);
-		var transformedElseExpression = transform(expression.elseExpression);
+	def private dispatch String transform(IfExp expression, OclTransformationContext context) {
+		var transformedCondition = transform(expression.condition, context);
+		var transformedThenExpression = transform(expression.thenExpression, context);
+		var transformedElseExpression = transform(expression.elseExpression, context);
 
 		return '''
 		(transformedCondition) ? 
@@ -178,19 +246,21 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the iterator expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(IteratorExp expression) {
-		var transformedSource = transform(expression.source);
-		var transformedBody = transform(expression.body);
+	def private dispatch String transform(IteratorExp expression, OclTransformationContext context) {
+		var transformedSource = transform(expression.source, context);
+		var transformedBody = transform(expression.body, context);
 
 		var transformedExpression = oclIteratorTransformer.transform(expression, transformedSource, transformedBody,
-			expression.body, handleCallToLazyRule);
+			expression.body, context.handleCallToLazyRule);
 
-		if (handleCallToLazyRule) {
+		if (context.handleCallToLazyRule) {
 			// we have to reset this flag in case there are two IteratorExp in this expression
 			// we can only simplify the IteratorExp where the lazy rule call was made in the body 
-			handleCallToLazyRule = false;
+			context.handleCallToLazyRule = false;
 		}
 
 		return transformedExpression;
@@ -201,11 +271,13 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the navigation or attribute call expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(NavigationOrAttributeCallExp expression) {
+	def private dispatch String transform(NavigationOrAttributeCallExp expression, OclTransformationContext context) {
 		var transformedPropertyName = WordUtils.capitalize(expression.name);
-		var transformedSource = transform(expression.source);
+		var transformedSource = transform(expression.source, context);
 
 		if (atl2NmfSHelper.isAttributeHelper(expression.name)) {
 			var attributeHelperInfo = atl2NmfSHelper.getAttributeHelperInfo(expression.name);
@@ -221,11 +293,11 @@ class OclTransformerImpl implements OclTransformer {
 		}
 
 		// check if the property call is ambiguous and try to solve it if a possible return type info was passed
-		if (possibleReturnTypeInfo != null) {
+		if (context.possibleReturnTypeInfo != null) {
 			var returnTypeInfo = atl2NmfSHelper.getReturnTypeInfoOfOclExpression(expression);
 			if (returnTypeInfo.
 				isAmbiguous) {
-				var targetType = '''possibleReturnTypeInfo.metamodelName.IpossibleReturnTypeInfo.ambiguousClassifierName''';
+				var targetType = '''context.possibleReturnTypeInfo.metamodelName.Icontext.possibleReturnTypeInfo.ambiguousClassifierName''';
 
 				// to solve the ambiguous property call a possibleReturnTypeInfo was passed as a parameter when starting
 				// the transformation of the OCL expression. Therefore we can use this possible type info to cast
@@ -245,9 +317,11 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the variable expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(VariableExp expression) {
+	def private dispatch String transform(VariableExp expression, OclTransformationContext context) {
 		return expression.referredVariable.varName;
 	}
 
@@ -256,9 +330,11 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the boolean expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(BooleanExp expression) {
+	def private dispatch String transform(BooleanExp expression, OclTransformationContext context) {
 		return expression.isBooleanSymbol.toString;
 	}
 
@@ -267,9 +343,11 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the string expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(StringExp expression) {
+	def private dispatch String transform(StringExp expression, OclTransformationContext context) {
 		return '''"expression.stringSymbol"''';
 	}
 
@@ -278,9 +356,11 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the enum literal expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(EnumLiteralExp expression) {
+	def private dispatch String transform(EnumLiteralExp expression, OclTransformationContext context) {
 		return expression.name;
 	}
 
@@ -289,9 +369,11 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the integer expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(IntegerExp expression) {
+	def private dispatch String transform(IntegerExp expression, OclTransformationContext context) {
 		return expression.integerSymbol.toString;
 	}
 
@@ -300,9 +382,11 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the real expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(RealExp expression) {
+	def private dispatch String transform(RealExp expression, OclTransformationContext context) {
 		return expression.realSymbol.toString;
 	}
 
@@ -311,11 +395,13 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the OCL model element expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(OclModelElement expression) {
+	def private dispatch String transform(OclModelElement expression, OclTransformationContext context) {
 		// the name of the metamodel is used by Ecore2Code as inner namespace name for the code of the metamodel
-		var metamodel = transform(expression.model);
+		var metamodel = transform(expression.model, context);
 
 		// we use the generated interface type of the model element
 		return '''metamodel.Iexpression.name''';
@@ -326,9 +412,11 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the OCL model expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(OclModel expression) {
+	def private dispatch String transform(OclModel expression, OclTransformationContext context) {
 		return expression.name;
 	}
 
@@ -337,9 +425,11 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the boolean type expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(BooleanType expression) {
+	def private dispatch String transform(BooleanType expression, OclTransformationContext context) {
 		return "bool";
 	}
 
@@ -348,9 +438,11 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the integer type expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(IntegerType expression) {
+	def private dispatch String transform(IntegerType expression, OclTransformationContext context) {
 		return "int";
 	}
 
@@ -359,9 +451,11 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the real type expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(RealType expression) {
+	def private dispatch String transform(RealType expression, OclTransformationContext context) {
 		return "double";
 	}
 
@@ -370,9 +464,11 @@ class OclTransformerImpl implements OclTransformer {
 	 * 
 	 * @param expression
 	 *            the string type expression
+	 * @param context
+	 *            the transformation context
 	 * @return the transformed string
 	 */
-	def private dispatch String transform(StringType expression) {
+	def private dispatch String transform(StringType expression, OclTransformationContext context) {
 		return "string";
 	}
 }
@@ -2,12 +2,21 @@ package edu.kit.ipd.sdq.atl2nmfs.utils;
 
 import java.io.File
 import java.io.FileInputStream
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
+import java.util.Collections
+import java.util.LinkedHashMap
+import java.util.Map
 
+import org.apache.commons.io.FileUtils
+import org.eclipse.emf.common.util.URI
 import org.eclipse.emf.ecore.EEnumLiteral
 import org.eclipse.emf.ecore.EFactory
 import org.eclipse.emf.ecore.EObject
 import org.eclipse.emf.ecore.EPackage
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl
+import org.eclipse.emf.ecore.util.EcoreUtil
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl
 import org.eclipse.m2m.atl.common.ATL.ATLFactory
 import org.eclipse.m2m.atl.common.ATL.ATLPackage
@@ -18,12 +27,32 @@ import org.eclipse.m2m.atl.common.OCL.OCLPackage
 import org.eclipse.m2m.atl.common.PrimitiveTypes.PrimitiveTypesFactory
 import org.eclipse.m2m.atl.common.PrimitiveTypes.PrimitiveTypesPackage
 
+import edu.kit.ipd.sdq.atl2nmfs.helper.infos.CacheStatisticsInfo
+
 /**
  * The AtlParserUtils Class.
+ *
+ * The parsed modules and libraries are cached by the content of the ATL file. The most recently used
+ * results are kept in memory and all results are stored as EMF binary resources in the cache directory,
+ * so a file which was already parsed by any previous run is not parsed again. The cached elements are
+ * shared between all callers and therefore must not be modified.
  */
 class AtlParserUtils {
 
+	private static final String CACHEVERSION = "1";
+	private static final String CACHEDIRECTORYPROPERTY = "atl2nmfs.parser.cache";
+	private static final String DEFAULTCACHEDIRECTORY = "generated/.cache/AtlParser";
+	private static final String CACHESIZEPROPERTY = "atl2nmfs.parser.cache.size";
+	private static final int DEFAULTCACHESIZE = 64;
+	private static final String CACHEFILENAMEEXTENSION = ".bin";
+
 	private static org.eclipse.m2m.atl.engine.parser.AtlParser atlParser;
+	private static final Object parserLock = new Object();
+
+	// access ordered, so the first entry is the least recently used one
+	private static final Map<String, EObject> parsedElementCache = new LinkedHashMap<String, EObject>(16, 0.75f, true);
+	private static long cacheHits = 0;
+	private static long cacheMisses = 0;
 
 	/**
 	 * Private Class constructor.
@@ -39,21 +68,13 @@ class AtlParserUtils {
 	 * @throws Exception
 	 */
 	public def static Module parseModule(String transformationFilePath) throws Exception {
-		if (atlParser == null)
-			initialize();
-
 		// load the ATL transformation
-		var FileInputStream atlTransformationInputStream = null;
 		var Module atlModule = null;
 
 		var atlTransformationFile = new File(transformationFilePath);
-		atlTransformationInputStream = new FileInputStream(atlTransformationFile);
-
-		var parseResult = atlParser.parseWithProblems(atlTransformationInputStream);
-		var parsedModule = parseResult.get(0);
+		var parsedModule = parseCached(atlTransformationFile);
 
 		if (parsedModule == null) {
-			printParsingProblems(parseResult);
 			throw new IllegalArgumentException("Parsing of the ATL transformation file failed");
 		}
 
@@ -74,21 +95,13 @@ class AtlParserUtils {
 	 * @throws Exception
 	 */
 	public def static Library parseLibrary(String libraryFilePath) throws Exception {
-		if (atlParser == null)
-			initialize();
-
 		// load the ATL library
-		var FileInputStream atlLibraryInputStream = null;
 		var Library atlLibrary = null;
 
 		var atlLibraryFile = new File(libraryFilePath);
-		atlLibraryInputStream = new FileInputStream(atlLibraryFile);
-
-		var parseResult = atlParser.parseWithProblems(atlLibraryInputStream);
-		var parsedLibrary = parseResult.get(0);
+		var parsedLibrary = parseCached(atlLibraryFile);
 
 		if (parsedLibrary == null) {
-			printParsingProblems(parseResult);
 			throw new IllegalArgumentException("Parsing the ATL library file failed");
 		}
 
@@ -100,6 +113,219 @@ class AtlParserUtils {
 		return atlLibrary;
 	}
 
+	/**
+	 * Gets the statistics of the parse cache. A hit is counted if the parsed element was taken from
+	 * the memory or from the cache directory.
+	 *
+	 * @return the statistics of the parse cache
+	 */
+	public def static CacheStatisticsInfo getCacheStatistics() {
+		synchronized (parsedElementCache) {
+			return new CacheStatisticsInfo("AtlParser", cacheHits, cacheMisses);
+		}
+	}
+
+	/**
+	 * Clears the parsed elements which are kept in memory. The cache directory is not changed.
+	 */
+	public def static void clearCache() {
+		synchronized (parsedElementCache) {
+			parsedElementCache.clear();
+			cacheHits = 0;
+			cacheMisses = 0;
+		}
+	}
+
+	/**
+	 * Gets the parsed element of the passed ATL file. The file is only parsed if its content
+	 * is neither in the memory nor in the cache directory. Only successfully parsed elements are cached.
+	 *
+	 * @param atlFile
+	 *            the ATL file which should be parsed
+	 * @return the parsed element or null if the parsing failed
+	 * @throws Exception
+	 */
+	private def static EObject parseCached(File atlFile) throws Exception {
+		var cacheKey = computeCacheKey(atlFile);
+
+		synchronized (parsedElementCache) {
+			var cachedElement = parsedElementCache.get(cacheKey);
+			if (cachedElement != null) {
+				cacheHits++;
+				return cachedElement;
+			}
+		}
+
+		var cacheFile = new File(getCacheDirectory(), cacheKey + CACHEFILENAMEEXTENSION);
+		var parsedElement = loadCacheFile(cacheFile);
+		var cacheHit = parsedElement != null;
+		if (!cacheHit) {
+			var parseResult = parse(atlFile);
+			parsedElement = parseResult.get(0);
+
+			if (parsedElement == null) {
+				printParsingProblems(parseResult);
+				return null;
+			}
+
+			saveCacheFile(cacheFile, parsedElement);
+		}
+
+		synchronized (parsedElementCache) {
+			if (cacheHit) cacheHits++ else cacheMisses++;
+
+			// concurrent runs could have parsed the same file in the meantime and
+			// all callers should get the same element
+			var cachedElement = parsedElementCache.get(cacheKey);
+			if (cachedElement != null) {
+				return cachedElement;
+			}
+
+			parsedElementCache.put(cacheKey, parsedElement);
+			if (parsedElementCache.size > getMaximumCacheSize()) {
+				parsedElementCache.remove(parsedElementCache.keySet.iterator.next);
+			}
+
+			return parsedElement;
+		}
+	}
+
+	/**
+	 * Loads a parsed element from the cache directory.
+	 *
+	 * @param cacheFile
+	 *            the cache file
+	 * @return the loaded element or null if the file does not exist or can't be loaded
+	 */
+	private def static EObject loadCacheFile(File cacheFile) {
+		if (!cacheFile.isFile()) {
+			return null;
+		}
+
+		try {
+			var resourceSet = createResourceSet();
+			var resource = new BinaryResourceImpl(URI.createFileURI(cacheFile.absolutePath));
+			resourceSet.resources.add(resource);
+			resource.load(Collections.emptyMap());
+			if (resource.contents.isEmpty) {
+				return null;
+			}
+
+			return resource.contents.get(0);
+		} catch (Exception exception) {
+			// the cache file is written by an older version or was damaged, it is replaced after parsing
+			System.out.println("The cached ATL file " + cacheFile.name + " can't be loaded: " + exception.message);
+			return null;
+		}
+	}
+
+	/**
+	 * Saves a parsed element into the cache directory. A copy of the element is saved since
+	 * the resource of the element must not be changed. A failure is reported but not thrown since
+	 * the file is only parsed again by the next run.
+	 *
+	 * @param cacheFile
+	 *            the cache file
+	 * @param parsedElement
+	 *            the parsed element
+	 */
+	private def static void saveCacheFile(File cacheFile, EObject parsedElement) {
+		var cacheDirectory = cacheFile.parentFile;
+		var File temporaryFile = null;
+		try {
+			// write into a private file and publish it atomically since concurrent runs could parse the same file
+			cacheDirectory.mkdirs();
+			temporaryFile = Files.createTempFile(cacheDirectory.toPath(), cacheFile.name, null).toFile();
+
+			var resourceSet = createResourceSet();
+			var resource = new BinaryResourceImpl(URI.createFileURI(temporaryFile.absolutePath));
+			resourceSet.resources.add(resource);
+			resource.contents.add(EcoreUtil.copy(parsedElement));
+			resource.save(Collections.emptyMap());
+
+			Files.move(temporaryFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+		} catch (Exception exception) {
+			System.out.println("The parsed ATL file can't be cached: " + exception.message);
+		} finally {
+			if (temporaryFile != null) {
+				FileUtils.deleteQuietly(temporaryFile);
+			}
+		}
+	}
+
+	/**
+	 * Creates a resource set which knows the ATL, OCL and primitive types metamodels.
+	 *
+	 * @return the resource set
+	 */
+	private def static ResourceSetImpl createResourceSet() {
+		var resourceSet = new ResourceSetImpl();
+		var EPackage.Registry registry = resourceSet.getPackageRegistry();
+		registry.put(ATLPackage.eNS_URI, ATLPackage.eINSTANCE);
+		registry.put(OCLPackage.eNS_URI, OCLPackage.eINSTANCE);
+		registry.put(PrimitiveTypesPackage.eNS_URI, PrimitiveTypesPackage.eINSTANCE);
+		return resourceSet;
+	}
+
+	/**
+	 * Computes the cache key of an ATL file. It only depends on the content of the file.
+	 *
+	 * @param atlFile
+	 *            the ATL file
+	 * @return the cache key
+	 * @throws Exception
+	 */
+	private def static String computeCacheKey(File atlFile) throws Exception {
+		var messageDigest = HashUtils.createMessageDigest();
+		HashUtils.update(messageDigest, CACHEVERSION);
+		HashUtils.update(messageDigest, atlFile);
+
+		return HashUtils.toHexString(messageDigest);
+	}
+
+	/**
+	 * Gets the cache directory. It can be changed with the system property atl2nmfs.parser.cache.
+	 *
+	 * @return the cache directory
+	 */
+	private def static File getCacheDirectory() {
+		return new File(System.getProperty(CACHEDIRECTORYPROPERTY, DEFAULTCACHEDIRECTORY));
+	}
+
+	/**
+	 * Gets the maximum number of parsed elements which are kept in memory. It can be changed with
+	 * the system property atl2nmfs.parser.cache.size.
+	 *
+	 * @return the maximum number of parsed elements which are kept in memory
+	 */
+	private def static int getMaximumCacheSize() {
+		return Math.max(1, Integer.getInteger(CACHESIZEPROPERTY, DEFAULTCACHESIZE));
+	}
+
+	/**
+	 * Parses the passed ATL file. The default ATL parser is not thread-safe and
+	 * therefore only one file is parsed at a time.
+	 *
+	 * @param atlFile
+	 *            the ATL file which should be parsed
+	 * @return the parse result containing the parsed element and the parsing problems
+	 * @throws Exception
+	 */
+	private def static EObject[] parse(File atlFile) throws Exception {
+		synchronized (parserLock) {
+			if (atlParser == null)
+				initialize();
+
+			var atlInputStream = new FileInputStream(atlFile);
+			try {
+				return atlParser.parseWithProblems(atlInputStream);
+			} finally {
+				atlInputStream.close();
+			}
+		}
+	}
+
 	/**
 	 * Initializes the resourceSets with the ATL metamodels and loads the
 	 * default ATL parser.
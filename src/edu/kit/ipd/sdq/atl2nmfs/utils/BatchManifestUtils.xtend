@@ -0,0 +1,94 @@
+package edu.kit.ipd.sdq.atl2nmfs.utils
+
+import edu.kit.ipd.sdq.atl2nmfs.batch.BatchJobInfo
+import java.io.File
+import java.io.FileNotFoundException
+import java.nio.charset.StandardCharsets
+import java.util.ArrayList
+import java.util.List
+import org.apache.commons.io.FileUtils
+
+/**
+ * The BatchManifestUtils Class.
+ *
+ * A batch manifest contains one job per line. Each line consists of five fields separated by a semicolon:
+ * the transformation name, the path to the transformation file, the output path, the comma separated paths
+ * to the input metamodels and the comma separated paths to the output metamodels. Empty lines and lines
+ * starting with '#' are ignored.
+ */
+class BatchManifestUtils {
+
+	private static final String FIELDSEPARATOR = ";";
+	private static final String PATHSEPARATOR = ",";
+	private static final String COMMENTPREFIX = "#";
+
+	/**
+	 * Private Class constructor.
+	 */
+	private new() {}
+
+	/**
+	 * Parses the batch manifest which path is passed.
+	 *
+	 * @param manifestFilePath
+	 *            the path to the manifest file
+	 * @return the parsed job infos in the order of the manifest
+	 * @throws Exception
+	 */
+	public def static List<BatchJobInfo> parseManifest(String manifestFilePath) throws Exception {
+		var manifestFile = new File(manifestFilePath);
+		if (!manifestFile.isFile()) {
+			throw new FileNotFoundException("The batch manifest " + manifestFilePath + " was not found");
+		}
+
+		var jobInfos = new ArrayList<BatchJobInfo>();
+		var lineNumber = 0;
+		for (line : FileUtils.readLines(manifestFile, StandardCharsets.UTF_8)) {
+			lineNumber++;
+			var trimmedLine = line.trim();
+			if (!trimmedLine.isEmpty() && !trimmedLine.startsWith(COMMENTPREFIX)) {
+				jobInfos.add(parseJob(trimmedLine, lineNumber));
+			}
+		}
+
+		return jobInfos;
+	}
+
+	/**
+	 * Parses a single job line of the manifest.
+	 *
+	 * @param line
+	 *            the line
+	 * @param lineNumber
+	 *            the line number used for error messages
+	 * @return the parsed job info
+	 */
+	private def static BatchJobInfo parseJob(String line, int lineNumber) {
+		var fields = line.split(FIELDSEPARATOR, -1);
+		if (fields.length != 5) {
+			throw new IllegalArgumentException("Line " + lineNumber + " of the batch manifest must contain 5 fields separated by '" +
+				FIELDSEPARATOR + "' but contains " + fields.length);
+		}
+
+		return new BatchJobInfo(fields.get(0).trim(), fields.get(1).trim(), fields.get(2).trim(), parsePaths(fields.get(3)),
+			parsePaths(fields.get(4)));
+	}
+
+	/**
+	 * Parses a comma separated list of paths.
+	 *
+	 * @param field
+	 *            the field containing the paths
+	 * @return the parsed paths
+	 */
+	private def static List<String> parsePaths(String field) {
+		var paths = new ArrayList<String>();
+		for (path : field.split(PATHSEPARATOR)) {
+			if (!path.trim().isEmpty()) {
+				paths.add(path.trim());
+			}
+		}
+
+		return paths;
+	}
+}
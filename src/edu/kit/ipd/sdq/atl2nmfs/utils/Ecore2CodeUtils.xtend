@@ -0,0 +1,208 @@
+package edu.kit.ipd.sdq.atl2nmfs.utils
+
+import java.io.File
+import java.io.FileNotFoundException
+import java.nio.file.FileSystemException
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
+import org.apache.commons.io.FileUtils
+
+/**
+ * The Ecore2CodeUtils Class.
+ *
+ * The results of Ecore2Code are stored in a content-addressed cache. The cache key is computed
+ * from the content of the metamodel, the namespace, the names of the created files and the files of
+ * Ecore2Code, so a metamodel which was already transformed by any previous run with the same Ecore2Code
+ * is not transformed again. A cache entry is only complete if it contains the marker file, which is
+ * written after all other files.
+ */
+class Ecore2CodeUtils {
+
+	private static final String ECORE2CODEPATH = "resources/Ecore2Code/Ecore2Code";
+	private static final String CACHEDIRECTORYPROPERTY = "atl2nmfs.ecore2code.cache";
+	private static final String DEFAULTCACHEDIRECTORY = "generated/.cache/Ecore2Code";
+	private static final String COMPLETEMARKERFILENAME = ".complete";
+
+	private static String ecore2CodeHash;
+
+	/**
+	 * Private Class constructor.
+	 */
+	private new() {}
+
+	/**
+	 * Transforms the passed ecore metamodel into NMF code and an NMF metamodel. The result is taken from the
+	 * cache if the same metamodel was already transformed with the same namespace and file names.
+	 *
+	 * @param metamodelPath
+	 *            the path to the ecore metamodel
+	 * @param namespace
+	 *            the namespace of the created code
+	 * @param nmfMetamodelCodePath
+	 *            the path where the created code is saved
+	 * @param nmfMetamodelPath
+	 *            the path where the created NMF metamodel is saved
+	 * @return the boolean indicating if the result was taken from the cache
+	 * @throws Exception
+	 */
+	public def static Boolean transform(String metamodelPath, String namespace, String nmfMetamodelCodePath,
+		String nmfMetamodelPath) throws Exception {
+		var metamodelFile = new File(metamodelPath);
+		if (!metamodelFile.isFile()) {
+			throw new FileNotFoundException("The metamodel file " + metamodelPath + " was not found");
+		}
+
+		var codeFileName = new File(nmfMetamodelCodePath).name;
+		var nmfFileName = new File(nmfMetamodelPath).name;
+
+		var cacheRootDirectory = getCacheDirectory();
+		var cacheDirectory = new File(cacheRootDirectory,
+			computeCacheKey(metamodelFile, namespace, codeFileName, nmfFileName));
+
+		var cacheHit = true;
+		if (!isComplete(cacheDirectory)) {
+			cacheHit = false;
+
+			// run Ecore2Code in a private directory and publish the result atomically since
+			// concurrent runs could transform the same metamodel at the same time
+			cacheRootDirectory.mkdirs();
+			var temporaryDirectory = Files.createTempDirectory(cacheRootDirectory.toPath(), cacheDirectory.name).toFile();
+			try {
+				runEcore2Code(metamodelFile, namespace, new File(temporaryDirectory, codeFileName),
+					new File(temporaryDirectory, nmfFileName));
+				new File(temporaryDirectory, COMPLETEMARKERFILENAME).createNewFile();
+				publish(temporaryDirectory, cacheDirectory);
+			} finally {
+				FileUtils.deleteQuietly(temporaryDirectory);
+			}
+		}
+
+		// the files are only copied if their content changed to keep the timestamps of unchanged files
+		IncrementalGenerationUtils.copyFileIfChanged(new File(cacheDirectory, codeFileName), new File(nmfMetamodelCodePath));
+		IncrementalGenerationUtils.copyFileIfChanged(new File(cacheDirectory, nmfFileName), new File(nmfMetamodelPath));
+		return cacheHit;
+	}
+
+	/**
+	 * Checks if the passed cache directory contains a complete Ecore2Code result.
+	 *
+	 * @param cacheDirectory
+	 *            the cache directory
+	 * @return the boolean indicating if the cache directory is complete
+	 */
+	private def static Boolean isComplete(File cacheDirectory) {
+		return new File(cacheDirectory, COMPLETEMARKERFILENAME).isFile();
+	}
+
+	/**
+	 * Publishes the passed complete temporary directory as cache directory. A cache directory which
+	 * was left incomplete by an aborted run is replaced.
+	 *
+	 * @param temporaryDirectory
+	 *            the complete temporary directory
+	 * @param cacheDirectory
+	 *            the cache directory
+	 * @throws Exception
+	 */
+	private def static void publish(File temporaryDirectory, File cacheDirectory) throws Exception {
+		if (cacheDirectory.exists() && !isComplete(cacheDirectory)) {
+			FileUtils.deleteQuietly(cacheDirectory);
+		}
+
+		try {
+			Files.move(temporaryDirectory.toPath(), cacheDirectory.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		} catch (FileSystemException exception) {
+			// the target exists if another run published the same result in the meantime. Depending on the
+			// file system this is reported as FileAlreadyExistsException, DirectoryNotEmptyException or
+			// as FileSystemException (ENOTEMPTY)
+			if (!isComplete(cacheDirectory)) {
+				throw exception;
+			}
+		}
+	}
+
+	/**
+	 * Runs the Ecore2Code process.
+	 *
+	 * @param metamodelFile
+	 *            the ecore metamodel file
+	 * @param namespace
+	 *            the namespace of the created code
+	 * @param codeFile
+	 *            the file where the created code is saved
+	 * @param nmfFile
+	 *            the file where the created NMF metamodel is saved
+	 * @throws Exception
+	 */
+	private def static void runEcore2Code(File metamodelFile, String namespace, File codeFile, File nmfFile) throws Exception {
+		// create and start the ecore2code process
+		var ecore2CodeProcessBuilder = new ProcessBuilder(ECORE2CODEPATH, "-n", namespace, "-o", codeFile.path, "-m",
+			nmfFile.path, metamodelFile.path);
+
+		// redirect the outputs to the default output of the current java process (console in this case)
+		ecore2CodeProcessBuilder.inheritIO();
+
+		var ecore2CodeProcess = ecore2CodeProcessBuilder.start();
+		var returnValueEcore2Code = ecore2CodeProcess.waitFor();
+		if (returnValueEcore2Code != 0) {
+			throw new IllegalArgumentException("Ecore2Code failed while transforming " + metamodelFile.name);
+		}
+	}
+
+	/**
+	 * Computes the cache key of an Ecore2Code run.
+	 *
+	 * @param metamodelFile
+	 *            the ecore metamodel file
+	 * @param namespace
+	 *            the namespace of the created code
+	 * @param codeFileName
+	 *            the name of the created code file
+	 * @param nmfFileName
+	 *            the name of the created NMF metamodel file
+	 * @return the cache key
+	 * @throws Exception
+	 */
+	private def static String computeCacheKey(File metamodelFile, String namespace, String codeFileName,
+		String nmfFileName) throws Exception {
+		var messageDigest = HashUtils.createMessageDigest();
+		HashUtils.update(messageDigest, metamodelFile);
+		HashUtils.update(messageDigest, namespace);
+		HashUtils.update(messageDigest, codeFileName);
+		HashUtils.update(messageDigest, nmfFileName);
+		HashUtils.update(messageDigest, getEcore2CodeHash());
+
+		return HashUtils.toHexString(messageDigest);
+	}
+
+	/**
+	 * Gets the hash of the names and contents of all files of Ecore2Code, so a changed Ecore2Code
+	 * does not use the results of a previous version. It is computed once per process.
+	 *
+	 * @return the hash of Ecore2Code
+	 * @throws Exception
+	 */
+	private def static synchronized String getEcore2CodeHash() throws Exception {
+		if (ecore2CodeHash == null) {
+			var messageDigest = HashUtils.createMessageDigest();
+			var ecore2CodeFiles = new File(ECORE2CODEPATH).parentFile.listFiles.filter[it.isFile].sortBy[it.name];
+			for (ecore2CodeFile : ecore2CodeFiles) {
+				HashUtils.update(messageDigest, ecore2CodeFile.name);
+				HashUtils.update(messageDigest, ecore2CodeFile);
+			}
+
+			ecore2CodeHash = HashUtils.toHexString(messageDigest);
+		}
+
+		return ecore2CodeHash;
+	}
+
+	/**
+	 * Gets the cache directory. It can be changed with the system property atl2nmfs.ecore2code.cache.
+	 *
+	 * @return the cache directory
+	 */
+	private def static File getCacheDirectory() {
+		return new File(System.getProperty(CACHEDIRECTORYPROPERTY, DEFAULTCACHEDIRECTORY));
+	}
+}
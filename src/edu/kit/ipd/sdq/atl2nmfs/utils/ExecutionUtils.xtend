@@ -1,15 +1,21 @@
 package edu.kit.ipd.sdq.atl2nmfs.utils
 
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.RuntimeMetrics
 import java.io.File
 import java.io.FileNotFoundException
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
 import java.util.List
 import java.util.ArrayList
+import java.util.Map
+import java.util.TreeMap
+import org.apache.commons.io.FileUtils
 
 /**
  * The ExecutionUtils Class.
  */
 class ExecutionUtils {
-	
+
 	/**
 	 * Private Class constructor.
 	 */
@@ -29,33 +35,227 @@ class ExecutionUtils {
 	 */
 	public def static void execute(String executableFilePath, String outputPath, List<String> inputModelPaths,
 			List<String> outputModelPaths) throws Exception {
+		executeProgram(executableFilePath, new ArrayList<String>(), inputModelPaths, outputModelPaths);
+
+		System.out.println("Execution of program finished successfully");
+	}
+
+	/**
+	 * Executes the executable file which path is passed with additional program options like --parallelism.
+	 *
+	 * @param executableFilePath
+	 *            the path of the executable file which should be executed
+	 * @param programOptions
+	 *            the program options which are passed before the model paths
+	 * @param inputModelPaths
+	 *            the input model paths
+	 * @param outputModelPaths
+	 *            the output model paths
+	 * @throws Exception
+	 *             the exception
+	 */
+	public def static void executeWithOptions(String executableFilePath, List<String> programOptions,
+			List<String> inputModelPaths, List<String> outputModelPaths) throws Exception {
+		executeProgram(executableFilePath, programOptions, inputModelPaths, outputModelPaths);
+	}
+
+	/**
+	 * Executes the executable file which path is passed once for all passed model sets. The model sets are
+	 * written to a manifest which is synchronized by the batch mode of the program with the passed degree of parallelism.
+	 *
+	 * @param executableFilePath
+	 *            the path of the executable file which should be executed
+	 * @param inputModelPathsOfModelSets
+	 *            the input model paths of every model set
+	 * @param outputModelPathsOfModelSets
+	 *            the output model paths of every model set
+	 * @param parallelism
+	 *            the maximal number of model sets which are synchronized concurrently
+	 * @throws Exception
+	 *             the exception
+	 */
+	public def static void executeBatch(String executableFilePath, List<List<String>> inputModelPathsOfModelSets,
+			List<List<String>> outputModelPathsOfModelSets, Integer parallelism) throws Exception {
+		if (inputModelPathsOfModelSets.size != outputModelPathsOfModelSets.size) {
+			throw new IllegalArgumentException("The number of input and output model sets must be equal");
+		}
+
+		// every line of the manifest contains the absolute paths of one model set separated by a semicolon
+		var manifestLines = new ArrayList<String>();
+		for (var i = 0; i < inputModelPathsOfModelSets.size; i++) {
+			var modelPaths = new ArrayList<String>();
+			modelPaths.addAll(getAbsolutePaths(inputModelPathsOfModelSets.get(i)));
+			modelPaths.addAll(getAbsolutePaths(outputModelPathsOfModelSets.get(i)));
+			manifestLines.add(String.join(";", modelPaths));
+		}
+
+		var manifestFile = File.createTempFile("atl2nmfs-batch", ".manifest");
+		try {
+			Files.write(manifestFile.toPath(), manifestLines, StandardCharsets.UTF_8);
+
+			// start the compiled program
+			var programOptions = #["--batch", manifestFile.absolutePath, "--parallelism", parallelism.toString];
+			executeProgram(executableFilePath, programOptions, new ArrayList<String>(), new ArrayList<String>());
+		} finally {
+			manifestFile.delete();
+		}
+
+		System.out.println("Batch execution of program finished successfully");
+	}
+
+	/**
+	 * Executes the executable file which path is passed and reads the runtime metrics which the program measured.
+	 * The program must be generated with the runtime metrics option.
+	 *
+	 * @param executableFilePath
+	 *            the path of the executable file which should be executed
+	 * @param inputModelPaths
+	 *            the input model paths
+	 * @param outputModelPaths
+	 *            the output model paths
+	 * @param metricsFilePath
+	 *            the path of the file where the program writes the runtime metrics
+	 * @return the runtime metrics
+	 * @throws Exception
+	 *             the exception
+	 */
+	public def static RuntimeMetrics executeWithRuntimeMetrics(String executableFilePath, List<String> inputModelPaths,
+			List<String> outputModelPaths, String metricsFilePath) throws Exception {
+		var metricsFile = new File(metricsFilePath);
+		metricsFile.delete();
+
+		executeProgram(executableFilePath, #["--metrics", metricsFile.absolutePath], inputModelPaths, outputModelPaths);
+
+		return readRuntimeMetrics(metricsFilePath);
+	}
+
+	/**
+	 * Reads the runtime metrics which a generated program wrote with the option --metrics.
+	 *
+	 * @param metricsFilePath
+	 *            the path of the runtime metrics file
+	 * @return the runtime metrics
+	 * @throws Exception
+	 *             the exception
+	 */
+	public def static RuntimeMetrics readRuntimeMetrics(String metricsFilePath) throws Exception {
+		var metricsFile = new File(metricsFilePath);
+		if (!metricsFile.isFile()) {
+			throw new FileNotFoundException("The runtime metrics file " + metricsFilePath + " was not found");
+		}
+
+		return parseRuntimeMetrics(FileUtils.readFileToString(metricsFile, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Parses the runtime metrics JSON which is written by a generated program.
+	 *
+	 * @param json
+	 *            the runtime metrics as JSON string
+	 * @return the runtime metrics
+	 */
+	public def static RuntimeMetrics parseRuntimeMetrics(String json) {
+		var values = JsonUtils.parseObject(json);
+		for (name : #["modelSets", "inputElements", "loadMilliseconds", "synchronizeMilliseconds",
+			"synchronizeWallMilliseconds", "saveMilliseconds", "totalMilliseconds", "elementsPerSecond",
+			"peakManagedMemoryBytes", "peakWorkingSetBytes"]) {
+			if (!(values.get(name) instanceof Number)) {
+				throw new IllegalArgumentException("The runtime metrics do not contain the value '" + name + "'");
+			}
+		}
+
+		var ruleInstantiations = new TreeMap<String, Long>();
+		val ruleInstantiationsValue = values.get("ruleInstantiations");
+		if (ruleInstantiationsValue instanceof Map) {
+			for (entry : ruleInstantiationsValue.entrySet) {
+				ruleInstantiations.put(entry.key as String, (entry.value as Number).longValue);
+			}
+		}
+
+		return new RuntimeMetrics(getLong(values, "modelSets"), getLong(values, "inputElements"),
+			getDouble(values, "loadMilliseconds"), getDouble(values, "synchronizeMilliseconds"),
+			getDouble(values, "synchronizeWallMilliseconds"), getDouble(values, "saveMilliseconds"),
+			getDouble(values, "totalMilliseconds"), getDouble(values, "elementsPerSecond"),
+			getLong(values, "peakManagedMemoryBytes"), getLong(values, "peakWorkingSetBytes"), ruleInstantiations);
+	}
+
+	/**
+	 * Gets the passed number value of the runtime metrics as long.
+	 *
+	 * @param values
+	 *            the values of the runtime metrics by name
+	 * @param name
+	 *            the name of the value
+	 * @return the value as long
+	 */
+	private def static long getLong(Map<String, Object> values, String name) {
+		return (values.get(name) as Number).longValue;
+	}
+
+	/**
+	 * Gets the passed number value of the runtime metrics as double.
+	 *
+	 * @param values
+	 *            the values of the runtime metrics by name
+	 * @param name
+	 *            the name of the value
+	 * @return the value as double
+	 */
+	private def static double getDouble(Map<String, Object> values, String name) {
+		return (values.get(name) as Number).doubleValue;
+	}
+
+	/**
+	 * Gets the absolute paths of the passed paths.
+	 *
+	 * @param paths
+	 *            the paths
+	 * @return the absolute paths
+	 */
+	private def static List<String> getAbsolutePaths(List<String> paths) {
+		var absolutePaths = new ArrayList<String>();
+		for (String path : paths) {
+			absolutePaths.add(new File(path).absolutePath);
+		}
+
+		return absolutePaths;
+	}
+
+	/**
+	 * Executes the executable file which path is passed and waits until it terminated. Every option and every
+	 * model path is passed as a separate argument, the program options are passed before the model paths.
+	 *
+	 * @param executableFilePath
+	 *            the path of the executable file which should be executed
+	 * @param programOptions
+	 *            the program options
+	 * @param inputModelPaths
+	 *            the input model paths
+	 * @param outputModelPaths
+	 *            the output model paths
+	 * @throws Exception
+	 *             the exception
+	 */
+	private def static void executeProgram(String executableFilePath, List<String> programOptions,
+			List<String> inputModelPaths, List<String> outputModelPaths) throws Exception {
 		// check if the executable file exists
 		var executableFile = new File(executableFilePath);
 		if (!executableFile.isFile()) {
 			throw new FileNotFoundException("The file " + executableFilePath + " was not found");
 		}
 
-		//prepare the parameters
-		var absoluteModelPaths = new ArrayList<String>();
-		for (String inputModelPath : inputModelPaths) {
-			var inputModel = new File(inputModelPath);
-			absoluteModelPaths.add(inputModel.absolutePath);
-		}
-		for (String outputModelPath : outputModelPaths) {
-			var outputModel = new File(outputModelPath);
-			absoluteModelPaths.add(outputModel.absolutePath);
-		}
-		var parameters = '''FOR absoluteModelPath : absoluteModelPaths SEPARATOR " ""absoluteModelPath"ENDFOR''';
+		var command = new ArrayList<String>();
+		command.add(executableFilePath);
+		command.addAll(programOptions);
+		command.addAll(getAbsolutePaths(inputModelPaths));
+		command.addAll(getAbsolutePaths(outputModelPaths));
 
-		// start the compiled program
-		var processBuilder = new ProcessBuilder(executableFilePath, parameters);
+		var processBuilder = new ProcessBuilder(command);
 		processBuilder.inheritIO();
 		var process = processBuilder.start();
 		var returnValue = process.waitFor();
 		if (returnValue != 0) {
 			throw new IllegalArgumentException("Execution of program failed");
 		}
-
-		System.out.println("Execution of program finished successfully");
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,175 @@
+package edu.kit.ipd.sdq.atl2nmfs.utils
+
+import edu.kit.ipd.sdq.atl2nmfs.instrumentation.GenerationReport
+import java.io.File
+import java.nio.charset.StandardCharsets
+import java.util.Locale
+import java.util.Map
+import org.apache.commons.io.FileUtils
+
+/**
+ * The GenerationReportUtils Class.
+ *
+ * Writes a generation report as JSON file, so that it can be processed by build dashboards. All durations
+ * are written in milliseconds.
+ */
+class GenerationReportUtils {
+
+	private static final String REPORTFILENAMEEXTENSION = ".generationReport.json";
+
+	/**
+	 * Private Class constructor.
+	 */
+	private new() {}
+
+	/**
+	 * Gets the report file of a generated transformation.
+	 *
+	 * @param outputPath
+	 *            the output path of the generated project
+	 * @param transformationName
+	 *            the transformation name
+	 * @return the report file
+	 */
+	public def static File getReportFile(String outputPath, String transformationName) {
+		return new File(outputPath, transformationName + REPORTFILENAMEEXTENSION);
+	}
+
+	/**
+	 * Writes the passed report as JSON file.
+	 *
+	 * @param reportFile
+	 *            the report file
+	 * @param generationReport
+	 *            the generation report
+	 * @throws Exception
+	 */
+	public def static void writeReport(File reportFile, GenerationReport generationReport) throws Exception {
+		FileUtils.writeStringToFile(reportFile, toJson(generationReport), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Converts the passed report to JSON.
+	 *
+	 * @param generationReport
+	 *            the generation report
+	 * @return the report as JSON string
+	 */
+	public def static String toJson(GenerationReport generationReport) {
+		var builder = new StringBuilder();
+		builder.append("{\n");
+		builder.append("  \"transformationName\": ").append(quote(generationReport.transformationName)).append(",\n");
+		builder.append("  \"durationInMilliseconds\": ").append(toMilliseconds(generationReport.durationInNanoseconds)).append(",\n");
+
+		builder.append("  \"phases\": [");
+		var phaseIndex = 0;
+		for (phaseInfo : generationReport.phaseInfos) {
+			builder.append(if (phaseIndex++ == 0) "\n" else ",\n");
+			builder.append("    { \"name\": ").append(quote(phaseInfo.name));
+			builder.append(", \"durationInMilliseconds\": ").append(toMilliseconds(phaseInfo.durationInNanoseconds));
+			builder.append(", \"allocatedBytes\": ").append(phaseInfo.allocatedBytes).append(" }");
+		}
+		builder.append(if (phaseIndex == 0) "],\n" else "\n  ],\n");
+
+		builder.append("  \"rules\": ");
+		appendDurations(builder, generationReport.ruleDurations);
+		builder.append(",\n");
+
+		builder.append("  \"helpers\": ");
+		appendDurations(builder, generationReport.helperDurations);
+		builder.append(",\n");
+
+		builder.append("  \"counters\": {");
+		var counterIndex = 0;
+		for (counter : generationReport.counters.entrySet) {
+			builder.append(if (counterIndex++ == 0) "\n" else ",\n");
+			builder.append("    ").append(quote(counter.key)).append(": ").append(counter.value);
+		}
+		builder.append(if (counterIndex == 0) "},\n" else "\n  },\n");
+
+		builder.append("  \"oclRewrites\": {");
+		var ownerIndex = 0;
+		for (rewrites : generationReport.oclRewrites.entrySet) {
+			builder.append(if (ownerIndex++ == 0) "\n" else ",\n");
+			builder.append("    ").append(quote(rewrites.key)).append(": {");
+			var rewriteIndex = 0;
+			for (rewrite : rewrites.value.entrySet) {
+				builder.append(if (rewriteIndex++ == 0) " " else ", ");
+				builder.append(quote(rewrite.key)).append(": ").append(rewrite.value);
+			}
+			builder.append(" }");
+		}
+		builder.append(if (ownerIndex == 0) "},\n" else "\n  },\n");
+
+		builder.append("  \"externalProcesses\": [");
+		var processIndex = 0;
+		for (externalProcessInfo : generationReport.externalProcessInfos) {
+			builder.append(if (processIndex++ == 0) "\n" else ",\n");
+			builder.append("    { \"name\": ").append(quote(externalProcessInfo.processName));
+			builder.append(", \"argument\": ").append(quote(externalProcessInfo.argument));
+			builder.append(", \"durationInMilliseconds\": ").append(toMilliseconds(externalProcessInfo.durationInNanoseconds));
+			builder.append(", \"cacheHit\": ").append(externalProcessInfo.cacheHit).append(" }");
+		}
+		builder.append(if (processIndex == 0) "],\n" else "\n  ],\n");
+
+		builder.append("  \"caches\": [");
+		var cacheIndex = 0;
+		for (cacheStatisticsInfo : generationReport.cacheStatistics) {
+			builder.append(if (cacheIndex++ == 0) "\n" else ",\n");
+			builder.append("    { \"name\": ").append(quote(cacheStatisticsInfo.cacheName));
+			builder.append(", \"hits\": ").append(cacheStatisticsInfo.hits);
+			builder.append(", \"misses\": ").append(cacheStatisticsInfo.misses);
+			builder.append(", \"hitRate\": ").append(String.format(Locale.ROOT, "%.4f", cacheStatisticsInfo.hitRate)).append(" }");
+		}
+		builder.append(if (cacheIndex == 0) "]\n" else "\n  ]\n");
+
+		builder.append("}\n");
+		return builder.toString();
+	}
+
+	/**
+	 * Appends the passed durations as JSON object.
+	 *
+	 * @param builder
+	 *            the string builder
+	 * @param durations
+	 *            the durations in nanoseconds by name
+	 */
+	private def static void appendDurations(StringBuilder builder, Map<String, Long> durations) {
+		builder.append("{");
+		var index = 0;
+		for (duration : durations.entrySet) {
+			builder.append(if (index++ == 0) "\n" else ",\n");
+			builder.append("    ").append(quote(duration.key)).append(": ").append(toMilliseconds(duration.value));
+		}
+		builder.append(if (index == 0) "}" else "\n  }");
+	}
+
+	/**
+	 * Converts nanoseconds to milliseconds with a precision of microseconds.
+	 *
+	 * @param durationInNanoseconds
+	 *            the duration in nanoseconds
+	 * @return the duration in milliseconds as JSON number
+	 */
+	private def static String toMilliseconds(long durationInNanoseconds) {
+		return String.format(Locale.ROOT, "%.3f", durationInNanoseconds / 1000000.0);
+	}
+
+	/**
+	 * Quotes and escapes the passed string as JSON string.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the JSON string or null if the value is null
+	 */
+	private def static String quote(String value) {
+		if (value == null) {
+			return "null";
+		}
+
+		var escapedValue = value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n").replace("\r", "\\r").replace(
+			"\t", "\\t");
+		return "\"" + escapedValue + "\"";
+	}
+}
@@ -0,0 +1,97 @@
+package edu.kit.ipd.sdq.atl2nmfs.utils
+
+import java.io.File
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.security.MessageDigest
+
+/**
+ * The HashUtils Class.
+ */
+class HashUtils {
+
+	private static final String HASHALGORITHM = "SHA-256";
+
+	/**
+	 * Private Class constructor.
+	 */
+	private new() {}
+
+	/**
+	 * Creates a new message digest which is used for all content hashes.
+	 *
+	 * @return the created message digest
+	 */
+	public def static MessageDigest createMessageDigest() {
+		return MessageDigest.getInstance(HASHALGORITHM);
+	}
+
+	/**
+	 * Adds the passed text to the message digest.
+	 *
+	 * @param messageDigest
+	 *            the message digest
+	 * @param text
+	 *            the text
+	 */
+	public def static void update(MessageDigest messageDigest, String text) {
+		// the length is added as well so that the concatenation of different texts can't collide
+		messageDigest.update((text.length + "|" + text).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Adds the content of the passed file to the message digest.
+	 *
+	 * @param messageDigest
+	 *            the message digest
+	 * @param file
+	 *            the file
+	 * @throws Exception
+	 */
+	public def static void update(MessageDigest messageDigest, File file) throws Exception {
+		update(messageDigest, Files.readAllBytes(file.toPath()));
+	}
+
+	/**
+	 * Adds the passed content to the message digest.
+	 *
+	 * @param messageDigest
+	 *            the message digest
+	 * @param content
+	 *            the content
+	 */
+	public def static void update(MessageDigest messageDigest, byte[] content) {
+		update(messageDigest, String.valueOf(content.length));
+		messageDigest.update(content);
+	}
+
+	/**
+	 * Computes the hash of the passed file content.
+	 *
+	 * @param file
+	 *            the file
+	 * @return the hash as hexadecimal string
+	 * @throws Exception
+	 */
+	public def static String computeHash(File file) throws Exception {
+		var messageDigest = createMessageDigest();
+		update(messageDigest, file);
+		return toHexString(messageDigest);
+	}
+
+	/**
+	 * Completes the hash computation and converts the hash into a hexadecimal string.
+	 *
+	 * @param messageDigest
+	 *            the message digest
+	 * @return the hash as hexadecimal string
+	 */
+	public def static String toHexString(MessageDigest messageDigest) {
+		var hash = new StringBuilder();
+		for (digestByte : messageDigest.digest()) {
+			hash.append(String.format("%02x", digestByte));
+		}
+
+		return hash.toString();
+	}
+}
@@ -0,0 +1,231 @@
+package edu.kit.ipd.sdq.atl2nmfs.utils
+
+import java.io.File
+import java.io.FileNotFoundException
+import java.net.JarURLConnection
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+import java.util.List
+import org.apache.commons.io.FileUtils
+
+/**
+ * The IncrementalGenerationUtils Class.
+ */
+class IncrementalGenerationUtils {
+
+	private static final String FINGERPRINTFILENAME = ".atl2nmfs.fingerprint";
+
+	/**
+	 * Private Class constructor.
+	 */
+	private new() {}
+
+	/**
+	 * Computes the fingerprint of all inputs of a generation run.
+	 *
+	 * @param generatorVersion
+	 *            the version of the generator
+	 * @param options
+	 *            the textual representation of the generation options
+	 * @param transformationName
+	 *            the transformation name
+	 * @param inputFiles
+	 *            the input files (ATL module, libraries and metamodels) in a stable order
+	 * @return the fingerprint
+	 * @throws Exception
+	 */
+	public def static String computeFingerprint(String generatorVersion, String options, String transformationName,
+		List<File> inputFiles) throws Exception {
+		var messageDigest = HashUtils.createMessageDigest();
+		HashUtils.update(messageDigest, generatorVersion);
+		HashUtils.update(messageDigest, options);
+		HashUtils.update(messageDigest, transformationName);
+
+		for (inputFile : inputFiles) {
+			HashUtils.update(messageDigest, inputFile.absolutePath);
+			HashUtils.update(messageDigest, inputFile);
+		}
+
+		return HashUtils.toHexString(messageDigest);
+	}
+
+	/**
+	 * Computes the hash of the generator. It covers all files of the class root which contains the passed
+	 * generator class and all files of the passed resource directories, so every changed class (including the
+	 * inner classes which Xtend creates for lambdas) and every changed resource which is used by the generated
+	 * code changes the hash.
+	 *
+	 * @param generatorClass
+	 *            a class of the generator which is used to locate its class root
+	 * @param resourceDirectories
+	 *            the resource directories in a stable order
+	 * @return the hash
+	 * @throws Exception
+	 */
+	public def static String computeGeneratorHash(Class<?> generatorClass, List<File> resourceDirectories)
+		throws Exception {
+		var messageDigest = HashUtils.createMessageDigest();
+
+		var classRoot = getClassRoot(generatorClass);
+		if (classRoot.isDirectory()) {
+			updateWithDirectory(messageDigest, classRoot, "");
+		} else {
+			HashUtils.update(messageDigest, classRoot.name);
+			HashUtils.update(messageDigest, classRoot);
+		}
+
+		for (resourceDirectory : resourceDirectories) {
+			if (!resourceDirectory.isDirectory()) {
+				throw new FileNotFoundException("The directory " + resourceDirectory.path + " was not found");
+			}
+			updateWithDirectory(messageDigest, resourceDirectory, resourceDirectory.name);
+		}
+
+		return HashUtils.toHexString(messageDigest);
+	}
+
+	/**
+	 * Gets the class root of the passed class. This is the directory which contains the class files of its
+	 * package hierarchy or the jar file which contains the class.
+	 *
+	 * @param clazz
+	 *            the class
+	 * @return the class root
+	 * @throws Exception
+	 */
+	public def static File getClassRoot(Class<?> clazz) throws Exception {
+		var classFileName = clazz.name.replace('.', '/') + ".class";
+		var classFileUrl = clazz.classLoader.getResource(classFileName);
+		if (classFileUrl == null) {
+			throw new FileNotFoundException("The class file of " + clazz.name + " was not found");
+		}
+
+		if (classFileUrl.protocol.equals("jar")) {
+			var jarUrlConnection = classFileUrl.openConnection() as JarURLConnection;
+			return new File(jarUrlConnection.jarFileURL.toURI());
+		}
+
+		if (classFileUrl.protocol.equals("file")) {
+			// the class root is the directory above the package directories
+			var classRoot = new File(classFileUrl.toURI());
+			for (var index = 0; index < classFileName.split("/").length; index++) {
+				classRoot = classRoot.parentFile;
+			}
+			return classRoot;
+		}
+
+		throw new FileNotFoundException("The class root of " + clazz.name + " can not be located from " + classFileUrl);
+	}
+
+	/**
+	 * Adds the relative paths and the contents of all files of the passed directory recursively to the
+	 * message digest. The files are added sorted by their names, so the hash does not depend on the file system.
+	 *
+	 * @param messageDigest
+	 *            the message digest
+	 * @param directory
+	 *            the directory
+	 * @param relativePath
+	 *            the path of the directory relative to the hashed root
+	 * @throws Exception
+	 */
+	private def static void updateWithDirectory(MessageDigest messageDigest, File directory, String relativePath)
+		throws Exception {
+		for (file : directory.listFiles().sortBy[name]) {
+			var relativeFilePath = relativePath + "/" + file.name;
+			if (file.isDirectory()) {
+				updateWithDirectory(messageDigest, file, relativeFilePath);
+			} else {
+				HashUtils.update(messageDigest, relativeFilePath);
+				HashUtils.update(messageDigest, file);
+			}
+		}
+	}
+
+	/**
+	 * Checks if the output directory was generated from inputs with the passed fingerprint.
+	 *
+	 * @param outputPath
+	 *            the output path
+	 * @param fingerprint
+	 *            the fingerprint of the current inputs
+	 * @return the boolean indicating if the output is up to date
+	 * @throws Exception
+	 */
+	public def static Boolean isUpToDate(String outputPath, String fingerprint) throws Exception {
+		var fingerprintFile = new File(outputPath, FINGERPRINTFILENAME);
+		if (!fingerprintFile.isFile()) {
+			return false;
+		}
+
+		return FileUtils.readFileToString(fingerprintFile, StandardCharsets.UTF_8).trim().equals(fingerprint);
+	}
+
+	/**
+	 * Writes the fingerprint of a successful generation run into the output directory.
+	 *
+	 * @param outputPath
+	 *            the output path
+	 * @param fingerprint
+	 *            the fingerprint
+	 * @throws Exception
+	 */
+	public def static void writeFingerprint(String outputPath, String fingerprint) throws Exception {
+		FileUtils.writeStringToFile(new File(outputPath, FINGERPRINTFILENAME), fingerprint, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Deletes the fingerprint of the output directory. This must be done before a generation
+	 * run starts, so that a failed run is never considered to be up to date.
+	 *
+	 * @param outputPath
+	 *            the output path
+	 */
+	public def static void deleteFingerprint(String outputPath) {
+		FileUtils.deleteQuietly(new File(outputPath, FINGERPRINTFILENAME));
+	}
+
+	/**
+	 * Copies the file if the target file does not exist or has a different content.
+	 *
+	 * @param sourceFile
+	 *            the source file
+	 * @param targetFile
+	 *            the target file
+	 * @return the boolean indicating if the file was copied
+	 * @throws Exception
+	 */
+	public def static Boolean copyFileIfChanged(File sourceFile, File targetFile) throws Exception {
+		if (targetFile.isFile() && FileUtils.contentEquals(sourceFile, targetFile)) {
+			return false;
+		}
+
+		FileUtils.copyFile(sourceFile, targetFile);
+		return true;
+	}
+
+	/**
+	 * Copies all files of the source directory recursively into the target directory.
+	 * Only the files which do not exist or have a different content are copied.
+	 *
+	 * @param sourceDirectory
+	 *            the source directory
+	 * @param targetDirectory
+	 *            the target directory
+	 * @throws Exception
+	 */
+	public def static void copyDirectoryIfChanged(File sourceDirectory, File targetDirectory) throws Exception {
+		if (!sourceDirectory.isDirectory()) {
+			throw new IllegalArgumentException("The directory " + sourceDirectory.path + " does not exist");
+		}
+
+		for (sourceFile : sourceDirectory.listFiles()) {
+			var targetFile = new File(targetDirectory, sourceFile.name);
+			if (sourceFile.isDirectory()) {
+				copyDirectoryIfChanged(sourceFile, targetFile);
+			} else {
+				copyFileIfChanged(sourceFile, targetFile);
+			}
+		}
+	}
+}
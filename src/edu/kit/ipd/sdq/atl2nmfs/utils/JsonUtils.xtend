@@ -0,0 +1,291 @@
+package edu.kit.ipd.sdq.atl2nmfs.utils
+
+import java.util.ArrayList
+import java.util.LinkedHashMap
+import java.util.List
+import java.util.Map
+
+/**
+ * The JsonUtils Class.
+ *
+ * Reads JSON documents like the runtime metrics of a generated program. The bundle has no JSON library, so the
+ * documents are read by a small recursive descent reader like the generation report is written by
+ * GenerationReportUtils. Objects are read as maps which keep the order of their members, arrays as lists,
+ * integral numbers as longs, all other numbers as doubles and the literals as booleans or null.
+ */
+class JsonUtils {
+
+	private final String json;
+	private int position;
+
+	/**
+	 * Private Class constructor.
+	 *
+	 * @param json
+	 *            the JSON string which is read
+	 */
+	private new(String json) {
+		this.json = json;
+		this.position = 0;
+	}
+
+	/**
+	 * Parses the passed JSON string.
+	 *
+	 * @param json
+	 *            the JSON string
+	 * @return the parsed value
+	 * @throws IllegalArgumentException
+	 *             if the string is no valid JSON document
+	 */
+	public def static Object parse(String json) {
+		var jsonUtils = new JsonUtils(json);
+		var value = jsonUtils.readValue();
+
+		jsonUtils.skipWhitespace();
+		if (jsonUtils.position < json.length) {
+			throw jsonUtils.createException("Unexpected content after the JSON value");
+		}
+
+		return value;
+	}
+
+	/**
+	 * Parses the passed JSON string which must contain an object.
+	 *
+	 * @param json
+	 *            the JSON string
+	 * @return the members of the object by name
+	 * @throws IllegalArgumentException
+	 *             if the string is no valid JSON object
+	 */
+	public def static Map<String, Object> parseObject(String json) {
+		var value = parse(json);
+		if (!(value instanceof Map)) {
+			throw new IllegalArgumentException("The JSON value is no object");
+		}
+
+		return value as Map<String, Object>;
+	}
+
+	/**
+	 * Reads the value at the current position.
+	 *
+	 * @return the value
+	 */
+	private def Object readValue() {
+		skipWhitespace();
+		var character = peek();
+		if (character == null) {
+			throw createException("Unexpected end");
+		}
+
+		switch (character) {
+			case "{":
+				return readObject()
+			case "[":
+				return readArray()
+			case "\"":
+				return readString()
+			case "t":
+				return readLiteral("true", true)
+			case "f":
+				return readLiteral("false", false)
+			case "n":
+				return readLiteral("null", null)
+			default:
+				return readNumber()
+		}
+	}
+
+	/**
+	 * Reads the object at the current position.
+	 *
+	 * @return the members of the object by name
+	 */
+	private def Map<String, Object> readObject() {
+		var members = new LinkedHashMap<String, Object>();
+		expect("{");
+		skipWhitespace();
+		var hasNextMember = peek() != "}";
+		while (hasNextMember) {
+			skipWhitespace();
+			var name = readString();
+			skipWhitespace();
+			expect(":");
+			members.put(name, readValue());
+
+			skipWhitespace();
+			hasNextMember = peek() == ",";
+			if (hasNextMember) {
+				position++;
+			}
+		}
+
+		expect("}");
+		return members;
+	}
+
+	/**
+	 * Reads the array at the current position.
+	 *
+	 * @return the elements of the array
+	 */
+	private def List<Object> readArray() {
+		var elements = new ArrayList<Object>();
+		expect("[");
+		skipWhitespace();
+		var hasNextElement = peek() != "]";
+		while (hasNextElement) {
+			elements.add(readValue());
+
+			skipWhitespace();
+			hasNextElement = peek() == ",";
+			if (hasNextElement) {
+				position++;
+			}
+		}
+
+		expect("]");
+		return elements;
+	}
+
+	/**
+	 * Reads the string at the current position and resolves its escape sequences.
+	 *
+	 * @return the string
+	 */
+	private def String readString() {
+		expect("\"");
+		var builder = new StringBuilder();
+		while (peek() != "\"") {
+			var character = peek();
+			if (character == null) {
+				throw createException("Unterminated string");
+			}
+
+			position++;
+			if (character != "\\") {
+				builder.append(character);
+			} else {
+				var escapedCharacter = peek();
+				if (escapedCharacter == null) {
+					throw createException("Unterminated string");
+				}
+
+				position++;
+				switch (escapedCharacter) {
+					case "b": builder.append("\b")
+					case "f": builder.append("\f")
+					case "n": builder.append("\n")
+					case "r": builder.append("\r")
+					case "t": builder.append("\t")
+					case "u": {
+						if (position + 4 > json.length) {
+							throw createException("Incomplete unicode escape sequence");
+						}
+
+						builder.append(Character.toChars(Integer.parseInt(json.substring(position, position + 4), 16)));
+						position += 4;
+					}
+					case "\"",
+					case "\\",
+					case "/": builder.append(escapedCharacter)
+					default: throw createException("Invalid escape sequence")
+				}
+			}
+		}
+
+		position++;
+		return builder.toString();
+	}
+
+	/**
+	 * Reads the number at the current position.
+	 *
+	 * @return the number as long if it is integral, otherwise as double
+	 */
+	private def Number readNumber() {
+		var start = position;
+		while (position < json.length && "+-0123456789.eE".indexOf(json.charAt(position)) >= 0) {
+			position++;
+		}
+
+		var number = json.substring(start, position);
+		try {
+			if (number.contains(".") || number.contains("e") || number.contains("E")) {
+				return Double.parseDouble(number);
+			}
+
+			return Long.parseLong(number);
+		} catch (NumberFormatException exception) {
+			position = start;
+			throw createException("Invalid value");
+		}
+	}
+
+	/**
+	 * Reads the passed literal at the current position.
+	 *
+	 * @param literal
+	 *            the literal
+	 * @param value
+	 *            the value of the literal
+	 * @return the value of the literal
+	 */
+	private def Object readLiteral(String literal, Object value) {
+		if (!json.startsWith(literal, position)) {
+			throw createException("Invalid value");
+		}
+
+		position += literal.length;
+		return value;
+	}
+
+	/**
+	 * Consumes the passed character at the current position.
+	 *
+	 * @param character
+	 *            the expected character
+	 */
+	private def void expect(String character) {
+		if (peek() != character) {
+			throw createException("Expected '" + character + "'");
+		}
+
+		position++;
+	}
+
+	/**
+	 * Gets the character at the current position.
+	 *
+	 * @return the character or null if the end of the string is reached
+	 */
+	private def String peek() {
+		if (position >= json.length) {
+			return null;
+		}
+
+		return json.substring(position, position + 1);
+	}
+
+	/**
+	 * Skips the whitespace at the current position.
+	 */
+	private def void skipWhitespace() {
+		while (position < json.length && Character.isWhitespace(json.charAt(position))) {
+			position++;
+		}
+	}
+
+	/**
+	 * Creates the exception for a syntax error at the current position.
+	 *
+	 * @param message
+	 *            the message
+	 * @return the exception
+	 */
+	private def IllegalArgumentException createException(String message) {
+		return new IllegalArgumentException(message + " at position " + position + " of the JSON string");
+	}
+}
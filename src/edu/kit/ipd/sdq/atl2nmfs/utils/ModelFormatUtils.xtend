@@ -0,0 +1,124 @@
+package edu.kit.ipd.sdq.atl2nmfs.utils
+
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.File
+import java.io.FileInputStream
+import java.io.FileNotFoundException
+import java.io.FileOutputStream
+import java.util.zip.GZIPInputStream
+import java.util.zip.GZIPOutputStream
+import org.apache.commons.io.IOUtils
+
+/**
+ * The ModelFormatUtils Class.
+ *
+ * A compressed model is a gzip compressed XMI document with the extension .xmiz. Programs which are generated
+ * with compressed models read and write this format directly, so XMI is only needed at the edges of a pipeline.
+ * The models are converted as streams and are therefore never held in memory.
+ */
+class ModelFormatUtils {
+
+	public static final String COMPRESSEDMODELEXTENSION = ".xmiz";
+	public static final String XMIMODELEXTENSION = ".xmi";
+	private static final int BUFFERSIZE = 1 << 20;
+
+	/**
+	 * Private Class constructor.
+	 */
+	private new() {}
+
+	/**
+	 * Checks if the model which path is passed is stored as compressed model.
+	 *
+	 * @param modelPath
+	 *            the model path
+	 * @return the boolean indicating if the model is compressed
+	 */
+	public def static Boolean isCompressed(String modelPath) {
+		return modelPath.toLowerCase.endsWith(COMPRESSEDMODELEXTENSION);
+	}
+
+	/**
+	 * Gets the path of the compressed model for the passed XMI model path.
+	 *
+	 * @param xmiModelPath
+	 *            the XMI model path
+	 * @return the compressed model path
+	 */
+	public def static String getCompressedModelPath(String xmiModelPath) {
+		if (xmiModelPath.toLowerCase.endsWith(XMIMODELEXTENSION)) {
+			return xmiModelPath.substring(0, xmiModelPath.length - XMIMODELEXTENSION.length) +
+				COMPRESSEDMODELEXTENSION;
+		}
+
+		return xmiModelPath + COMPRESSEDMODELEXTENSION;
+	}
+
+	/**
+	 * Compresses the passed XMI model.
+	 *
+	 * @param xmiModelPath
+	 *            the path to the XMI model
+	 * @param compressedModelPath
+	 *            the path to the compressed model which is created or overwritten
+	 * @throws Exception
+	 */
+	public def static void compress(String xmiModelPath, String compressedModelPath) throws Exception {
+		var xmiModelFile = getExistingFile(xmiModelPath);
+
+		var inputStream = new BufferedInputStream(new FileInputStream(xmiModelFile), BUFFERSIZE);
+		try {
+			var outputStream = new GZIPOutputStream(new FileOutputStream(compressedModelPath), BUFFERSIZE);
+			try {
+				IOUtils.copyLarge(inputStream, outputStream);
+			} finally {
+				outputStream.close();
+			}
+		} finally {
+			inputStream.close();
+		}
+	}
+
+	/**
+	 * Decompresses the passed compressed model into an XMI model.
+	 *
+	 * @param compressedModelPath
+	 *            the path to the compressed model
+	 * @param xmiModelPath
+	 *            the path to the XMI model which is created or overwritten
+	 * @throws Exception
+	 */
+	public def static void decompress(String compressedModelPath, String xmiModelPath) throws Exception {
+		var compressedModelFile = getExistingFile(compressedModelPath);
+
+		var inputStream = new GZIPInputStream(new FileInputStream(compressedModelFile), BUFFERSIZE);
+		try {
+			var outputStream = new BufferedOutputStream(new FileOutputStream(xmiModelPath), BUFFERSIZE);
+			try {
+				IOUtils.copyLarge(inputStream, outputStream);
+			} finally {
+				outputStream.close();
+			}
+		} finally {
+			inputStream.close();
+		}
+	}
+
+	/**
+	 * Gets the file of the passed path and checks that it exists.
+	 *
+	 * @param modelPath
+	 *            the model path
+	 * @return the model file
+	 * @throws FileNotFoundException
+	 */
+	private def static File getExistingFile(String modelPath) throws FileNotFoundException {
+		var modelFile = new File(modelPath);
+		if (!modelFile.isFile()) {
+			throw new FileNotFoundException("The model " + modelPath + " was not found");
+		}
+
+		return modelFile;
+	}
+}
@@ -0,0 +1,44 @@
+package edu.kit.ipd.sdq.atl2nmfs.utils
+
+import java.util.ArrayList
+import java.util.List
+import java.util.function.Function
+import java.util.stream.Collectors
+
+/**
+ * The ParallelUtils Class.
+ */
+class ParallelUtils {
+
+	/**
+	 * Private Class constructor.
+	 */
+	private new() {}
+
+	/**
+	 * Applies the function to all elements and returns the results in the order of the elements.
+	 * If the mapping is parallel the elements are distributed with fork/join over all cores,
+	 * therefore the function must only read shared state or use thread-safe state.
+	 *
+	 * @param elements
+	 *            the elements
+	 * @param parallel
+	 *            the boolean indicating if the elements are mapped concurrently
+	 * @param function
+	 *            the function which is applied to each element
+	 * @return the results in the order of the elements
+	 */
+	public def static <T, R> List<R> map(List<T> elements, Boolean parallel, Function<T, R> function) {
+		if (!parallel || elements.size < 2) {
+			var results = new ArrayList<R>(elements.size);
+			for (element : elements) {
+				results.add(function.apply(element));
+			}
+
+			return results;
+		}
+
+		// the parallel stream is ordered, so the collected results have the order of the elements
+		return elements.parallelStream.map(function).collect(Collectors.toList());
+	}
+}